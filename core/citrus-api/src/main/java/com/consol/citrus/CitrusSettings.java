@@ -157,6 +157,31 @@ public final class CitrusSettings {
     public static final String LOG_MASK_KEYWORDS_ENV = "CITRUS_LOG_MASK_KEYWORDS";
     public static final String LOG_MASK_KEYWORDS_DEFAULT = "password,secret,secretKey";
 
+    /** Flag to enable/disable persistent test scan index */
+    public static final String TEST_SCAN_INDEX_ENABLED_PROPERTY = "citrus.test.scan.index.enabled";
+    public static final String TEST_SCAN_INDEX_ENABLED_ENV = "CITRUS_TEST_SCAN_INDEX_ENABLED";
+    public static final String TEST_SCAN_INDEX_ENABLED_DEFAULT = Boolean.TRUE.toString();
+
+    /** Flag to enable/disable build time generated resource path index for type resolver lookups */
+    public static final String TYPE_RESOLVER_INDEX_ENABLED_PROPERTY = "citrus.type.resolver.index.enabled";
+    public static final String TYPE_RESOLVER_INDEX_ENABLED_ENV = "CITRUS_TYPE_RESOLVER_INDEX_ENABLED";
+    public static final String TYPE_RESOLVER_INDEX_ENABLED_DEFAULT = Boolean.FALSE.toString();
+
+    /** Maximum number of threads in the context wide executor used by async, parallel, timer and wait actions */
+    public static final String EXECUTOR_MAX_THREADS_PROPERTY = "citrus.executor.max.threads";
+    public static final String EXECUTOR_MAX_THREADS_ENV = "CITRUS_EXECUTOR_MAX_THREADS";
+    public static final String EXECUTOR_MAX_THREADS_DEFAULT = "0";
+
+    /** Number of tasks queued in the context wide executor when all threads are busy */
+    public static final String EXECUTOR_QUEUE_CAPACITY_PROPERTY = "citrus.executor.queue.capacity";
+    public static final String EXECUTOR_QUEUE_CAPACITY_ENV = "CITRUS_EXECUTOR_QUEUE_CAPACITY";
+    public static final String EXECUTOR_QUEUE_CAPACITY_DEFAULT = "0";
+
+    /** Reuse parsed XML documents of Spring XML test files */
+    public static final String XML_TEST_DEFINITION_CACHE_PROPERTY = "citrus.xml.test.definition.cache";
+    public static final String XML_TEST_DEFINITION_CACHE_ENV = "CITRUS_XML_TEST_DEFINITION_CACHE";
+    public static final String XML_TEST_DEFINITION_CACHE_DEFAULT = Boolean.FALSE.toString();
+
     /**
      * Gets set of file name patterns for Groovy test files.
      * @return
@@ -228,6 +253,51 @@ public final class CitrusSettings {
                     .collect(Collectors.toSet());
     }
 
+    /**
+     * Gets the test scan index enabled/disabled setting.
+     * @return
+     */
+    public static boolean isTestScanIndexEnabled() {
+        return Boolean.parseBoolean(System.getProperty(TEST_SCAN_INDEX_ENABLED_PROPERTY,  System.getenv(TEST_SCAN_INDEX_ENABLED_ENV) != null ?
+                System.getenv(TEST_SCAN_INDEX_ENABLED_ENV) : TEST_SCAN_INDEX_ENABLED_DEFAULT));
+    }
+
+    /**
+     * Gets the type resolver index enabled/disabled setting.
+     * @return
+     */
+    public static boolean isTypeResolverIndexEnabled() {
+        return Boolean.parseBoolean(System.getProperty(TYPE_RESOLVER_INDEX_ENABLED_PROPERTY,  System.getenv(TYPE_RESOLVER_INDEX_ENABLED_ENV) != null ?
+                System.getenv(TYPE_RESOLVER_INDEX_ENABLED_ENV) : TYPE_RESOLVER_INDEX_ENABLED_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum number of executor threads. Zero or less means no limit.
+     * @return
+     */
+    public static int getExecutorMaxThreads() {
+        return Integer.parseInt(System.getProperty(EXECUTOR_MAX_THREADS_PROPERTY,  System.getenv(EXECUTOR_MAX_THREADS_ENV) != null ?
+                System.getenv(EXECUTOR_MAX_THREADS_ENV) : EXECUTOR_MAX_THREADS_DEFAULT));
+    }
+
+    /**
+     * Gets the executor queue capacity. Zero or less means tasks are handed off to threads directly.
+     * @return
+     */
+    public static int getExecutorQueueCapacity() {
+        return Integer.parseInt(System.getProperty(EXECUTOR_QUEUE_CAPACITY_PROPERTY,  System.getenv(EXECUTOR_QUEUE_CAPACITY_ENV) != null ?
+                System.getenv(EXECUTOR_QUEUE_CAPACITY_ENV) : EXECUTOR_QUEUE_CAPACITY_DEFAULT));
+    }
+
+    /**
+     * Checks if parsed XML documents of Spring XML test files should be cached and reused.
+     * @return
+     */
+    public static boolean isXmlTestDefinitionCacheEnabled() {
+        return Boolean.parseBoolean(System.getProperty(XML_TEST_DEFINITION_CACHE_PROPERTY,  System.getenv(XML_TEST_DEFINITION_CACHE_ENV) != null ?
+                System.getenv(XML_TEST_DEFINITION_CACHE_ENV) : XML_TEST_DEFINITION_CACHE_DEFAULT));
+    }
+
     /**
      * Gets the test file name pattern for given type or empty patterns for unknown type.
      * @param type
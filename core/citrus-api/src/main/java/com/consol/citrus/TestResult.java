@@ -58,6 +58,9 @@ public final class TestResult {
     /** Failure type information */
     private String failureType;
 
+    /** Seed of random data generated in the test */
+    private Long randomSeed;
+
     /**
      * Create new test result for successful execution.
      * @param name
@@ -364,4 +367,31 @@ public final class TestResult {
         setFailureStack(failureStack);
         return this;
     }
+
+    /**
+     * Gets the seed of random data generated in the test. Null when no random data has been generated.
+     *
+     * @return
+     */
+    public Long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Sets the seed of random data generated in the test.
+     *
+     * @param randomSeed
+     */
+    public void setRandomSeed(Long randomSeed) {
+        this.randomSeed = randomSeed;
+    }
+
+    /**
+     * Sets random seed information in fluent API.
+     * @return
+     */
+    public TestResult withRandomSeed(Long randomSeed) {
+        setRandomSeed(randomSeed);
+        return this;
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.condition;
+
+import com.consol.citrus.context.TestContext;
+
+/**
+ * Condition that is able to signal possible state changes. Waiting test actions register a signal callback and
+ * check the condition immediately once signalled instead of waiting for the next poll interval.
+ *
+ * @since 3.3
+ */
+public interface SignalingCondition extends Condition {
+
+    /**
+     * Registers given signal callback. The callback is invoked each time the condition state may have changed.
+     * Implementations must not block the calling thread when invoking the callback.
+     * @param context the citrus test context
+     * @param signal callback triggering a condition check
+     * @return registration to remove the callback once waiting has finished
+     */
+    Registration register(TestContext context, Runnable signal);
+
+    /**
+     * Handle of a registered signal callback.
+     */
+    @FunctionalInterface
+    interface Registration extends AutoCloseable {
+
+        /**
+         * Removes the signal callback.
+         */
+        @Override
+        void close();
+    }
+}
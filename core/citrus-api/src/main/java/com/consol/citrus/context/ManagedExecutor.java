@@ -0,0 +1,409 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.CitrusSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Context wide executor running test actions that execute in separate threads such as async, parallel, timer
+ * and wait actions. Threads are pooled and reused across test cases instead of creating a new thread for each
+ * action. The number of threads and queued tasks is configurable. Tasks never run in the calling thread.
+ *
+ * Test actions such as async, parallel, forked timer and wait condition checks must run concurrently to the caller and
+ * to each other, so they are submitted as concurrent tasks. Concurrent tasks never wait in the queue behind busy
+ * threads: when all pooled threads are busy an additional overflow thread gets started beyond the configured limit.
+ * Other tasks are queued and get rejected with an error once all threads are busy and the queue is full.
+ *
+ * Threads get named after the task they are running (e.g. the test name) for better log output. The executor is
+ * closed at the end of the test suite and gets restarted on next use.
+ *
+ * @since 3.3
+ */
+public class ManagedExecutor implements Executor {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(ManagedExecutor.class);
+
+    /** Shared executor used by test contexts that have not been created with a context factory */
+    private static final ManagedExecutor DEFAULT = new ManagedExecutor();
+
+    /** Idle threads are terminated after this time in milliseconds */
+    private static final long KEEP_ALIVE = 60000L;
+
+    /** Time in milliseconds to wait for running tasks on close */
+    private static final long SHUTDOWN_TIMEOUT = 10000L;
+
+    /** Maximum number of threads, zero or less means no limit */
+    private final int maxThreads;
+
+    /** Number of queued tasks when all threads are busy, zero or less means direct hand-off */
+    private final int queueCapacity;
+
+    /** Prefix for thread names */
+    private final String threadNamePrefix;
+
+    /** Thread number sequence */
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    /** Overflow thread number sequence */
+    private final AtomicInteger overflowThreadNumber = new AtomicInteger();
+
+    /** Number of submitted tasks that have not completed yet */
+    private final AtomicInteger busyTasks = new AtomicInteger();
+
+    /** Thread pool created on first use */
+    private ThreadPoolExecutor threadPool;
+
+    /** Threads for concurrent tasks that exceed the thread limit, created on first use */
+    private ThreadPoolExecutor overflowPool;
+
+    /**
+     * Default constructor using settings from environment.
+     */
+    public ManagedExecutor() {
+        this(CitrusSettings.getExecutorMaxThreads(), CitrusSettings.getExecutorQueueCapacity());
+    }
+
+    /**
+     * Constructor using thread and queue limits.
+     * @param maxThreads
+     * @param queueCapacity
+     */
+    public ManagedExecutor(int maxThreads, int queueCapacity) {
+        this(maxThreads, queueCapacity, "citrus");
+    }
+
+    /**
+     * Constructor using thread and queue limits and thread name prefix.
+     * @param maxThreads
+     * @param queueCapacity
+     * @param threadNamePrefix
+     */
+    public ManagedExecutor(int maxThreads, int queueCapacity, String threadNamePrefix) {
+        this.maxThreads = maxThreads;
+        this.queueCapacity = queueCapacity;
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    /**
+     * Gets the shared default executor.
+     * @return
+     */
+    public static ManagedExecutor getDefault() {
+        return DEFAULT;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        dispatch(task, false);
+    }
+
+    /**
+     * Runs given task naming the executing thread after given task name.
+     * @param taskName
+     * @param task
+     */
+    public void execute(String taskName, Runnable task) {
+        execute(named(taskName, task));
+    }
+
+    /**
+     * Runs given task concurrently to the caller naming the executing thread after given task name. The task never
+     * waits in the queue and starts an additional thread when all pooled threads are busy.
+     * @param taskName
+     * @param task
+     */
+    public void executeConcurrent(String taskName, Runnable task) {
+        dispatch(named(taskName, task), true);
+    }
+
+    /**
+     * Submits given task naming the executing thread after given task name.
+     * @param taskName
+     * @param task
+     * @return future completing with the task
+     */
+    public Future<?> submit(String taskName, Runnable task) {
+        FutureTask<Object> future = new FutureTask<>(named(taskName, task), null);
+        execute(future);
+        return future;
+    }
+
+    /**
+     * Submits given task naming the executing thread after given task name.
+     * @param taskName
+     * @param task
+     * @param <T>
+     * @return future completing with the task result
+     */
+    public <T> Future<T> submit(String taskName, Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(() -> {
+            Thread thread = Thread.currentThread();
+            String threadName = thread.getName();
+            thread.setName(threadName + "-" + taskName);
+            try {
+                return task.call();
+            } finally {
+                thread.setName(threadName);
+            }
+        });
+        execute(future);
+        return future;
+    }
+
+    /**
+     * Submits given task to run concurrently to the caller naming the executing thread after given task name. The task
+     * never waits in the queue and starts an additional thread when all pooled threads are busy.
+     * @param taskName
+     * @param task
+     * @return future completing with the task
+     */
+    public Future<?> submitConcurrent(String taskName, Runnable task) {
+        FutureTask<Object> future = new FutureTask<>(named(taskName, task), null);
+        dispatch(future, true);
+        return future;
+    }
+
+    /**
+     * Closes the executor. Waits for running tasks to complete and interrupts tasks that do not complete in time.
+     * A new thread pool is created when the executor is used again.
+     */
+    public void close() {
+        ThreadPoolExecutor pool;
+        ThreadPoolExecutor overflow;
+        synchronized (this) {
+            pool = threadPool;
+            overflow = overflowPool;
+            threadPool = null;
+            overflowPool = null;
+        }
+
+        shutdown(pool);
+        shutdown(overflow);
+    }
+
+    private void shutdown(ThreadPoolExecutor pool) {
+        if (pool == null) {
+            return;
+        }
+
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                LOG.warn(String.format("Interrupting %s running task(s) that did not complete on executor shutdown", pool.getActiveCount()));
+                busyTasks.addAndGet(-pool.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            busyTasks.addAndGet(-pool.shutdownNow().size());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the number of threads currently running tasks.
+     * @return
+     */
+    public synchronized int getActiveThreads() {
+        return threadPool != null ? threadPool.getActiveCount() : 0;
+    }
+
+    /**
+     * Gets the number of threads in the pool.
+     * @return
+     */
+    public synchronized int getPoolSize() {
+        return threadPool != null ? threadPool.getPoolSize() : 0;
+    }
+
+    /**
+     * Gets the number of additional threads started for concurrent tasks beyond the thread limit.
+     * @return
+     */
+    public synchronized int getOverflowPoolSize() {
+        return overflowPool != null ? overflowPool.getPoolSize() : 0;
+    }
+
+    /**
+     * Hands given task to the thread pool. Concurrent tasks go to the overflow threads when all pooled threads are busy.
+     * @param task
+     * @param concurrent
+     */
+    private void dispatch(Runnable task, boolean concurrent) {
+        BusyTask busyTask = new BusyTask(task, concurrent);
+        int busy = busyTasks.incrementAndGet();
+        try {
+            if (concurrent && maxThreads > 0 && busy > maxThreads) {
+                overflow(busyTask);
+            } else {
+                getThreadPool().execute(busyTask);
+            }
+        } catch (RejectedExecutionException e) {
+            busyTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs given task on an additional thread beyond the thread limit.
+     * @param task
+     */
+    private void overflow(Runnable task) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("All %s executor threads are busy - starting additional thread for concurrent task", maxThreads));
+        }
+
+        getOverflowPool().execute(task);
+    }
+
+    /**
+     * Handles tasks the thread pool is not able to take. Concurrent tasks start an additional thread, other tasks
+     * are rejected.
+     * @param task
+     * @param pool
+     */
+    private void reject(Runnable task, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            throw new RejectedExecutionException("Executor has been closed");
+        }
+
+        if (task instanceof BusyTask && ((BusyTask) task).concurrent) {
+            overflow(task);
+            return;
+        }
+
+        throw new RejectedExecutionException(String.format("All %s executor threads are busy and the queue of %s task(s) is full - " +
+                "increase the limits using '%s' and '%s'", maxThreads, Math.max(queueCapacity, 0),
+                CitrusSettings.EXECUTOR_MAX_THREADS_PROPERTY, CitrusSettings.EXECUTOR_QUEUE_CAPACITY_PROPERTY));
+    }
+
+    /**
+     * Gets the thread pool. Creates new thread pool on first use or after the executor has been closed.
+     * @return
+     */
+    private synchronized ThreadPoolExecutor getThreadPool() {
+        if (threadPool == null) {
+            threadPool = createThreadPool();
+        }
+
+        return threadPool;
+    }
+
+    /**
+     * Gets the overflow thread pool. Creates new thread pool on first use or after the executor has been closed.
+     * @return
+     */
+    private synchronized ThreadPoolExecutor getOverflowPool() {
+        if (overflowPool == null) {
+            overflowPool = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+                    threadFactory(threadNamePrefix + "-overflow-", overflowThreadNumber));
+        }
+
+        return overflowPool;
+    }
+
+    private ThreadPoolExecutor createThreadPool() {
+        ThreadFactory threadFactory = threadFactory(threadNamePrefix + "-", threadNumber);
+
+        ThreadPoolExecutor pool;
+        if (maxThreads > 0 && queueCapacity > 0) {
+            BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+            pool = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE, TimeUnit.MILLISECONDS, queue, threadFactory,
+                    this::reject);
+            pool.allowCoreThreadTimeOut(true);
+        } else {
+            pool = new ThreadPoolExecutor(0, maxThreads > 0 ? maxThreads : Integer.MAX_VALUE, KEEP_ALIVE, TimeUnit.MILLISECONDS,
+                    new SynchronousQueue<>(), threadFactory, this::reject);
+        }
+
+        return pool;
+    }
+
+    private static ThreadFactory threadFactory(String namePrefix, AtomicInteger number) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + number.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Builds task name from the name of the current test and given action name.
+     * @param context
+     * @param actionName
+     * @return
+     */
+    public static String taskName(TestContext context, String actionName) {
+        Object testName = context.getVariables() != null ? context.getVariables().get(CitrusSettings.TEST_NAME_VARIABLE) : null;
+        return testName != null ? testName + ":" + actionName : actionName;
+    }
+
+    /**
+     * Wraps given task so the executing thread is named after the task.
+     * @param taskName
+     * @param task
+     * @return
+     */
+    private static Runnable named(String taskName, Runnable task) {
+        return () -> {
+            Thread thread = Thread.currentThread();
+            String threadName = thread.getName();
+            thread.setName(threadName + "-" + taskName);
+            try {
+                task.run();
+            } finally {
+                thread.setName(threadName);
+            }
+        };
+    }
+
+    /**
+     * Task tracking the number of submitted tasks that have not completed yet.
+     */
+    private final class BusyTask implements Runnable {
+        private final Runnable task;
+        private final boolean concurrent;
+
+        BusyTask(Runnable task, boolean concurrent) {
+            this.task = task;
+            this.concurrent = concurrent;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } finally {
+                busyTasks.decrementAndGet();
+            }
+        }
+    }
+}
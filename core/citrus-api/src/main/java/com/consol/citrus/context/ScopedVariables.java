@@ -0,0 +1,242 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.context;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test variables layered on top of shared global variables. The global variables are read only and shared by all
+ * test contexts of a suite. Variables written in the test are kept in a local map that gets allocated on first write.
+ * Global variables removed in the test are masked so the shared global variables never change.
+ *
+ * @since 3.3
+ */
+final class ScopedVariables extends AbstractMap<String, Object> {
+
+    /** Shared global variables, never modified */
+    private volatile Map<String, Object> globals;
+
+    /** Variables written in this scope, created on first write */
+    private volatile Map<String, Object> local;
+
+    /** Global variables removed in this scope, created on first removal */
+    private volatile Set<String> removed;
+
+    /**
+     * Constructor using shared global variables.
+     * @param globals
+     */
+    ScopedVariables(Map<String, Object> globals) {
+        this.globals = globals;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Map<String, Object> variables = local;
+        if (variables != null) {
+            Object value = variables.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        Set<String> masked = removed;
+        if (masked != null && masked.contains(key)) {
+            return null;
+        }
+
+        return globals.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        Object previous = get(key);
+        local().put(key, value);
+
+        Set<String> masked = removed;
+        if (masked != null) {
+            masked.remove(key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+
+        Map<String, Object> variables = local;
+        if (variables != null) {
+            variables.remove(key);
+        }
+
+        if (globals.containsKey(key)) {
+            removed().add((String) key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Map<String, Object> variables = local;
+        if (variables != null) {
+            variables.clear();
+        }
+
+        if (!globals.isEmpty()) {
+            removed().addAll(globals.keySet());
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Map<String, Object> variables = local;
+        if (variables != null && !variables.isEmpty()) {
+            return false;
+        }
+
+        Set<String> masked = removed;
+        return masked == null ? globals.isEmpty() : masked.containsAll(globals.keySet());
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> snapshot = snapshot().iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    private Entry<String, Object> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return snapshot.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        current = snapshot.next();
+                        return current;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+
+                        ScopedVariables.this.remove(current.getKey());
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return snapshot().size();
+            }
+        };
+    }
+
+    /**
+     * Discards all variables written in this scope and uses given global variables.
+     * @param globals
+     */
+    void reset(Map<String, Object> globals) {
+        this.globals = globals;
+        this.local = null;
+        this.removed = null;
+    }
+
+    /**
+     * Creates snapshot of all visible variables. Global variables come first followed by the variables written
+     * in this scope.
+     * @return
+     */
+    private List<Entry<String, Object>> snapshot() {
+        Map<String, Object> visible = new LinkedHashMap<>();
+        Set<String> masked = removed;
+        globals.forEach((key, value) -> {
+            if (masked == null || !masked.contains(key)) {
+                visible.put(key, value);
+            }
+        });
+
+        Map<String, Object> variables = local;
+        if (variables != null) {
+            visible.putAll(variables);
+        }
+
+        if (visible.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Entry<String, Object>> entries = new ArrayList<>(visible.size());
+        visible.forEach((key, value) -> entries.add(new SimpleImmutableEntry<>(key, value)));
+        return entries;
+    }
+
+    private Map<String, Object> local() {
+        Map<String, Object> variables = local;
+        if (variables == null) {
+            synchronized (this) {
+                variables = local;
+                if (variables == null) {
+                    variables = new ConcurrentHashMap<>();
+                    local = variables;
+                }
+            }
+        }
+
+        return variables;
+    }
+
+    private Set<String> removed() {
+        Set<String> masked = removed;
+        if (masked == null) {
+            synchronized (this) {
+                masked = removed;
+                if (masked == null) {
+                    masked = ConcurrentHashMap.newKeySet();
+                    removed = masked;
+                }
+            }
+        }
+
+        return masked;
+    }
+}
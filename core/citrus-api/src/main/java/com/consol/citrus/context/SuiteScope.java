@@ -0,0 +1,375 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.container.AfterTest;
+import com.consol.citrus.container.BeforeTest;
+import com.consol.citrus.endpoint.EndpointFactory;
+import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.log.LogModifier;
+import com.consol.citrus.message.MessageProcessors;
+import com.consol.citrus.report.MessageListeners;
+import com.consol.citrus.report.TestActionListeners;
+import com.consol.citrus.report.TestListeners;
+import com.consol.citrus.spi.ReferenceResolver;
+import com.consol.citrus.util.TypeConverter;
+import com.consol.citrus.validation.MessageValidatorRegistry;
+import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
+import com.consol.citrus.variable.GlobalVariables;
+import com.consol.citrus.variable.SegmentVariableExtractorRegistry;
+import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
+
+/**
+ * Components shared by all test contexts of a test suite. The scope is created once and each test context only
+ * references the shared components instead of allocating its own default instances. Global variables without
+ * dynamic content (variables or functions) are shared as well, so test contexts only allocate storage for variables
+ * that are written in the test. Global variables with dynamic content are resolved in each test context as usual.
+ *
+ * @since 3.3
+ */
+public final class SuiteScope {
+
+    private final FunctionRegistry functionRegistry;
+    private final ValidationMatcherRegistry validationMatcherRegistry;
+    private final MessageValidatorRegistry messageValidatorRegistry;
+    private final TestListeners testListeners;
+    private final TestActionListeners testActionListeners;
+    private final List<BeforeTest> beforeTest;
+    private final List<AfterTest> afterTest;
+    private final MessageListeners messageListeners;
+    private final MessageProcessors messageProcessors;
+    private final EndpointFactory endpointFactory;
+    private final ReferenceResolver referenceResolver;
+    private final NamespaceContextBuilder namespaceContextBuilder;
+    private final TypeConverter typeConverter;
+    private final LogModifier logModifier;
+    private final ManagedExecutor executor;
+    private final SegmentVariableExtractorRegistry segmentVariableExtractorRegistry;
+
+    /** Global variables as configured */
+    private final GlobalVariables globalVariables;
+
+    /** Global variables shared by all test contexts or null when global variables need to be resolved per context */
+    private final GlobalVariables sharedGlobalVariables;
+
+    private SuiteScope(Builder builder) {
+        this.functionRegistry = builder.functionRegistry != null ? builder.functionRegistry : new FunctionRegistry();
+        this.validationMatcherRegistry = builder.validationMatcherRegistry != null ? builder.validationMatcherRegistry : new ValidationMatcherRegistry();
+        this.messageValidatorRegistry = builder.messageValidatorRegistry != null ? builder.messageValidatorRegistry : new MessageValidatorRegistry();
+        this.testListeners = builder.testListeners != null ? builder.testListeners : new TestListeners();
+        this.testActionListeners = builder.testActionListeners != null ? builder.testActionListeners : new TestActionListeners();
+        this.beforeTest = builder.beforeTest != null ? builder.beforeTest : new ArrayList<>();
+        this.afterTest = builder.afterTest != null ? builder.afterTest : new ArrayList<>();
+        this.messageListeners = builder.messageListeners != null ? builder.messageListeners : new MessageListeners();
+        this.messageProcessors = builder.messageProcessors != null ? builder.messageProcessors : new MessageProcessors();
+        this.endpointFactory = builder.endpointFactory;
+        this.referenceResolver = builder.referenceResolver;
+        this.namespaceContextBuilder = builder.namespaceContextBuilder != null ? builder.namespaceContextBuilder : new NamespaceContextBuilder();
+        this.typeConverter = builder.typeConverter != null ? builder.typeConverter : TypeConverter.lookupDefault();
+        this.logModifier = builder.logModifier;
+        this.executor = builder.executor != null ? builder.executor : ManagedExecutor.getDefault();
+        this.segmentVariableExtractorRegistry = builder.segmentVariableExtractorRegistry != null ? builder.segmentVariableExtractorRegistry : new SegmentVariableExtractorRegistry();
+        this.globalVariables = builder.globalVariables != null ? builder.globalVariables : new GlobalVariables();
+        this.sharedGlobalVariables = hasDynamicContent(globalVariables.getVariables(), functionRegistry) ?
+                null : new GlobalVariables.Builder().variables(globalVariables.getVariables()).build();
+    }
+
+    /**
+     * Checks if any of the given variable names or values contains variables or functions that need to be resolved
+     * in a test context.
+     * @param variables
+     * @param functionRegistry
+     * @return
+     */
+    private static boolean hasDynamicContent(Map<String, Object> variables, FunctionRegistry functionRegistry) {
+        for (Map.Entry<String, Object> entry : variables.entrySet()) {
+            if (isDynamic(entry.getKey(), functionRegistry) ||
+                    (entry.getValue() instanceof String && isDynamic((String) entry.getValue(), functionRegistry))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isDynamic(String value, FunctionRegistry functionRegistry) {
+        return value.contains(CitrusSettings.VARIABLE_PREFIX) || functionRegistry.indexOfFunction(value, 0) >= 0;
+    }
+
+    /**
+     * Gets the global variables shared by all test contexts. Returns null when the global variables contain
+     * dynamic content and need to be resolved in each test context. The shared variables must not be modified.
+     * @return
+     */
+    public GlobalVariables getSharedGlobalVariables() {
+        return sharedGlobalVariables;
+    }
+
+    /**
+     * Gets the global variables as configured.
+     * @return
+     */
+    public GlobalVariables getGlobalVariables() {
+        return globalVariables;
+    }
+
+    /**
+     * Gets the function registry.
+     * @return
+     */
+    public FunctionRegistry getFunctionRegistry() {
+        return functionRegistry;
+    }
+
+    /**
+     * Gets the validation matcher registry.
+     * @return
+     */
+    public ValidationMatcherRegistry getValidationMatcherRegistry() {
+        return validationMatcherRegistry;
+    }
+
+    /**
+     * Gets the message validator registry.
+     * @return
+     */
+    public MessageValidatorRegistry getMessageValidatorRegistry() {
+        return messageValidatorRegistry;
+    }
+
+    /**
+     * Gets the test listeners.
+     * @return
+     */
+    public TestListeners getTestListeners() {
+        return testListeners;
+    }
+
+    /**
+     * Gets the test action listeners.
+     * @return
+     */
+    public TestActionListeners getTestActionListeners() {
+        return testActionListeners;
+    }
+
+    /**
+     * Gets the before test actions.
+     * @return
+     */
+    public List<BeforeTest> getBeforeTest() {
+        return beforeTest;
+    }
+
+    /**
+     * Gets the after test actions.
+     * @return
+     */
+    public List<AfterTest> getAfterTest() {
+        return afterTest;
+    }
+
+    /**
+     * Gets the message listeners.
+     * @return
+     */
+    public MessageListeners getMessageListeners() {
+        return messageListeners;
+    }
+
+    /**
+     * Gets the message processors.
+     * @return
+     */
+    public MessageProcessors getMessageProcessors() {
+        return messageProcessors;
+    }
+
+    /**
+     * Gets the endpoint factory.
+     * @return
+     */
+    public EndpointFactory getEndpointFactory() {
+        return endpointFactory;
+    }
+
+    /**
+     * Gets the reference resolver.
+     * @return
+     */
+    public ReferenceResolver getReferenceResolver() {
+        return referenceResolver;
+    }
+
+    /**
+     * Gets the namespace context builder.
+     * @return
+     */
+    public NamespaceContextBuilder getNamespaceContextBuilder() {
+        return namespaceContextBuilder;
+    }
+
+    /**
+     * Gets the type converter.
+     * @return
+     */
+    public TypeConverter getTypeConverter() {
+        return typeConverter;
+    }
+
+    /**
+     * Gets the log modifier.
+     * @return
+     */
+    public LogModifier getLogModifier() {
+        return logModifier;
+    }
+
+    /**
+     * Gets the executor.
+     * @return
+     */
+    public ManagedExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the segment variable extractor registry.
+     * @return
+     */
+    public SegmentVariableExtractorRegistry getSegmentVariableExtractorRegistry() {
+        return segmentVariableExtractorRegistry;
+    }
+
+    /**
+     * Fluent builder.
+     */
+    public static final class Builder {
+        private FunctionRegistry functionRegistry;
+        private ValidationMatcherRegistry validationMatcherRegistry;
+        private MessageValidatorRegistry messageValidatorRegistry;
+        private TestListeners testListeners;
+        private TestActionListeners testActionListeners;
+        private List<BeforeTest> beforeTest;
+        private List<AfterTest> afterTest;
+        private MessageListeners messageListeners;
+        private MessageProcessors messageProcessors;
+        private EndpointFactory endpointFactory;
+        private ReferenceResolver referenceResolver;
+        private NamespaceContextBuilder namespaceContextBuilder;
+        private TypeConverter typeConverter;
+        private LogModifier logModifier;
+        private ManagedExecutor executor;
+        private SegmentVariableExtractorRegistry segmentVariableExtractorRegistry;
+        private GlobalVariables globalVariables;
+
+        public Builder functionRegistry(FunctionRegistry functionRegistry) {
+            this.functionRegistry = functionRegistry;
+            return this;
+        }
+
+        public Builder validationMatcherRegistry(ValidationMatcherRegistry validationMatcherRegistry) {
+            this.validationMatcherRegistry = validationMatcherRegistry;
+            return this;
+        }
+
+        public Builder messageValidatorRegistry(MessageValidatorRegistry messageValidatorRegistry) {
+            this.messageValidatorRegistry = messageValidatorRegistry;
+            return this;
+        }
+
+        public Builder testListeners(TestListeners testListeners) {
+            this.testListeners = testListeners;
+            return this;
+        }
+
+        public Builder testActionListeners(TestActionListeners testActionListeners) {
+            this.testActionListeners = testActionListeners;
+            return this;
+        }
+
+        public Builder beforeTest(List<BeforeTest> beforeTest) {
+            this.beforeTest = beforeTest;
+            return this;
+        }
+
+        public Builder afterTest(List<AfterTest> afterTest) {
+            this.afterTest = afterTest;
+            return this;
+        }
+
+        public Builder messageListeners(MessageListeners messageListeners) {
+            this.messageListeners = messageListeners;
+            return this;
+        }
+
+        public Builder messageProcessors(MessageProcessors messageProcessors) {
+            this.messageProcessors = messageProcessors;
+            return this;
+        }
+
+        public Builder endpointFactory(EndpointFactory endpointFactory) {
+            this.endpointFactory = endpointFactory;
+            return this;
+        }
+
+        public Builder referenceResolver(ReferenceResolver referenceResolver) {
+            this.referenceResolver = referenceResolver;
+            return this;
+        }
+
+        public Builder namespaceContextBuilder(NamespaceContextBuilder namespaceContextBuilder) {
+            this.namespaceContextBuilder = namespaceContextBuilder;
+            return this;
+        }
+
+        public Builder typeConverter(TypeConverter typeConverter) {
+            this.typeConverter = typeConverter;
+            return this;
+        }
+
+        public Builder logModifier(LogModifier logModifier) {
+            this.logModifier = logModifier;
+            return this;
+        }
+
+        public Builder executor(ManagedExecutor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder segmentVariableExtractorRegistry(SegmentVariableExtractorRegistry segmentVariableExtractorRegistry) {
+            this.segmentVariableExtractorRegistry = segmentVariableExtractorRegistry;
+            return this;
+        }
+
+        public Builder globalVariables(GlobalVariables globalVariables) {
+            this.globalVariables = globalVariables;
+            return this;
+        }
+
+        public SuiteScope build() {
+            return new SuiteScope(this);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.context;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -58,6 +59,7 @@ import com.consol.citrus.report.TestActionListeners;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.spi.ReferenceResolverAware;
+import com.consol.citrus.util.RandomGenerator;
 import com.consol.citrus.util.TypeConverter;
 import com.consol.citrus.validation.MessageValidatorRegistry;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
@@ -94,12 +96,12 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
     /**
      * Message store
      */
-    private MessageStore messageStore = new DefaultMessageStore();
+    private volatile MessageStore messageStore;
 
     /**
      * Function registry holding all available functions
      */
-    private FunctionRegistry functionRegistry = new FunctionRegistry();
+    private FunctionRegistry functionRegistry;
 
     /**
      * Endpoint factory creates endpoint instances
@@ -114,78 +116,148 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
     /**
      * Registered message validators
      */
-    private MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
+    private MessageValidatorRegistry messageValidatorRegistry;
 
     /**
      * Registered validation matchers
      */
-    private ValidationMatcherRegistry validationMatcherRegistry = new ValidationMatcherRegistry();
+    private ValidationMatcherRegistry validationMatcherRegistry;
 
     /**
      * List of test listeners to be informed on test events
      */
-    private TestListeners testListeners = new TestListeners();
+    private TestListeners testListeners;
 
     /**
      * List of test action listeners to be informed on test action events.
      */
-    private TestActionListeners testActionListeners = new TestActionListeners();
+    private TestActionListeners testActionListeners;
 
     /**
      * List of actions to run before each test.
      */
-    private List<BeforeTest> beforeTest = new ArrayList<>();
+    private List<BeforeTest> beforeTest;
 
     /**
      * List of actions to run after each test.
      */
-    private List<AfterTest> afterTest = new ArrayList<>();
+    private List<AfterTest> afterTest;
 
     /**
      * List of message listeners to be informed on inbound and outbound message exchange
      */
-    private MessageListeners messageListeners = new MessageListeners();
+    private MessageListeners messageListeners;
 
     /**
      * List of global message processors
      */
-    private MessageProcessors messageProcessors = new MessageProcessors();
+    private MessageProcessors messageProcessors;
 
     /**
      * Central namespace context builder
      */
-    private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
+    private NamespaceContextBuilder namespaceContextBuilder;
 
     /**
-     * Timers registered in test context, that can be stopped
+     * Timers registered in test context, that can be stopped, created on first use
      */
-    protected Map<String, StopTimer> timers = new ConcurrentHashMap<>();
+    protected volatile Map<String, StopTimer> timers;
 
     /**
-     * List of exceptions that actions raised during execution of forked operations
+     * List of exceptions that actions raised during execution of forked operations, created on first use
      */
-    private final List<CitrusRuntimeException> exceptions = new ArrayList<>();
+    private volatile List<CitrusRuntimeException> exceptions;
+
+    /**
+     * Resources closed when the test finishes, created on first use
+     */
+    private List<AutoCloseable> closeables;
 
     /**
      * Type converter.
      */
-    private TypeConverter typeConverter = TypeConverter.lookupDefault();
+    private TypeConverter typeConverter;
 
     /**
      * Log modifier.
      */
     private LogModifier logModifier;
 
+    /**
+     * Executor for actions running in separate threads.
+     */
+    private ManagedExecutor executor;
+
+    /**
+     * Clock used by date functions, may be fixed or offset in order to get deterministic dates.
+     */
+    private Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * Seeded random generator used by random data functions, created on first use
+     */
+    private RandomGenerator randomGenerator;
+
     /**
      * SegmentVariableExtractorRegistry
      */
-    private SegmentVariableExtractorRegistry segmentVariableExtractorRegistry = new SegmentVariableExtractorRegistry();
+    private SegmentVariableExtractorRegistry segmentVariableExtractorRegistry;
+
+    /**
+     * Memoized results of pure functions with constant parameters, created on first use
+     */
+    private Map<String, String> functionResults;
 
     /**
      * Default constructor
      */
     public TestContext() {
         variables = new ConcurrentHashMap<>();
+        functionRegistry = new FunctionRegistry();
+        messageValidatorRegistry = new MessageValidatorRegistry();
+        validationMatcherRegistry = new ValidationMatcherRegistry();
+        testListeners = new TestListeners();
+        testActionListeners = new TestActionListeners();
+        beforeTest = new ArrayList<>();
+        afterTest = new ArrayList<>();
+        messageListeners = new MessageListeners();
+        messageProcessors = new MessageProcessors();
+        namespaceContextBuilder = new NamespaceContextBuilder();
+        typeConverter = TypeConverter.lookupDefault();
+        executor = ManagedExecutor.getDefault();
+        segmentVariableExtractorRegistry = new SegmentVariableExtractorRegistry();
+    }
+
+    /**
+     * Constructor using shared suite scope. The test context references the shared components of the scope.
+     * Shared global variables are not copied, variables written in the test are kept separately.
+     * @param scope
+     */
+    public TestContext(SuiteScope scope) {
+        functionRegistry = scope.getFunctionRegistry();
+        validationMatcherRegistry = scope.getValidationMatcherRegistry();
+        messageValidatorRegistry = scope.getMessageValidatorRegistry();
+        testListeners = scope.getTestListeners();
+        testActionListeners = scope.getTestActionListeners();
+        beforeTest = scope.getBeforeTest();
+        afterTest = scope.getAfterTest();
+        messageListeners = scope.getMessageListeners();
+        messageProcessors = scope.getMessageProcessors();
+        endpointFactory = scope.getEndpointFactory();
+        referenceResolver = scope.getReferenceResolver();
+        namespaceContextBuilder = scope.getNamespaceContextBuilder();
+        typeConverter = scope.getTypeConverter();
+        logModifier = scope.getLogModifier();
+        executor = scope.getExecutor();
+        segmentVariableExtractorRegistry = scope.getSegmentVariableExtractorRegistry();
+
+        if (scope.getSharedGlobalVariables() != null) {
+            globalVariables = scope.getSharedGlobalVariables();
+            variables = new ScopedVariables(globalVariables.getVariables());
+        } else {
+            variables = new ConcurrentHashMap<>();
+            setGlobalVariables(scope.getGlobalVariables());
+        }
     }
 
     /**
@@ -214,6 +286,62 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         return typeConverter.convertIfNecessary(getVariableObject(variableExpression), type);
     }
 
+    /**
+     * Gets variable value as primitive long. Numeric variable values are used as is without String conversion,
+     * other values are parsed from their String representation.
+     *
+     * @param variableExpression
+     * @return
+     */
+    public long getLongVariable(String variableExpression) {
+        Object value = getVariableObject(variableExpression);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        try {
+            return Long.parseLong(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            throw new CitrusRuntimeException(String.format("Variable '%s' is not a valid long value: %s", variableExpression, value), e);
+        }
+    }
+
+    /**
+     * Gets variable value as primitive double. Numeric variable values are used as is without String conversion,
+     * other values are parsed from their String representation.
+     *
+     * @param variableExpression
+     * @return
+     */
+    public double getDoubleVariable(String variableExpression) {
+        Object value = getVariableObject(variableExpression);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+
+        try {
+            return Double.parseDouble(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            throw new CitrusRuntimeException(String.format("Variable '%s' is not a valid double value: %s", variableExpression, value), e);
+        }
+    }
+
+    /**
+     * Gets variable value as primitive boolean. Boolean variable values are used as is without String conversion,
+     * other values are parsed from their String representation.
+     *
+     * @param variableExpression
+     * @return
+     */
+    public boolean getBooleanVariable(String variableExpression) {
+        Object value = getVariableObject(variableExpression);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+
+        return Boolean.parseBoolean(String.valueOf(value).trim());
+    }
+
     /**
      * Gets the value for the given variable as object representation.
      * Use this method if you seek for test objects stored in the context.
@@ -225,10 +353,13 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
     public Object getVariableObject(final String variableExpression) {
         String variableName = VariableUtils.cutOffVariablesPrefix(variableExpression);
 
+        Object value = variables.get(variableName);
+        if (value != null) {
+            return value;
+        }
+
         if (variableName.startsWith(CitrusSettings.VARIABLE_ESCAPE) && variableName.endsWith(CitrusSettings.VARIABLE_ESCAPE)) {
             return CitrusSettings.VARIABLE_PREFIX + VariableUtils.cutOffVariablesEscaping(variableName) + CitrusSettings.VARIABLE_SUFFIX;
-        } else if (variables.containsKey(variableName)) {
-            return variables.get(variableName);
         } else {
             return VariableExpressionIterator.getLastExpressionValue(variableName, this, segmentVariableExtractorRegistry.getSegmentValueExtractors());
         }
@@ -244,19 +375,24 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      * @throws CitrusRuntimeException
      */
     public void setVariable(final String variableName, Object value) {
-        if (!StringUtils.hasText(variableName) || VariableUtils.cutOffVariablesPrefix(variableName).length() == 0) {
+        if (!StringUtils.hasText(variableName)) {
+            throw new CitrusRuntimeException("Can not create variable '" + variableName + "', please define proper variable name");
+        }
+
+        String name = VariableUtils.cutOffVariablesPrefix(variableName);
+        if (name.length() == 0) {
             throw new CitrusRuntimeException("Can not create variable '" + variableName + "', please define proper variable name");
         }
 
         if (value == null) {
-            throw new VariableNullValueException("Trying to set variable: " + VariableUtils.cutOffVariablesPrefix(variableName) + ", but variable value is null");
+            throw new VariableNullValueException("Trying to set variable: " + name + ", but variable value is null");
         }
 
         if (LOG.isDebugEnabled()) {
-            LOG.debug(String.format("Setting variable: %s with value: '%s'", VariableUtils.cutOffVariablesPrefix(variableName), value));
+            LOG.debug(String.format("Setting variable: %s with value: '%s'", name, value));
         }
 
-        variables.put(VariableUtils.cutOffVariablesPrefix(variableName), value);
+        variables.put(name, value);
     }
 
     /**
@@ -365,6 +501,11 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      * Clears variables in this test context. Initially adds all global variables.
      */
     public void clear() {
+        if (variables instanceof ScopedVariables) {
+            ((ScopedVariables) variables).reset(globalVariables.getVariables());
+            return;
+        }
+
         variables.clear();
         variables.putAll(globalVariables.getVariables());
     }
@@ -510,7 +651,18 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      * @return the messageStore
      */
     public MessageStore getMessageStore() {
-        return messageStore;
+        MessageStore store = messageStore;
+        if (store == null) {
+            synchronized (this) {
+                store = messageStore;
+                if (store == null) {
+                    store = new DefaultMessageStore();
+                    messageStore = store;
+                }
+            }
+        }
+
+        return store;
     }
 
     /**
@@ -529,6 +681,21 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      */
     public void setFunctionRegistry(FunctionRegistry functionRegistry) {
         this.functionRegistry = functionRegistry;
+        this.functionResults = null;
+    }
+
+    /**
+     * Gets the memoized results of pure functions with constant parameters in this context.
+     * Map keys are the function expressions.
+     *
+     * @return the function results
+     */
+    public synchronized Map<String, String> getFunctionResults() {
+        if (functionResults == null) {
+            functionResults = new ConcurrentHashMap<>();
+        }
+
+        return functionResults;
     }
 
     /**
@@ -790,6 +957,69 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         this.logModifier = logModifier;
     }
 
+    /**
+     * Gets the executor for actions running in separate threads.
+     * @return
+     */
+    public ManagedExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor for actions running in separate threads.
+     * @param executor
+     */
+    public void setExecutor(ManagedExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the clock providing current date and time.
+     * @return
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Sets the clock providing current date and time. Use a fixed or offset clock to freeze or shift
+     * the dates generated in this context.
+     * @param clock
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the random generator used by random data functions in this context. The generator is created on first
+     * use with a seed derived from the run seed and the current test.
+     * @return
+     */
+    public synchronized RandomGenerator getRandomGenerator() {
+        if (randomGenerator == null) {
+            Object testName = variables != null ? variables.get(CitrusSettings.TEST_NAME_VARIABLE) : null;
+            randomGenerator = RandomGenerator.forTest(testName != null ? testName.toString() : null);
+        }
+
+        return randomGenerator;
+    }
+
+    /**
+     * Sets the random generator. Use a generator with fixed seed in order to replay generated random data.
+     * @param randomGenerator
+     */
+    public synchronized void setRandomGenerator(RandomGenerator randomGenerator) {
+        this.randomGenerator = randomGenerator;
+    }
+
+    /**
+     * Checks if random data has been generated in this context.
+     * @return
+     */
+    public synchronized boolean hasRandomGenerator() {
+        return randomGenerator != null;
+    }
+
     /**
      * Informs message listeners if present that inbound message was received.
      *
@@ -831,10 +1061,9 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      * @param timerId a unique timer id
      */
     public void registerTimer(String timerId, StopTimer timer) {
-        if (timers.containsKey(timerId)) {
+        if (timers().putIfAbsent(timerId, timer) != null) {
             throw new CitrusRuntimeException("Timer already registered with this id");
         }
-        timers.put(timerId, timer);
     }
 
     /**
@@ -844,7 +1073,8 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      * @return true if time found and stopped, matching the supplied timerId
      */
     public boolean stopTimer(String timerId) {
-        StopTimer timer = timers.get(timerId);
+        Map<String, StopTimer> registered = timers;
+        StopTimer timer = registered != null ? registered.get(timerId) : null;
         if (timer != null) {
             timer.stopTimer();
             return true;
@@ -856,11 +1086,69 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      * Stops all timers
      */
     public void stopTimers() {
-        for (String timerId : timers.keySet()) {
+        Map<String, StopTimer> registered = timers;
+        if (registered == null) {
+            return;
+        }
+
+        for (String timerId : registered.keySet()) {
             stopTimer(timerId);
         }
     }
 
+    private Map<String, StopTimer> timers() {
+        Map<String, StopTimer> registered = timers;
+        if (registered == null) {
+            synchronized (this) {
+                registered = timers;
+                if (registered == null) {
+                    registered = new ConcurrentHashMap<>();
+                    timers = registered;
+                }
+            }
+        }
+
+        return registered;
+    }
+
+    /**
+     * Registers a resource that is closed when the test finishes, e.g. a temporary file created during the test.
+     * Resources that are already registered are ignored.
+     * @param closeable
+     */
+    public synchronized void registerCloseable(AutoCloseable closeable) {
+        if (closeables == null) {
+            closeables = new ArrayList<>();
+        }
+
+        if (closeables.stream().noneMatch(registered -> registered == closeable)) {
+            closeables.add(closeable);
+        }
+    }
+
+    /**
+     * Closes all registered resources. Errors are logged and do not fail the test.
+     */
+    public void closeResources() {
+        List<AutoCloseable> toClose;
+        synchronized (this) {
+            if (closeables == null) {
+                return;
+            }
+
+            toClose = closeables;
+            closeables = null;
+        }
+
+        for (AutoCloseable closeable : toClose) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                LOG.warn("Failed to close resource at the end of the test", e);
+            }
+        }
+    }
+
     /**
      * Add new exception to the context marking the test as failed. This
      * is usually used by actions to mark exceptions during forked operations.
@@ -868,7 +1156,7 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      * @param exception
      */
     public void addException(CitrusRuntimeException exception) {
-        this.exceptions.add(exception);
+        getExceptions().add(exception);
     }
 
     /**
@@ -877,7 +1165,18 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      * @return the exceptions
      */
     public List<CitrusRuntimeException> getExceptions() {
-        return exceptions;
+        List<CitrusRuntimeException> list = exceptions;
+        if (list == null) {
+            synchronized (this) {
+                list = exceptions;
+                if (list == null) {
+                    list = new ArrayList<>();
+                    exceptions = list;
+                }
+            }
+        }
+
+        return list;
     }
 
     /**
@@ -886,7 +1185,7 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      * @return
      */
     public boolean hasExceptions() {
-        return !CollectionUtils.isEmpty(getExceptions());
+        return !CollectionUtils.isEmpty(exceptions);
     }
 
     /**
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.functions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parsed representation of a function expression 'prefix:name(parameters)'. Instances are immutable and
+ * get cached in the function registry so the same expression is parsed only once.
+ */
+public final class FunctionCall {
+
+    /** Function library prefix */
+    private final String prefix;
+
+    /** Function name */
+    private final String name;
+
+    /** Raw parameter string as written in the expression */
+    private final String parameterString;
+
+    /** Pre-parsed parameters, only set when parameters are constant */
+    private final List<String> parameters;
+
+    /**
+     * Default constructor using fields.
+     * @param prefix
+     * @param name
+     * @param parameterString
+     * @param constant
+     */
+    FunctionCall(String prefix, String name, String parameterString, boolean constant) {
+        this.prefix = prefix;
+        this.name = name;
+        this.parameterString = parameterString;
+
+        if (constant) {
+            this.parameters = Collections.unmodifiableList(FunctionParameterHelper.getParameterList(parameterString));
+        } else {
+            this.parameters = null;
+        }
+    }
+
+    /**
+     * Gets the function library prefix.
+     * @return
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets the function name.
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the raw parameter string.
+     * @return
+     */
+    public String getParameterString() {
+        return parameterString;
+    }
+
+    /**
+     * Checks if parameters are free of variables and nested functions. Constant parameters do not need to
+     * be resolved against a test context and always evaluate to the same parameter list.
+     * @return
+     */
+    public boolean isConstant() {
+        return parameters != null;
+    }
+
+    /**
+     * Gets a copy of the pre-parsed parameter list. Only available for constant parameters.
+     * @return
+     */
+    public List<String> getParameters() {
+        if (parameters == null) {
+            throw new IllegalStateException("Function parameters are not constant and must be resolved with a test context");
+        }
+
+        return new ArrayList<>(parameters);
+    }
+}
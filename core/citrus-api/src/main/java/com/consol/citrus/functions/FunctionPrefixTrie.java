@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.functions;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Character trie holding the prefixes of all function libraries in a registry. Used to find function
+ * call sites for all libraries in a single scan over a string.
+ */
+final class FunctionPrefixTrie {
+
+    /** Root node of this trie */
+    private final Node root = new Node();
+
+    /** Number of libraries this trie has been built from */
+    private final int size;
+
+    /**
+     * Constructor builds the trie from given function libraries.
+     * @param libraries
+     */
+    FunctionPrefixTrie(List<FunctionLibrary> libraries) {
+        for (FunctionLibrary library : libraries) {
+            Node node = root;
+            for (char c : library.getPrefix().toCharArray()) {
+                node = node.getOrCreateChild(c);
+            }
+            node.library = library;
+        }
+
+        this.size = libraries.size();
+    }
+
+    /**
+     * Gets the library with the longest prefix matching the given string at given index.
+     * @param str the string to search.
+     * @param index the index to start matching at.
+     * @return matching function library or null if no prefix matches at given index.
+     */
+    FunctionLibrary match(String str, int index) {
+        FunctionLibrary match = null;
+        Node node = root;
+        for (int i = index; i < str.length(); i++) {
+            node = node.getChild(str.charAt(i));
+
+            if (node == null) {
+                break;
+            }
+
+            if (node.library != null) {
+                match = node.library;
+            }
+        }
+
+        return match;
+    }
+
+    /**
+     * Finds the next index in given string where a library prefix starts.
+     * @param str the string to search.
+     * @param fromIndex the index to start searching from.
+     * @return index of next prefix or -1 if there is no more prefix in the string.
+     */
+    int indexOf(String str, int fromIndex) {
+        for (int i = fromIndex; i < str.length(); i++) {
+            if (root.getChild(str.charAt(i)) != null && match(str, i) != null) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the number of libraries this trie has been built from.
+     * @return
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Trie node with sorted child characters.
+     */
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private FunctionLibrary library;
+
+        Node getChild(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        Node getOrCreateChild(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            if (pos >= 0) {
+                return children[pos];
+            }
+
+            int insert = -(pos + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insert);
+            System.arraycopy(children, 0, newChildren, 0, insert);
+            System.arraycopy(keys, insert, newKeys, insert + 1, keys.length - insert);
+            System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+
+            Node child = new Node();
+            newKeys[insert] = c;
+            newChildren[insert] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+}
@@ -18,8 +18,12 @@ package com.consol.citrus.functions;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.InvalidFunctionUsageException;
 import com.consol.citrus.exceptions.NoSuchFunctionLibraryException;
 
 /**
@@ -32,6 +36,15 @@ public class FunctionRegistry {
     /** list of libraries providing custom functions */
     private List<FunctionLibrary> functionLibraries = new ArrayList<>();
 
+    /** Maximum number of parsed function calls kept in cache */
+    private static final int FUNCTION_CALL_CACHE_LIMIT = 10000;
+
+    /** Trie of library prefixes, built lazily on first use */
+    private volatile FunctionPrefixTrie prefixTrie;
+
+    /** Cache of parsed function expressions */
+    private final Map<String, FunctionCall> functionCalls = new ConcurrentHashMap<>();
+
     /**
      * Check if variable expression is a custom function.
      * Expression has to start with one of the registered function library prefix.
@@ -43,13 +56,7 @@ public class FunctionRegistry {
             return false;
         }
 
-        for (FunctionLibrary lib : functionLibraries) {
-            if (variableExpression.startsWith(lib.getPrefix())) {
-                return true;
-            }
-        }
-
-        return false;
+        return getPrefixTrie().match(variableExpression, 0) != null;
     }
 
     /**
@@ -58,15 +65,78 @@ public class FunctionRegistry {
      * @return FunctionLibrary instance
      */
     public FunctionLibrary getLibraryForPrefix(String functionPrefix) {
-        for (FunctionLibrary functionLibrary : functionLibraries) {
-            if (functionLibrary.getPrefix().equals(functionPrefix)) {
-                return functionLibrary;
-            }
+        FunctionLibrary functionLibrary = getPrefixTrie().match(functionPrefix, 0);
+        if (functionLibrary != null && functionLibrary.getPrefix().length() == functionPrefix.length()) {
+            return functionLibrary;
         }
 
         throw new NoSuchFunctionLibraryException("Can not find function library for prefix " + functionPrefix);
     }
 
+    /**
+     * Finds the next function call site in given string. Searches for all library prefixes in a single scan.
+     * @param str the string to search.
+     * @param fromIndex the index to start searching from.
+     * @return index of next function prefix or -1 if there is no function in the rest of the string.
+     */
+    public int indexOfFunction(String str, int fromIndex) {
+        return getPrefixTrie().indexOf(str, fromIndex);
+    }
+
+    /**
+     * Parses given function expression 'prefix:name(parameters)' to a function call. Parsed function calls
+     * are cached so each expression is parsed only once.
+     * @param functionExpression the function expression without variable prefix/suffix.
+     * @throws InvalidFunctionUsageException
+     * @return the parsed function call.
+     */
+    public FunctionCall getFunctionCall(String functionExpression) {
+        FunctionCall functionCall = functionCalls.get(functionExpression);
+        if (functionCall == null) {
+            functionCall = parseFunctionCall(functionExpression);
+
+            if (functionCalls.size() < FUNCTION_CALL_CACHE_LIMIT) {
+                functionCalls.put(functionExpression, functionCall);
+            }
+        }
+
+        return functionCall;
+    }
+
+    /**
+     * Parses function expression to a function call.
+     * @param functionExpression
+     * @return
+     */
+    private FunctionCall parseFunctionCall(String functionExpression) {
+        int prefixEnd = functionExpression.indexOf(':') + 1;
+        int parameterStart = functionExpression.indexOf('(');
+        if (prefixEnd == 0 || parameterStart < 0 || !functionExpression.endsWith(")")) {
+            throw new InvalidFunctionUsageException("Unable to resolve function: " + functionExpression);
+        }
+
+        String parameterString = functionExpression.substring(parameterStart + 1, functionExpression.length() - 1);
+        boolean constant = !parameterString.contains(CitrusSettings.VARIABLE_PREFIX) && indexOfFunction(parameterString, 0) < 0;
+
+        return new FunctionCall(functionExpression.substring(0, prefixEnd),
+                functionExpression.substring(prefixEnd, parameterStart), parameterString, constant);
+    }
+
+    /**
+     * Gets the prefix trie for current function libraries. Rebuilds the trie when libraries have changed.
+     * @return
+     */
+    private FunctionPrefixTrie getPrefixTrie() {
+        FunctionPrefixTrie trie = prefixTrie;
+        if (trie == null || trie.size() != functionLibraries.size()) {
+            trie = new FunctionPrefixTrie(functionLibraries);
+            prefixTrie = trie;
+            functionCalls.clear();
+        }
+
+        return trie;
+    }
+
     /**
      * Adds given function library to this registry.
      */
@@ -80,6 +150,7 @@ public class FunctionRegistry {
         }
 
         this.functionLibraries.add(functionLibrary);
+        this.prefixTrie = null;
     }
 
     /**
@@ -87,6 +158,7 @@ public class FunctionRegistry {
      */
     public void setFunctionLibraries(List<FunctionLibrary> functionLibraries) {
         this.functionLibraries = functionLibraries;
+        this.prefixTrie = null;
     }
 
     /**
@@ -16,8 +16,9 @@
 
 package com.consol.citrus.functions;
 
+import java.util.List;
+
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.InvalidFunctionUsageException;
 import com.consol.citrus.variable.VariableUtils;
 import org.springframework.util.StringUtils;
 
@@ -56,70 +57,62 @@ public final class FunctionUtils {
             // it is not a function, as it is defined as 'prefix:methodName(arguments)'
             return stringValue;
         }
-        
-        String newString = stringValue;
-        StringBuffer strBuffer = new StringBuffer();
 
-        boolean isVarComplete = false;
-        StringBuffer variableNameBuf = new StringBuffer();
+        FunctionRegistry functionRegistry = context.getFunctionRegistry();
+        int searchIndex = functionRegistry.indexOfFunction(stringValue, 0);
+        if (searchIndex < 0) {
+            return stringValue;
+        }
+
+        StringBuilder strBuffer = new StringBuilder();
 
         int startIndex = 0;
         int curIndex;
-        int searchIndex;
-
-        for (FunctionLibrary library: context.getFunctionRegistry().getFunctionLibraries()) {
-            startIndex = 0;
 
-            while ((searchIndex = newString.indexOf(library.getPrefix(), startIndex)) != -1) {
-                int control = -1;
-                isVarComplete = false;
+        while (searchIndex != -1) {
+            int control = -1;
+            boolean isVarComplete = false;
 
-                curIndex = searchIndex;
+            curIndex = searchIndex;
 
-                while (curIndex < newString.length() && !isVarComplete) {
-                    if (newString.indexOf('(', curIndex) == curIndex) {
-                        control++;
-                    }
+            while (curIndex < stringValue.length() && !isVarComplete) {
+                if (stringValue.charAt(curIndex) == '(') {
+                    control++;
+                }
 
-                    if (newString.charAt(curIndex) == ')' || curIndex == newString.length() - 1) {
-                        if (control == 0) {
-                            isVarComplete = true;
-                        } else {
-                            control--;
-                        }
+                if (stringValue.charAt(curIndex) == ')' || curIndex == stringValue.length() - 1) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
                     }
-
-                    variableNameBuf.append(newString.charAt(curIndex));
-                    curIndex++;
                 }
 
-                final String value = resolveFunction(variableNameBuf.toString(), context);
-
-                strBuffer.append(newString.substring(startIndex, searchIndex));
+                curIndex++;
+            }
 
-                if (enableQuoting) {
-                    strBuffer.append("'" + value + "'");
-                } else {
-                    strBuffer.append(value);
-                }
+            final String value = resolveFunction(stringValue.substring(searchIndex, curIndex), context);
 
-                startIndex = curIndex;
+            strBuffer.append(stringValue, startIndex, searchIndex);
 
-                variableNameBuf = new StringBuffer();
-                isVarComplete = false;
+            if (enableQuoting) {
+                strBuffer.append('\'').append(value).append('\'');
+            } else {
+                strBuffer.append(value);
             }
 
-            strBuffer.append(newString.substring(startIndex));
-            newString = strBuffer.toString();
-
-            strBuffer = new StringBuffer();
+            startIndex = curIndex;
+            searchIndex = functionRegistry.indexOfFunction(stringValue, startIndex);
         }
 
-        return newString;
+        strBuffer.append(stringValue.substring(startIndex));
+
+        return strBuffer.toString();
     }
 
     /**
-     * This method resolves a custom function to its respective result.
+     * This method resolves a custom function to its respective result. Pure functions with constant parameters
+     * are evaluated only once per test context.
      * @param functionString to evaluate.
      * @throws com.consol.citrus.exceptions.CitrusRuntimeException
      * @return evaluated result
@@ -127,20 +120,35 @@ public final class FunctionUtils {
     public static String resolveFunction(String functionString, TestContext context) {
         String functionExpression = VariableUtils.cutOffVariablesPrefix(functionString);
 
-        if (!functionExpression.contains("(") || !functionExpression.endsWith(")") || !functionExpression.contains(":")) {
-            throw new InvalidFunctionUsageException("Unable to resolve function: " + functionExpression);
-        }
-        
-        String functionPrefix = functionExpression.substring(0, functionExpression.indexOf(':') + 1);
-        String parameterString = functionExpression.substring(functionExpression.indexOf('(') + 1, functionExpression.length() - 1);
-        String function = functionExpression.substring(functionPrefix.length(), functionExpression.indexOf('('));
+        FunctionRegistry functionRegistry = context.getFunctionRegistry();
+        FunctionCall functionCall = functionRegistry.getFunctionCall(functionExpression);
+        FunctionLibrary library = functionRegistry.getLibraryForPrefix(functionCall.getPrefix());
+        Function function = library.getFunction(functionCall.getName());
+
+        if (functionCall.isConstant()) {
+            if (function instanceof PureFunction) {
+                return context.getFunctionResults().computeIfAbsent(functionExpression,
+                        key -> execute(function, functionCall.getParameters(), context));
+            }
 
-        FunctionLibrary library = context.getFunctionRegistry().getLibraryForPrefix(functionPrefix);
+            return execute(function, functionCall.getParameters(), context);
+        }
 
-        parameterString = VariableUtils.replaceVariablesInString(parameterString, context, false);
+        String parameterString = VariableUtils.replaceVariablesInString(functionCall.getParameterString(), context, false);
         parameterString = replaceFunctionsInString(parameterString, context);
 
-        String value = library.getFunction(function).execute(FunctionParameterHelper.getParameterList(parameterString), context);
+        return execute(function, FunctionParameterHelper.getParameterList(parameterString), context);
+    }
+
+    /**
+     * Executes function with given parameters. Null results are converted to empty String.
+     * @param function
+     * @param parameters
+     * @param context
+     * @return
+     */
+    private static String execute(Function function, List<String> parameters, TestContext context) {
+        String value = function.execute(parameters, context);
 
         if (value == null) {
             return "";
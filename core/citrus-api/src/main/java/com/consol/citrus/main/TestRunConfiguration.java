@@ -51,6 +51,9 @@ public class TestRunConfiguration {
     /** Optional test jar artifact holding tests */
     private File testJar;
 
+    /** Number of threads the engine uses to run test classes in parallel within a single test suite */
+    private int threadCount = 1;
+
     /**
      * Gets the engine.
      * @return
@@ -139,6 +142,24 @@ public class TestRunConfiguration {
         this.testJar = testJar;
     }
 
+    /**
+     * Gets the threadCount.
+     *
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the threadCount.
+     *
+     * @param threadCount
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
     /**
      * Gets the defaultProperties.
      *
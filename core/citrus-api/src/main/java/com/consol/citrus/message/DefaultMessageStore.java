@@ -19,7 +19,10 @@ package com.consol.citrus.message;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.endpoint.Endpoint;
 
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * @author Christoph Deppisch
@@ -27,6 +30,9 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DefaultMessageStore extends ConcurrentHashMap<String, Message> implements MessageStore {
 
+    /** Listeners notified on stored messages */
+    private final transient List<Consumer<String>> storeListeners = new CopyOnWriteArrayList<>();
+
     @Override
     public Message getMessage(String id) {
         return super.get(id);
@@ -35,10 +41,21 @@ public class DefaultMessageStore extends ConcurrentHashMap<String, Message> impl
     @Override
     public void storeMessage(String id, Message message) {
         super.put(id, message);
+        storeListeners.forEach(listener -> listener.accept(id));
     }
 
     @Override
     public String constructMessageName(TestAction action, Endpoint endpoint) {
         return action.getName() + "(" + endpoint.getName() + ")";
     }
+
+    @Override
+    public void addStoreListener(Consumer<String> listener) {
+        storeListeners.add(listener);
+    }
+
+    @Override
+    public void removeStoreListener(Consumer<String> listener) {
+        storeListeners.remove(listener);
+    }
 }
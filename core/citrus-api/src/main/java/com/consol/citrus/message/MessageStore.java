@@ -16,6 +16,8 @@
 
 package com.consol.citrus.message;
 
+import java.util.function.Consumer;
+
 import com.consol.citrus.TestAction;
 import com.consol.citrus.endpoint.Endpoint;
 
@@ -30,4 +32,19 @@ public interface MessageStore {
     void storeMessage(String id, Message message);
 
     String constructMessageName(TestAction action, Endpoint endpoint);
+
+    /**
+     * Adds listener that gets notified with the message name each time a message is stored.
+     * Default implementation does not support listeners.
+     * @param listener
+     */
+    default void addStoreListener(Consumer<String> listener) {
+    }
+
+    /**
+     * Removes store listener.
+     * @param listener
+     */
+    default void removeStoreListener(Consumer<String> listener) {
+    }
 }
@@ -69,6 +69,14 @@ public class TestListeners implements TestListenerAware {
         }
     }
 
+    /**
+     * Removes given test listener.
+     * @param listener
+     */
+    public void removeTestListener(TestListener listener) {
+        this.testListeners.remove(listener);
+    }
+
     /**
      * Obtains the testListeners.
      * @return
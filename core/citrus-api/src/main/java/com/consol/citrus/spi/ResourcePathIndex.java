@@ -0,0 +1,264 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of resource path type resolver files. The index is generated at build time and merges all resource files of
+ * a jar into one single index file. At runtime all index files on the classpath are read once so resource lookups
+ * do not need to scan the classpath or read individual resource files.
+ *
+ * Each index entry uses the resource path and the property name as key (e.g. META-INF/citrus/function/foo#type).
+ * The index also lists the base paths that have been indexed. Lookups for paths outside these base paths are not
+ * covered by the index.
+ *
+ * @since 3.3
+ */
+public final class ResourcePathIndex {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(ResourcePathIndex.class);
+
+    /** Index file location in jar */
+    public static final String INDEX_LOCATION = "META-INF/citrus-resource-path.index";
+
+    /** Default base path to index */
+    public static final String DEFAULT_BASE_PATH = "META-INF/citrus";
+
+    /** Special index entry listing the indexed base paths */
+    static final String BASE_PATHS_KEY = "citrus.index.base-paths";
+
+    /** Separates resource path and property name in index keys */
+    private static final String PROPERTY_SEPARATOR = "#";
+
+    /** Properties by full resource path */
+    private final Map<String, Properties> resources;
+
+    /** Indexed base paths */
+    private final Set<String> basePaths;
+
+    /** Merged index of all index files on the classpath, loaded once */
+    private static ResourcePathIndex classpathIndex;
+
+    private ResourcePathIndex(Map<String, Properties> resources, Set<String> basePaths) {
+        this.resources = resources;
+        this.basePaths = basePaths;
+    }
+
+    /**
+     * Gets the merged index of all index files on the classpath. Index files are read on first access.
+     * When several index files provide the same resource path the first one on the classpath wins just like with
+     * regular classpath resource lookups.
+     * @return
+     */
+    public static synchronized ResourcePathIndex getClasspathIndex() {
+        if (classpathIndex == null) {
+            long start = System.nanoTime();
+
+            List<Properties> indexes = new ArrayList<>();
+            try {
+                Enumeration<URL> urls = ResourcePathIndex.class.getClassLoader().getResources(INDEX_LOCATION);
+                while (urls.hasMoreElements()) {
+                    try (InputStream in = urls.nextElement().openStream()) {
+                        Properties index = new Properties();
+                        index.load(in);
+                        indexes.add(index);
+                    }
+                }
+            } catch (IOException e) {
+                throw new CitrusRuntimeException(String.format("Failed to read resource path index '%s'", INDEX_LOCATION), e);
+            }
+
+            classpathIndex = fromProperties(indexes.toArray(new Properties[0]));
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Loaded %s resource path(s) from %s index file(s) in %s ms", classpathIndex.size(), indexes.size(),
+                        (System.nanoTime() - start) / 1000000L));
+            }
+        }
+
+        return classpathIndex;
+    }
+
+    /**
+     * Creates index from given index file contents. Earlier index files take precedence.
+     * @param indexes
+     * @return
+     */
+    static ResourcePathIndex fromProperties(Properties... indexes) {
+        Map<String, Properties> resources = new HashMap<>();
+        Set<String> basePaths = new LinkedHashSet<>();
+        for (Properties index : indexes) {
+            merge(index, resources, basePaths);
+        }
+
+        return new ResourcePathIndex(resources, basePaths);
+    }
+
+    /**
+     * Adds entries of given index file to the resources. Resource paths already present are skipped.
+     * @param index
+     * @param resources
+     * @param basePaths
+     */
+    private static void merge(Properties index, Map<String, Properties> resources, Set<String> basePaths) {
+        Map<String, Properties> indexResources = new HashMap<>();
+        for (String key : index.stringPropertyNames()) {
+            if (key.equals(BASE_PATHS_KEY)) {
+                Arrays.stream(index.getProperty(key).split(","))
+                        .map(String::trim)
+                        .filter(basePath -> !basePath.isEmpty())
+                        .forEach(basePaths::add);
+                continue;
+            }
+
+            int separator = key.lastIndexOf(PROPERTY_SEPARATOR);
+            if (separator > 0) {
+                indexResources.computeIfAbsent(key.substring(0, separator), path -> new Properties())
+                        .setProperty(key.substring(separator + 1), index.getProperty(key));
+            }
+        }
+
+        indexResources.forEach(resources::putIfAbsent);
+    }
+
+    /**
+     * Checks if given directory is part of the indexed base paths.
+     * @param directory
+     * @return
+     */
+    public boolean covers(String directory) {
+        return basePaths.stream().anyMatch(basePath -> directory.equals(basePath) || directory.startsWith(basePath + "/"));
+    }
+
+    /**
+     * Gets the indexed properties of given full resource path.
+     * @param resourcePath
+     * @return
+     */
+    public Optional<Properties> lookup(String resourcePath) {
+        return Optional.ofNullable(resources.get(resourcePath));
+    }
+
+    /**
+     * Lists names of all indexed resources located directly in given directory.
+     * @param directory
+     * @return
+     */
+    public List<String> list(String directory) {
+        String prefix = directory + "/";
+        return resources.keySet().stream()
+                .filter(path -> path.startsWith(prefix) && path.indexOf('/', prefix.length()) < 0)
+                .map(path -> path.substring(prefix.length()))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the number of indexed resources.
+     * @return
+     */
+    public int size() {
+        return resources.size();
+    }
+
+    /**
+     * Generates the index file for all resources located in given base paths of the output directory.
+     * @param outputDirectory
+     * @param basePaths
+     * @return the generated index file.
+     * @throws IOException
+     */
+    public static Path generate(Path outputDirectory, String... basePaths) throws IOException {
+        List<String> indexedPaths = basePaths.length > 0 ? Arrays.asList(basePaths) : Collections.singletonList(DEFAULT_BASE_PATH);
+
+        Properties index = new Properties();
+        index.setProperty(BASE_PATHS_KEY, String.join(",", indexedPaths));
+
+        for (String basePath : indexedPaths) {
+            Path baseDirectory = outputDirectory.resolve(basePath);
+            if (!Files.isDirectory(baseDirectory)) {
+                continue;
+            }
+
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(baseDirectory)) {
+                files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+
+            for (Path file : files) {
+                String resourcePath = outputDirectory.relativize(file).toString().replace('\\', '/');
+                Properties properties = new Properties();
+                try (InputStream in = Files.newInputStream(file)) {
+                    properties.load(in);
+                }
+
+                for (String property : properties.stringPropertyNames()) {
+                    index.setProperty(resourcePath + PROPERTY_SEPARATOR + property, properties.getProperty(property));
+                }
+            }
+        }
+
+        Path indexFile = outputDirectory.resolve(INDEX_LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        try (OutputStream out = Files.newOutputStream(indexFile)) {
+            index.store(out, "Citrus resource path index");
+        }
+
+        return indexFile;
+    }
+
+    /**
+     * Generates the index file at build time. First argument is the build output directory (e.g. target/classes)
+     * optionally followed by the base paths to index.
+     * @param args
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Missing output directory argument");
+        }
+
+        List<String> basePaths = new ArrayList<>(Arrays.asList(args).subList(1, args.length));
+        Path indexFile = generate(Paths.get(args[0]), basePaths.toArray(new String[0]));
+        LOG.info(String.format("Generated resource path index '%s'", indexFile));
+    }
+}
@@ -3,15 +3,24 @@ package com.consol.citrus.spi;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +37,10 @@ import org.springframework.core.io.support.ResourcePatternResolver;
  * type=com.consol.citrus.MySpecialPojo
  *
  * Users can define custom property names to read instead of the default {@link TypeResolver#DEFAULT_TYPE_PROPERTY}.
+ *
+ * Resource files, classpath scan results, resolved types and constructors are cached process wide so repeated lookups
+ * do not touch the classpath again. When the resource path index is enabled the resolver reads resources from the
+ * build time generated {@link ResourcePathIndex} instead of scanning the classpath.
  * @author Christoph Deppisch
  */
 public class ResourcePathTypeResolver implements TypeResolver {
@@ -41,6 +54,16 @@ public class ResourcePathTypeResolver implements TypeResolver {
     /** Base path for resources */
     private final String resourceBasePath;
 
+    /** Process wide caches of resource properties, resource names per directory, types and constructors */
+    private static final Map<String, Properties> PROPERTIES_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, List<String>> RESOURCE_NAMES_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Class<?>> TYPE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<ConstructorKey, Constructor<?>> CONSTRUCTOR_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Optional<Field>> INSTANCE_FIELD_CACHE = new ConcurrentHashMap<>();
+
+    /** Lookup timings per resource path */
+    private static final Map<String, LookupTiming> LOOKUP_TIMINGS = new ConcurrentHashMap<>();
+
     /**
      * Default constructor using META-INF resource base path.
      */
@@ -70,20 +93,16 @@ public class ResourcePathTypeResolver implements TypeResolver {
         String type = resolveProperty(resourcePath, property);
 
         try {
-            if (initargs.length == 0) {
-                return (T) Class.forName(type).getDeclaredConstructor().newInstance();
-            } else {
-                return (T) getConstructor(Class.forName(type), initargs).newInstance(initargs);
-            }
+            return (T) getConstructor(getType(type), initargs).newInstance(initargs);
         } catch (ClassNotFoundException | IllegalAccessException | InstantiationException |
                 NoSuchMethodException | InvocationTargetException e) {
 
             try {
-                if (Arrays.stream(Class.forName(type).getFields()).anyMatch(f -> f.getName().equals(INSTANCE) &&
-                        Modifier.isStatic(f.getModifiers()))) {
-                    return (T) Class.forName(type).getField(INSTANCE).get(null);
+                Optional<Field> instance = getInstanceField(getType(type));
+                if (instance.isPresent()) {
+                    return (T) instance.get().get(null);
                 }
-            } catch (IllegalAccessException | NoSuchFieldException | ClassNotFoundException e1) {
+            } catch (IllegalAccessException | ClassNotFoundException e1) {
                 throw new CitrusRuntimeException(String.format("Failed to resolve classpath resource of type '%s'", type), e1);
             }
 
@@ -98,47 +117,132 @@ public class ResourcePathTypeResolver implements TypeResolver {
         Map<String, T> resources = new HashMap<>();
         final String path = getFullResourcePath(resourcePath);
 
+        for (String resourceName : getResourceNames(path)) {
+            if (property.equals(TYPE_PROPERTY_WILDCARD)) {
+                Properties properties = readAsProperties(path + "/" + resourceName);
+                for (Map.Entry<Object, Object> prop : properties.entrySet()) {
+                    T resource = resolve(path + "/" + resourceName, prop.getKey().toString());
+                    resources.put(resourceName + "." + prop.getKey().toString(), resource);
+                }
+            } else {
+                T resource = resolve(path + "/" + resourceName, property);
+
+                if (keyProperty != null) {
+                    resources.put(resolveProperty(path + "/" + resourceName, keyProperty), resource);
+                } else {
+                    resources.put(resourceName, resource);
+                }
+            }
+        }
+
+        return resources;
+    }
+
+    /**
+     * Gets names of all resources in given directory. Uses the resource path index if enabled and covering the directory.
+     * Otherwise scans the classpath. Results are cached so the classpath is scanned only once per directory.
+     * @param path
+     * @return
+     */
+    private List<String> getResourceNames(String path) {
+        List<String> cached = RESOURCE_NAMES_CACHE.get(path);
+        if (cached != null) {
+            getLookupTiming(path).hit();
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        List<String> resourceNames;
+        if (CitrusSettings.isTypeResolverIndexEnabled() && ResourcePathIndex.getClasspathIndex().covers(path)) {
+            resourceNames = ResourcePathIndex.getClasspathIndex().list(path);
+        } else {
+            resourceNames = scanResourceNames(path);
+        }
+
+        RESOURCE_NAMES_CACHE.putIfAbsent(path, Collections.unmodifiableList(resourceNames));
+        getLookupTiming(path).miss(System.nanoTime() - start);
+        return RESOURCE_NAMES_CACHE.get(path);
+    }
+
+    /**
+     * Scans the classpath for resources in given directory.
+     * @param path
+     * @return
+     */
+    private List<String> scanResourceNames(String path) {
         try {
-            Stream.of(new PathMatchingResourcePatternResolver().getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + path + "/*"))
-                    .forEach(file -> {
-                        Optional<String> resourceName = Optional.ofNullable(file.getFilename());
-                        if (resourceName.isEmpty()) {
+            return Stream.of(new PathMatchingResourcePatternResolver().getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + path + "/*"))
+                    .map(file -> {
+                        if (file.getFilename() == null) {
                             LOG.warn(String.format("Skip unsupported resource '%s' for resource lookup", file));
-                            return;
                         }
-
-                        if (property.equals(TYPE_PROPERTY_WILDCARD)) {
-                            Properties properties = readAsProperties(path + "/" + resourceName.get());
-                            for (Map.Entry<Object, Object> prop : properties.entrySet()) {
-                                T resource = resolve(path + "/" + resourceName.get(), prop.getKey().toString());
-                                resources.put(resourceName.get() + "." + prop.getKey().toString(), resource);
-                            }
-                        } else {
-                            T resource = resolve(path + "/" + resourceName.get(), property);
-
-                            if (keyProperty != null) {
-                                resources.put(resolveProperty(path + "/" + resourceName.get(), keyProperty), resource);
-                            } else {
-                                resources.put(resourceName.get(), resource);
-                            }
-                        }
-                    });
+                        return file.getFilename();
+                    })
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
         } catch (IOException e) {
             LOG.warn(String.format("Failed to resolve resources in '%s'", path), e);
+            return Collections.emptyList();
         }
+    }
 
-        return resources;
+    /**
+     * Loads type with given name. Loaded types are cached.
+     * @param type
+     * @return
+     * @throws ClassNotFoundException
+     */
+    private Class<?> getType(String type) throws ClassNotFoundException {
+        Class<?> cached = TYPE_CACHE.get(type);
+        if (cached != null) {
+            return cached;
+        }
+
+        Class<?> loaded = Class.forName(type);
+        TYPE_CACHE.putIfAbsent(type, loaded);
+        return loaded;
+    }
+
+    /**
+     * Gets the public static instance field of given type if any.
+     * @param type
+     * @return
+     */
+    private Optional<Field> getInstanceField(Class<?> type) {
+        return INSTANCE_FIELD_CACHE.computeIfAbsent(type, t -> Arrays.stream(t.getFields())
+                .filter(f -> f.getName().equals(INSTANCE) && Modifier.isStatic(f.getModifiers()))
+                .findFirst());
     }
 
     /**
-     * Gets the constructor best matching the given parameter types.
+     * Gets the constructor best matching the given parameter types. Matching constructors are cached per type and
+     * parameter types.
      * @param type
      * @param initargs
      * @return
      */
-    private Constructor<?> getConstructor(Class<?> type, Object[] initargs) {
+    private Constructor<?> getConstructor(Class<?> type, Object[] initargs) throws NoSuchMethodException {
         final Class<?>[] parameterTypes = getParameterTypes(initargs);
+        ConstructorKey key = new ConstructorKey(type, parameterTypes);
+
+        Constructor<?> cached = CONSTRUCTOR_CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
 
+        Constructor<?> constructor = initargs.length == 0 ? type.getDeclaredConstructor() : findConstructor(type, parameterTypes);
+        CONSTRUCTOR_CACHE.putIfAbsent(key, constructor);
+        return constructor;
+    }
+
+    /**
+     * Finds the constructor best matching the given parameter types.
+     * @param type
+     * @param parameterTypes
+     * @return
+     */
+    private Constructor<?> findConstructor(Class<?> type, Class<?>[] parameterTypes) {
         Optional<Constructor<?>> exactMatch = Arrays.stream(type.getDeclaredConstructors())
                 .filter(constructor -> Arrays.equals(constructor.getParameterTypes(), parameterTypes))
                 .findFirst();
@@ -172,21 +276,49 @@ public class ResourcePathTypeResolver implements TypeResolver {
     }
 
     /**
-     * Read resource from classpath and load content as properties.
+     * Read resource from classpath and load content as properties. Uses the resource path index if enabled.
+     * Loaded properties are cached.
      * @param resourcePath
      * @return
      */
     private Properties readAsProperties(String resourcePath) {
         String path = getFullResourcePath(resourcePath);
 
+        Properties cached = PROPERTIES_CACHE.get(path);
+        if (cached != null) {
+            getLookupTiming(path).hit();
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        Properties config = null;
+        if (CitrusSettings.isTypeResolverIndexEnabled()) {
+            config = ResourcePathIndex.getClasspathIndex().lookup(path).orElse(null);
+        }
+
+        if (config == null) {
+            config = loadProperties(path);
+        }
+
+        PROPERTIES_CACHE.putIfAbsent(path, config);
+        getLookupTiming(path).miss(System.nanoTime() - start);
+        return PROPERTIES_CACHE.get(path);
+    }
+
+    /**
+     * Load properties from classpath resource.
+     * @param path
+     * @return
+     */
+    private Properties loadProperties(String path) {
         InputStream in = ResourcePathTypeResolver.class.getClassLoader().getResourceAsStream(path);
         if (in == null) {
             throw new CitrusRuntimeException(String.format("Failed to locate resource path '%s'", path));
         }
 
-        try {
+        try (InputStream resource = in) {
             Properties config = new Properties();
-            config.load(in);
+            config.load(resource);
 
             return config;
         } catch (IOException e) {
@@ -217,4 +349,133 @@ public class ResourcePathTypeResolver implements TypeResolver {
     private Class<?>[] getParameterTypes(Object... initargs) {
         return Arrays.stream(initargs).map(Object::getClass).toArray(Class[]::new);
     }
+
+    private static LookupTiming getLookupTiming(String path) {
+        return LOOKUP_TIMINGS.computeIfAbsent(path, LookupTiming::new);
+    }
+
+    /**
+     * Gets the lookup timings per resource path.
+     * @return
+     */
+    public static List<LookupTiming> getLookupTimings() {
+        return LOOKUP_TIMINGS.values().stream()
+                .sorted(Comparator.comparingLong(LookupTiming::getTotalNanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a report of all resource path lookups ordered by time spent in lookups.
+     * @return
+     */
+    public static String getLookupReport() {
+        StringBuilder report = new StringBuilder("Resource path lookups (path, lookups, cache hits, time ms):");
+        for (LookupTiming timing : getLookupTimings()) {
+            report.append(System.lineSeparator())
+                    .append(String.format("  %s, %s, %s, %.3f", timing.getPath(), timing.getLookups(), timing.getCacheHits(),
+                            timing.getTotalNanos() / 1000000.0D));
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Clears all cached resources, types and constructors as well as the lookup timings.
+     */
+    public static void clearCache() {
+        PROPERTIES_CACHE.clear();
+        RESOURCE_NAMES_CACHE.clear();
+        TYPE_CACHE.clear();
+        CONSTRUCTOR_CACHE.clear();
+        INSTANCE_FIELD_CACHE.clear();
+        LOOKUP_TIMINGS.clear();
+    }
+
+    /**
+     * Time spent in lookups of a resource path.
+     */
+    public static final class LookupTiming {
+        private final String path;
+        private final AtomicLong lookups = new AtomicLong();
+        private final AtomicLong cacheHits = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+
+        LookupTiming(String path) {
+            this.path = path;
+        }
+
+        void hit() {
+            lookups.incrementAndGet();
+            cacheHits.incrementAndGet();
+        }
+
+        void miss(long nanos) {
+            lookups.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+        }
+
+        /**
+         * Gets the resource path.
+         * @return
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Gets the number of lookups.
+         * @return
+         */
+        public long getLookups() {
+            return lookups.get();
+        }
+
+        /**
+         * Gets the number of lookups served from cache.
+         * @return
+         */
+        public long getCacheHits() {
+            return cacheHits.get();
+        }
+
+        /**
+         * Gets the time spent in lookups that have not been served from cache.
+         * @return
+         */
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+    }
+
+    /**
+     * Cache key of constructors combining type and parameter types.
+     */
+    private static final class ConstructorKey {
+        private final Class<?> type;
+        private final Class<?>[] parameterTypes;
+
+        ConstructorKey(Class<?> type, Class<?>[] parameterTypes) {
+            this.type = type;
+            this.parameterTypes = parameterTypes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof ConstructorKey)) {
+                return false;
+            }
+
+            ConstructorKey that = (ConstructorKey) o;
+            return type.equals(that.type) && Arrays.equals(parameterTypes, that.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+    }
 }
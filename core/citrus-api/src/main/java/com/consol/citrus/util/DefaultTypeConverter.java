@@ -129,6 +129,8 @@ public class DefaultTypeConverter implements TypeConverter {
         if (type.equals(String.class)) {
             if (target == null) {
                 return (T) "null";
+            } else if (target instanceof Number || target instanceof Boolean || target instanceof Character) {
+                return (T) String.valueOf(target);
             } else if (ByteBuffer.class.isAssignableFrom(target.getClass())) {
                 return (T) new String(((ByteBuffer) target).array());
             } else if (short[].class.isAssignableFrom(target.getClass())) {
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Seeded random generator used by random data functions. Each thread uses its own {@link SplittableRandom} split
+ * from the root generator so parallel threads do not contend on shared generator state. Generated values are
+ * reproducible for a given seed as long as the values are generated by the same sequence of threads, which is always
+ * the case for tests running in a single thread.
+ *
+ * Each test gets its own seed derived from the run seed, the test name and the iteration of the test, so tests
+ * generate different values even when the run seed is fixed. The run seed is taken from system property or
+ * environment variable when set, otherwise a random run seed is chosen once per JVM. A test run is replayed by setting
+ * the run seed, a single test by using a generator with the test seed recorded in the test result.
+ *
+ * @since 3.3
+ */
+public class RandomGenerator {
+
+    /** System property and environment variable providing a fixed seed */
+    public static final String SEED_PROPERTY = "citrus.random.seed";
+    public static final String SEED_ENV = "CITRUS_RANDOM_SEED";
+
+    /** Run seed used when no seed has been configured */
+    private static final long RANDOM_RUN_SEED = ThreadLocalRandom.current().nextLong();
+
+    /** Number of generators created for each test name in this JVM */
+    private static final Map<String, AtomicInteger> ITERATIONS = new ConcurrentHashMap<>();
+
+    /** Seed of this generator */
+    private final long seed;
+
+    /** Run seed this generator has been derived from, equals the seed for generators with explicit seed */
+    private final long runSeed;
+
+    /** Iteration of the test this generator has been created for */
+    private final int iteration;
+
+    /** Root generator, only used to split generators for threads */
+    private final SplittableRandom root;
+
+    /** Generator of the current thread */
+    private final ThreadLocal<SplittableRandom> generators = ThreadLocal.withInitial(this::split);
+
+    /**
+     * Default constructor using a seed derived from the run seed for a generator that is not bound to a test.
+     */
+    public RandomGenerator() {
+        this(getDefaultRunSeed(), null, nextIteration(null));
+    }
+
+    /**
+     * Constructor using given seed.
+     * @param seed
+     */
+    public RandomGenerator(long seed) {
+        this(seed, seed, 0);
+    }
+
+    private RandomGenerator(long runSeed, String testName, int iteration) {
+        this(deriveSeed(runSeed, testName, iteration), runSeed, iteration);
+    }
+
+    private RandomGenerator(long seed, long runSeed, int iteration) {
+        this.seed = seed;
+        this.runSeed = runSeed;
+        this.iteration = iteration;
+        this.root = new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates generator for given test. The seed is derived from the run seed, the test name and the number of
+     * generators that have been created for this test name before.
+     * @param testName
+     * @return
+     */
+    public static RandomGenerator forTest(String testName) {
+        return new RandomGenerator(getDefaultRunSeed(), testName, nextIteration(testName));
+    }
+
+    /**
+     * Gets the configured run seed or the random run seed of this JVM when no seed has been configured.
+     * @return
+     */
+    public static long getDefaultRunSeed() {
+        String seed = System.getProperty(SEED_PROPERTY, System.getenv(SEED_ENV));
+        if (seed != null && !seed.trim().isEmpty()) {
+            return Long.parseLong(seed.trim());
+        }
+
+        return RANDOM_RUN_SEED;
+    }
+
+    /**
+     * Derives the seed of a test from given run seed, test name and iteration.
+     * @param runSeed
+     * @param testName
+     * @param iteration
+     * @return
+     */
+    public static long deriveSeed(long runSeed, String testName, int iteration) {
+        long seed = mix(runSeed ^ mix(testName != null ? testName.hashCode() : 0L));
+        return mix(seed + iteration * 0x9E3779B97F4A7C15L);
+    }
+
+    private static int nextIteration(String testName) {
+        return ITERATIONS.computeIfAbsent(testName != null ? testName : "", name -> new AtomicInteger()).getAndIncrement();
+    }
+
+    /**
+     * Bit mixing function of 64 bit hash finalizers.
+     * @param value
+     * @return
+     */
+    private static long mix(long value) {
+        long z = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb34fe1a85ec3L;
+        return z ^ (z >>> 33);
+    }
+
+    private synchronized SplittableRandom split() {
+        return root.split();
+    }
+
+    /**
+     * Gets the generator of the current thread.
+     * @return
+     */
+    public SplittableRandom current() {
+        return generators.get();
+    }
+
+    /**
+     * Gets random int value between zero (inclusive) and given bound (exclusive).
+     * @param bound
+     * @return
+     */
+    public int nextInt(int bound) {
+        return current().nextInt(bound);
+    }
+
+    /**
+     * Gets random long value.
+     * @return
+     */
+    public long nextLong() {
+        return current().nextLong();
+    }
+
+    /**
+     * Gets random double value between zero (inclusive) and one (exclusive).
+     * @return
+     */
+    public double nextDouble() {
+        return current().nextDouble();
+    }
+
+    /**
+     * Gets random boolean value.
+     * @return
+     */
+    public boolean nextBoolean() {
+        return current().nextBoolean();
+    }
+
+    /**
+     * Gets random type 4 UUID generated from this generator instead of a secure random.
+     * @return
+     */
+    public UUID nextUUID() {
+        SplittableRandom random = current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Gets random string of given length using characters of given alphabet.
+     * @param length
+     * @param alphabet
+     * @return
+     */
+    public String nextString(int length, char[] alphabet) {
+        SplittableRandom random = current();
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Lazily generates given number of values. Values are created when the stream is consumed so large amounts of data
+     * can be written to a message payload without collecting all values first.
+     * @param count
+     * @param generator
+     * @return
+     */
+    public <T> Stream<T> stream(int count, Function<RandomGenerator, T> generator) {
+        return IntStream.range(0, count).mapToObj(i -> generator.apply(this));
+    }
+
+    /**
+     * Generates given number of values as list.
+     * @param count
+     * @param generator
+     * @return
+     */
+    public <T> List<T> list(int count, Function<RandomGenerator, T> generator) {
+        return stream(count, generator).collect(Collectors.toList());
+    }
+
+    /**
+     * Lazily generates given number of CSV rows. Each column generator provides the value of one column.
+     * @param rows
+     * @param delimiter
+     * @param columns
+     * @return
+     */
+    public Stream<String> csvRows(int rows, String delimiter, List<Function<RandomGenerator, String>> columns) {
+        return stream(rows, random -> columns.stream()
+                .map(column -> column.apply(random))
+                .collect(Collectors.joining(delimiter)));
+    }
+
+    /**
+     * Generates CSV content with given number of rows separated by line breaks.
+     * @param rows
+     * @param delimiter
+     * @param columns
+     * @return
+     */
+    public String csv(int rows, String delimiter, List<Function<RandomGenerator, String>> columns) {
+        return csvRows(rows, delimiter, columns).collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * Gets the seed of this generator.
+     * @return
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the run seed this generator has been derived from.
+     * @return
+     */
+    public long getRunSeed() {
+        return runSeed;
+    }
+
+    /**
+     * Gets the iteration of the test this generator has been created for.
+     * @return
+     */
+    public int getIteration() {
+        return iteration;
+    }
+}
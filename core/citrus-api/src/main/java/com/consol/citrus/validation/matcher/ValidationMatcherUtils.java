@@ -17,11 +17,18 @@
 package com.consol.citrus.validation.matcher;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.functions.FunctionUtils;
 import com.consol.citrus.variable.VariableUtils;
 import org.springframework.util.StringUtils;
@@ -33,6 +40,18 @@ import org.springframework.util.StringUtils;
  */
 public final class ValidationMatcherUtils {
 
+    /** Maximum number of cached matcher expressions, cache is cleared when exceeded */
+    private static final int MAX_CACHE_SIZE = 10000;
+
+    /** Parsed matcher expressions by raw expression string, shared by all message validators */
+    private static final Map<String, MatcherExpression> EXPRESSION_CACHE = new ConcurrentHashMap<>();
+
+    /** Timings by validation matcher name */
+    private static final Map<String, MatcherTiming> MATCHER_TIMINGS = new ConcurrentHashMap<>();
+
+    /** Default control expression parser is stateless and can be shared */
+    private static final ControlExpressionParser DEFAULT_CONTROL_EXPRESSION_PARSER = new DefaultControlExpressionParser();
+
     /**
      * Prevent class instantiation.
      */
@@ -47,6 +66,46 @@ public final class ValidationMatcherUtils {
      */
     public static void resolveValidationMatcher(String fieldName, String fieldValue,
             String validationMatcherExpression, TestContext context) {
+        MatcherExpression expression = parseExpression(validationMatcherExpression);
+
+        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(expression.prefix);
+        ValidationMatcher validationMatcher = library.getValidationMatcher(expression.matcherName);
+
+        ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
+        List<String> params;
+        if (controlExpressionParser == DEFAULT_CONTROL_EXPRESSION_PARSER) {
+            params = expression.getDefaultControlValues();
+        } else {
+            params = controlExpressionParser.extractControlValues(expression.matcherValue, null);
+        }
+
+        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
+
+        MatcherTiming timing = MATCHER_TIMINGS.computeIfAbsent(expression.prefix + expression.matcherName, MatcherTiming::new);
+        long start = System.nanoTime();
+        try {
+            validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
+        } catch (ValidationException e) {
+            timing.failed();
+            throw e;
+        } finally {
+            timing.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Parses given validation matcher expression into library prefix, matcher name and matcher value. Parsed expressions
+     * are cached as the raw expression does not depend on the test context - variables and functions in the matcher value
+     * get resolved on each validation.
+     * @param validationMatcherExpression
+     * @return
+     */
+    private static MatcherExpression parseExpression(String validationMatcherExpression) {
+        MatcherExpression cached = EXPRESSION_CACHE.get(validationMatcherExpression);
+        if (cached != null) {
+            return cached;
+        }
+
         String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
 
         if (expression.equals("ignore")) {
@@ -66,13 +125,13 @@ public final class ValidationMatcherUtils {
         String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
         String matcherName = expression.substring(prefix.length(), bodyStart);
 
-        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
-        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
+        MatcherExpression parsed = new MatcherExpression(prefix, matcherName, matcherValue);
+        if (EXPRESSION_CACHE.size() >= MAX_CACHE_SIZE) {
+            EXPRESSION_CACHE.clear();
+        }
+        EXPRESSION_CACHE.put(validationMatcherExpression, parsed);
 
-        ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
-        List<String> params = controlExpressionParser.extractControlValues(matcherValue, null);
-        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
-        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
+        return parsed;
     }
 
     private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
@@ -112,10 +171,126 @@ public final class ValidationMatcherUtils {
         if (validationMatcher instanceof ControlExpressionParser) {
             return (ControlExpressionParser) validationMatcher;
         }
-        return new DefaultControlExpressionParser();
+        return DEFAULT_CONTROL_EXPRESSION_PARSER;
     }
 
     public static String getParameterListAsString(List<String> parameters) {
         return StringUtils.collectionToDelimitedString(parameters, ",", "'", "'");
     }
+
+    /**
+     * Gets the validation matcher timings ordered by total time spent in validation.
+     * @return
+     */
+    public static List<MatcherTiming> getMatcherTimings() {
+        return MATCHER_TIMINGS.values().stream()
+                .sorted(Comparator.comparingLong(MatcherTiming::getTotalNanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a report of all validation matchers ordered by time spent in validation.
+     * @return
+     */
+    public static String getMatcherReport() {
+        StringBuilder report = new StringBuilder("Validation matchers (name, validations, failures, time ms):");
+        for (MatcherTiming timing : getMatcherTimings()) {
+            report.append(System.lineSeparator())
+                    .append(String.format("  %s, %s, %s, %.3f", timing.getName(), timing.getValidations(), timing.getFailures(),
+                            timing.getTotalNanos() / 1000000.0D));
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Clears all cached matcher expressions as well as the matcher timings.
+     */
+    public static void clearCache() {
+        EXPRESSION_CACHE.clear();
+        MATCHER_TIMINGS.clear();
+    }
+
+    /**
+     * Parsed validation matcher expression.
+     */
+    private static final class MatcherExpression {
+        private final String prefix;
+        private final String matcherName;
+        private final String matcherValue;
+
+        /** Control values extracted with the default control expression parser, lazily initialized */
+        private volatile List<String> defaultControlValues;
+
+        MatcherExpression(String prefix, String matcherName, String matcherValue) {
+            this.prefix = prefix;
+            this.matcherName = matcherName;
+            this.matcherValue = matcherValue;
+        }
+
+        List<String> getDefaultControlValues() {
+            List<String> controlValues = defaultControlValues;
+            if (controlValues == null) {
+                controlValues = Collections.unmodifiableList(DEFAULT_CONTROL_EXPRESSION_PARSER.extractControlValues(matcherValue, null));
+                defaultControlValues = controlValues;
+            }
+
+            return controlValues;
+        }
+    }
+
+    /**
+     * Time spent in validations of a validation matcher.
+     */
+    public static final class MatcherTiming {
+        private final String name;
+        private final AtomicLong validations = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+
+        MatcherTiming(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos) {
+            validations.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+        }
+
+        void failed() {
+            failures.incrementAndGet();
+        }
+
+        /**
+         * Gets the validation matcher name including the library prefix.
+         * @return
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of validations.
+         * @return
+         */
+        public long getValidations() {
+            return validations.get();
+        }
+
+        /**
+         * Gets the number of failed validations.
+         * @return
+         */
+        public long getFailures() {
+            return failures.get();
+        }
+
+        /**
+         * Gets the time spent in validations.
+         * @return
+         */
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+    }
 }
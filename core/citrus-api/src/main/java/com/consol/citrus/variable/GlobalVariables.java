@@ -16,8 +16,14 @@
 
 package com.consol.citrus.variable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Global variables valid in each test case.
@@ -27,12 +33,15 @@ public class GlobalVariables {
     /** Variables name value pair map */
     private final Map<String, Object> variables;
 
+    /** Modification counter incremented on each change of the variables map */
+    private final AtomicLong version = new AtomicLong();
+
     public GlobalVariables() {
     	this(new Builder());
 	}
 
     public GlobalVariables(Builder builder) {
-    	this.variables = builder.variables;
+    	this.variables = new VersionedVariables(builder.variables);
 	}
 
 	/**
@@ -43,6 +52,150 @@ public class GlobalVariables {
 		return variables;
 	}
 
+	/**
+	 * Gets the modification version of the variables. The version is incremented each time the variables map
+	 * is modified so callers can detect changes without comparing the map content.
+	 * @return the current version
+	 */
+	public long getVersion() {
+		return version.get();
+	}
+
+	/**
+	 * Variables map incrementing the version after each modification. Collection views are read only so all
+	 * changes go through the map methods.
+	 */
+	private final class VersionedVariables extends LinkedHashMap<String, Object> {
+		private static final long serialVersionUID = 1L;
+
+		VersionedVariables(Map<String, Object> variables) {
+			super(variables);
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			try {
+				return super.put(key, value);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void putAll(Map<? extends String, ?> m) {
+			super.putAll(m);
+			version.incrementAndGet();
+		}
+
+		@Override
+		public Object putIfAbsent(String key, Object value) {
+			try {
+				return super.putIfAbsent(key, value);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public Object remove(Object key) {
+			try {
+				return super.remove(key);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public boolean remove(Object key, Object value) {
+			try {
+				return super.remove(key, value);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public Object replace(String key, Object value) {
+			try {
+				return super.replace(key, value);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public boolean replace(String key, Object oldValue, Object newValue) {
+			try {
+				return super.replace(key, oldValue, newValue);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+			super.replaceAll(function);
+			version.incrementAndGet();
+		}
+
+		@Override
+		public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+			try {
+				return super.compute(key, remappingFunction);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+			try {
+				return super.computeIfAbsent(key, mappingFunction);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+			try {
+				return super.computeIfPresent(key, remappingFunction);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+			try {
+				return super.merge(key, value, remappingFunction);
+			} finally {
+				version.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void clear() {
+			super.clear();
+			version.incrementAndGet();
+		}
+
+		@Override
+		public Set<String> keySet() {
+			return Collections.unmodifiableSet(super.keySet());
+		}
+
+		@Override
+		public Collection<Object> values() {
+			return Collections.unmodifiableCollection(super.values());
+		}
+
+		@Override
+		public Set<Map.Entry<String, Object>> entrySet() {
+			return Collections.unmodifiableSet(super.entrySet());
+		}
+	}
+
 	/**
 	 * Fluent builder.
 	 */
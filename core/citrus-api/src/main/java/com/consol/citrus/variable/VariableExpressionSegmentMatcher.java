@@ -3,7 +3,10 @@ package com.consol.citrus.variable;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -83,20 +86,30 @@ public class VariableExpressionSegmentMatcher {
      */
     private static final int INDEX_GROUP = 8;
 
+    /**
+     * Maximum number of parsed variable expressions kept in cache
+     */
+    private static final int SEGMENT_CACHE_LIMIT = 10000;
+
+    /**
+     * Cache of parsed variable expressions. Parsing is independent of the test context so segments can be shared.
+     */
+    private static final Map<String, List<Segment>> SEGMENT_CACHE = new ConcurrentHashMap<>();
+
     /**
      * The variable expression the matcher is working on
      */
     private final String variableExpression;
 
     /**
-     * The matcher that performs the actual matching
+     * The pre-parsed segments of the variable expression
      */
-    private final Matcher matcher;
+    private final List<Segment> segments;
 
     /**
-     * The total number of segments in the variableExpression
+     * Position of the current segment
      */
-    private final int totalSegmentCount;
+    private int position = -1;
 
     /**
      * The current expression the matcher has matched
@@ -110,18 +123,48 @@ public class VariableExpressionSegmentMatcher {
 
     public VariableExpressionSegmentMatcher(String variableExpression) {
         this.variableExpression = variableExpression;
-        totalSegmentCount =  totalSegmentCount(variableExpression);
-        matcher = VAR_PATH_PATTERN.matcher(variableExpression);
+        this.segments = getSegments(variableExpression);
+    }
+
+    /**
+     * Get parsed segments for the variable expression either from cache or by parsing the expression.
+     * @param variableExpression
+     * @return
+     */
+    private static List<Segment> getSegments(String variableExpression) {
+        List<Segment> segments = SEGMENT_CACHE.get(variableExpression);
+        if (segments == null) {
+            segments = parseSegments(variableExpression);
+
+            if (SEGMENT_CACHE.size() < SEGMENT_CACHE_LIMIT) {
+                SEGMENT_CACHE.put(variableExpression, segments);
+            }
+        }
+
+        return segments;
     }
 
     /**
-     * Determine the total number of segments in the variable expression
+     * Parse all segments of the variable expression in a single pass.
      * @param variableExpression
      * @return
      */
-    private int totalSegmentCount(String variableExpression) {
+    private static List<Segment> parseSegments(String variableExpression) {
+        List<Segment> segments = new ArrayList<>();
         Matcher matcher = VAR_PATH_PATTERN.matcher(variableExpression);
-        return (int)matcher.results().count();
+
+        while (matcher.find()) {
+            if (StringUtils.hasLength(matcher.group(JSON_PATH_GROUP))) {
+                segments.add(new Segment(matcher.group(JSON_PATH_GROUP), -1));
+            } else if (StringUtils.hasLength(matcher.group(XPATH_GROUP))) {
+                segments.add(new Segment(matcher.group(XPATH_GROUP), -1));
+            } else {
+                segments.add(new Segment(matcher.group(VAR_PROP_NAME_GROUP),
+                        matcher.group(INDEX_GROUP) != null ? Integer.parseInt(matcher.group(INDEX_GROUP)) : -1));
+            }
+        }
+
+        return Collections.unmodifiableList(segments);
     }
 
     /**
@@ -129,7 +172,7 @@ public class VariableExpressionSegmentMatcher {
      * @return
      */
     public int getTotalSegmentCount() {
-        return totalSegmentCount;
+        return segments.size();
     }
 
     /**
@@ -139,22 +182,18 @@ public class VariableExpressionSegmentMatcher {
      * @return
      */
     public boolean nextMatch() {
-        boolean matches = matcher.find();
-
         currentSegmentExpression = null;
         currentSegmentIndex = -1;
 
-        if (matches) {
-            if (StringUtils.hasLength(matcher.group(JSON_PATH_GROUP))) {
-                currentSegmentExpression = matcher.group(JSON_PATH_GROUP);
-            } else if (StringUtils.hasLength(matcher.group(XPATH_GROUP))) {
-                currentSegmentExpression = matcher.group(XPATH_GROUP);
-            } else {
-                currentSegmentExpression = matcher.group(VAR_PROP_NAME_GROUP);
-                currentSegmentIndex = matcher.group(INDEX_GROUP) != null ? Integer.parseInt(matcher.group(INDEX_GROUP)) : -1;
-           }
+        if (position + 1 < segments.size()) {
+            position++;
+            currentSegmentExpression = segments.get(position).expression;
+            currentSegmentIndex = segments.get(position).index;
+            return true;
         }
-        return matches;
+
+        position = segments.size();
+        return false;
     }
 
     /**
@@ -180,4 +219,17 @@ public class VariableExpressionSegmentMatcher {
     public int getSegmentIndex() {
         return currentSegmentIndex;
     }
+
+    /**
+     * Parsed segment of a variable expression.
+     */
+    private static final class Segment {
+        private final String expression;
+        private final int index;
+
+        Segment(String expression, int index) {
+            this.expression = expression;
+            this.index = index;
+        }
+    }
 }
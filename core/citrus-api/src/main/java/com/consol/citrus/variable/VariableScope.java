@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Variable map for nested executions such as templates with local context. Reads fall through to the
+ * parent variables, writes and removals are recorded in a local overlay so the parent variables are never
+ * modified. The overlay is allocated on first write, so creating a scope does not copy any variables.
+ */
+public class VariableScope extends AbstractMap<String, Object> {
+
+    /** Variables of the enclosing scope */
+    private volatile Map<String, Object> parent;
+
+    /** Local variables, created on first write */
+    private volatile Map<String, Object> local;
+
+    /** Names of parent variables removed in this scope, created on first removal */
+    private volatile Set<String> removed;
+
+    /**
+     * Constructor using parent variables.
+     * @param parent
+     */
+    public VariableScope(Map<String, Object> parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Map<String, Object> localVariables = local;
+        if (localVariables != null) {
+            Object value = localVariables.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        if (isRemoved(key)) {
+            return null;
+        }
+
+        return parent.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Map<String, Object> localVariables = local;
+        if (localVariables != null && localVariables.containsKey(key)) {
+            return true;
+        }
+
+        return !isRemoved(key) && parent.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+
+        getLocal().put(key, value);
+        Set<String> removedKeys = removed;
+        if (removedKeys != null) {
+            removedKeys.remove(key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+
+        Map<String, Object> localVariables = local;
+        if (localVariables != null) {
+            localVariables.remove(key);
+        }
+
+        if (parent.containsKey(key)) {
+            getRemoved().add(key.toString());
+        }
+
+        return previous;
+    }
+
+    @Override
+    public synchronized void clear() {
+        parent = Collections.emptyMap();
+        local = null;
+        removed = null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Map<String, Object> localVariables = local;
+        if (localVariables != null && !localVariables.isEmpty()) {
+            return false;
+        }
+
+        return entrySet().isEmpty();
+    }
+
+    /**
+     * Gets a snapshot of all visible variables in this scope.
+     * @return
+     */
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Map<String, Object> snapshot = new LinkedHashMap<>(parent);
+
+        Set<String> removedKeys = removed;
+        if (removedKeys != null) {
+            snapshot.keySet().removeAll(removedKeys);
+        }
+
+        Map<String, Object> localVariables = local;
+        if (localVariables != null) {
+            snapshot.putAll(localVariables);
+        }
+
+        return Collections.unmodifiableMap(snapshot).entrySet();
+    }
+
+    /**
+     * Checks if given parent variable has been removed in this scope.
+     * @param key
+     * @return
+     */
+    private boolean isRemoved(Object key) {
+        Set<String> removedKeys = removed;
+        return removedKeys != null && removedKeys.contains(key);
+    }
+
+    /**
+     * Gets local variables, creates the map on first access.
+     * @return
+     */
+    private Map<String, Object> getLocal() {
+        if (local == null) {
+            synchronized (this) {
+                if (local == null) {
+                    local = new ConcurrentHashMap<>();
+                }
+            }
+        }
+
+        return local;
+    }
+
+    /**
+     * Gets removed variable names, creates the set on first access.
+     * @return
+     */
+    private Set<String> getRemoved() {
+        if (removed == null) {
+            synchronized (this) {
+                if (removed == null) {
+                    removed = ConcurrentHashMap.newKeySet();
+                }
+            }
+        }
+
+        return removed;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ManagedExecutorTest {
+
+    @Test
+    public void testThreadReuseAndNaming() throws ExecutionException, InterruptedException {
+        ManagedExecutor executor = new ManagedExecutor(0, 0, "citrus-test");
+        try {
+            AtomicReference<Thread> worker = new AtomicReference<>();
+            String threadName = executor.submit("MyTest:async", () -> {
+                worker.set(Thread.currentThread());
+                return Thread.currentThread().getName();
+            }).get();
+            Assert.assertEquals(threadName, "citrus-test-0-MyTest:async");
+
+            // wait for the worker to be back in the pool waiting for the next task
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (worker.get().getState() != Thread.State.TIMED_WAITING && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+
+            threadName = executor.submit("MyTest:parallel", () -> Thread.currentThread().getName()).get();
+            Assert.assertEquals(threadName, "citrus-test-0-MyTest:parallel");
+            Assert.assertEquals(executor.getPoolSize(), 1L);
+        } finally {
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testRejectWhenSaturated() throws ExecutionException, InterruptedException {
+        ManagedExecutor executor = new ManagedExecutor(1, 1, "citrus-test");
+        CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            Future<?> running = executor.submit("blocking", () -> {
+                try {
+                    blocked.await(10L, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Future<String> queued = executor.submit("queued", () -> Thread.currentThread().getName());
+
+            try {
+                executor.submit("rejected", () -> Thread.currentThread().getName());
+                Assert.fail("Missing rejected execution exception");
+            } catch (RejectedExecutionException e) {
+                Assert.assertTrue(e.getMessage().contains("citrus.executor.max.threads"));
+            }
+
+            Assert.assertFalse(queued.isDone());
+
+            blocked.countDown();
+            running.get();
+            Assert.assertEquals(queued.get(), "citrus-test-0-queued");
+        } finally {
+            blocked.countDown();
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testConcurrentTasksNeverQueued() throws ExecutionException, InterruptedException, TimeoutException {
+        ManagedExecutor executor = new ManagedExecutor(1, 1, "citrus-test");
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        try {
+            Future<?> running = executor.submitConcurrent("first", () -> {
+                try {
+                    // first task waits for its sibling, so the sibling must not wait for a free thread
+                    siblingStarted.await(10L, TimeUnit.SECONDS);
+                    blocked.await(10L, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            AtomicReference<String> threadName = new AtomicReference<>();
+            Future<?> sibling = executor.submitConcurrent("second", () -> {
+                threadName.set(Thread.currentThread().getName());
+                siblingStarted.countDown();
+            });
+
+            sibling.get(5L, TimeUnit.SECONDS);
+            Assert.assertEquals(threadName.get(), "citrus-test-overflow-0-second");
+            Assert.assertEquals(executor.getPoolSize(), 1L);
+
+            blocked.countDown();
+            running.get();
+        } finally {
+            blocked.countDown();
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testConcurrentTasksWithDirectHandOff() throws ExecutionException, InterruptedException, TimeoutException {
+        ManagedExecutor executor = new ManagedExecutor(1, 0, "citrus-test");
+        CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            Future<?> running = executor.submitConcurrent("first", () -> {
+                try {
+                    blocked.await(10L, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            AtomicReference<Thread> worker = new AtomicReference<>();
+            executor.submitConcurrent("second", () -> worker.set(Thread.currentThread())).get(5L, TimeUnit.SECONDS);
+            Assert.assertNotEquals(worker.get(), Thread.currentThread());
+
+            blocked.countDown();
+            running.get();
+        } finally {
+            blocked.countDown();
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testRestartAfterClose() throws ExecutionException, InterruptedException {
+        ManagedExecutor executor = new ManagedExecutor(0, 0, "citrus-test");
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        executor.submit("first", () -> threadName.set(Thread.currentThread().getName())).get();
+        executor.close();
+        Assert.assertEquals(executor.getPoolSize(), 0L);
+
+        executor.submit("second", () -> threadName.set(Thread.currentThread().getName())).get();
+        Assert.assertEquals(threadName.get(), "citrus-test-1-second");
+        executor.close();
+    }
+
+    @Test
+    public void testTaskName() {
+        TestContext context = new TestContext();
+        Assert.assertEquals(ManagedExecutor.taskName(context, "async"), "async");
+
+        context.getVariables().put("citrus.test.name", "MyTest");
+        Assert.assertEquals(ManagedExecutor.taskName(context, "async"), "MyTest:async");
+    }
+}
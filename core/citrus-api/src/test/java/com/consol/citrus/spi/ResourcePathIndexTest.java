@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import com.consol.citrus.spi.mocks.Bar;
+import com.consol.citrus.spi.mocks.Foo;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ResourcePathIndexTest {
+
+    @Test
+    public void testGenerate() throws IOException {
+        Path outputDirectory = Files.createTempDirectory("citrus-index");
+        Files.createDirectories(outputDirectory.resolve("META-INF/mocks/nested"));
+        Files.write(outputDirectory.resolve("META-INF/mocks/foo"), Arrays.asList("type=" + Foo.class.getName(), "name=fooMock"));
+        Files.write(outputDirectory.resolve("META-INF/mocks/bar"), Collections.singletonList("type=" + Bar.class.getName()));
+        Files.write(outputDirectory.resolve("META-INF/mocks/nested/baz"), Collections.singletonList("type=baz"));
+
+        Path indexFile = ResourcePathIndex.generate(outputDirectory, "META-INF/mocks");
+        Assert.assertEquals(indexFile, outputDirectory.resolve(ResourcePathIndex.INDEX_LOCATION));
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(indexFile)) {
+            properties.load(in);
+        }
+
+        ResourcePathIndex index = ResourcePathIndex.fromProperties(properties);
+        Assert.assertEquals(index.size(), 3L);
+        Assert.assertTrue(index.covers("META-INF/mocks"));
+        Assert.assertTrue(index.covers("META-INF/mocks/nested"));
+        Assert.assertFalse(index.covers("META-INF/mock"));
+        Assert.assertFalse(index.covers("META-INF/citrus"));
+
+        Assert.assertEquals(index.list("META-INF/mocks"), Arrays.asList("bar", "foo"));
+        Assert.assertEquals(index.list("META-INF/mocks/nested"), Collections.singletonList("baz"));
+        Assert.assertTrue(index.list("META-INF/unknown").isEmpty());
+
+        Assert.assertTrue(index.lookup("META-INF/mocks/foo").isPresent());
+        Assert.assertEquals(index.lookup("META-INF/mocks/foo").get().getProperty("type"), Foo.class.getName());
+        Assert.assertEquals(index.lookup("META-INF/mocks/foo").get().getProperty("name"), "fooMock");
+        Assert.assertFalse(index.lookup("META-INF/mocks/unknown").isPresent());
+    }
+
+    @Test
+    public void testMerge() {
+        Properties first = new Properties();
+        first.setProperty(ResourcePathIndex.BASE_PATHS_KEY, "META-INF/mocks");
+        first.setProperty("META-INF/mocks/foo#type", Foo.class.getName());
+
+        Properties second = new Properties();
+        second.setProperty(ResourcePathIndex.BASE_PATHS_KEY, "META-INF/mocks, META-INF/all");
+        second.setProperty("META-INF/mocks/foo#type", Bar.class.getName());
+        second.setProperty("META-INF/mocks/foo#name", "barMock");
+        second.setProperty("META-INF/all/mocks#foo.type", Foo.class.getName());
+
+        ResourcePathIndex index = ResourcePathIndex.fromProperties(first, second);
+        Assert.assertEquals(index.size(), 2L);
+        Assert.assertTrue(index.covers("META-INF/all"));
+
+        Properties foo = index.lookup("META-INF/mocks/foo").orElseThrow(AssertionError::new);
+        Assert.assertEquals(foo.getProperty("type"), Foo.class.getName());
+        Assert.assertNull(foo.getProperty("name"));
+
+        Properties all = index.lookup("META-INF/all/mocks").orElseThrow(AssertionError::new);
+        Assert.assertEquals(all.getProperty("foo.type"), Foo.class.getName());
+    }
+}
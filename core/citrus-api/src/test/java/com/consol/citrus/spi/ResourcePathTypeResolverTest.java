@@ -1,6 +1,7 @@
 package com.consol.citrus.spi;
 
 import java.util.Map;
+import java.util.Optional;
 
 import com.consol.citrus.spi.mocks.Bar;
 import com.consol.citrus.spi.mocks.Foo;
@@ -61,4 +62,30 @@ public class ResourcePathTypeResolverTest {
         Assert.assertNotNull(resolved.get("mocks.bar"));
         Assert.assertEquals(resolved.get("mocks.bar").getClass(), Bar.class);
     }
+
+    @Test
+    public void testLookupCache() {
+        ResourcePathTypeResolver.clearCache();
+
+        Assert.assertEquals(new ResourcePathTypeResolver().resolve("mocks/foo").getClass(), Foo.class);
+        Assert.assertEquals(new ResourcePathTypeResolver().resolve("mocks/foo").getClass(), Foo.class);
+        Assert.assertEquals(new ResourcePathTypeResolver().resolveAll("mocks").size(), 2L);
+        Assert.assertEquals(new ResourcePathTypeResolver().resolveAll("mocks").size(), 2L);
+
+        Optional<ResourcePathTypeResolver.LookupTiming> properties = ResourcePathTypeResolver.getLookupTimings().stream()
+                .filter(timing -> timing.getPath().equals("META-INF/mocks/foo"))
+                .findFirst();
+        Assert.assertTrue(properties.isPresent());
+        Assert.assertEquals(properties.get().getLookups(), 4L);
+        Assert.assertEquals(properties.get().getCacheHits(), 3L);
+
+        Optional<ResourcePathTypeResolver.LookupTiming> directory = ResourcePathTypeResolver.getLookupTimings().stream()
+                .filter(timing -> timing.getPath().equals("META-INF/mocks"))
+                .findFirst();
+        Assert.assertTrue(directory.isPresent());
+        Assert.assertEquals(directory.get().getLookups(), 2L);
+        Assert.assertEquals(directory.get().getCacheHits(), 1L);
+
+        Assert.assertTrue(ResourcePathTypeResolver.getLookupReport().contains("META-INF/mocks/foo"));
+    }
 }
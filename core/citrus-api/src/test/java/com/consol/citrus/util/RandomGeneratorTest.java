@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class RandomGeneratorTest {
+
+    @Test
+    public void testSeededValues() {
+        RandomGenerator generator = new RandomGenerator(42L);
+        RandomGenerator replay = new RandomGenerator(42L);
+
+        Assert.assertEquals(generator.getSeed(), 42L);
+        Assert.assertEquals(generator.list(10, random -> random.nextInt(1000)), replay.list(10, random -> random.nextInt(1000)));
+        Assert.assertEquals(generator.nextString(20, "abc".toCharArray()), replay.nextString(20, "abc".toCharArray()));
+        Assert.assertEquals(generator.nextUUID(), replay.nextUUID());
+        Assert.assertNotEquals(new RandomGenerator(43L).nextLong(), new RandomGenerator(42L).nextLong());
+    }
+
+    @Test
+    public void testTestSeeds() {
+        String seed = System.getProperty(RandomGenerator.SEED_PROPERTY);
+        System.setProperty(RandomGenerator.SEED_PROPERTY, "42");
+        try {
+            RandomGenerator first = RandomGenerator.forTest("RandomGeneratorTest.testSeedsFoo");
+            RandomGenerator other = RandomGenerator.forTest("RandomGeneratorTest.testSeedsBar");
+            RandomGenerator second = RandomGenerator.forTest("RandomGeneratorTest.testSeedsFoo");
+
+            Assert.assertEquals(first.getRunSeed(), 42L);
+            Assert.assertEquals(first.getIteration(), 0L);
+            Assert.assertEquals(second.getIteration(), 1L);
+            Assert.assertEquals(first.getSeed(), RandomGenerator.deriveSeed(42L, "RandomGeneratorTest.testSeedsFoo", 0));
+            Assert.assertEquals(second.getSeed(), RandomGenerator.deriveSeed(42L, "RandomGeneratorTest.testSeedsFoo", 1));
+            Assert.assertNotEquals(first.getSeed(), other.getSeed());
+            Assert.assertNotEquals(first.getSeed(), second.getSeed());
+
+            Assert.assertEquals(new RandomGenerator(first.getSeed()).nextLong(), first.nextLong());
+        } finally {
+            if (seed != null) {
+                System.setProperty(RandomGenerator.SEED_PROPERTY, seed);
+            } else {
+                System.clearProperty(RandomGenerator.SEED_PROPERTY);
+            }
+        }
+    }
+
+    @Test
+    public void testUUID() {
+        UUID uuid = new RandomGenerator(42L).nextUUID();
+        Assert.assertEquals(uuid.version(), 4);
+        Assert.assertEquals(uuid.variant(), 2);
+        Assert.assertEquals(UUID.fromString(uuid.toString()), uuid);
+    }
+
+    @Test
+    public void testCsvRows() {
+        List<Function<RandomGenerator, String>> columns = Arrays.asList(
+                random -> random.nextString(5, "xyz".toCharArray()),
+                random -> String.valueOf(random.nextInt(10)));
+
+        List<String> rows = new RandomGenerator(42L).csvRows(3, ";", columns).collect(Collectors.toList());
+        Assert.assertEquals(rows.size(), 3);
+        for (String row : rows) {
+            Assert.assertTrue(row.matches("[xyz]{5};[0-9]"), row);
+        }
+
+        Assert.assertEquals(new RandomGenerator(42L).csv(3, ";", columns), String.join(System.lineSeparator(), rows));
+    }
+
+    @Test
+    public void testThreadGenerators() throws Exception {
+        RandomGenerator generator = new RandomGenerator(42L);
+        Assert.assertSame(generator.current(), generator.current());
+        Assert.assertNotSame(CompletableFuture.supplyAsync(generator::current).get(), generator.current());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class VariableScopeTest {
+
+    @Test
+    public void testReadThroughParent() {
+        Map<String, Object> parent = new ConcurrentHashMap<>();
+        parent.put("foo", "bar");
+        parent.put("count", 1L);
+
+        VariableScope scope = new VariableScope(parent);
+
+        Assert.assertEquals(scope.get("foo"), "bar");
+        Assert.assertEquals(scope.get("count"), 1L);
+        Assert.assertTrue(scope.containsKey("foo"));
+        Assert.assertFalse(scope.containsKey("unknown"));
+        Assert.assertEquals(scope.size(), 2);
+    }
+
+    @Test
+    public void testWritesDoNotAffectParent() {
+        Map<String, Object> parent = new ConcurrentHashMap<>();
+        parent.put("foo", "bar");
+        parent.put("other", "value");
+
+        VariableScope scope = new VariableScope(parent);
+        Assert.assertEquals(scope.put("foo", "changed"), "bar");
+        scope.put("local", true);
+        Assert.assertEquals(scope.remove("other"), "value");
+
+        Assert.assertEquals(scope.get("foo"), "changed");
+        Assert.assertEquals(scope.get("local"), true);
+        Assert.assertNull(scope.get("other"));
+        Assert.assertFalse(scope.containsKey("other"));
+        Assert.assertEquals(scope.size(), 2);
+
+        Assert.assertEquals(parent.size(), 2);
+        Assert.assertEquals(parent.get("foo"), "bar");
+        Assert.assertEquals(parent.get("other"), "value");
+
+        scope.put("other", "restored");
+        Assert.assertEquals(scope.get("other"), "restored");
+    }
+
+    @Test
+    public void testClear() {
+        Map<String, Object> parent = new ConcurrentHashMap<>();
+        parent.put("foo", "bar");
+
+        VariableScope scope = new VariableScope(parent);
+        scope.put("local", "value");
+        scope.clear();
+
+        Assert.assertTrue(scope.isEmpty());
+        Assert.assertNull(scope.get("foo"));
+        Assert.assertEquals(parent.get("foo"), "bar");
+    }
+}
@@ -97,15 +97,19 @@ public final class Citrus implements TestListenerAware, TestSuiteListenerAware,
     public void afterSuite(String suiteName, String ... testGroups) {
         citrusContext.getTestSuiteListeners().onFinish();
 
-        for (AfterSuite sequenceAfterSuite : citrusContext.getAfterSuite()) {
-            try {
-                if (sequenceAfterSuite.shouldExecute(suiteName, testGroups)) {
-                    sequenceAfterSuite.execute(citrusContext.createTestContext());
+        try {
+            for (AfterSuite sequenceAfterSuite : citrusContext.getAfterSuite()) {
+                try {
+                    if (sequenceAfterSuite.shouldExecute(suiteName, testGroups)) {
+                        sequenceAfterSuite.execute(citrusContext.createTestContext());
+                    }
+                } catch (Exception e) {
+                    citrusContext.getTestSuiteListeners().onFinishFailure(e);
+                    throw new AssertionError("After suite failed with errors", e);
                 }
-            } catch (Exception e) {
-                citrusContext.getTestSuiteListeners().onFinishFailure(e);
-                throw new AssertionError("After suite failed with errors", e);
             }
+        } finally {
+            citrusContext.getExecutor().close();
         }
 
         citrusContext.getTestSuiteListeners().onFinishSuccess();
@@ -4,10 +4,12 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import com.consol.citrus.annotations.CitrusConfiguration;
 import com.consol.citrus.container.AfterSuite;
 import com.consol.citrus.container.BeforeSuite;
+import com.consol.citrus.context.ManagedExecutor;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
@@ -80,6 +82,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
     private final NamespaceContextBuilder namespaceContextBuilder;
     private final TypeConverter typeConverter;
     private final LogModifier logModifier;
+    private final ManagedExecutor executor;
 
     /**
      * Protected constructor using given builder to construct this instance.
@@ -105,6 +108,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         this.namespaceContextBuilder = builder.namespaceContextBuilder;
         this.typeConverter = builder.typeConverter;
         this.logModifier = builder.logModifier;
+        this.executor = builder.executor != null ? builder.executor : ManagedExecutor.getDefault();
 
         this.testContextFactory = builder.testContextFactory;
     }
@@ -226,6 +230,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
      * Closes the context and all its components.
      */
     public void close() {
+        executor.close();
     }
 
     /**
@@ -357,6 +362,14 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         return logModifier;
     }
 
+    /**
+     * Obtains the executor for actions running in separate threads.
+     * @return
+     */
+    public ManagedExecutor getExecutor() {
+        return executor;
+    }
+
     /**
      * Obtains the testContextFactory.
      * @return
@@ -400,6 +413,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
         private TypeConverter typeConverter = TypeConverter.lookupDefault();
         private LogModifier logModifier = new DefaultLogModifier();
+        private ManagedExecutor executor;
 
         public static Builder defaultContext() {
             Builder builder = new Builder();
@@ -562,7 +576,18 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
             return this;
         }
 
+        public Builder executor(ManagedExecutor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public CitrusContext build() {
+            if (executor == null) {
+                executor = Optional.ofNullable(testContextFactory)
+                        .map(TestContextFactory::getExecutor)
+                        .orElseGet(ManagedExecutor::new);
+            }
+
             if (testContextFactory == null) {
                 testContextFactory = TestContextFactory.newInstance();
 
@@ -579,6 +604,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
                 testContextFactory.setNamespaceContextBuilder(this.namespaceContextBuilder);
                 testContextFactory.setTypeConverter(this.typeConverter);
                 testContextFactory.setLogModifier(this.logModifier);
+                testContextFactory.setExecutor(this.executor);
             }
 
             return new CitrusContext(this);
@@ -4,11 +4,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import com.consol.citrus.spi.ResourcePathTypeResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Instance creation manager creates new Citrus instances or always a singleton based on instance creation strategy.
  */
 public class CitrusInstanceManager {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(CitrusInstanceManager.class);
+
     /** Singleton */
     private static Citrus citrus;
 
@@ -26,6 +33,14 @@ public class CitrusInstanceManager {
         instanceProcessors.add(processor);
     }
 
+    /**
+     * Remove instance processor.
+     * @param processor
+     */
+    public static void removeInstanceProcessor(CitrusInstanceProcessor processor) {
+        instanceProcessors.remove(processor);
+    }
+
     /**
      * Initializing method loads Citrus context and reads bean definitions
      * such as test listeners and test context factory.
@@ -44,6 +59,10 @@ public class CitrusInstanceManager {
         if (strategy.equals(CitrusInstanceStrategy.NEW) || citrus == null) {
             citrus = new Citrus(contextProvider.create());
             instanceProcessors.forEach(processor -> processor.process(citrus));
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(ResourcePathTypeResolver.getLookupReport());
+            }
         }
 
         return citrus;
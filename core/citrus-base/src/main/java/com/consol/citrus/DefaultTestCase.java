@@ -12,6 +12,7 @@ import com.consol.citrus.container.BeforeTest;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.TestCaseFailedException;
+import com.consol.citrus.util.RandomGenerator;
 import com.consol.citrus.util.TestUtils;
 
 /**
@@ -178,6 +179,18 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
             throw new TestCaseFailedException(e);
         } finally {
             if (testResult != null) {
+                if (context.hasRandomGenerator()) {
+                    RandomGenerator randomGenerator = context.getRandomGenerator();
+                    testResult.setRandomSeed(randomGenerator.getSeed());
+
+                    if (testResult.isFailed()) {
+                        log.info(String.format("Test '%s' generated random data with seed %s (iteration %s of run seed %s) - " +
+                                        "set system property '%s' to the run seed to replay",
+                                getName(), testResult.getRandomSeed(), randomGenerator.getIteration(), randomGenerator.getRunSeed(),
+                                RandomGenerator.SEED_PROPERTY));
+                    }
+                }
+
                 if (testResult.isSuccess()) {
                     context.getTestListeners().onTestSuccess(this);
                 } else {
@@ -185,7 +198,11 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
                 }
             }
 
-            afterTest(context);
+            try {
+                afterTest(context);
+            } finally {
+                context.closeResources();
+            }
         }
     }
 
@@ -25,17 +25,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Tests for the presence of a file and returns true if the file exists
+ * Tests for the presence of a file and returns true if the file exists. Optionally the file must not have been modified
+ * for a given stable time, e.g. in order to wait for a file that is still being written.
+ *
+ * Waiting actions get signalled on file changes using the file system watch service, so the condition is satisfied as
+ * soon as the file is created. Files that cannot be watched (e.g. classpath resources or files in a directory that does
+ * not exist yet) are checked in the wait interval.
  *
  * @author Martin Maher
  * @since 2.4
  */
-public class FileCondition extends AbstractCondition {
+public class FileCondition extends AbstractCondition implements SignalingCondition {
 
     /** File path to check for existence */
     private String filePath;
     private File file;
 
+    /** Time in milliseconds the file must not have been modified */
+    private String stableTime;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(FileCondition.class);
 
@@ -52,17 +60,72 @@ public class FileCondition extends AbstractCondition {
             log.debug(String.format("Checking file path '%s'", file != null ? file.getPath() : filePath));
         }
 
-        if (file != null) {
-            return file.exists() && file.isFile();
-        } else {
-            try {
-                return FileUtils.getFileResource(context.replaceDynamicContentInString(filePath), context).getFile().isFile();
-            } catch (IOException e) {
-                log.warn(String.format("Failed to access file resource '%s'", e.getMessage()));
-                return false;
+        try {
+            File target = resolveFile(context);
+            return target.isFile() && isStable(target, getStableTimeMs(context));
+        } catch (IOException e) {
+            log.warn(String.format("Failed to access file resource '%s'", e.getMessage()));
+            return false;
+        }
+    }
+
+    @Override
+    public Registration register(TestContext context, Runnable signal) {
+        try {
+            File target = resolveFile(context);
+            long stableTimeMs = getStableTimeMs(context);
+            return FileWatcher.getInstance().watch(target.toPath(), () -> {
+                signal.run();
+
+                if (stableTimeMs > 0) {
+                    FileWatcher.getInstance().signalAfter(signal, stableTimeMs);
+                }
+            });
+        } catch (IOException | UnsupportedOperationException e) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Unable to watch file '%s' - using polling instead: %s",
+                        file != null ? file.getPath() : filePath, e.getMessage()));
             }
+
+            return () -> {};
+        }
+    }
+
+    /**
+     * Resolves the file to check either from file or file path resource.
+     * @param context
+     * @return
+     * @throws IOException
+     */
+    private File resolveFile(TestContext context) throws IOException {
+        if (file != null) {
+            return file;
+        }
+
+        return FileUtils.getFileResource(context.replaceDynamicContentInString(filePath), context).getFile();
+    }
+
+    /**
+     * Checks that given file has not been modified for the given time.
+     * @param target
+     * @param stableTimeMs
+     * @return
+     */
+    private boolean isStable(File target, long stableTimeMs) {
+        return stableTimeMs <= 0 || System.currentTimeMillis() - target.lastModified() >= stableTimeMs;
+    }
+
+    /**
+     * Gets the stable time in milliseconds.
+     * @param context
+     * @return
+     */
+    private long getStableTimeMs(TestContext context) {
+        if (stableTime == null || stableTime.isEmpty()) {
+            return 0L;
         }
 
+        return Long.parseLong(context.replaceDynamicContentInString(stableTime));
     }
 
     @Override
@@ -111,11 +174,30 @@ public class FileCondition extends AbstractCondition {
         this.file = file;
     }
 
+    /**
+     * Gets the stableTime.
+     *
+     * @return The stable time in milliseconds
+     */
+    public String getStableTime() {
+        return stableTime;
+    }
+
+    /**
+     * Sets the stableTime.
+     *
+     * @param stableTime The stable time in milliseconds to set
+     */
+    public void setStableTime(String stableTime) {
+        this.stableTime = stableTime;
+    }
+
     @Override
     public String toString() {
         return "FileCondition{" +
                 "filePath='" + filePath + '\'' +
                 ", file=" + file +
+                ", stableTime='" + stableTime + '\'' +
                 ", name=" + getName() +
                 '}';
     }
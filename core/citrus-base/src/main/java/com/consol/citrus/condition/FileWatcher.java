@@ -0,0 +1,238 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.condition;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches directories for file changes and notifies listeners registered on individual files. Each directory is
+ * registered only once with the file system watch service no matter how many files in that directory are watched.
+ * A single daemon thread receives all watch events and signals the listeners of the affected files.
+ *
+ * Listeners must not block as they are invoked on the watcher thread.
+ *
+ * @since 3.3
+ */
+public final class FileWatcher {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(FileWatcher.class);
+
+    /** Shared instance */
+    private static final FileWatcher INSTANCE = new FileWatcher();
+
+    /** Watch service created on first registration */
+    private WatchService watchService;
+
+    /** Runs delayed signals */
+    private ScheduledExecutorService scheduler;
+
+    /** Watched directories and their file listeners */
+    private final Map<Path, DirectoryWatch> directories = new HashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private FileWatcher() {
+        super();
+    }
+
+    /**
+     * Gets the shared file watcher.
+     * @return
+     */
+    public static FileWatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers listener that is notified on each creation, modification or deletion of given file.
+     * The parent directory of the file must exist.
+     * @param file the file to watch
+     * @param listener the listener to notify
+     * @return registration removing the listener
+     * @throws IOException when the directory cannot be watched
+     */
+    public synchronized SignalingCondition.Registration watch(Path file, Runnable listener) throws IOException {
+        Path path = file.toAbsolutePath().normalize();
+        Path directory = path.getParent();
+        Path fileName = path.getFileName();
+
+        if (directory == null || fileName == null) {
+            throw new IOException(String.format("Unable to watch file '%s' without parent directory", file));
+        }
+
+        DirectoryWatch directoryWatch = directories.get(directory);
+        if (directoryWatch == null) {
+            WatchKey key = directory.register(getWatchService(), StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            directoryWatch = new DirectoryWatch(key);
+            directories.put(directory, directoryWatch);
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Watching directory '%s'", directory));
+            }
+        }
+
+        directoryWatch.listeners.computeIfAbsent(fileName, name -> new ArrayList<>()).add(listener);
+        return () -> unwatch(directory, fileName, listener);
+    }
+
+    /**
+     * Signals given listener once after given delay.
+     * @param listener
+     * @param delay delay in milliseconds
+     */
+    public synchronized void signalAfter(Runnable listener, long delay) {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "citrus-file-watcher-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        scheduler.schedule(() -> signal(listener), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Removes listener and stops watching the directory when no more files are watched in it.
+     * @param directory
+     * @param fileName
+     * @param listener
+     */
+    private synchronized void unwatch(Path directory, Path fileName, Runnable listener) {
+        DirectoryWatch directoryWatch = directories.get(directory);
+        if (directoryWatch == null) {
+            return;
+        }
+
+        List<Runnable> listeners = directoryWatch.listeners.get(fileName);
+        if (listeners != null) {
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                directoryWatch.listeners.remove(fileName);
+            }
+        }
+
+        if (directoryWatch.listeners.isEmpty()) {
+            directoryWatch.key.cancel();
+            directories.remove(directory);
+        }
+    }
+
+    /**
+     * Gets the number of currently watched directories.
+     * @return
+     */
+    public synchronized int getWatchedDirectories() {
+        return directories.size();
+    }
+
+    private WatchService getWatchService() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+
+            Thread thread = new Thread(this::processEvents, "citrus-file-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        return watchService;
+    }
+
+    /**
+     * Receives watch events and signals the listeners of affected files.
+     */
+    private void processEvents() {
+        WatchService service;
+        synchronized (this) {
+            service = watchService;
+        }
+
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+
+            Set<Runnable> signals = new LinkedHashSet<>();
+            synchronized (this) {
+                DirectoryWatch directoryWatch = directories.get((Path) key.watchable());
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (directoryWatch == null || directoryWatch.key != key) {
+                        continue;
+                    }
+
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        directoryWatch.listeners.values().forEach(signals::addAll);
+                    } else {
+                        signals.addAll(directoryWatch.listeners.getOrDefault((Path) event.context(), Collections.emptyList()));
+                    }
+                }
+            }
+
+            key.reset();
+            signals.forEach(this::signal);
+        }
+    }
+
+    private void signal(Runnable listener) {
+        try {
+            listener.run();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to signal file watch listener", e);
+        }
+    }
+
+    /**
+     * Watch key of a directory with listeners per file name.
+     */
+    private static class DirectoryWatch {
+        private final WatchKey key;
+        private final Map<Path, List<Runnable>> listeners = new HashMap<>();
+
+        DirectoryWatch(WatchKey key) {
+            this.key = key;
+        }
+    }
+}
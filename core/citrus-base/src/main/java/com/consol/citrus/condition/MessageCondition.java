@@ -16,19 +16,23 @@
 
 package com.consol.citrus.condition;
 
+import java.util.function.Consumer;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.MessageStore;
 
 /**
  * Condition checks whether a message is present in test context message store. Messages are automatically
  * stored in that store when sending and receiving messages with respective test actions. So this condition
  * can be used to wait for a message to arrive or being sent out.
  *
- * Message to check is identified by its name in the message store.
+ * Message to check is identified by its name in the message store. Waiting actions get signalled as soon as the
+ * message is stored.
  *
  * @author Christoph Deppisch
  * @since 2.6.2
  */
-public class MessageCondition extends AbstractCondition {
+public class MessageCondition extends AbstractCondition implements SignalingCondition {
 
     /** Message that should be present in message store */
     private String messageName;
@@ -38,6 +42,24 @@ public class MessageCondition extends AbstractCondition {
         return context.getMessageStore().getMessage(context.replaceDynamicContentInString(messageName)) != null;
     }
 
+    @Override
+    public Registration register(TestContext context, Runnable signal) {
+        MessageStore messageStore = context.getMessageStore();
+        if (messageStore == null) {
+            return () -> {};
+        }
+
+        String name = context.replaceDynamicContentInString(messageName);
+        Consumer<String> listener = id -> {
+            if (name.equals(id)) {
+                signal.run();
+            }
+        };
+
+        messageStore.addStoreListener(listener);
+        return () -> messageStore.removeStoreListener(listener);
+    }
+
     @Override
     public String getSuccessMessage(TestContext context) {
         return String.format("Message condition success - found message '%s' in message store", context.replaceDynamicContentInString(messageName));
@@ -74,7 +74,7 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
      * @param context
      */
     protected void executeActions(TestContext context) {
-        context.setVariable(indexName, String.valueOf(index));
+        context.setVariable(indexName, index);
 
         for (TestActionBuilder<?> actionBuilder: actions) {
             TestAction action = actionBuilder.build();
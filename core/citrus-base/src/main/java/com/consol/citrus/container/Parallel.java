@@ -17,12 +17,15 @@
 package com.consol.citrus.container;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Stack;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import com.consol.citrus.AbstractTestContainerBuilder;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.TestActionBuilder;
+import com.consol.citrus.context.ManagedExecutor;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ParallelContainerException;
@@ -31,17 +34,14 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Test action will execute nested actions in parallel. Each action is executed in a
- * separate thread. Container joins all threads and waiting for them to end successfully.
+ * separate thread of the context executor. Container joins all actions and waiting for them to end successfully.
  *
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private Stack<Thread> threads = new Stack<>();
-
     /** Collect exceptions in list */
-    private List<CitrusRuntimeException> exceptions = new ArrayList<>();
+    private List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<>());
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(Parallel.class);
@@ -55,9 +55,12 @@ public class Parallel extends AbstractActionContainer {
 
     @Override
     public void doExecute(TestContext context) {
+        ManagedExecutor executor = context.getExecutor();
+        List<Future<?>> tasks = new ArrayList<>();
+
         for (TestActionBuilder<?> actionBuilder : actions) {
             final TestAction action = actionBuilder.build();
-            Thread t = new Thread(new ActionRunner(action, context) {
+            tasks.add(executor.submitConcurrent(ManagedExecutor.taskName(context, action.getName()), new ActionRunner(action, context) {
                 @Override
                 public void exceptionCallback(CitrusRuntimeException e) {
                     if (exceptions.isEmpty()) {
@@ -66,17 +69,16 @@ public class Parallel extends AbstractActionContainer {
 
                     exceptions.add(e);
                 }
-            });
-
-            threads.push(t);
-            t.start();
+            }));
         }
 
-        while (!threads.isEmpty()) {
+        for (Future<?> task : tasks) {
             try {
-                threads.pop().join();
+                task.get();
             } catch (InterruptedException e) {
-                log.error("Unable to join thread", e);
+                log.error("Unable to join parallel action", e);
+            } catch (ExecutionException e) {
+                log.error("Parallel test action raised error", e.getCause());
             }
         }
 
@@ -31,6 +31,7 @@ import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.functions.FunctionUtils;
 import com.consol.citrus.variable.GlobalVariables;
+import com.consol.citrus.variable.VariableScope;
 import com.consol.citrus.variable.VariableUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,7 +97,7 @@ public class Template extends AbstractTestAction {
             innerContext.setGlobalVariables(new GlobalVariables.Builder()
                     .variables(context.getGlobalVariables())
                     .build());
-            innerContext.getVariables().putAll(context.getVariables());
+            innerContext.setVariables(new VariableScope(context.getVariables()));
 
             innerContext.setMessageStore(context.getMessageStore());
             innerContext.setMessageValidatorRegistry(context.getMessageValidatorRegistry());
@@ -109,6 +110,9 @@ public class Template extends AbstractTestAction {
             innerContext.setReferenceResolver(context.getReferenceResolver());
             innerContext.setTypeConverter(context.getTypeConverter());
             innerContext.setLogModifier(context.getLogModifier());
+            innerContext.setExecutor(context.getExecutor());
+            innerContext.setClock(context.getClock());
+            innerContext.setRandomGenerator(context.getRandomGenerator());
         }
 
         for (Entry<String, String> entry : parameter.entrySet()) {
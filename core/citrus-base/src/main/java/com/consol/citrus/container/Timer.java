@@ -16,17 +16,16 @@
 
 package com.consol.citrus.container;
 
-import java.util.TimerTask;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.AbstractTestContainerBuilder;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.TestActionBuilder;
+import com.consol.citrus.context.ManagedExecutor;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
 /**
@@ -49,7 +48,6 @@ public class Timer extends AbstractActionContainer implements StopTimer {
 
     protected boolean timerComplete = false;
     protected CitrusRuntimeException timerException = null;
-    private java.util.Timer timer;
 
     public Timer(Builder builder) {
         super("timer", builder);
@@ -63,77 +61,88 @@ public class Timer extends AbstractActionContainer implements StopTimer {
 
     @Override
     public void doExecute(final TestContext context) {
+        synchronized (this) {
+            timerComplete = false;
+            timerException = null;
+        }
+
+        context.registerTimer(getTimerId(), this);
+
         if (fork) {
-            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(new Runnable() {
-                public void run() {
-                    configureAndRunTimer(context);
-                }
-            });
+            context.getExecutor().executeConcurrent(ManagedExecutor.taskName(context, getTimerId()), () -> configureAndRunTimer(context));
         } else {
             configureAndRunTimer(context);
         }
     }
 
+    /**
+     * Runs the timer in the current thread. Timer events fire at fixed rate, so a timer event that has been delayed
+     * by long running nested actions is followed by the next event right away.
+     * @param context
+     */
     private void configureAndRunTimer(final TestContext context) {
-        timer = new java.util.Timer(getTimerId(), false);
-
-        context.registerTimer(getTimerId(), this);
-
-        TimerTask timerTask = new TimerTask() {
-            int indexCount = 0;
-
-            @Override
-            public void run() {
-                try {
-                    indexCount++;
-                    updateIndexCountInTestContext(context);
-                    log.debug(String.format("Timer event fired #%s - executing nested actions", indexCount));
-
-                    for (TestActionBuilder<?> actionBuilder : actions)  {
-                        TestAction action = actionBuilder.build();
-                        setActiveAction(action);
-                        action.execute(context);
-                    }
-                    if (indexCount >= repeatCount) {
-                        log.debug(String.format("Timer complete: %s iterations reached", repeatCount));
-                        stopTimer();
-                    }
-                } catch (Exception e) {
-                    handleException(e);
-                }
-            }
+        int indexCount = 0;
+        long nextEvent = System.currentTimeMillis() + delay;
+        while (awaitTimerEvent(nextEvent)) {
+            nextEvent += interval;
 
-            private void updateIndexCountInTestContext(TestContext context) {
+            try {
+                indexCount++;
                 context.setVariable(getTimerId() + INDEX_SUFFIX, String.valueOf(indexCount));
-            }
+                log.debug(String.format("Timer event fired #%s - executing nested actions", indexCount));
 
-            private void handleException(Exception e) {
-                if (e instanceof CitrusRuntimeException) {
-                    timerException = (CitrusRuntimeException) e;
-                } else {
-                    timerException = new CitrusRuntimeException(e);
+                for (TestActionBuilder<?> actionBuilder : actions)  {
+                    TestAction action = actionBuilder.build();
+                    setActiveAction(action);
+                    action.execute(context);
                 }
-                log.error(String.format("Timer stopped as a result of nested action error (%s)", e.getMessage()));
-                stopTimer();
-
-                if (fork) {
-                    context.addException(timerException);
+                if (indexCount >= repeatCount) {
+                    log.debug(String.format("Timer complete: %s iterations reached", repeatCount));
+                    stopTimer();
                 }
+            } catch (Exception e) {
+                handleException(context, e);
             }
-        };
-        timer.scheduleAtFixedRate(timerTask, delay, interval);
+        }
 
-        while (!timerComplete) {
+        if (timerException != null) {
+            throw timerException;
+        }
+    }
+
+    /**
+     * Waits until given time of next timer event.
+     * @param nextEvent
+     * @return false when the timer has been stopped in the meantime
+     */
+    private synchronized boolean awaitTimerEvent(long nextEvent) {
+        long timeLeft = nextEvent - System.currentTimeMillis();
+        while (!timerComplete && timeLeft > 0) {
             try {
-                Thread.sleep(interval);
+                wait(timeLeft);
             } catch (InterruptedException e) {
-                log.warn("Interrupted while waiting for timer to complete", e);
+                log.warn("Interrupted while waiting for next timer event - stopping timer");
+                Thread.currentThread().interrupt();
+                timerComplete = true;
             }
+
+            timeLeft = nextEvent - System.currentTimeMillis();
         }
 
-        if (timerException != null) {
-            throw timerException;
+        return !timerComplete;
+    }
+
+    private void handleException(TestContext context, Exception e) {
+        if (e instanceof CitrusRuntimeException) {
+            timerException = (CitrusRuntimeException) e;
+        } else {
+            timerException = new CitrusRuntimeException(e);
+        }
+        log.error(String.format("Timer stopped as a result of nested action error (%s)", e.getMessage()));
+        stopTimer();
+
+        if (fork) {
+            context.addException(timerException);
         }
     }
 
@@ -142,9 +151,9 @@ public class Timer extends AbstractActionContainer implements StopTimer {
     }
 
     @Override
-    public void stopTimer() {
-        timer.cancel();
+    public synchronized void stopTimer() {
         timerComplete = true;
+        notifyAll();
     }
 
     private static int serialNumber() {
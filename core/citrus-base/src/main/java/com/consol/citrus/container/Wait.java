@@ -17,13 +17,6 @@
 package com.consol.citrus.container;
 
 import java.time.Duration;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import com.consol.citrus.AbstractTestActionBuilder;
 import com.consol.citrus.TestActionBuilder;
@@ -71,46 +64,20 @@ public class Wait extends AbstractTestAction {
 
     @Override
     public void doExecute(final TestContext context) {
-        Boolean conditionSatisfied = null;
-        long timeLeft = getWaitTimeMs(context);
-        long intervalMs = getIntervalMs(context);
+        long timeout = getWaitTimeMs(context);
+        long intervalMs = Math.min(getIntervalMs(context), timeout);
 
-        if (intervalMs > timeLeft) {
-            intervalMs = timeLeft;
+        boolean conditionSatisfied;
+        try {
+            conditionSatisfied = timeout > 0 && WaitScheduler.await(condition, context, timeout, intervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while waiting for condition %s", condition.getName()), e);
         }
 
-        Callable<Boolean> callable = () -> condition.isSatisfied(context);
-
-        while (timeLeft > 0) {
-            timeLeft -= intervalMs;
-
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Waiting for condition %s", condition.getName()));
-            }
-
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            Future<Boolean> future = executor.submit(callable);
-            long checkStartTime = System.currentTimeMillis();
-            try {
-                conditionSatisfied = future.get(intervalMs, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException | TimeoutException | ExecutionException e) {
-                log.warn(String.format("Condition check interrupted with '%s'", e.getClass().getSimpleName()));
-            }
-            executor.shutdown();
-
-            if (Boolean.TRUE.equals(conditionSatisfied)) {
-                log.info(condition.getSuccessMessage(context));
-                return;
-            }
-
-            long sleepTime = intervalMs - (System.currentTimeMillis() - checkStartTime);
-            if (sleepTime > 0) {
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    log.warn("Interrupted during wait!", e);
-                }
-            }
+        if (conditionSatisfied) {
+            log.info(condition.getSuccessMessage(context));
+            return;
         }
 
         throw new CitrusRuntimeException(condition.getErrorMessage(context));
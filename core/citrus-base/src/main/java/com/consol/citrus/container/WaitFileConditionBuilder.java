@@ -54,4 +54,23 @@ public class WaitFileConditionBuilder extends WaitConditionBuilder<FileCondition
         getCondition().setFile(file);
         return self;
     }
+
+    /**
+     * Wait until the file has not been modified for given time in milliseconds.
+     * @param milliseconds
+     * @return
+     */
+    public WaitFileConditionBuilder stableTime(long milliseconds) {
+        return stableTime(String.valueOf(milliseconds));
+    }
+
+    /**
+     * Wait until the file has not been modified for given time in milliseconds.
+     * @param milliseconds
+     * @return
+     */
+    public WaitFileConditionBuilder stableTime(String milliseconds) {
+        getCondition().setStableTime(milliseconds);
+        return self;
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.container;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.consol.citrus.condition.Condition;
+import com.consol.citrus.condition.SignalingCondition;
+import com.consol.citrus.context.ManagedExecutor;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checks wait conditions using threads shared by all wait actions. A single scheduler thread triggers the condition
+ * checks in the given interval and the checks run as concurrent tasks on the executor of the test context, so a
+ * check never blocks the scheduler thread. Checks of the same
+ * condition never overlap: a trigger that arrives while a check is still running results in one more check right
+ * after the running one has finished. Conditions that are able to signal state changes trigger a check immediately
+ * instead of waiting for the next interval. Running checks are cancelled once the wait time has elapsed.
+ *
+ * @since 3.3
+ */
+public final class WaitScheduler {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(WaitScheduler.class);
+
+    /** Triggers condition checks in interval */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "citrus-wait-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Prevent instantiation.
+     */
+    private WaitScheduler() {
+        super();
+    }
+
+    /**
+     * Waits for given condition to be satisfied. Checks the condition in given interval until the timeout is reached.
+     * @param condition the condition to check
+     * @param context the test context
+     * @param timeout the total time to wait in milliseconds
+     * @param interval the time between condition checks in milliseconds
+     * @return true when the condition has been satisfied in time otherwise false
+     * @throws InterruptedException
+     */
+    public static boolean await(Condition condition, TestContext context, long timeout, long interval) throws InterruptedException {
+        ConditionCheck check = new ConditionCheck(condition, context);
+
+        SignalingCondition.Registration registration = null;
+        ScheduledFuture<?> polling = null;
+        try {
+            if (condition instanceof SignalingCondition) {
+                registration = ((SignalingCondition) condition).register(context, check::trigger);
+            }
+
+            polling = SCHEDULER.scheduleAtFixedRate(check::trigger, 0L, Math.max(1L, interval), TimeUnit.MILLISECONDS);
+            return check.await(timeout);
+        } finally {
+            if (polling != null) {
+                polling.cancel(false);
+            }
+
+            if (registration != null) {
+                registration.close();
+            }
+
+            check.cancel();
+        }
+    }
+
+    /**
+     * Serialized checks of a single condition.
+     */
+    private static class ConditionCheck {
+        private final Condition condition;
+        private final TestContext context;
+        private final ManagedExecutor executor;
+
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        private volatile Future<?> current;
+
+        ConditionCheck(Condition condition, TestContext context) {
+            this.condition = condition;
+            this.context = context;
+            this.executor = Optional.ofNullable(context.getExecutor()).orElseGet(ManagedExecutor::getDefault);
+        }
+
+        /**
+         * Requests a condition check. Starts the check unless another check is running.
+         */
+        void trigger() {
+            if (result.isDone()) {
+                return;
+            }
+
+            pending.set(true);
+            if (running.compareAndSet(false, true)) {
+                try {
+                    current = executor.submitConcurrent(ManagedExecutor.taskName(context, condition.getName()), this::run);
+                } catch (RejectedExecutionException e) {
+                    running.set(false);
+                    result.completeExceptionally(e);
+                }
+            }
+        }
+
+        private void run() {
+            try {
+                while (pending.getAndSet(false) && !result.isDone()) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(String.format("Waiting for condition %s", condition.getName()));
+                    }
+
+                    try {
+                        if (condition.isSatisfied(context)) {
+                            result.complete(true);
+                        }
+                    } catch (RuntimeException e) {
+                        LOG.warn(String.format("Condition check failed with '%s'", e.getClass().getSimpleName()));
+                    }
+                }
+            } finally {
+                running.set(false);
+            }
+
+            if (pending.get()) {
+                trigger();
+            }
+        }
+
+        boolean await(long timeout) throws InterruptedException {
+            try {
+                return result.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                return false;
+            } catch (ExecutionException e) {
+                throw new CitrusRuntimeException("Failed to check condition", e.getCause());
+            }
+        }
+
+        /**
+         * Stops further checks and interrupts the running check.
+         */
+        void cancel() {
+            result.complete(false);
+
+            Future<?> check = current;
+            if (check != null) {
+                check.cancel(true);
+            }
+        }
+    }
+}
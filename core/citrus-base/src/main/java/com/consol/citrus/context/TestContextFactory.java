@@ -81,8 +81,16 @@ public class TestContextFactory implements ReferenceResolverAware {
 
     private LogModifier logModifier;
 
+    private ManagedExecutor executor;
+
     private SegmentVariableExtractorRegistry segmentVariableExtractorRegistry;
 
+    /** Components shared by all test contexts, created on first use and reset when components change */
+    private volatile SuiteScope suiteScope;
+
+    /** Version of the global variables the suite scope has been created with */
+    private volatile long suiteScopeGlobalVariablesVersion;
+
     /**
      * Create new empty instance with default components set.
      * @return
@@ -103,6 +111,7 @@ public class TestContextFactory implements ReferenceResolverAware {
         factory.setNamespaceContextBuilder(new NamespaceContextBuilder());
         factory.setTypeConverter(TypeConverter.lookupDefault());
         factory.setLogModifier(new DefaultLogModifier());
+        factory.setExecutor(new ManagedExecutor());
         factory.setSegmentVariableExtractorRegistry(new SegmentVariableExtractorRegistry());
 
         return factory;
@@ -110,37 +119,51 @@ public class TestContextFactory implements ReferenceResolverAware {
 
     /**
      * Factory method creates new test context instance and adds all default components in this factory.
+     * All test contexts share the components of the suite scope so creating a test context does not allocate
+     * or copy registries and global variables.
      * @return
      */
     public TestContext getObject() {
-        TestContext context = new TestContext();
-        context.setFunctionRegistry(functionRegistry);
-        context.setValidationMatcherRegistry(validationMatcherRegistry);
-        context.setGlobalVariables(globalVariables);
-        context.setMessageValidatorRegistry(messageValidatorRegistry);
-        context.setTestListeners(testListeners);
-        context.setTestActionListeners(testActionListeners);
-        context.setBeforeTest(beforeTest);
-        context.setAfterTest(afterTest);
-        context.setMessageListeners(messageListeners);
-        context.setMessageProcessors(messageProcessors);
-        context.setEndpointFactory(endpointFactory);
-        context.setReferenceResolver(referenceResolver);
-        context.setSegmentVariableExtractorRegistry(segmentVariableExtractorRegistry);
-
-        if (namespaceContextBuilder != null) {
-            context.setNamespaceContextBuilder(namespaceContextBuilder);
-        }
-
-        if (typeConverter != null) {
-            context.setTypeConverter(typeConverter);
-        }
+        return new TestContext(getSuiteScope());
+    }
 
-        if (logModifier != null) {
-            context.setLogModifier(logModifier);
+    /**
+     * Gets the suite scope holding all components of this factory. The scope is created on first use and
+     * created again when components change or when the global variables have been modified since the scope has been
+     * created. Global variables are a mutable map that is written by property loaders and tests, so the modification
+     * version of the variables is checked on each call.
+     * @return
+     */
+    public SuiteScope getSuiteScope() {
+        SuiteScope scope = suiteScope;
+        long version = globalVariables.getVersion();
+        if (scope == null || version != suiteScopeGlobalVariablesVersion) {
+            synchronized (this) {
+                scope = new SuiteScope.Builder()
+                        .functionRegistry(functionRegistry)
+                        .validationMatcherRegistry(validationMatcherRegistry)
+                        .globalVariables(globalVariables)
+                        .messageValidatorRegistry(messageValidatorRegistry)
+                        .testListeners(testListeners)
+                        .testActionListeners(testActionListeners)
+                        .beforeTest(beforeTest)
+                        .afterTest(afterTest)
+                        .messageListeners(messageListeners)
+                        .messageProcessors(messageProcessors)
+                        .endpointFactory(endpointFactory)
+                        .referenceResolver(referenceResolver)
+                        .namespaceContextBuilder(namespaceContextBuilder)
+                        .typeConverter(typeConverter)
+                        .logModifier(logModifier)
+                        .executor(executor)
+                        .segmentVariableExtractorRegistry(segmentVariableExtractorRegistry)
+                        .build();
+                suiteScopeGlobalVariablesVersion = version;
+                suiteScope = scope;
+            }
         }
 
-        return context;
+        return scope;
     }
 
     /**
@@ -148,6 +171,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setFunctionRegistry(FunctionRegistry functionRegistry) {
         this.functionRegistry = functionRegistry;
+        this.suiteScope = null;
     }
 
     /**
@@ -163,6 +187,7 @@ public class TestContextFactory implements ReferenceResolverAware {
     public void setValidationMatcherRegistry(
             ValidationMatcherRegistry validationMatcherRegistry) {
         this.validationMatcherRegistry = validationMatcherRegistry;
+        this.suiteScope = null;
     }
 
     /**
@@ -177,6 +202,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setGlobalVariables(GlobalVariables globalVariables) {
         this.globalVariables = globalVariables;
+        this.suiteScope = null;
     }
 
     /**
@@ -200,6 +226,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setEndpointFactory(EndpointFactory endpointFactory) {
         this.endpointFactory = endpointFactory;
+        this.suiteScope = null;
     }
 
     /**
@@ -214,6 +241,7 @@ public class TestContextFactory implements ReferenceResolverAware {
     @Override
     public void setReferenceResolver(ReferenceResolver referenceResolver) {
         this.referenceResolver = referenceResolver;
+        this.suiteScope = null;
     }
 
     /**
@@ -222,6 +250,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setNamespaceContextBuilder(NamespaceContextBuilder namespaceContextBuilder) {
         this.namespaceContextBuilder = namespaceContextBuilder;
+        this.suiteScope = null;
     }
 
     /**
@@ -238,6 +267,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setTestListeners(TestListeners testListeners) {
         this.testListeners = testListeners;
+        this.suiteScope = null;
     }
 
     /**
@@ -262,6 +292,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setTestActionListeners(TestActionListeners testActionListeners) {
         this.testActionListeners = testActionListeners;
+        this.suiteScope = null;
     }
 
     /**
@@ -278,6 +309,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setBeforeTest(List<BeforeTest> beforeTest) {
         this.beforeTest = beforeTest;
+        this.suiteScope = null;
     }
 
     /**
@@ -294,6 +326,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setAfterTest(List<AfterTest> afterTest) {
         this.afterTest = afterTest;
+        this.suiteScope = null;
     }
 
     /**
@@ -302,6 +335,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setMessageValidatorRegistry(MessageValidatorRegistry messageValidatorRegistry) {
         this.messageValidatorRegistry = messageValidatorRegistry;
+        this.suiteScope = null;
     }
 
     /**
@@ -318,6 +352,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setMessageListeners(MessageListeners messageListeners) {
         this.messageListeners = messageListeners;
+        this.suiteScope = null;
     }
 
     /**
@@ -334,6 +369,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setMessageProcessors(MessageProcessors messageProcessors) {
         this.messageProcessors = messageProcessors;
+        this.suiteScope = null;
     }
 
     /**
@@ -358,6 +394,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setTypeConverter(TypeConverter typeConverter) {
         this.typeConverter = typeConverter;
+        this.suiteScope = null;
     }
 
     /**
@@ -374,6 +411,24 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setLogModifier(LogModifier logModifier) {
         this.logModifier = logModifier;
+        this.suiteScope = null;
+    }
+
+    /**
+     * Gets the executor.
+     * @return
+     */
+    public ManagedExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor.
+     * @param executor
+     */
+    public void setExecutor(ManagedExecutor executor) {
+        this.executor = executor;
+        this.suiteScope = null;
     }
 
     /**
@@ -390,6 +445,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setSegmentVariableExtractorRegistry(SegmentVariableExtractorRegistry segmentVariableExtractorRegistry) {
         this.segmentVariableExtractorRegistry = segmentVariableExtractorRegistry;
+        this.suiteScope = null;
     }
 
 }
@@ -16,11 +16,15 @@
 
 package com.consol.citrus.functions.core;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.functions.Function;
+import com.consol.citrus.validation.matcher.core.PatternCache;
 
 import java.text.SimpleDateFormat;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.TimeZone;
 
 /**
  * Abstract date value handling function provides base date value manipulation helpers.
@@ -30,6 +34,34 @@ import java.util.Calendar;
  */
 public abstract class AbstractDateFunction implements Function {
 
+    /** Default date pattern */
+    protected static final String DEFAULT_DATE_PATTERN = "dd.MM.yyyy";
+
+    /**
+     * Gets date format for given date pattern. The format is a copy of a cached prototype so compiling the pattern
+     * is done only once per pattern. Format uses the time zone of the test context clock.
+     * @param datePattern
+     * @param context
+     * @return
+     */
+    protected SimpleDateFormat getDateFormat(String datePattern, TestContext context) {
+        SimpleDateFormat dateFormat = PatternCache.getDateFormat(datePattern);
+        dateFormat.setTimeZone(TimeZone.getTimeZone(context.getClock().getZone()));
+        return dateFormat;
+    }
+
+    /**
+     * Gets calendar set to the current time of the test context clock.
+     * @param context
+     * @return
+     */
+    protected Calendar getCalendar(TestContext context) {
+        Clock clock = context.getClock();
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(clock.getZone()));
+        calendar.setTimeInMillis(clock.millis());
+        return calendar;
+    }
+
     /**
      * Adds/removes date value offset by parsing offset string for
      * year/month/day/hour/minute/second offsets.
@@ -86,7 +118,16 @@ public abstract class AbstractDateFunction implements Function {
      * @return
      */
     protected SimpleDateFormat getDefaultDateFormat() {
-        return new SimpleDateFormat("dd.MM.yyyy");
+        return PatternCache.getDateFormat(DEFAULT_DATE_PATTERN);
+    }
+
+    /**
+     * Provides default date format using the time zone of the test context clock.
+     * @param context
+     * @return
+     */
+    protected SimpleDateFormat getDefaultDateFormat(TestContext context) {
+        return getDateFormat(DEFAULT_DATE_PATTERN, context);
     }
 
 }
@@ -30,7 +30,7 @@ import java.util.List;
 
 /**
  * Function changes given date value by adding/subtracting day/month/year/hour/minute
- * offset values. Class uses special date format to parse date string to Calendar instance.
+ * offset values. Class uses special date format to parse the date string.
  *
  * @author Christoph Deppisch
  * @since 1.3.1
@@ -49,15 +49,15 @@ public class ChangeDateFunction extends AbstractDateFunction {
             throw new InvalidFunctionUsageException("Function parameters must not be empty");
         }
 
-        Calendar calendar = Calendar.getInstance();
+        Calendar calendar = getCalendar(context);
 
         SimpleDateFormat dateFormat;
         String result = "";
 
         if (parameterList.size() > 2) {
-            dateFormat = new SimpleDateFormat(parameterList.get(2));
+            dateFormat = getDateFormat(parameterList.get(2), context);
         } else {
-            dateFormat = getDefaultDateFormat();
+            dateFormat = getDefaultDateFormat(context);
         }
 
         try {
@@ -28,8 +28,9 @@ import java.util.List;
 
 /**
  * Function returning the actual date as formatted string value. User specifies format string
- * as argument. Function also supports additional date offset in order to manipulate result date value. 
- * 
+ * as argument. Function also supports additional date offset in order to manipulate result date value.
+ * The current date is provided by the clock of the test context.
+ *
  * @author Christoph Deppisch
  */
 public class CurrentDateFunction extends AbstractDateFunction {
@@ -42,15 +43,15 @@ public class CurrentDateFunction extends AbstractDateFunction {
      * @throws CitrusRuntimeException
      */
     public String execute(List<String> parameterList, TestContext context) {
-        Calendar calendar = Calendar.getInstance();
-        
+        Calendar calendar = getCalendar(context);
+
         SimpleDateFormat dateFormat;
         String result = "";
-        
+
         if (!CollectionUtils.isEmpty(parameterList)) {
-            dateFormat = new SimpleDateFormat(parameterList.get(0));
+            dateFormat = getDateFormat(parameterList.get(0), context);
         } else {
-            dateFormat = getDefaultDateFormat();
+            dateFormat = getDefaultDateFormat(context);
         }
 
         if (parameterList != null && parameterList.size() > 1) {
@@ -19,7 +19,7 @@ package com.consol.citrus.functions.core;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
-import com.consol.citrus.functions.Function;
+import com.consol.citrus.functions.PureFunction;
 import org.apache.commons.codec.binary.Base64;
 import org.springframework.util.CollectionUtils;
 
@@ -31,7 +31,7 @@ import java.util.List;
  * 
  * @author Christoph Deppisch
  */
-public class DecodeBase64Function implements Function {
+public class DecodeBase64Function implements PureFunction {
 
     @Override
     public String execute(List<String> parameterList, TestContext context) {
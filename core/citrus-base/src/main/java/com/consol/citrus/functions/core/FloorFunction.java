@@ -18,7 +18,7 @@ package com.consol.citrus.functions.core;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
-import com.consol.citrus.functions.Function;
+import com.consol.citrus.functions.PureFunction;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
@@ -29,7 +29,7 @@ import java.util.List;
  * 
  * @author Christoph Deppisch
  */
-public class FloorFunction implements Function {
+public class FloorFunction implements PureFunction {
 
     /**
      * @see com.consol.citrus.functions.Function#execute(java.util.List, com.consol.citrus.context.TestContext)
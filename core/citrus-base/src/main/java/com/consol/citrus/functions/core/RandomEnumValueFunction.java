@@ -21,7 +21,7 @@ import com.consol.citrus.exceptions.InvalidFunctionUsageException;
 import com.consol.citrus.functions.Function;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Function to choose one random value from a list of strings. The enumeration values to choose from
@@ -72,7 +72,6 @@ import java.util.Random;
  * @author Dimo Velev (dimo.velev@gmail.com)
  */
 public class RandomEnumValueFunction implements Function {
-	private Random random = new Random(System.currentTimeMillis());
 	private List<String> values = null;
 	
 	/**
@@ -80,12 +79,12 @@ public class RandomEnumValueFunction implements Function {
 	 */
 	public String execute(List<String> params, TestContext context) {
 		if (values == null) {
-			return randomValue(params);
+			return randomValue(params, context);
 		} else {
 			if (!params.isEmpty()) {
 				throw new InvalidFunctionUsageException("The enumeration values have already been set");
 			}
-			return randomValue(values);
+			return randomValue(values, context);
 		}
 	}
 
@@ -101,11 +100,26 @@ public class RandomEnumValueFunction implements Function {
 			throw new InvalidFunctionUsageException("No values to choose from");
 		}
 		
-		final int idx = random.nextInt(values.size());
+		final int idx = ThreadLocalRandom.current().nextInt(values.size());
 		
 		return values.get(idx);
 	}
 
+	/**
+	 * Choose one of the supplied values using the random generator of given test context.
+	 *
+	 * @param values
+	 * @param context
+	 * @return
+	 */
+	protected String randomValue(List<String> values, TestContext context) {
+		if (values == null || values.isEmpty()) {
+			throw new InvalidFunctionUsageException("No values to choose from");
+		}
+
+		return values.get(context.getRandomGenerator().nextInt(values.size()));
+	}
+
 	public List<String> getValues() {
 		return values;
 	}
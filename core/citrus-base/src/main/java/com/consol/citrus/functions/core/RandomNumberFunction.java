@@ -17,7 +17,8 @@
 package com.consol.citrus.functions.core;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
@@ -31,8 +32,9 @@ import org.springframework.util.CollectionUtils;
  * @author Christoph Deppisch
  */
 public class RandomNumberFunction implements Function {
-    /** Basic seed generating random number */
-    private static Random generator = new Random(System.currentTimeMillis());
+
+    /** Thread local generator used when no test context generator is available */
+    private static final IntUnaryOperator DEFAULT_GENERATOR = bound -> ThreadLocalRandom.current().nextInt(bound);
 
     /**
      * @see com.consol.citrus.functions.Function#execute(java.util.List, com.consol.citrus.context.TestContext)
@@ -59,7 +61,7 @@ public class RandomNumberFunction implements Function {
             paddingOn = Boolean.valueOf(parameterList.get(1));
         }
 
-        return getRandomNumber(numberLength, paddingOn);
+        return getRandomNumber(numberLength, paddingOn, context.getRandomGenerator()::nextInt);
     }
 
     /**
@@ -69,16 +71,28 @@ public class RandomNumberFunction implements Function {
      * @return
      */
     public static String getRandomNumber(int numberLength, boolean paddingOn) {
+        return getRandomNumber(numberLength, paddingOn, DEFAULT_GENERATOR);
+    }
+
+    /**
+     * Number generating method using given random number generator. Generator receives the exclusive upper bound of
+     * the random int value to generate.
+     * @param numberLength
+     * @param paddingOn
+     * @param generator
+     * @return
+     */
+    public static String getRandomNumber(int numberLength, boolean paddingOn, IntUnaryOperator generator) {
         if (numberLength < 1) {
             throw new InvalidFunctionUsageException("numberLength must be greater than 0 - supplied " + numberLength);
         }
 
-        StringBuilder buffer = new StringBuilder();
+        StringBuilder buffer = new StringBuilder(numberLength);
         for (int i = 0; i < numberLength; i++) {
-            buffer.append(generator.nextInt(10));
+            buffer.append(generator.applyAsInt(10));
         }
 
-        return checkLeadingZeros(buffer.toString(), paddingOn);
+        return checkLeadingZeros(buffer.toString(), paddingOn, generator);
     }
 
     /**
@@ -87,8 +101,12 @@ public class RandomNumberFunction implements Function {
      * @param paddingOn
      */
     public static String checkLeadingZeros(String generated, boolean paddingOn) {
+        return checkLeadingZeros(generated, paddingOn, DEFAULT_GENERATOR);
+    }
+
+    private static String checkLeadingZeros(String generated, boolean paddingOn, IntUnaryOperator generator) {
         if (paddingOn) {
-            return replaceLeadingZero(generated);
+            return replaceLeadingZero(generated, generator);
         } else {
             return removeLeadingZeros(generated);
         }
@@ -123,14 +141,15 @@ public class RandomNumberFunction implements Function {
     /**
      * Replaces first leading zero number if present.
      * @param generated
+     * @param generator
      * @return
      */
-    private static String replaceLeadingZero(String generated) {
+    private static String replaceLeadingZero(String generated, IntUnaryOperator generator) {
         if (generated.charAt(0) == '0') {
             // find number > 0 as replacement to avoid leading zero numbers
             int replacement = 0;
             while (replacement == 0) {
-                replacement = generator.nextInt(10);
+                replacement = generator.applyAsInt(10);
             }
 
             return replacement + generated.substring(1);
@@ -22,7 +22,8 @@ import com.consol.citrus.functions.Function;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Function generating a random string containing alphabetic characters. Arguments specify
@@ -31,7 +32,6 @@ import java.util.Random;
  * @author Christoph Deppisch
  */
 public class RandomStringFunction implements Function {
-    private static Random generator = new Random(System.currentTimeMillis());
 
     private static final char[] ALPHABET_UPPER = { 'A', 'B', 'C', 'D', 'E', 'F', 'G',
         'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T',
@@ -88,12 +88,13 @@ public class RandomStringFunction implements Function {
             includeNumbers = Boolean.valueOf(parameterList.get(2));
         }
         
+        IntUnaryOperator generator = context.getRandomGenerator()::nextInt;
         if (notationMethod.equals(UPPERCASE)) {
-            return getRandomString(numberOfLetters, ALPHABET_UPPER, includeNumbers);
+            return getRandomString(numberOfLetters, ALPHABET_UPPER, includeNumbers, generator);
         } else if (notationMethod.equals(LOWERCASE)) {
-            return getRandomString(numberOfLetters, ALPHABET_LOWER, includeNumbers);
+            return getRandomString(numberOfLetters, ALPHABET_LOWER, includeNumbers, generator);
         } else {
-            return getRandomString(numberOfLetters, ALPHABET_MIXED, includeNumbers);
+            return getRandomString(numberOfLetters, ALPHABET_MIXED, includeNumbers, generator);
         }
     }
 
@@ -105,19 +106,32 @@ public class RandomStringFunction implements Function {
      * @return
      */
     public static String getRandomString(int numberOfLetters, char[] alphabet, boolean includeNumbers) {
-        StringBuilder builder = new StringBuilder();
+        return getRandomString(numberOfLetters, alphabet, includeNumbers, bound -> ThreadLocalRandom.current().nextInt(bound));
+    }
+
+    /**
+     * String generating method using given random number generator. Generator receives the exclusive upper bound of
+     * the random int value to generate.
+     * @param numberOfLetters
+     * @param alphabet
+     * @param includeNumbers
+     * @param generator
+     * @return
+     */
+    public static String getRandomString(int numberOfLetters, char[] alphabet, boolean includeNumbers, IntUnaryOperator generator) {
+        StringBuilder builder = new StringBuilder(numberOfLetters);
         
         int upperRange = alphabet.length - 1;
         
         // make sure first character is not a number
-        builder.append(alphabet[generator.nextInt(upperRange)]);
+        builder.append(alphabet[generator.applyAsInt(upperRange)]);
         
         if (includeNumbers) {
             upperRange += NUMBERS.length;
         }
         
         for (int i = 1; i < numberOfLetters; i++) {
-            int letterIndex = generator.nextInt(upperRange);
+            int letterIndex = generator.applyAsInt(upperRange);
             
             if (letterIndex > alphabet.length - 1) {
                 builder.append(NUMBERS[letterIndex - alphabet.length]);
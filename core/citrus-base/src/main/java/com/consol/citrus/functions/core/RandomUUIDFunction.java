@@ -20,10 +20,10 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.functions.Function;
 
 import java.util.List;
-import java.util.UUID;
 
 /**
- * Creates a random Java UUID.
+ * Creates a random Java UUID. The UUID is generated with the random generator of the test context so generated values
+ * can be replayed with the same seed.
  * 
  * @author Christoph Deppisch
  */
@@ -33,6 +33,6 @@ public class RandomUUIDFunction  implements Function {
       * {@inheritDoc}
       */
     public String execute(List<String> parameterList, TestContext context) {
-        return UUID.randomUUID().toString();
+        return context.getRandomGenerator().nextUUID().toString();
     }
 }
@@ -19,7 +19,7 @@ package com.consol.citrus.functions.core;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
-import com.consol.citrus.functions.Function;
+import com.consol.citrus.functions.PureFunction;
 import org.springframework.util.CollectionUtils;
 
 import java.io.UnsupportedEncodingException;
@@ -31,7 +31,7 @@ import java.util.List;
  * 
  * @author Christoph Deppisch
  */
-public class UrlDecodeFunction implements Function {
+public class UrlDecodeFunction implements PureFunction {
 
     @Override
     public String execute(List<String> parameterList, TestContext context) {
@@ -16,31 +16,104 @@
 
 package com.consol.citrus.main.scan;
 
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.TestClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
  */
 public abstract class AbstractTestScanner implements TestScanner {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractTestScanner.class);
+
     /** Test name patterns to include */
     private final String[] includes;
 
+    /** Compiled test name patterns */
+    private final Pattern[] includePatterns;
+
     public AbstractTestScanner(String... includes) {
         if (includes.length > 0) {
             this.includes = includes;
         } else {
             this.includes = new String[] { "^.*IT$", "^.*ITCase$", "^IT.*$" };
         }
+
+        this.includePatterns = Stream.of(this.includes)
+                .map(Pattern::compile)
+                .toArray(Pattern[]::new);
     }
 
     protected boolean isIncluded(String className) {
-        return Stream.of(getIncludes())
-                .parallel()
-                .map(Pattern::compile)
-                .anyMatch(pattern -> pattern.matcher(className).matches());
+        for (Pattern pattern : includePatterns) {
+            if (pattern.matcher(className).matches()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets test classes from the scan index of given artifact. When the artifact has no index for
+     * the given scan key or the artifact has changed since the index was written the scan is performed
+     * and its result is added to the index.
+     * @param artifact jar file or class directory to scan.
+     * @param key identifies the scan parameters in the index.
+     * @param scan performs the scan and returns the names of test classes found.
+     * @return
+     */
+    protected List<TestClass> findTestsWithIndex(File artifact, String key, Supplier<List<String>> scan) {
+        if (!CitrusSettings.isTestScanIndexEnabled()) {
+            return toTestClasses(scan.get());
+        }
+
+        TestScanIndex index = TestScanIndex.forArtifact(artifact);
+        Optional<List<String>> indexed = index.get(key);
+        if (indexed.isPresent()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Using test scan index for artifact '%s'", artifact));
+            }
+            return toTestClasses(indexed.get());
+        }
+
+        List<String> classNames = scan.get();
+        index.put(key, classNames);
+        index.save();
+        return toTestClasses(classNames);
+    }
+
+    /**
+     * Gets the scan key for given package that identifies scan results in a test scan index.
+     * @param packageName
+     * @return
+     */
+    protected String getIndexKey(String packageName) {
+        return packageName + "|" + String.join(",", getIncludes());
+    }
+
+    /**
+     * Converts class names to distinct test classes.
+     * @param classNames
+     * @return
+     */
+    private static List<TestClass> toTestClasses(List<String> classNames) {
+        return classNames.stream()
+                .distinct()
+                .map(TestClass::new)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -16,11 +16,16 @@
 
 package com.consol.citrus.main.scan;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.consol.citrus.TestClass;
@@ -36,6 +41,8 @@ import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * @author Christoph Deppisch
@@ -49,53 +56,148 @@ public class ClassPathTestScanner extends AbstractTestScanner {
     /** Test annotation marking test classes and methods */
     private final Class<? extends Annotation> annotationType;
 
+    /** Class loader used to load test classes */
+    private final ClassLoader classLoader;
+
     /**
      * Default constructor using run configuration.
      * @param includes
      */
     public ClassPathTestScanner(Class<? extends Annotation> annotationType, String... includes) {
+        this(annotationType, ClassUtils.getDefaultClassLoader(), includes);
+    }
+
+    /**
+     * Constructor using class loader to scan and load test classes.
+     * @param annotationType
+     * @param classLoader
+     * @param includes
+     */
+    public ClassPathTestScanner(Class<? extends Annotation> annotationType, ClassLoader classLoader, String... includes) {
         super(includes);
         this.annotationType = annotationType;
+        this.classLoader = classLoader;
     }
 
+    /**
+     * Scans each class path root that contains the package. Class directories are scanned with a persistent
+     * test scan index so unchanged directories are not read again. Other roots such as jar files on the
+     * class path are always scanned.
+     * @param packageName
+     * @return
+     */
     @Override
     public List<TestClass> findTestsInPackage(String packageName) {
         try {
-            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+
+            String packagePath = ClassUtils.convertClassNameToResourcePath(packageName);
+            Resource[] roots = resolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
+                    (StringUtils.hasText(packagePath) ? packagePath + "/" : ""));
+
+            List<TestClass> testClasses = new ArrayList<>();
+            for (Resource root : roots) {
+                File classDirectory = getClassDirectory(root, packagePath);
+                if (classDirectory != null) {
+                    testClasses.addAll(findTestsWithIndex(classDirectory, getIndexKey(packageName),
+                            () -> scanRoot(resolver, root, packageName)));
+                } else {
+                    testClasses.addAll(scanRoot(resolver, root, packageName).stream()
+                            .map(TestClass::new)
+                            .collect(Collectors.toList()));
+                }
+            }
 
-            String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
-                    ClassUtils.convertClassNameToResourcePath(packageName) + "/**/*.class";
+            return testClasses.stream()
+                    .filter(distinctBy(TestClass::getName))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to scan classpath package '%s'", packageName), e);
+        }
+    }
 
-            Resource[] resources = resolver.getResources(packageSearchPath);
+    @Override
+    protected String getIndexKey(String packageName) {
+        return annotationType.getName() + "|" + super.getIndexKey(packageName);
+    }
+
+    /**
+     * Scans all classes below given class path root and returns the names of test classes.
+     * @param resolver
+     * @param root
+     * @param packageName
+     * @return
+     */
+    private List<String> scanRoot(PathMatchingResourcePatternResolver resolver, Resource root, String packageName) {
+        try {
+            String rootUrl = root.getURL().toString();
+            Resource[] resources = resolver.getResources(rootUrl + (rootUrl.endsWith("/") ? "" : "/") + "**/*.class");
 
+            SimpleMetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory(classLoader);
             List<String> classes = new ArrayList<>();
             for (Resource resource : resources) {
                 if (!resource.isReadable()) {
                     continue;
                 }
 
-                MetadataReader metadataReader = new SimpleMetadataReaderFactory().getMetadataReader(resource);
+                MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(resource);
                 if (isIncluded(metadataReader.getClassMetadata())) {
                     classes.add(metadataReader.getClassMetadata().getClassName());
                 }
             }
 
-            return classes.stream()
-                    .distinct()
-                    .map(TestClass::new)
-                    .collect(Collectors.toList());
+            return classes;
         } catch (IOException e) {
             throw new CitrusRuntimeException(String.format("Failed to scan classpath package '%s'", packageName), e);
         }
     }
 
+    /**
+     * Gets the class directory of given class path root when the root is located in the file system.
+     * @param root the package directory in the class path root.
+     * @param packagePath
+     * @return the class directory or null when the root is not a file system directory.
+     */
+    private static File getClassDirectory(Resource root, String packagePath) {
+        try {
+            if (!ResourceUtils.isFileURL(root.getURL())) {
+                return null;
+            }
+
+            File directory = root.getFile();
+            String[] segments = StringUtils.tokenizeToStringArray(packagePath, "/");
+            for (int i = segments.length - 1; i >= 0; i--) {
+                if (directory == null || !segments[i].equals(directory.getName())) {
+                    return null;
+                }
+                directory = directory.getParentFile();
+            }
+
+            return directory != null && directory.isDirectory() ? directory : null;
+        } catch (IOException e) {
+            LOG.warn(String.format("Unable to resolve class directory of class path root '%s'", root), e);
+            return null;
+        }
+    }
+
+    /**
+     * Filter keeps the first element of each distinct key.
+     * @param key
+     * @param <T>
+     * @return
+     */
+    private static <T> Predicate<T> distinctBy(Function<T, ?> key) {
+        Set<Object> seen = new HashSet<>();
+        return element -> seen.add(key.apply(element));
+    }
+
     protected boolean isIncluded(ClassMetadata metadata) {
         if (!isIncluded(metadata.getClassName())) {
             return false;
         }
 
         try {
-            Class<?> clazz = Class.forName(metadata.getClassName());
+            Class<?> clazz = ClassUtils.forName(metadata.getClassName(), classLoader);
             if (clazz.isAnnotationPresent(annotationType)) {
                 return true;
             }
@@ -29,6 +29,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -50,22 +51,40 @@ public class JarFileTestScanner extends AbstractTestScanner {
 
     @Override
     public List<TestClass> findTestsInPackage(String packageToScan) {
-        List<TestClass> testClasses = new ArrayList<>();
         if (artifact != null && artifact.isFile()) {
-            try (JarFile jar = new JarFile(artifact)) {
-                for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
-                    JarEntry entry = entries.nextElement();
-                    String className = StringUtils.stripFilenameExtension(entry.getName()).replace( "/", "." );
-                    if (new AntPathMatcher().matchStart(packageToScan.replace( ".", "/" ), entry.getName()) && isIncluded(className)) {
-                        LOG.info("Found test class candidate in test jar file: " +  entry.getName());
-                        testClasses.add(new TestClass(className));
-                    }
+            return findTestsWithIndex(artifact, getIndexKey(packageToScan), () -> scanJarFile(packageToScan));
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * Scans all entries in the jar file for test class candidates in given package.
+     * @param packageToScan
+     * @return
+     */
+    private List<String> scanJarFile(String packageToScan) {
+        List<String> classNames = new ArrayList<>();
+        AntPathMatcher pathMatcher = new AntPathMatcher();
+        String packagePattern = StringUtils.hasText(packageToScan) ? packageToScan.replace( ".", "/" ) + "/**" : "**";
+
+        try (JarFile jar = new JarFile(artifact)) {
+            for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
+                JarEntry entry = entries.nextElement();
+                if (entry.isDirectory() || !entry.getName().endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+                    continue;
+                }
+
+                String className = StringUtils.stripFilenameExtension(entry.getName()).replace( "/", "." );
+                if (pathMatcher.match(packagePattern, entry.getName()) && isIncluded(className)) {
+                    LOG.info("Found test class candidate in test jar file: " +  entry.getName());
+                    classNames.add(className);
                 }
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Failed to access jar file artifact", e);
             }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to access jar file artifact", e);
         }
 
-        return testClasses;
+        return classNames;
     }
 }
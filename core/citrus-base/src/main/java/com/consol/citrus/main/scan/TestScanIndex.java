@@ -0,0 +1,248 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main.scan;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * Persistent index of test scan results for a jar file or class directory. The index is stored as properties
+ * file next to the artifact (e.g. "tests.jar.citrus-index" or "test-classes.citrus-index") and holds the
+ * class names found by previous scans. Each index is bound to a fingerprint built from path, size and
+ * modification time of the artifact content. Once the artifact changes the index is discarded and
+ * scanners fall back to a full scan that writes a new index. Scanners get the index with {@link #forArtifact(File)}
+ * so the index is built once per artifact and shared by all package scans of the same run.
+ *
+ * @since 3.3
+ */
+public class TestScanIndex {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(TestScanIndex.class);
+
+    /** File name suffix of index files */
+    public static final String INDEX_FILE_SUFFIX = ".citrus-index";
+
+    /** Property keys in index file */
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String SCAN_KEY_PREFIX = "scan.";
+
+    /** Indexes already loaded in this run, mapped by absolute artifact file */
+    private static final Map<File, TestScanIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /** Maximum number of loaded indexes to keep */
+    private static final int MAX_CACHE_SIZE = 100;
+
+    /** Indexed jar file or class directory */
+    private final File artifact;
+
+    /** Fingerprint of current artifact content */
+    private final String fingerprint;
+
+    /** Scan results loaded from index file or added in this run */
+    private final Properties entries = new Properties();
+
+    /** Marks new scan results that need to be saved */
+    private boolean modified;
+
+    /**
+     * Constructor computes the artifact fingerprint and loads the index file when it matches the fingerprint.
+     * @param artifact
+     */
+    public TestScanIndex(File artifact) {
+        this.artifact = artifact;
+        this.fingerprint = fingerprint(artifact);
+
+        File indexFile = getIndexFile(artifact);
+        if (indexFile.isFile()) {
+            Properties index = new Properties();
+            try (InputStream in = Files.newInputStream(indexFile.toPath())) {
+                index.load(in);
+            } catch (IOException e) {
+                LOG.warn(String.format("Failed to read test scan index '%s'", indexFile), e);
+            }
+
+            if (fingerprint.equals(index.getProperty(FINGERPRINT_KEY))) {
+                index.stringPropertyNames()
+                        .stream()
+                        .filter(key -> key.startsWith(SCAN_KEY_PREFIX))
+                        .forEach(key -> entries.setProperty(key, index.getProperty(key)));
+            } else if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Discard outdated test scan index '%s'", indexFile));
+            }
+        }
+    }
+
+    /**
+     * Gets the index for given artifact. The index is loaded once per artifact and reused for subsequent scans. Jar files
+     * are verified with their fingerprint on each call so a rebuilt jar gets a fresh index, class directories are
+     * expected to stay the same for the run.
+     * @param artifact
+     * @return
+     */
+    public static TestScanIndex forArtifact(File artifact) {
+        File key = artifact.getAbsoluteFile();
+        TestScanIndex index = INDEXES.get(key);
+        if (index != null && (key.isDirectory() || index.fingerprint.equals(fingerprint(key)))) {
+            return index;
+        }
+
+        if (INDEXES.size() > MAX_CACHE_SIZE) {
+            INDEXES.clear();
+        }
+
+        index = new TestScanIndex(key);
+        INDEXES.put(key, index);
+        return index;
+    }
+
+    /**
+     * Gets the index file location for given artifact.
+     * @param artifact
+     * @return
+     */
+    public static File getIndexFile(File artifact) {
+        File absolute = artifact.getAbsoluteFile();
+        return new File(absolute.getParentFile(), absolute.getName() + INDEX_FILE_SUFFIX);
+    }
+
+    /**
+     * Gets indexed class names for given scan key.
+     * @param key
+     * @return class names or empty optional when this scan is not indexed yet.
+     */
+    public synchronized Optional<List<String>> get(String key) {
+        String value = entries.getProperty(SCAN_KEY_PREFIX + key);
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        if (value.isEmpty()) {
+            return Optional.of(Collections.emptyList());
+        }
+
+        return Optional.of(Arrays.asList(StringUtils.commaDelimitedListToStringArray(value)));
+    }
+
+    /**
+     * Adds scan result for given scan key.
+     * @param key
+     * @param classNames
+     */
+    public synchronized void put(String key, List<String> classNames) {
+        entries.setProperty(SCAN_KEY_PREFIX + key, String.join(",", classNames));
+        modified = true;
+    }
+
+    /**
+     * Saves the index file when new scan results have been added. The file is written to a temporary file first
+     * and moved to the index location so concurrent readers always see a complete index.
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+
+        File indexFile = getIndexFile(artifact);
+        Properties index = new Properties();
+        index.putAll(entries);
+        index.setProperty(FINGERPRINT_KEY, fingerprint);
+
+        try {
+            Path tempFile = Files.createTempFile(indexFile.getParentFile().toPath(), indexFile.getName(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                index.store(out, "Citrus test scan index of " + artifact.getName());
+            }
+            Files.move(tempFile, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            modified = false;
+        } catch (IOException e) {
+            LOG.warn(String.format("Failed to write test scan index '%s'", indexFile), e);
+        }
+    }
+
+    /**
+     * Gets the fingerprint of the indexed artifact.
+     * @return
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Builds fingerprint of given artifact. Jar files use absolute path, size and modification time of the file,
+     * class directories use a checksum over relative path, size and modification time of all files in the directory.
+     * The fingerprint only reads file metadata and never the file content.
+     * @param artifact
+     * @return
+     */
+    static String fingerprint(File artifact) {
+        CRC32 checksum = new CRC32();
+        long lastModified = artifact.lastModified();
+        long size = 0L;
+
+        try {
+            if (artifact.isDirectory()) {
+                Path root = artifact.toPath();
+                List<Path> files;
+                try (Stream<Path> walk = Files.walk(root)) {
+                    files = walk.filter(Files::isRegularFile)
+                            .sorted()
+                            .collect(Collectors.toCollection(ArrayList::new));
+                }
+
+                for (Path file : files) {
+                    long fileModified = Files.getLastModifiedTime(file).toMillis();
+                    long fileSize = Files.size(file);
+                    checksum.update(root.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                    checksum.update(Long.toString(fileSize).getBytes(StandardCharsets.UTF_8));
+                    checksum.update(Long.toString(fileModified).getBytes(StandardCharsets.UTF_8));
+                    lastModified = Math.max(lastModified, fileModified);
+                    size++;
+                }
+            } else {
+                checksum.update(artifact.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+                size = Files.size(artifact.toPath());
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to compute fingerprint of artifact '%s'", artifact), e);
+        }
+
+        return Long.toHexString(checksum.getValue()) + "-" + lastModified + "-" + size;
+    }
+}
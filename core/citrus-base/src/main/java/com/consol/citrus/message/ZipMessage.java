@@ -16,23 +16,43 @@
 
 package com.consol.citrus.message;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.TypeConversionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 
 import java.io.*;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 /**
+ * Message holding a zip archive payload. File entries keep a reference to their content source and are read
+ * when the archive is written. The archive is built once and reused until the entries change. Changes are detected
+ * without reading entry content: file entries compare location, size and last modification, binary content and other
+ * resources compare by instance.
+ *
+ * In streaming mode the archive is written to a temporary file. Producers ask for the archive as resource or input stream
+ * (see {@link #getStreamingPayload(Message, TestContext)}) and stream the file without holding the archive in memory.
+ * The temporary file is deleted when the archive gets rebuilt, when streaming is disabled, when the message is closed
+ * and when the test that streamed the archive finishes.
+ *
  * @author Christoph Deppisch
  * @since 2.7.5
  */
-public class ZipMessage extends DefaultMessage {
+public class ZipMessage extends DefaultMessage implements AutoCloseable {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(ZipMessage.class);
@@ -40,34 +60,201 @@ public class ZipMessage extends DefaultMessage {
     /** Entries in this zip message */
     private final List<Entry> entries = new ArrayList<>();
 
+    /** Compression level used when writing the archive */
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+    /** Write archive to temporary file instead of memory */
+    private boolean streaming;
+
+    /** State of entries the cached archive has been built from */
+    private List<Object> archiveState;
+
+    /** Cached archive - either in memory or as temporary file in streaming mode */
+    private byte[] archive;
+    private File archiveFile;
+
     public ZipMessage() {
         super();
     }
 
+    /**
+     * Gets a copy of the archive content. In streaming mode the temporary archive file is read into memory.
+     * @return
+     */
     @Override
     public byte[] getPayload() {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        try (ZipOutputStream zos = new ZipOutputStream(bos)) {
-            for (Entry entry : entries) {
-                addToZip("", entry, zos);
+        if (streaming) {
+            try (InputStream in = openArchive()) {
+                return FileCopyUtils.copyToByteArray(in);
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to read zip archive", e);
+            }
+        }
+
+        return getArchive().clone();
+    }
+
+    /**
+     * Provides the archive as input stream or resource. In streaming mode both read from the temporary archive file
+     * without copying the archive into memory. All other types are converted from a copy of the archive content.
+     * @param type
+     * @param <T>
+     * @return
+     */
+    @Override
+    public <T> T getPayload(Class<T> type) {
+        if (InputStream.class.equals(type)) {
+            try {
+                return type.cast(streaming ? openArchive() : new ByteArrayInputStream(getArchive()));
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to read zip archive", e);
+            }
+        } else if (Resource.class.equals(type)) {
+            return type.cast(streaming ? new ArchiveResource() : new ByteArrayResource(getPayload()));
+        }
+
+        return TypeConversionUtils.convertIfNecessary(getPayload(), type);
+    }
+
+    /**
+     * Gets the payload producers should send for given message. Streaming zip messages provide their archive as
+     * resource reading the temporary archive file. The temporary file is deleted when the test of the given context
+     * finishes. All other messages provide their payload as is.
+     * @param message
+     * @param context
+     * @return
+     */
+    public static Object getStreamingPayload(Message message, TestContext context) {
+        if (message instanceof ZipMessage && ((ZipMessage) message).isStreaming()) {
+            context.registerCloseable((ZipMessage) message);
+            return message.getPayload(Resource.class);
+        }
+
+        return message.getPayload();
+    }
+
+    /**
+     * Deletes the temporary archive file. The archive is written again on next use.
+     */
+    @Override
+    public synchronized void close() {
+        deleteArchiveFile();
+    }
+
+    /**
+     * Writes the zip archive to given output stream. Entry content is streamed from its source.
+     * @param out
+     * @throws IOException
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ZipOutputStream zos = new ZipOutputStream(out);
+        zos.setLevel(compressionLevel);
+        for (Entry entry : entries) {
+            addToZip("", entry, zos);
+        }
+        zos.finish();
+    }
+
+    /**
+     * Gets the archive content built in memory. Builds the archive again only when entries have changed.
+     * @return
+     */
+    private synchronized byte[] getArchive() {
+        List<Object> state = entriesState();
+        if (archive == null || !state.equals(archiveState)) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try {
+                writeTo(bos);
+            } catch(IOException e) {
+                throw new CitrusRuntimeException("Failed to create zip archive", e);
             }
-        } catch(IOException e) {
-            throw new CitrusRuntimeException("Failed to create zip archive", e);
+
+            archive = bos.toByteArray();
+            archiveState = state;
         }
 
-        return bos.toByteArray();
+        return archive;
+    }
+
+    /**
+     * Gets the temporary archive file. Writes the archive again only when entries have changed.
+     * @return
+     */
+    private synchronized File getArchiveFile() {
+        List<Object> state = entriesState();
+        if (archiveFile == null || !archiveFile.exists() || !state.equals(archiveState)) {
+            deleteArchiveFile();
+
+            Path tempFile = null;
+            try {
+                tempFile = Files.createTempFile(TempArchives.DIRECTORY, "citrus-zip-message-", ".zip");
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                    writeTo(out);
+                }
+
+                archiveFile = tempFile.toFile();
+                archiveState = state;
+            } catch(IOException | RuntimeException e) {
+                if (tempFile != null && !tempFile.toFile().delete()) {
+                    log.warn("Failed to delete temporary zip archive: " + tempFile);
+                }
+                throw new CitrusRuntimeException("Failed to create zip archive", e);
+            }
+        }
+
+        return archiveFile;
+    }
+
+    /**
+     * Opens input stream on the temporary archive file. Opening the file and deleting the file on close are
+     * synchronized, so the file is not deleted before the stream has been opened.
+     * @return
+     * @throws IOException
+     */
+    private synchronized InputStream openArchive() throws IOException {
+        return Files.newInputStream(getArchiveFile().toPath());
+    }
+
+    private void deleteArchiveFile() {
+        if (archiveFile != null && !archiveFile.delete() && archiveFile.exists()) {
+            log.warn("Failed to delete temporary zip archive: " + archiveFile);
+        }
+        archiveFile = null;
+    }
+
+    /**
+     * Collects the state of all entries without reading entry content. File based entries contribute their
+     * location, size and last modification. Binary content and other resources contribute the instance.
+     * @return
+     */
+    private List<Object> entriesState() {
+        List<Object> state = new ArrayList<>();
+        state.add(compressionLevel);
+        try {
+            for (Entry entry : entries) {
+                entry.addState(state);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read zip entries state", e);
+        }
+        return state;
     }
 
     /**
      * Adds new zip archive entry. Resource can be a file or directory. In case of directory all files will be automatically added
-     * to the zip archive. Directory structures are retained throughout this process.
+     * to the zip archive. Directory structures are retained throughout this process. Resources that are not available
+     * in the file system (e.g. located in a jar) are added as single file entry.
      *
      * @param resource
      * @return
      */
     public ZipMessage addEntry(Resource resource) {
         try {
-            addEntry(new Entry(resource.getFile()));
+            if (resource.isFile()) {
+                addEntry(new Entry(resource.getFile()));
+            } else {
+                addEntry(new Entry(resource.getFilename(), resource));
+            }
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to read zip entry content from given resource", e);
         }
@@ -113,6 +300,52 @@ public class ZipMessage extends DefaultMessage {
         return this;
     }
 
+    /**
+     * Sets the compression level (0-9 or -1 for default compression).
+     * @param compressionLevel
+     * @return
+     */
+    public ZipMessage compressionLevel(int compressionLevel) {
+        if ((compressionLevel < 0 || compressionLevel > 9) && compressionLevel != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid zip compression level: " + compressionLevel);
+        }
+
+        this.compressionLevel = compressionLevel;
+        return this;
+    }
+
+    /**
+     * Enables or disables streaming mode. In streaming mode the archive is written to a temporary file that is
+     * deleted when the message is closed or the test streaming the archive finishes.
+     * @param streaming
+     * @return
+     */
+    public synchronized ZipMessage streaming(boolean streaming) {
+        this.streaming = streaming;
+        if (streaming) {
+            archive = null;
+        } else {
+            deleteArchiveFile();
+        }
+        return this;
+    }
+
+    /**
+     * Gets the compression level.
+     * @return
+     */
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Gets the streaming mode.
+     * @return
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     /*
      * recursively add files to the zip files
      */
@@ -134,7 +367,9 @@ public class ZipMessage extends DefaultMessage {
             log.debug("Adding file to zip: " + name);
 
             zos.putNextEntry(new ZipEntry(name));
-            zos.write(entry.getContent());
+            try (InputStream in = entry.getInputStream()) {
+                StreamUtils.copy(in, zos);
+            }
             zos.closeEntry();
         }
     }
@@ -152,6 +387,9 @@ public class ZipMessage extends DefaultMessage {
         /** Binary content of this entry - empty for directories */
         private byte[] content;
 
+        /** Content source read when the archive is written - used when no binary content is set */
+        private Resource resource;
+
         /**
          * Constructor initializing name.
          * @param name
@@ -172,10 +410,20 @@ public class ZipMessage extends DefaultMessage {
                     entries.add(new Entry(child));
                 }
             } else {
-                this.content = FileCopyUtils.copyToByteArray(file);
+                this.resource = new FileSystemResource(file);
             }
         }
 
+        /**
+         * Constructor using name and content resource. Resource content is read when the archive is written.
+         * @param name
+         * @param resource
+         */
+        public Entry(String name, Resource resource) {
+            this(name);
+            this.resource = resource;
+        }
+
         /**
          * Gets the name.
          *
@@ -215,11 +463,19 @@ public class ZipMessage extends DefaultMessage {
 
 
         /**
-         * Gets the content.
+         * Gets the content. Reads the content resource if no binary content is set.
          *
          * @return
          */
         public byte[] getContent() {
+            if (content == null && resource != null) {
+                try (InputStream in = resource.getInputStream()) {
+                    return FileCopyUtils.copyToByteArray(in);
+                } catch (IOException e) {
+                    throw new CitrusRuntimeException("Failed to read zip entry content from resource: " + resource, e);
+                }
+            }
+
             return content;
         }
 
@@ -230,6 +486,126 @@ public class ZipMessage extends DefaultMessage {
          */
         public void setContent(byte[] content) {
             this.content = content;
+            this.resource = null;
+        }
+
+        /**
+         * Opens input stream on the entry content.
+         * @return
+         * @throws IOException
+         */
+        public InputStream getInputStream() throws IOException {
+            if (content == null && resource != null) {
+                return resource.getInputStream();
+            }
+
+            return new ByteArrayInputStream(content != null ? content : new byte[] {});
+        }
+
+        /**
+         * Adds name and content source of this entry and all child entries to given state. Binary content is
+         * added as array instance, so content changes need to be set with a new array.
+         * @param state
+         * @throws IOException
+         */
+        void addState(List<Object> state) throws IOException {
+            state.add(name);
+
+            if (content != null) {
+                state.add(content);
+            } else if (resource != null && resource.isFile()) {
+                File file = resource.getFile();
+                state.add(file.getAbsolutePath());
+                state.add(file.length());
+                state.add(file.lastModified());
+            } else {
+                state.add(resource);
+            }
+
+            state.add(entries.size());
+            for (Entry entry : entries) {
+                entry.addState(state);
+            }
+        }
+    }
+
+    /**
+     * Resource on the temporary archive file. The archive file is written again when it has been deleted in the
+     * meantime, e.g. when the message is sent again by a later test.
+     */
+    private class ArchiveResource extends AbstractResource {
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public boolean isFile() {
+            return true;
+        }
+
+        @Override
+        public File getFile() {
+            return getArchiveFile();
+        }
+
+        @Override
+        public long contentLength() {
+            return getArchiveFile().length();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return openArchive();
+        }
+
+        @Override
+        public String getDescription() {
+            return "zip message archive";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ArchiveResource && message() == ((ArchiveResource) other).message();
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(message());
+        }
+
+        private ZipMessage message() {
+            return ZipMessage.this;
+        }
+    }
+
+    /**
+     * Directory holding the temporary archive files of all zip messages. Archive files get deleted as soon as they
+     * are outdated, the message is closed or the test streaming the archive finishes. Files of messages that have
+     * been streamed outside of a test are removed with the directory on JVM shutdown.
+     */
+    private static final class TempArchives {
+        private static final Path DIRECTORY = createDirectory();
+
+        private static Path createDirectory() {
+            try {
+                Path directory = Files.createTempDirectory("citrus-zip-messages-");
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteDirectory(directory), "citrus-zip-message-cleanup"));
+                return directory;
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to create temporary directory for zip archives", e);
+            }
+        }
+
+        private static void deleteDirectory(Path directory) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                }
+                Files.deleteIfExists(directory);
+            } catch (IOException e) {
+                log.warn("Failed to delete temporary zip archives in: " + directory);
+            }
         }
     }
 }
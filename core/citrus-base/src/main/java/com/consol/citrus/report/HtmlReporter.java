@@ -22,10 +22,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.text.DateFormat;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.consol.citrus.TestCase;
 import com.consol.citrus.TestCaseMetaInfo;
@@ -49,7 +49,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
     private static Logger log = LoggerFactory.getLogger(HtmlReporter.class);
 
     /** Map holding additional information of test cases */
-    private Map<String, ResultDetail> details = new HashMap<>();
+    private final Map<String, ResultDetail> details = new ConcurrentHashMap<>();
 
     /** Static resource for the HTML test report template */
     private String reportTemplate = HtmlReporterSettings.getReportTemplate();
@@ -24,6 +24,8 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.TestCase;
@@ -38,8 +40,12 @@ import org.slf4j.LoggerFactory;
  * Test listener collects all messages sent and received by Citrus during test execution. Listener
  * writes a trace file with all message content per test case to a output directory.
  *
- * Note: This class is not thread safe! Parallel test execution leads to behaviour that messages get mixed.
- * Proper correlation to test case is not possible here.
+ * Messages are collected per test case instance. The test context a message has been exchanged in gets bound to the
+ * test that has been started on the current thread, or else to the earliest started test with the test name of the
+ * context. This way messages of actions running in other threads (e.g. async actions on pooled executor threads) get
+ * correlated to the right test case also when tests run in parallel. Messages of contexts without test name are traced
+ * with the test running at that time or with the next test to finish when several tests are running. Messages arriving
+ * after the test has finished are not traced.
  *
  * @author Christoph Deppisch
  * @since 1.2
@@ -55,8 +61,17 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     /** Output directory */
     private String outputDirectory = CitrusSettings.getMessageTraceDirectory();
 
-    /** List of messages to trace */
-    private final List<String> messages = new ArrayList<>();
+    /** Message traces of running tests in start order */
+    private final List<MessageTrace> traces = new ArrayList<>();
+
+    /** Message trace of the test started on the current thread */
+    private final ThreadLocal<MessageTrace> currentTrace = new ThreadLocal<>();
+
+    /** Message traces by test context the messages have been exchanged in */
+    private final Map<TestContext, MessageTrace> contextTraces = new WeakHashMap<>();
+
+    /** Messages that could not be correlated to a running test */
+    private final List<String> unassigned = new ArrayList<>();
 
     /** Locking object for synchronization */
     private final Object lockObject = new Object();
@@ -69,9 +84,11 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestStart(TestCase test) {
+        MessageTrace trace = new MessageTrace(test);
         synchronized (lockObject) {
-            messages.clear();
+            traces.add(trace);
         }
+        currentTrace.set(trace);
     }
 
     /**
@@ -79,18 +96,33 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestFinish(TestCase test) {
-        if (messages.isEmpty()) {
+        List<String> testMessages;
+        synchronized (lockObject) {
+            MessageTrace trace = traces.stream().filter(running -> running.test == test).findFirst().orElse(null);
+            if (trace != null) {
+                traces.remove(trace);
+                testMessages = trace.finish();
+            } else {
+                testMessages = new ArrayList<>();
+            }
+            testMessages.addAll(unassigned);
+            unassigned.clear();
+        }
+
+        if (currentTrace.get() != null && currentTrace.get().test == test) {
+            currentTrace.remove();
+        }
+
+        if (testMessages.isEmpty()) {
             return; // do not write empty message trace file
         }
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(getTraceFile(test.getName())))) {
             writer.write(separator() + newLine() + newLine());
 
-            synchronized (lockObject) {
-                for (String message : messages) {
-                    writer.write(message);
-                    writer.write(newLine() + separator() + newLine() + newLine());
-                }
+            for (String message : testMessages) {
+                writer.write(message);
+                writer.write(newLine() + separator() + newLine() + newLine());
             }
 
             writer.flush();
@@ -102,19 +134,82 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     @Override
     public void onInboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("INBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
-            }
+            trace(context, "INBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
         }
     }
 
     @Override
     public void onOutboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("OUTBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
+            trace(context, "OUTBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
+        }
+    }
+
+    /**
+     * Adds message to the trace of the test the given context belongs to.
+     * @param context
+     * @param message
+     */
+    private void trace(TestContext context, String message) {
+        synchronized (lockObject) {
+            MessageTrace trace = contextTraces.get(context);
+            if (trace == null) {
+                Object testName = context.getVariables() != null ? context.getVariables().get(CitrusSettings.TEST_NAME_VARIABLE) : null;
+                MessageTrace current = currentTrace.get();
+                if (testName == null) {
+                    if (current != null && !current.finished) {
+                        current.add(message);
+                    } else if (traces.size() == 1) {
+                        traces.get(0).add(message);
+                    } else {
+                        unassigned.add(message);
+                    }
+                    return;
+                }
+
+                if (current != null && !current.finished && testName.toString().equals(current.testName)) {
+                    trace = current;
+                } else {
+                    trace = findTrace(testName.toString());
+                }
+
+                if (trace == null) {
+                    LOG.debug(String.format("Unable to trace message of test '%s' that is not running", testName));
+                    return;
+                }
+
+                trace.bound = true;
+                contextTraces.put(context, trace);
+            }
+
+            if (trace.finished) {
+                LOG.debug(String.format("Unable to trace message of finished test '%s'", trace.testName));
+                return;
+            }
+
+            trace.add(message);
+        }
+    }
+
+    /**
+     * Finds trace of running test with given name. Prefers the earliest started test that is not bound to a test
+     * context yet so tests with same name running in parallel get their own trace.
+     * @param testName
+     * @return
+     */
+    private MessageTrace findTrace(String testName) {
+        MessageTrace found = null;
+        for (MessageTrace trace : traces) {
+            if (testName.equals(trace.testName)) {
+                if (!trace.bound) {
+                    return trace;
+                }
+
+                found = trace;
             }
         }
+
+        return found;
     }
 
     /**
@@ -164,4 +259,31 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     public void setOutputDirectory(String outputDirectory) {
         this.outputDirectory = outputDirectory;
     }
+
+    /**
+     * Messages collected for a running test.
+     */
+    private static class MessageTrace {
+        private final TestCase test;
+        private final String testName;
+        private final List<String> messages = new ArrayList<>();
+        private boolean bound;
+        private boolean finished;
+
+        MessageTrace(TestCase test) {
+            this.test = test;
+            this.testName = test.getName();
+        }
+
+        void add(String message) {
+            messages.add(message);
+        }
+
+        List<String> finish() {
+            finished = true;
+            List<String> traced = new ArrayList<>(messages);
+            messages.clear();
+            return traced;
+        }
+    }
 }
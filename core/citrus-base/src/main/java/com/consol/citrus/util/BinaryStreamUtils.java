@@ -0,0 +1,175 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.springframework.core.io.Resource;
+
+/**
+ * Utilities for comparing binary content as streams. Streams are read in fixed size chunks so
+ * binary payloads of any size are compared with constant memory. Comparison stops at the first mismatching byte.
+ *
+ * Binary content may also be compared to a precomputed digest given as expression in the form
+ * {@code {SHA-256}<hex digest>} where the algorithm is any algorithm supported by {@link MessageDigest}.
+ *
+ * @since 3.3
+ */
+public abstract class BinaryStreamUtils {
+
+    /** Default chunk size used to read streams */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /** Digest expression holding algorithm and hex encoded digest */
+    private static final Pattern DIGEST_EXPRESSION = Pattern.compile("^\\{([A-Za-z0-9-]+)}([0-9a-fA-F]+)$");
+
+    /**
+     * Opens input stream for given payload. Supports input streams, byte arrays, resources, files and paths. All other
+     * payload types are converted to an input stream with the default type converter.
+     * @param payload
+     * @return
+     * @throws IOException
+     */
+    public static InputStream getInputStream(Object payload) throws IOException {
+        if (payload instanceof Resource) {
+            return ((Resource) payload).getInputStream();
+        } else if (payload instanceof File) {
+            return Files.newInputStream(((File) payload).toPath());
+        } else if (payload instanceof Path) {
+            return Files.newInputStream((Path) payload);
+        }
+
+        return TypeConversionUtils.convertIfNecessary(payload, InputStream.class);
+    }
+
+    /**
+     * Checks if given payload is a file or resource that should be read as stream.
+     * @param payload
+     * @return
+     */
+    public static boolean isStreamSource(Object payload) {
+        return payload instanceof InputStream || payload instanceof Resource || payload instanceof File || payload instanceof Path;
+    }
+
+    /**
+     * Compares both streams chunk by chunk with default chunk size.
+     * @param received
+     * @param control
+     * @return offset of the first mismatching byte or -1 when both streams are equal.
+     * @throws IOException
+     */
+    public static long mismatch(InputStream received, InputStream control) throws IOException {
+        return mismatch(received, control, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Compares both streams chunk by chunk. Streams of different length mismatch at the end of the shorter stream.
+     * @param received
+     * @param control
+     * @param chunkSize
+     * @return offset of the first mismatching byte or -1 when both streams are equal.
+     * @throws IOException
+     */
+    public static long mismatch(InputStream received, InputStream control, int chunkSize) throws IOException {
+        byte[] receivedChunk = new byte[chunkSize];
+        byte[] controlChunk = new byte[chunkSize];
+
+        long offset = 0L;
+        while (true) {
+            int receivedLength = received.readNBytes(receivedChunk, 0, chunkSize);
+            int controlLength = control.readNBytes(controlChunk, 0, chunkSize);
+
+            int index = Arrays.mismatch(receivedChunk, 0, receivedLength, controlChunk, 0, controlLength);
+            if (index >= 0) {
+                return offset + index;
+            }
+
+            if (receivedLength < chunkSize) {
+                return -1L;
+            }
+
+            offset += receivedLength;
+        }
+    }
+
+    /**
+     * Checks if given control value is a digest expression.
+     * @param control
+     * @return
+     */
+    public static boolean isDigestExpression(String control) {
+        return control != null && DIGEST_EXPRESSION.matcher(control).matches();
+    }
+
+    /**
+     * Computes digest of given stream and compares it to the digest expression.
+     * @param received
+     * @param digestExpression
+     * @return
+     * @throws IOException
+     */
+    public static boolean matchesDigest(InputStream received, String digestExpression) throws IOException {
+        Matcher matcher = DIGEST_EXPRESSION.matcher(digestExpression);
+        if (!matcher.matches()) {
+            throw new CitrusRuntimeException(String.format("Invalid digest expression '%s' - " +
+                    "expected format is '{algorithm}hex-digest'", digestExpression));
+        }
+
+        return digest(received, matcher.group(1)).equalsIgnoreCase(matcher.group(2));
+    }
+
+    /**
+     * Computes the hex encoded digest of given stream.
+     * @param inputStream
+     * @param algorithm
+     * @return
+     * @throws IOException
+     */
+    public static String digest(InputStream inputStream, String algorithm) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException(String.format("Unsupported digest algorithm '%s'", algorithm), e);
+        }
+
+        byte[] chunk = new byte[DEFAULT_CHUNK_SIZE];
+        int read;
+        while ((read = inputStream.read(chunk)) != -1) {
+            digest.update(chunk, 0, read);
+        }
+
+        byte[] hash = digest.digest();
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return hex.toString();
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaders;
+import com.consol.citrus.message.ZipMessage;
 import com.consol.citrus.message.builder.DefaultHeaderBuilder;
 import com.consol.citrus.message.builder.DefaultHeaderDataBuilder;
 import com.consol.citrus.message.builder.DefaultPayloadBuilder;
@@ -56,7 +57,10 @@ public class StaticMessageBuilder extends DefaultMessageBuilder {
     @Override
     public Object buildMessagePayload(final TestContext context, final String messageType) {
         if (getPayloadBuilder() == null) {
-            this.setPayloadBuilder(new DefaultPayloadBuilder(message.getPayload()));
+            this.setPayloadBuilder(new DefaultPayloadBuilder(ZipMessage.getStreamingPayload(message, context)));
+        } else if (message instanceof ZipMessage && ((ZipMessage) message).isStreaming()) {
+            // archive resource is reused and written again if needed, so clean it up with this test as well
+            context.registerCloseable((ZipMessage) message);
         }
         return super.buildMessagePayload(context, messageType);
     }
@@ -36,7 +36,7 @@ public class DatePatternValidationMatcher implements ValidationMatcher {
 		String control = controlParameters.get(0);
     	SimpleDateFormat dateFormat;
     	try {
-    		dateFormat = new SimpleDateFormat(control);
+    		dateFormat = PatternCache.getDateFormat(control);
     	} catch (PatternSyntaxException e) {
     		throw new ValidationException(this.getClass().getSimpleName()
                     + " failed for field '" + fieldName + "' " + 
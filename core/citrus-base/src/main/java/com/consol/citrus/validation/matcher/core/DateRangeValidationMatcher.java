@@ -97,7 +97,7 @@ public class DateRangeValidationMatcher implements ValidationMatcher {
      * @return the calendar representation
      */
     protected Calendar toCalender(String date, String datePattern) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(datePattern);
+        SimpleDateFormat dateFormat = PatternCache.getDateFormat(datePattern);
         Calendar cal = Calendar.getInstance();
         try {
             cal.setTime(dateFormat.parse(date));
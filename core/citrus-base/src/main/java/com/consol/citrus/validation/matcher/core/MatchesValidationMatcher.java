@@ -35,7 +35,7 @@ public class MatchesValidationMatcher implements ValidationMatcher {
     	boolean success;
 
     	try {
-    		success = value.matches(control);
+    		success = PatternCache.getPattern(control).matcher(value).matches();
     	} catch (PatternSyntaxException e) {
     		throw new ValidationException(this.getClass().getSimpleName()
                     + " failed for field '" + fieldName
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.validation.matcher.core;
+
+import java.text.SimpleDateFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Caches compiled regular expression patterns and date formats by control value. Validation matchers receive the same
+ * control values over and over again when validating many messages, so patterns and date formats get compiled only once.
+ * Caches are cleared when the maximum size is exceeded in order to not grow unbounded with dynamic control values.
+ *
+ * @since 3.3
+ */
+public final class PatternCache {
+
+    /** Maximum number of cached entries per cache */
+    private static final int MAX_CACHE_SIZE = 1000;
+
+    /** Compiled patterns by regular expression */
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    /** Date format prototypes by date pattern */
+    private static final Map<String, SimpleDateFormat> DATE_FORMATS = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private PatternCache() {
+        super();
+    }
+
+    /**
+     * Gets compiled pattern for given regular expression.
+     * @param regex
+     * @return
+     * @throws java.util.regex.PatternSyntaxException if the expression is not a valid regular expression
+     */
+    public static Pattern getPattern(String regex) {
+        Pattern pattern = PATTERNS.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            put(PATTERNS, regex, pattern);
+        }
+
+        return pattern;
+    }
+
+    /**
+     * Gets a date format for given date pattern. Date formats are not thread safe so each call returns a copy of the
+     * cached prototype. Copying is way cheaper than compiling the pattern and loading the locale data again.
+     * @param datePattern
+     * @return
+     * @throws IllegalArgumentException if the date pattern is invalid
+     */
+    public static SimpleDateFormat getDateFormat(String datePattern) {
+        SimpleDateFormat prototype = DATE_FORMATS.get(datePattern);
+        if (prototype == null) {
+            prototype = new SimpleDateFormat(datePattern);
+            put(DATE_FORMATS, datePattern, prototype);
+        }
+
+        return (SimpleDateFormat) prototype.clone();
+    }
+
+    private static <T> void put(Map<String, T> cache, String key, T value) {
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+
+        cache.put(key, value);
+    }
+
+    /**
+     * Clears all cached patterns and date formats.
+     */
+    public static void clear() {
+        PATTERNS.clear();
+        DATE_FORMATS.clear();
+    }
+}
@@ -61,7 +61,7 @@ public class WeekdayValidationMatcher implements ValidationMatcher, ControlExpre
         }
 
         try {
-            dateFormat = new SimpleDateFormat(formatString);
+            dateFormat = PatternCache.getDateFormat(formatString);
         } catch (PatternSyntaxException e) {
             throw new ValidationException(this.getClass().getSimpleName() + " failed for field '" + fieldName + "' " +
                     ". Found invalid date format", e);
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.consol.citrus.actions.AbstractAsyncTestAction;
 import com.consol.citrus.actions.EchoAction;
@@ -30,6 +31,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.TestCaseFailedException;
 import com.consol.citrus.functions.core.CurrentDateFunction;
+import com.consol.citrus.util.RandomGenerator;
 import com.consol.citrus.util.TestUtils;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
@@ -49,6 +51,33 @@ public class TestCaseTest extends UnitTestSupport {
         testcase.execute(context);
     }
 
+    @Test
+    public void testRandomSeed() {
+        final TestCase testcase = new DefaultTestCase();
+        testcase.setName("MyTestCase");
+        testcase.addTestAction(new EchoAction.Builder().message("citrus:randomUUID()").build());
+
+        context.setRandomGenerator(new RandomGenerator(42L));
+        testcase.execute(context);
+
+        Assert.assertTrue(testcase.getTestResult().isSuccess());
+        Assert.assertEquals(testcase.getTestResult().getRandomSeed(), Long.valueOf(42L));
+    }
+
+    @Test
+    public void testCloseResourcesOnFinish() {
+        final TestCase testcase = new DefaultTestCase();
+        testcase.setName("MyTestCase");
+
+        AtomicBoolean closed = new AtomicBoolean();
+        testcase.addTestAction(action(context -> context.registerCloseable(() -> closed.set(true))).build());
+
+        testcase.execute(context);
+
+        Assert.assertTrue(testcase.getTestResult().isSuccess());
+        Assert.assertTrue(closed.get());
+    }
+
     @Test
     public void testWaitForFinish() {
         final TestCase testcase = new DefaultTestCase();
@@ -16,10 +16,17 @@
 
 package com.consol.citrus.actions;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.condition.Condition;
+import com.consol.citrus.condition.MessageCondition;
 import com.consol.citrus.container.Wait;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.DefaultMessageStore;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
@@ -143,6 +150,39 @@ public class WaitTest {
         assertConditionExecutedWithinSeconds(seconds);
     }
 
+    @Test
+    public void shouldSatisfySignalingConditionBeforeNextInterval() {
+        String seconds = "5";
+        String interval = "10000";
+
+        MessageCondition condition = new MessageCondition();
+        condition.setMessageName("greeting");
+        Wait testling = new Wait.Builder()
+                .condition(condition)
+                .interval(interval)
+                .seconds(Long.parseLong(seconds))
+                .build();
+
+        DefaultMessageStore messageStore = new DefaultMessageStore();
+        reset(contextMock);
+        prepareContextMock("5000", interval);
+        when(contextMock.replaceDynamicContentInString("greeting")).thenReturn("greeting");
+        when(contextMock.getMessageStore()).thenReturn(messageStore);
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> messageStore.storeMessage("greeting", new DefaultMessage("Hello")), 200L, TimeUnit.MILLISECONDS);
+
+            startTimer();
+            testling.execute(contextMock);
+            stopTimer();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertConditionExecutedWithinSeconds("1");
+    }
+
     private void prepareContextMock(String waitTime, String interval) {
         when(contextMock.replaceDynamicContentInString(waitTime)).thenReturn(waitTime);
         when(contextMock.replaceDynamicContentInString(interval)).thenReturn(interval);
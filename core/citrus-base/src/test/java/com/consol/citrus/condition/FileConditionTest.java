@@ -16,9 +16,17 @@
 
 package com.consol.citrus.condition;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.UnitTestSupport;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -54,4 +62,48 @@ public class FileConditionTest extends UnitTestSupport {
 
         assertFalse(condition.isSatisfied(context));
     }
+
+    @Test
+    public void testStableTime() throws IOException {
+        File file = Files.createTempFile("citrus-file-condition", ".txt").toFile();
+        file.deleteOnExit();
+
+        FileCondition stableCondition = new FileCondition();
+        stableCondition.setFile(file);
+        stableCondition.setStableTime("60000");
+
+        assertTrue(file.setLastModified(System.currentTimeMillis()));
+        assertFalse(stableCondition.isSatisfied(context));
+
+        assertTrue(file.setLastModified(System.currentTimeMillis() - 120000L));
+        assertTrue(stableCondition.isSatisfied(context));
+    }
+
+    @Test
+    public void testSignalOnFileCreation() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("citrus-file-condition");
+        File file = directory.resolve("output.txt").toFile();
+
+        FileCondition watchedCondition = new FileCondition();
+        watchedCondition.setFile(file);
+
+        int watchedDirectories = FileWatcher.getInstance().getWatchedDirectories();
+        CountDownLatch signal = new CountDownLatch(1);
+        SignalingCondition.Registration registration = watchedCondition.register(context, signal::countDown);
+        try {
+            assertEquals(FileWatcher.getInstance().getWatchedDirectories(), watchedDirectories + 1);
+            assertFalse(watchedCondition.isSatisfied(context));
+
+            Files.write(file.toPath(), "Hello".getBytes());
+
+            assertTrue(signal.await(30L, TimeUnit.SECONDS));
+            assertTrue(watchedCondition.isSatisfied(context));
+        } finally {
+            registration.close();
+            Files.deleteIfExists(file.toPath());
+            Files.deleteIfExists(directory);
+        }
+
+        assertEquals(FileWatcher.getInstance().getWatchedDirectories(), watchedDirectories);
+    }
 }
@@ -60,6 +60,22 @@ public class IterateTest extends UnitTestSupport {
         };
     }
 
+    @Test
+    public void testTypedIndex() {
+        reset(action);
+
+        Iterate iterate = new Iterate.Builder()
+                .condition("i lt= 3")
+                .index("i")
+                .actions(() -> action)
+                .build();
+        iterate.execute(context);
+
+        Assert.assertEquals(context.getVariableObject("i"), 3);
+        Assert.assertEquals(context.getLongVariable("i"), 3L);
+        Assert.assertEquals(context.getVariable("i"), "3");
+    }
+
     @Test
     public void testStep() {
         reset(action);
@@ -53,6 +53,30 @@ public class TestContextTest extends UnitTestSupport {
 
     private final GlobalVariables globalVariables = new GlobalVariables();
 
+    @Test
+    public void testTypedVariables() {
+        context.setVariable("count", 42L);
+        context.setVariable("ratio", 0.5D);
+        context.setVariable("enabled", true);
+        context.setVariable("text", "7");
+
+        Assert.assertEquals(context.getVariableObject("count"), 42L);
+        Assert.assertEquals(context.getLongVariable("count"), 42L);
+        Assert.assertEquals(context.getLongVariable("${count}"), 42L);
+        Assert.assertEquals(context.getDoubleVariable("ratio"), 0.5D);
+        Assert.assertEquals(context.getDoubleVariable("count"), 42D);
+        Assert.assertTrue(context.getBooleanVariable("enabled"));
+        Assert.assertEquals(context.getLongVariable("text"), 7L);
+        Assert.assertEquals(context.getVariable("count"), "42");
+
+        try {
+            context.getLongVariable("enabled");
+            fail("Missing exception due to invalid long value");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("not a valid long value"));
+        }
+    }
+
     @Test
     public void testDefaultVariables() {
         globalVariables.getVariables().put("defaultVar", "123");
@@ -122,6 +146,64 @@ public class TestContextTest extends UnitTestSupport {
         Assert.assertEquals(testContext.getVariables().get("defaultVar"), "123");
     }
 
+    @Test
+    public void testSharedSuiteScope() {
+        TestContextFactory factory = TestContextFactory.newInstance();
+        factory.getGlobalVariables().getVariables().put("globalVar", "foo");
+
+        TestContext context1 = factory.getObject();
+        TestContext context2 = factory.getObject();
+
+        Assert.assertNotNull(factory.getSuiteScope().getSharedGlobalVariables());
+        Assert.assertSame(factory.getSuiteScope(), factory.getSuiteScope());
+        Assert.assertSame(context1.getFunctionRegistry(), context2.getFunctionRegistry());
+        Assert.assertSame(context1.getSegmentVariableExtractorRegistry(), context2.getSegmentVariableExtractorRegistry());
+        Assert.assertNotSame(context1.getMessageStore(), context2.getMessageStore());
+
+        context1.setVariable("globalVar", "bar");
+        context1.setVariable("localVar", "baz");
+        Assert.assertEquals(context1.getVariable("globalVar"), "bar");
+        Assert.assertEquals(context2.getVariable("globalVar"), "foo");
+        Assert.assertFalse(context2.getVariables().containsKey("localVar"));
+        Assert.assertEquals(context1.getVariables().size(), 2);
+
+        context1.getVariables().remove("globalVar");
+        Assert.assertFalse(context1.getVariables().containsKey("globalVar"));
+        Assert.assertEquals(context1.getVariables().keySet(), Collections.singleton("localVar"));
+        Assert.assertEquals(context2.getVariable("globalVar"), "foo");
+        Assert.assertEquals(factory.getGlobalVariables().getVariables().get("globalVar"), "foo");
+
+        context1.clear();
+        Assert.assertEquals(context1.getVariables(), Collections.singletonMap("globalVar", "foo"));
+
+        SuiteScope scope = factory.getSuiteScope();
+        factory.getGlobalVariables().getVariables().put("otherVar", "123");
+        Assert.assertNotSame(factory.getSuiteScope(), scope);
+        Assert.assertEquals(factory.getObject().getVariable("otherVar"), "123");
+
+        factory.getGlobalVariables().getVariables().put("globalVar", "changed");
+        Assert.assertEquals(factory.getObject().getVariable("globalVar"), "changed");
+
+        factory.getGlobalVariables().getVariables().remove("otherVar");
+        factory.getGlobalVariables().getVariables().put("newVar", "456");
+        TestContext context3 = factory.getObject();
+        Assert.assertFalse(context3.getVariables().containsKey("otherVar"));
+        Assert.assertEquals(context3.getVariable("newVar"), "456");
+    }
+
+    @Test
+    public void testSuiteScopeDynamicGlobalVariables() {
+        TestContextFactory factory = TestContextFactory.newInstance();
+        factory.getGlobalVariables().getVariables().put("globalVar", "foo");
+        factory.getGlobalVariables().getVariables().put("dynamicVar", "${globalVar}bar");
+
+        Assert.assertNull(factory.getSuiteScope().getSharedGlobalVariables());
+
+        TestContext context = factory.getObject();
+        Assert.assertEquals(context.getVariable("dynamicVar"), "foobar");
+        Assert.assertEquals(context.getGlobalVariables().get("dynamicVar"), "foobar");
+    }
+
     @Test
     public void testGetVariable() {
         context.getVariables().put("test", "123");
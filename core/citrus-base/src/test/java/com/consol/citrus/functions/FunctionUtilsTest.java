@@ -17,6 +17,8 @@
 package com.consol.citrus.functions;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
@@ -82,6 +84,52 @@ public class FunctionUtilsTest extends UnitTestSupport {
         Assert.assertEquals(FunctionUtils.resolveFunction("citrus:concat('Hello Yes, I like Citrus, and this is great!', 'Hello Yes,we like Citrus, and this is great!')", context), "Hello Yes, I like Citrus, and this is great!Hello Yes,we like Citrus, and this is great!");
     }
 
+    @Test
+    public void testReplaceFunctionsOfMultipleLibraries() {
+        FunctionLibrary customLibrary = new FunctionLibrary();
+        customLibrary.setPrefix("custom:");
+        customLibrary.getMembers().put("greet", (PureFunction) (parameterList, context) -> "Hello " + parameterList.get(0));
+        context.getFunctionRegistry().addFunctionLibrary(customLibrary);
+
+        Assert.assertEquals(FunctionUtils.replaceFunctionsInString("custom:greet('Citrus') and citrus:upperCase('citrus')", context), "Hello Citrus and CITRUS");
+        Assert.assertEquals(FunctionUtils.replaceFunctionsInString("citrus:concat(custom:greet('Citrus'), '!')", context), "Hello Citrus!");
+        Assert.assertEquals(FunctionUtils.replaceFunctionsInString("custom:greet('Citrus')", context, true), "'Hello Citrus'");
+    }
+
+    @Test
+    public void testPureFunctionResultMemoized() {
+        AtomicInteger invocations = new AtomicInteger();
+        FunctionLibrary customLibrary = new FunctionLibrary();
+        customLibrary.setPrefix("custom:");
+        customLibrary.getMembers().put("pure", (PureFunction) (parameterList, context) -> parameterList.get(0) + invocations.incrementAndGet());
+        customLibrary.getMembers().put("impure", (parameterList, context) -> parameterList.get(0) + invocations.incrementAndGet());
+        context.getFunctionRegistry().addFunctionLibrary(customLibrary);
+
+        Assert.assertEquals(FunctionUtils.resolveFunction("custom:pure('a')", context), "a1");
+        Assert.assertEquals(FunctionUtils.resolveFunction("custom:pure('a')", context), "a1");
+        Assert.assertEquals(FunctionUtils.resolveFunction("custom:impure('a')", context), "a2");
+        Assert.assertEquals(FunctionUtils.resolveFunction("custom:impure('a')", context), "a3");
+
+        context.setVariable("value", "a");
+        Assert.assertEquals(FunctionUtils.resolveFunction("custom:pure(${value})", context), "a4");
+        Assert.assertEquals(FunctionUtils.resolveFunction("custom:pure(${value})", context), "a5");
+
+        Assert.assertEquals(FunctionUtils.resolveFunction("custom:pure('a')", testContextFactory.getObject()), "a6");
+    }
+
+    @Test
+    public void testFunctionCallCached() {
+        FunctionCall functionCall = context.getFunctionRegistry().getFunctionCall("citrus:concat('Hello', ' TestFramework!')");
+        Assert.assertSame(context.getFunctionRegistry().getFunctionCall("citrus:concat('Hello', ' TestFramework!')"), functionCall);
+        Assert.assertEquals(functionCall.getPrefix(), "citrus:");
+        Assert.assertEquals(functionCall.getName(), "concat");
+        Assert.assertTrue(functionCall.isConstant());
+        Assert.assertEquals(functionCall.getParameters(), List.of("Hello", " TestFramework!"));
+
+        Assert.assertFalse(context.getFunctionRegistry().getFunctionCall("citrus:concat('Hello', ${text})").isConstant());
+        Assert.assertFalse(context.getFunctionRegistry().getFunctionCall("citrus:concat('Hello', citrus:upperCase('x'))").isConstant());
+    }
+
     @Test(expectedExceptions = {InvalidFunctionUsageException.class})
     public void testInvalidFunction() {
         FunctionUtils.resolveFunction("citrus:citrus", context);
@@ -16,6 +16,8 @@
 
 package com.consol.citrus.functions.core;
 
+import java.time.Clock;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Collections;
 
@@ -177,6 +179,28 @@ public class ChangeDateFunctionTest extends UnitTestSupport {
                 String.format("%1$tY-%1$tm-%1$td %1$tH:%1$tM:%1$tS", c));
     }
 
+    @Test
+    public void testDatePatterns() {
+        Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'2020-01-31', '+1M', 'yyyy-MM-dd'"), context), "2020-02-29");
+        Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'2020-01-31T11:15:00', '+1h', 'yyyy-MM-dd'T'hh:mm:ss'"), context), "2020-01-31T12:15:00");
+        Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'23:59', '+1m', 'HH:mm'"), context), "00:00");
+
+        context.setClock(Clock.system(ZoneId.of("+01:00")));
+        try {
+            Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'2020-01-31+01:00', '+1d', 'yyyy-MM-ddXXX'"), context), "2020-02-01+01:00");
+        } finally {
+            context.setClock(Clock.systemDefaultZone());
+        }
+    }
+
+    @Test
+    public void testLenientDateParsing() {
+        Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'1.2.2020', '+1d'"), context), "02.02.2020");
+        Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'32.01.2020', '+0d'"), context), "01.02.2020");
+        Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'01.02.20', '+1y'"), context), "01.02.0021");
+        Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'2020-01-31 11:15:00.5', '+1s', 'yyyy-MM-dd HH:mm:ss.S'"), context), "2020-01-31 11:15:01.5");
+    }
+
     @Test(expectedExceptions = {CitrusRuntimeException.class})
     public void testWrongDateFormatUsage() {
         function.execute(FunctionParameterHelper.getParameterList("'1970-01-01', '+1y'"), context);
@@ -16,6 +16,10 @@
 
 package com.consol.citrus.functions.core;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Collections;
 
@@ -118,6 +122,34 @@ public class CurrentDateFunctionTest extends UnitTestSupport {
         Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'yyyy-MM-dd HH:mm:ss', '+1y-1M-1d'"), context), String.format("%1$tY-%1$tm-%1$td %1$tH:%1$tM:%1$tS", c));
     }
 
+    @Test
+    public void testClock() {
+        context.setClock(Clock.fixed(Instant.parse("2020-02-28T22:30:00Z"), ZoneId.of("UTC")));
+        try {
+            Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'yyyy-MM-dd HH:mm:ss'"), context), "2020-02-28 22:30:00");
+            Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'yyyy-MM-dd HH:mm:ss', '+1d+2h'"), context), "2020-03-01 00:30:00");
+            Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'yyyy-MM-dd'T'hh:mm:ss a'"), context).toUpperCase(), "2020-02-28T10:30:00 PM");
+
+            context.setClock(Clock.offset(context.getClock(), Duration.ofDays(-1)));
+            Assert.assertEquals(function.execute(Collections.emptyList(), context), "27.02.2020");
+        } finally {
+            context.setClock(Clock.systemDefaultZone());
+        }
+    }
+
+    @Test
+    public void testSimpleDateFormatPatterns() {
+        context.setClock(Clock.fixed(Instant.parse("2020-02-28T22:30:00.042Z"), ZoneId.of("UTC")));
+        try {
+            Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'u'"), context), "5");
+            Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'yyyy-MM-dd u'"), context), "2020-02-28 5");
+            Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'HH:mm:ss.S'"), context), "22:30:00.42");
+            Assert.assertEquals(function.execute(FunctionParameterHelper.getParameterList("'HH:mm:ss.SSS'"), context), "22:30:00.042");
+        } finally {
+            context.setClock(Clock.systemDefaultZone());
+        }
+    }
+
     @Test(expectedExceptions = {IllegalArgumentException.class})
     public void testWrongParameterUsage() {
         function.execute(Collections.singletonList("no date format string"), context);
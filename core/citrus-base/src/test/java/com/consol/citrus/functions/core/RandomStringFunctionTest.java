@@ -22,6 +22,7 @@ import java.util.List;
 
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
+import com.consol.citrus.util.RandomGenerator;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -31,6 +32,20 @@ import org.testng.annotations.Test;
 public class RandomStringFunctionTest extends UnitTestSupport {
     private RandomStringFunction function = new RandomStringFunction();
 
+    @Test
+    public void testSeededFunction() {
+        List<String> params = new ArrayList<>();
+        params.add("20");
+        params.add("MIXED");
+        params.add("true");
+
+        context.setRandomGenerator(new RandomGenerator(42L));
+        String generated = function.execute(params, context);
+
+        context.setRandomGenerator(new RandomGenerator(42L));
+        Assert.assertEquals(function.execute(params, context), generated);
+    }
+
     @Test
     public void testFunction() {
         List<String> params = new ArrayList<String>();
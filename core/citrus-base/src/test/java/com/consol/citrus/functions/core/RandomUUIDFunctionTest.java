@@ -19,6 +19,7 @@ package com.consol.citrus.functions.core;
 import java.util.Collections;
 
 import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.util.RandomGenerator;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -33,4 +34,14 @@ public class RandomUUIDFunctionTest extends UnitTestSupport {
         Assert.assertNotNull(function.execute(Collections.<String>emptyList(), context));
     }
 
+    @Test
+    public void testSeededFunction() {
+        context.setRandomGenerator(new RandomGenerator(42L));
+        String uuid = function.execute(Collections.<String>emptyList(), context);
+
+        context.setRandomGenerator(new RandomGenerator(42L));
+        Assert.assertEquals(function.execute(Collections.<String>emptyList(), context), uuid);
+        Assert.assertNotEquals(function.execute(Collections.<String>emptyList(), context), uuid);
+    }
+
 }
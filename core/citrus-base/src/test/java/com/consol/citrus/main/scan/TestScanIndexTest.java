@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main.scan;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.TestClass;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestScanIndexTest {
+
+    @Test
+    public void shouldLoadIndexForUnchangedArtifact() throws IOException {
+        Path classes = Files.createTempDirectory("test-classes");
+        Files.write(classes.resolve("FooIT.class"), "foo".getBytes(StandardCharsets.UTF_8));
+
+        TestScanIndex index = new TestScanIndex(classes.toFile());
+        Assert.assertFalse(index.get("foo").isPresent());
+        index.put("foo", Arrays.asList("com.consol.citrus.FooIT", "com.consol.citrus.BarIT"));
+        index.put("bar", Collections.emptyList());
+        index.save();
+
+        Assert.assertTrue(TestScanIndex.getIndexFile(classes.toFile()).isFile());
+
+        TestScanIndex reloaded = new TestScanIndex(classes.toFile());
+        Assert.assertEquals(reloaded.getFingerprint(), index.getFingerprint());
+        Assert.assertEquals(reloaded.get("foo"), Optional.of(Arrays.asList("com.consol.citrus.FooIT", "com.consol.citrus.BarIT")));
+        Assert.assertEquals(reloaded.get("bar"), Optional.of(Collections.emptyList()));
+        Assert.assertFalse(reloaded.get("unknown").isPresent());
+    }
+
+    @Test
+    public void shouldDiscardIndexForChangedArtifact() throws IOException {
+        Path classes = Files.createTempDirectory("test-classes");
+        Files.write(classes.resolve("FooIT.class"), "foo".getBytes(StandardCharsets.UTF_8));
+
+        TestScanIndex index = new TestScanIndex(classes.toFile());
+        index.put("foo", Collections.singletonList("com.consol.citrus.FooIT"));
+        index.save();
+
+        Files.write(classes.resolve("BarIT.class"), "bar".getBytes(StandardCharsets.UTF_8));
+
+        TestScanIndex reloaded = new TestScanIndex(classes.toFile());
+        Assert.assertNotEquals(reloaded.getFingerprint(), index.getFingerprint());
+        Assert.assertFalse(reloaded.get("foo").isPresent());
+    }
+
+    @Test
+    public void shouldIndexJarFileScan() throws IOException {
+        File jarFile = Files.createTempFile("tests", ".jar").toFile();
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile.toPath()))) {
+            for (String entry : Arrays.asList("com/consol/citrus/FooIT.class", "com/consol/citrus/Helper.class", "org/sample/BarIT.class")) {
+                jar.putNextEntry(new JarEntry(entry));
+                jar.write(new byte[] { 0 });
+                jar.closeEntry();
+            }
+        }
+
+        List<String> tests = new JarFileTestScanner(jarFile).findTestsInPackage("com.consol.citrus")
+                .stream()
+                .map(TestClass::getName)
+                .collect(Collectors.toList());
+        Assert.assertEquals(tests, Collections.singletonList("com.consol.citrus.FooIT"));
+
+        TestScanIndex index = new TestScanIndex(jarFile);
+        Assert.assertEquals(index.get(new JarFileTestScanner(jarFile).getIndexKey("com.consol.citrus")),
+                Optional.of(Collections.singletonList("com.consol.citrus.FooIT")));
+    }
+
+    @Test
+    public void shouldReuseIndexForUnchangedJarFile() throws IOException {
+        File jarFile = Files.createTempFile("tests", ".jar").toFile();
+        Files.write(jarFile.toPath(), new byte[] { 1, 2, 3 });
+
+        TestScanIndex index = TestScanIndex.forArtifact(jarFile);
+        Assert.assertSame(TestScanIndex.forArtifact(jarFile), index);
+
+        Files.write(jarFile.toPath(), new byte[] { 1, 2, 3, 4 });
+        TestScanIndex changed = TestScanIndex.forArtifact(jarFile);
+        Assert.assertNotSame(changed, index);
+        Assert.assertNotEquals(changed.getFingerprint(), index.getFingerprint());
+    }
+}
@@ -16,18 +16,24 @@
 
 package com.consol.citrus.message;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.util.FileUtils;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.util.FileCopyUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 
 /**
  * @author Christoph Deppisch
@@ -120,6 +126,111 @@ public class ZipMessageTest {
         Assert.assertEquals(FileUtils.readToString(zipFile.getInputStream(new ZipEntry("bars/bar.txt"))), "Bar!");
     }
 
+    @Test
+    public void testArchiveReuse() throws Exception {
+        ZipMessage message = new ZipMessage();
+        message.addEntry("foo.txt", "Foo!".getBytes());
+
+        byte[] payload = message.getPayload();
+        Assert.assertNotSame(message.getPayload(), payload);
+        Assert.assertEquals(message.getPayload(), payload);
+
+        // payload is a copy so modifications do not affect the cached archive
+        payload[0] = 0;
+        Assert.assertNotEquals(message.getPayload()[0], payload[0]);
+
+        message.addEntry("bar.txt", "Bar!".getBytes());
+        byte[] changed = message.getPayload();
+        Assert.assertNotEquals(changed.length, payload.length);
+
+        message.compressionLevel(Deflater.NO_COMPRESSION);
+        Assert.assertNotEquals(message.getPayload().length, changed.length);
+    }
+
+    @Test
+    public void testStreamingPayload() throws Exception {
+        ZipMessage message = new ZipMessage()
+                .streaming(true)
+                .compressionLevel(Deflater.BEST_COMPRESSION);
+        message.addEntry(new ClassPathResource("com/consol/citrus/archive"));
+        message.addEntry("foos/foo.txt", "Foo!".getBytes());
+
+        Resource archive = message.getPayload(Resource.class);
+        Assert.assertTrue(archive.isFile());
+        File archiveFile = archive.getFile();
+        Assert.assertEquals(message.getPayload(Resource.class).getFile(), archiveFile);
+        Assert.assertEquals(message.getPayload().length, archive.contentLength());
+
+        int entries = 0;
+        try (ZipInputStream zis = new ZipInputStream(message.getPayload(InputStream.class))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                entries++;
+                if (entry.getName().equals("foos/foo.txt")) {
+                    Assert.assertEquals(FileUtils.readToString(zis), "Foo!");
+                }
+            }
+        }
+        Assert.assertEquals(entries, 6);
+
+        message.addEntry("bar.txt", "Bar!".getBytes());
+        File changed = archive.getFile();
+        Assert.assertNotEquals(changed, archiveFile);
+        Assert.assertFalse(archiveFile.exists());
+
+        message.close();
+        Assert.assertFalse(changed.exists());
+
+        // resource writes the archive again when the file has been deleted
+        Assert.assertTrue(FileCopyUtils.copyToByteArray(archive.getInputStream()).length > 0);
+        Assert.assertTrue(archive.getFile().exists());
+
+        File current = archive.getFile();
+        message.streaming(false);
+        Assert.assertFalse(current.exists());
+    }
+
+    @Test
+    public void testStreamingPayloadCleanupWithTest() throws Exception {
+        ZipMessage message = new ZipMessage().streaming(true);
+        message.addEntry("foo.txt", "Foo!".getBytes());
+
+        TestContext context = new TestContext();
+        Object payload = ZipMessage.getStreamingPayload(message, context);
+        Assert.assertTrue(payload instanceof Resource);
+
+        File archiveFile = ((Resource) payload).getFile();
+        Assert.assertTrue(archiveFile.exists());
+
+        context.closeResources();
+        Assert.assertFalse(archiveFile.exists());
+
+        Assert.assertTrue(ZipMessage.getStreamingPayload(new ZipMessage().addEntry("foo.txt", "Foo!".getBytes()), context) instanceof byte[]);
+    }
+
+    @Test
+    public void testArchiveReuseWithoutReadingContent() throws Exception {
+        Resource content = new ByteArrayResource("Foo!".getBytes()) {
+            private int reads;
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                reads++;
+                Assert.assertEquals(reads, 1L, "Resource content must be read only when the archive is written");
+                return super.getInputStream();
+            }
+        };
+
+        ZipMessage message = new ZipMessage().addEntry(new ZipMessage.Entry("foo.txt", content));
+        byte[] payload = message.getPayload();
+        Assert.assertEquals(message.getPayload(), payload);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidCompressionLevel() {
+        new ZipMessage().compressionLevel(10);
+    }
+
     private Path createTempDir() throws IOException {
         Path tempDir = Files.createTempDirectory("citrus-core-");
         tempDir.toFile().deleteOnExit();
@@ -19,8 +19,11 @@ package com.consol.citrus.report;
 import java.io.File;
 import java.io.IOException;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.TestCase;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.message.RawMessage;
 import org.testng.Assert;
@@ -68,6 +71,115 @@ public class MessageTracingTestListenerTest extends UnitTestSupport {
         assertFileExistsWithContent(testname, outboundPayload);
     }
 
+    @Test
+    public void shouldCorrelateMessagesByTest() throws Exception {
+        TestContext fooContext = testContextFactory.getObject();
+        fooContext.setVariable(CitrusSettings.TEST_NAME_VARIABLE, "FooTracingTest");
+        TestContext barContext = testContextFactory.getObject();
+        barContext.setVariable(CitrusSettings.TEST_NAME_VARIABLE, "BarTracingTest");
+
+        TestCase fooTest = setupTestCaseMock("FooTracingTest");
+        TestCase barTest = setupTestCaseMock("BarTracingTest");
+        RawMessage fooMessage = mock(RawMessage.class);
+        when(fooMessage.print(fooContext)).thenReturn("Foo Message");
+        RawMessage barMessage = mock(RawMessage.class);
+        when(barMessage.print(barContext)).thenReturn("Bar Message");
+
+        testling.onTestStart(fooTest);
+        testling.onTestStart(barTest);
+
+        // messages exchanged on other threads belong to the test of the context
+        CompletableFuture.runAsync(() -> testling.onOutboundMessage(barMessage, barContext)).get();
+        CompletableFuture.runAsync(() -> testling.onInboundMessage(fooMessage, fooContext)).get();
+
+        testling.onTestFinish(fooTest);
+        testling.onTestFinish(barTest);
+
+        assertFileExistsWithContent("FooTracingTest", "Foo Message");
+        assertFileNotContains("FooTracingTest", "Bar Message");
+        assertFileExistsWithContent("BarTracingTest", "Bar Message");
+        assertFileNotContains("BarTracingTest", "Foo Message");
+    }
+
+    @Test
+    public void shouldSeparateTestsWithSameName() throws Exception {
+        TestContext firstContext = testContextFactory.getObject();
+        firstContext.setVariable(CitrusSettings.TEST_NAME_VARIABLE, "SameNameTracingTest");
+        TestContext secondContext = testContextFactory.getObject();
+        secondContext.setVariable(CitrusSettings.TEST_NAME_VARIABLE, "SameNameTracingTest");
+
+        TestCase firstTest = setupTestCaseMock("SameNameTracingTest");
+        TestCase secondTest = setupTestCaseMock("SameNameTracingTest");
+        RawMessage firstMessage = mock(RawMessage.class);
+        when(firstMessage.print(firstContext)).thenReturn("First Message");
+        RawMessage secondMessage = mock(RawMessage.class);
+        when(secondMessage.print(secondContext)).thenReturn("Second Message");
+
+        // each test runs on its own thread
+        runInThread(() -> {
+            testling.onTestStart(firstTest);
+            testling.onOutboundMessage(firstMessage, firstContext);
+        });
+        runInThread(() -> {
+            testling.onTestStart(secondTest);
+            testling.onOutboundMessage(secondMessage, secondContext);
+        });
+        CompletableFuture.runAsync(() -> testling.onInboundMessage(firstMessage, firstContext)).get();
+
+        testling.onTestFinish(firstTest);
+        assertFileExistsWithContent("SameNameTracingTest", "First Message");
+        assertFileNotContains("SameNameTracingTest", "Second Message");
+
+        testling.onTestFinish(secondTest);
+        assertFileExistsWithContent("SameNameTracingTest", "Second Message");
+        assertFileNotContains("SameNameTracingTest", "First Message");
+    }
+
+    @Test
+    public void shouldIgnoreMessagesAfterTestFinished() throws Exception {
+        TestContext lateContext = testContextFactory.getObject();
+        lateContext.setVariable(CitrusSettings.TEST_NAME_VARIABLE, "FinishedTracingTest");
+        TestContext nextContext = testContextFactory.getObject();
+        nextContext.setVariable(CitrusSettings.TEST_NAME_VARIABLE, "NextTracingTest");
+
+        TestCase finishedTest = setupTestCaseMock("FinishedTracingTest");
+        TestCase nextTest = setupTestCaseMock("NextTracingTest");
+        RawMessage message = mock(RawMessage.class);
+        when(message.print(lateContext)).thenReturn("Traced Message");
+        RawMessage lateMessage = mock(RawMessage.class);
+        when(lateMessage.print(lateContext)).thenReturn("Late Message");
+        RawMessage nextMessage = mock(RawMessage.class);
+        when(nextMessage.print(nextContext)).thenReturn("Next Message");
+
+        testling.onTestStart(finishedTest);
+        testling.onOutboundMessage(message, lateContext);
+        testling.onTestFinish(finishedTest);
+
+        testling.onTestStart(nextTest);
+        CompletableFuture.runAsync(() -> testling.onInboundMessage(lateMessage, lateContext)).get();
+        testling.onOutboundMessage(nextMessage, nextContext);
+        testling.onTestFinish(nextTest);
+
+        assertFileExistsWithContent("FinishedTracingTest", "Traced Message");
+        assertFileNotContains("FinishedTracingTest", "Late Message");
+        assertFileExistsWithContent("NextTracingTest", "Next Message");
+        assertFileNotContains("NextTracingTest", "Late Message");
+    }
+
+    private void runInThread(Runnable runnable) throws InterruptedException {
+        Thread thread = new Thread(runnable);
+        thread.start();
+        thread.join();
+    }
+
+    private void assertFileNotContains(String testname, String content) {
+        try (Scanner scanner = new Scanner(testling.getTraceFile(testname))) {
+            Assert.assertFalse(scanner.useDelimiter("\\Z").next().contains(content));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private TestCase setupTestCaseMock(String testname) {
         TestCase mock = mock(TestCase.class);
         when(mock.getName()).thenReturn(testname);
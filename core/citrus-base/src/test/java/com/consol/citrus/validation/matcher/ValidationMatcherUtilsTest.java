@@ -17,14 +17,21 @@
 package com.consol.citrus.validation.matcher;
 
 import java.util.Collections;
+import java.util.Optional;
 
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.ValidationException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -81,4 +88,34 @@ public class ValidationMatcherUtilsTest extends UnitTestSupport {
         verify(validationMatcher, times(3)).validate("field", "value", Collections.singletonList("value"), context);
         verify(validationMatcher).validate("field", "prefix:value", Collections.singletonList("prefix:value"), context);
     }
+
+    @Test
+    public void testMatcherTimings() {
+        reset(validationMatcher);
+        ValidationMatcherUtils.clearCache();
+
+        context.setVariable("expected", "value");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('${expected}')@", context);
+        context.setVariable("expected", "other");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('${expected}')@", context);
+
+        verify(validationMatcher).validate("field", "value", Collections.singletonList("value"), context);
+        verify(validationMatcher).validate("field", "value", Collections.singletonList("other"), context);
+
+        doThrow(new ValidationException("Failed")).when(validationMatcher).validate(eq("field"), eq("invalid"), anyList(), any());
+        try {
+            ValidationMatcherUtils.resolveValidationMatcher("field", "invalid", "@foo:customMatcher('value')@", context);
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertEquals(e.getMessage(), "Failed");
+        }
+
+        Optional<ValidationMatcherUtils.MatcherTiming> timing = ValidationMatcherUtils.getMatcherTimings().stream()
+                .filter(t -> t.getName().equals("foo:customMatcher"))
+                .findFirst();
+        Assert.assertTrue(timing.isPresent());
+        Assert.assertEquals(timing.get().getValidations(), 3L);
+        Assert.assertEquals(timing.get().getFailures(), 1L);
+        Assert.assertTrue(ValidationMatcherUtils.getMatcherReport().contains("foo:customMatcher, 3, 1"));
+    }
 }
@@ -42,6 +42,17 @@ public class MatchesValidationMatcherTest extends UnitTestSupport {
     	assertException("field", "aaaab", Arrays.asList("aaab*"));
     }
 
+    @Test
+    public void testPatternCache() {
+        Assert.assertSame(PatternCache.getPattern("a*b"), PatternCache.getPattern("a*b"));
+        Assert.assertNotSame(PatternCache.getDateFormat("yyyy-MM-dd"), PatternCache.getDateFormat("yyyy-MM-dd"));
+    }
+
+    @Test(expectedExceptions = ValidationException.class)
+    public void testInvalidPattern() {
+        matcher.validate("field", "a", Arrays.asList("[a"), context);
+    }
+
     private void assertException(String fieldName, String value, List<String> control) {
     	try {
     		matcher.validate(fieldName, value, control, context);
@@ -56,6 +56,8 @@ public class CitrusSpringContext extends CitrusContext {
                 ((ConfigurableApplicationContext) applicationContext).close();
             }
         }
+
+        super.close();
     }
 
     /**
@@ -107,6 +109,7 @@ public class CitrusSpringContext extends CitrusContext {
             testReporters(applicationContext.getBean(TestReporters.class));
             testSuiteListeners(applicationContext.getBean(TestSuiteListeners.class));
             testContextFactory(applicationContext.getBean(TestContextFactoryBean.class));
+            executor(applicationContext.getBean(TestContextFactoryBean.class).getExecutor());
             referenceResolver(applicationContext.getBean(ReferenceResolver.class));
             typeConverter(applicationContext.getBean(TypeConverter.class));
             logModifier(applicationContext.getBean(LogModifier.class));
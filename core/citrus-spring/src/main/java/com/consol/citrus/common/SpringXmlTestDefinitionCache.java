@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.xml.ResourceEntityResolver;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.Resource;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+/**
+ * Cache of XML documents parsed from Spring XML test files. Each test file is read and validated against the XML schema
+ * once. Subsequent loads of the same test file skip the XML parsing and run the bean definition parsers (e.g. the
+ * Citrus test case namespace handlers) on a copy of the cached document. So each load gets new bean definitions and new
+ * parser created objects such as message builders, exactly as if the test file has been read from scratch.
+ *
+ * Cached documents are never handed to the bean definition parsers, so parsers may not modify them. Imported XML files
+ * are cached as well.
+ *
+ * @since 3.3
+ */
+public final class SpringXmlTestDefinitionCache {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(SpringXmlTestDefinitionCache.class);
+
+    /** Maximum number of cached documents, cache is cleared when exceeded */
+    static final int MAX_CACHE_SIZE = 10000;
+
+    /** Parsed and validated documents by resource */
+    private static final Map<Resource, Document> CACHE = new ConcurrentHashMap<>();
+
+    /** Cache statistics */
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    /**
+     * Prevent instantiation.
+     */
+    private SpringXmlTestDefinitionCache() {
+        super();
+    }
+
+    /**
+     * Creates application context for given config locations using cached XML documents. Config locations without
+     * prefix are loaded from the classpath.
+     * @param configLocations
+     * @param parent
+     * @return
+     */
+    public static ApplicationContext createApplicationContext(String[] configLocations, ApplicationContext parent) {
+        GenericApplicationContext applicationContext = new GenericApplicationContext(parent);
+
+        XmlBeanDefinitionReader reader = new CachingXmlBeanDefinitionReader(applicationContext);
+        reader.setEnvironment(applicationContext.getEnvironment());
+        reader.setResourceLoader(applicationContext);
+        reader.setEntityResolver(new ResourceEntityResolver(applicationContext));
+        reader.loadBeanDefinitions(configLocations);
+
+        applicationContext.refresh();
+        return applicationContext;
+    }
+
+    /**
+     * Gets copy of cached document for given resource. Parses the document with given loader on first use.
+     * @param resource
+     * @param documentLoader
+     * @return
+     * @throws Exception
+     */
+    private static Document getDocument(Resource resource, DocumentLoader documentLoader) throws Exception {
+        Document document = CACHE.get(resource);
+        if (document != null) {
+            HITS.incrementAndGet();
+        } else {
+            MISSES.incrementAndGet();
+
+            long start = System.nanoTime();
+            document = documentLoader.load();
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Parsed XML test file %s in %s ms", resource.getDescription(),
+                        (System.nanoTime() - start) / 1000000L));
+            }
+
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(resource, document);
+        }
+
+        // DOM implementations are not thread safe even for read access (e.g. deferred node expansion)
+        synchronized (document) {
+            return (Document) document.cloneNode(true);
+        }
+    }
+
+    /**
+     * Gets the number of cached documents.
+     * @return
+     */
+    public static int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Gets the number of document loads that reused a cached document.
+     * @return
+     */
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    /**
+     * Gets the number of document loads that had to parse the XML file.
+     * @return
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    /**
+     * Clears all cached documents and statistics.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+        HITS.set(0L);
+        MISSES.set(0L);
+    }
+
+    /**
+     * Loads the document from the XML file.
+     */
+    @FunctionalInterface
+    private interface DocumentLoader {
+        Document load() throws Exception;
+    }
+
+    /**
+     * Bean definition reader reads documents from the cache instead of parsing the XML file on each load.
+     */
+    private static class CachingXmlBeanDefinitionReader extends XmlBeanDefinitionReader {
+
+        CachingXmlBeanDefinitionReader(BeanDefinitionRegistry registry) {
+            super(registry);
+        }
+
+        @Override
+        protected Document doLoadDocument(InputSource inputSource, Resource resource) throws Exception {
+            return getDocument(resource, () -> super.doLoadDocument(inputSource, resource));
+        }
+    }
+}
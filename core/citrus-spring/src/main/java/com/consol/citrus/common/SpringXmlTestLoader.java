@@ -20,6 +20,7 @@ import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 
 import com.consol.citrus.CitrusContext;
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.CitrusSpringContext;
 import com.consol.citrus.DefaultTestCase;
 import com.consol.citrus.TestCase;
@@ -84,17 +85,27 @@ public class SpringXmlTestLoader implements TestLoader, TestSourceAware {
         try {
             configureCustomParsers();
 
-            return new ClassPathXmlApplicationContext(
-                    new String[]{
-                            getSource(),
-                            "com/consol/citrus/spring/annotation-config-ctx.xml"},
-                    true, getParentApplicationContext());
+            if (CitrusSettings.isXmlTestDefinitionCacheEnabled()) {
+                return SpringXmlTestDefinitionCache.createApplicationContext(getConfigLocations(), getParentApplicationContext());
+            }
+
+            return new ClassPathXmlApplicationContext(getConfigLocations(), true, getParentApplicationContext());
         } catch (Exception e) {
             throw citrusContext.getTestContextFactory().getObject()
                     .handleError(testName, packageName, "Failed to load test case", e);
         }
     }
 
+    /**
+     * Gets the test case XML file and helper context file locations.
+     * @return
+     */
+    private String[] getConfigLocations() {
+        return new String[]{
+                getSource(),
+                "com/consol/citrus/spring/annotation-config-ctx.xml"};
+    }
+
     /**
      * Configures the CitrusNamespaceParserRegistry with custom parsers
      */
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.config;
 
+import com.consol.citrus.context.ManagedExecutor;
 import com.consol.citrus.context.SpringBeanReferenceResolver;
 import com.consol.citrus.context.TestContextFactoryBean;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
@@ -79,6 +80,11 @@ public class CitrusSpringConfig {
         return new DefaultLogModifier();
     }
 
+    @Bean(destroyMethod = "close")
+    public ManagedExecutor citrusExecutor() {
+        return new ManagedExecutor();
+    }
+
     @Bean
     public MessageProcessorsFactory messageProcessors() {
         return new MessageProcessorsFactory();
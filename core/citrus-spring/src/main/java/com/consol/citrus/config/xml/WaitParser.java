@@ -157,6 +157,10 @@ public class WaitParser implements BeanDefinitionParser {
     private Condition parseFileCondition(Element element) {
         FileCondition condition = new FileCondition();
         condition.setFilePath(element.getAttribute("path"));
+
+        if (StringUtils.hasText(element.getAttribute("stable-time"))) {
+            condition.setStableTime(element.getAttribute("stable-time"));
+        }
         return condition;
     }
 
@@ -91,6 +91,9 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
     @Autowired
     private LogModifier logModifier;
 
+    @Autowired(required=false)
+    private ManagedExecutor executor;
+
     @Autowired
     private MessageProcessors messageProcessors;
 
@@ -173,6 +176,10 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
             factory.setLogModifier(applicationContext.getBean(LogModifier.class));
         }
 
+        if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(ManagedExecutor.class))) {
+            factory.setExecutor(applicationContext.getBean(ManagedExecutor.class));
+        }
+
         if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(NamespaceContextBuilder.class))) {
             factory.setNamespaceContextBuilder(applicationContext.getBean(NamespaceContextBuilder.class));
         }
@@ -257,6 +264,10 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
             delegate.setLogModifier(logModifier);
         }
 
+        if (executor != null) {
+            delegate.setExecutor(executor);
+        }
+
         if (namespaceContextBuilder != null) {
             delegate.setNamespaceContextBuilder(namespaceContextBuilder);
         }
@@ -349,6 +360,11 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
         return delegate.getLogModifier();
     }
 
+    @Override
+    public ManagedExecutor getExecutor() {
+        return delegate.getExecutor();
+    }
+
     @Override
     public NamespaceContextBuilder getNamespaceContextBuilder() {
         return delegate.getNamespaceContextBuilder();
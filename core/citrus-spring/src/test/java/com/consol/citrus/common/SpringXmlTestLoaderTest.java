@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.common;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.CitrusSpringContext;
+import com.consol.citrus.DefaultTestCase;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.actions.ReceiveMessageAction;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.annotations.CitrusAnnotations;
+import com.consol.citrus.condition.FileCondition;
+import com.consol.citrus.container.Wait;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+public class SpringXmlTestLoaderTest extends UnitTestSupport {
+
+    @AfterMethod
+    public void clearCache() {
+        System.clearProperty(CitrusSettings.XML_TEST_DEFINITION_CACHE_PROPERTY);
+        SpringXmlTestDefinitionCache.clearCache();
+    }
+
+    @Test
+    public void shouldLoadTestCase() {
+        TestCase testCase = createLoader().load();
+
+        Assert.assertEquals(testCase.getName(), "SpringXmlTestLoaderTest");
+        Assert.assertEquals(testCase.getTestClass(), SpringXmlTestLoaderTest.class);
+        Assert.assertEquals(((DefaultTestCase) testCase).getActionCount(), 2L);
+        Assert.assertEquals(SpringXmlTestDefinitionCache.size(), 0L);
+    }
+
+    @Test
+    public void shouldReuseParsedDefinitions() {
+        System.setProperty(CitrusSettings.XML_TEST_DEFINITION_CACHE_PROPERTY, "true");
+
+        TestCase testCase = createLoader().load();
+        TestCase cached = createLoader().load();
+
+        Assert.assertNotSame(cached, testCase);
+        Assert.assertEquals(cached.getName(), "SpringXmlTestLoaderTest");
+        Assert.assertEquals(cached.getTestClass(), SpringXmlTestLoaderTest.class);
+        Assert.assertEquals(((DefaultTestCase) cached).getActionCount(), 2L);
+        Assert.assertEquals(cached.getVariableDefinitions().get("greeting"), "Hello");
+        Assert.assertNotSame(((DefaultTestCase) cached).getActions().get(0), ((DefaultTestCase) testCase).getActions().get(0));
+
+        Assert.assertEquals(SpringXmlTestDefinitionCache.size(), 2L);
+        Assert.assertEquals(SpringXmlTestDefinitionCache.getMisses(), 2L);
+        Assert.assertEquals(SpringXmlTestDefinitionCache.getHits(), 2L);
+
+        cached.execute(context);
+        Assert.assertTrue(cached.getTestResult().isSuccess());
+    }
+
+    @Test
+    public void shouldReuseParsedDocumentsForSendAndReceive() {
+        System.setProperty(CitrusSettings.XML_TEST_DEFINITION_CACHE_PROPERTY, "true");
+
+        TestCase testCase = createLoader("SpringXmlTestLoaderSendReceiveTest").load();
+        TestCase cached = createLoader("SpringXmlTestLoaderSendReceiveTest").load();
+
+        Assert.assertEquals(((DefaultTestCase) cached).getActionCount(), 3L);
+
+        SendMessageAction send = (SendMessageAction) ((DefaultTestCase) testCase).getActions().get(0);
+        SendMessageAction cachedSend = (SendMessageAction) ((DefaultTestCase) cached).getActions().get(0);
+        Assert.assertEquals(cachedSend.getEndpointUri(), "direct:loaderTestQueue");
+        Assert.assertNotSame(cachedSend.getMessageBuilder(), send.getMessageBuilder());
+
+        ReceiveMessageAction receive = (ReceiveMessageAction) ((DefaultTestCase) testCase).getActions().get(1);
+        ReceiveMessageAction cachedReceive = (ReceiveMessageAction) ((DefaultTestCase) cached).getActions().get(1);
+        Assert.assertEquals(cachedReceive.getVariableExtractors().size(), 1L);
+        Assert.assertNotSame(cachedReceive.getMessageBuilder(), receive.getMessageBuilder());
+        Assert.assertNotSame(cachedReceive.getValidationContexts(), receive.getValidationContexts());
+        Assert.assertNotSame(cachedReceive.getVariableExtractors().get(0), receive.getVariableExtractors().get(0));
+
+        Wait wait = (Wait) ((DefaultTestCase) testCase).getActions().get(2);
+        Wait cachedWait = (Wait) ((DefaultTestCase) cached).getActions().get(2);
+        Assert.assertTrue(cachedWait.getCondition() instanceof FileCondition);
+        Assert.assertNotSame(cachedWait.getCondition(), wait.getCondition());
+
+        Assert.assertEquals(SpringXmlTestDefinitionCache.size(), 2L);
+        Assert.assertEquals(SpringXmlTestDefinitionCache.getMisses(), 2L);
+        Assert.assertEquals(SpringXmlTestDefinitionCache.getHits(), 2L);
+    }
+
+    private SpringXmlTestLoader createLoader() {
+        return createLoader("SpringXmlTestLoaderTest");
+    }
+
+    private SpringXmlTestLoader createLoader(String testName) {
+        SpringXmlTestLoader loader = new SpringXmlTestLoader();
+        CitrusAnnotations.injectCitrusContext(loader, CitrusSpringContext.create(applicationContext));
+        loader.setTestClass(SpringXmlTestLoaderTest.class);
+        loader.setTestName(testName);
+        loader.setPackageName("com.consol.citrus.common");
+        return loader;
+    }
+}
@@ -47,6 +47,8 @@ public class WaitParserTest extends AbstractActionParserTest<Wait> {
         validateWaitAction(action, DEFAULT_WAIT_TIME, DEFAULT_INTERVAL, condition);
 
         action = getNextTestActionFromTest();
+        condition = getFileCondition(filePath);
+        ((FileCondition) condition).setStableTime("500");
         validateWaitAction(action, "10000", "2000", condition);
 
         action = getNextTestActionFromTest();
@@ -111,6 +113,7 @@ public class WaitParserTest extends AbstractActionParserTest<Wait> {
             Assert.assertNotNull(condition);
             Assert.assertEquals(condition.getName(), expectedCondition.getName());
             Assert.assertEquals(condition.getFilePath(), ((FileCondition) expectedCondition).getFilePath());
+            Assert.assertEquals(condition.getStableTime(), ((FileCondition) expectedCondition).getStableTime());
         } else if (expectedCondition instanceof MessageCondition) {
             MessageCondition condition = (MessageCondition) action.getCondition();
             Assert.assertNotNull(condition);
@@ -53,6 +53,18 @@ public @interface CamelEndpointConfig {
      */
     String messageConverter() default "";
 
+    /**
+     * Persistent polling consumer.
+     * @return
+     */
+    boolean persistentConsumer() default false;
+
+    /**
+     * Exchange buffer size.
+     * @return
+     */
+    int bufferSize() default 1000;
+
     /**
      * Timeout.
      * @return
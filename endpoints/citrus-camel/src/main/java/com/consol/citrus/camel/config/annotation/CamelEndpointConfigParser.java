@@ -51,6 +51,9 @@ public class CamelEndpointConfigParser implements AnnotationConfigParser<CamelEn
             builder.messageConverter(referenceResolver.resolve(annotation.messageConverter(), CamelMessageConverter.class));
         }
 
+        builder.persistentConsumer(annotation.persistentConsumer());
+        builder.bufferSize(annotation.bufferSize());
+
         builder.timeout(annotation.timeout());
 
         if (StringUtils.hasText(annotation.actor())) {
@@ -65,6 +65,18 @@ public @interface CamelSyncEndpointConfig {
      */
     String correlator() default "";
 
+    /**
+     * Persistent polling consumer.
+     * @return
+     */
+    boolean persistentConsumer() default false;
+
+    /**
+     * Exchange buffer size.
+     * @return
+     */
+    int bufferSize() default 1000;
+
     /**
      * Timeout.
      * @return
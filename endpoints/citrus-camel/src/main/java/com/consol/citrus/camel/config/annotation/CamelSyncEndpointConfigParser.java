@@ -52,6 +52,9 @@ public class CamelSyncEndpointConfigParser implements AnnotationConfigParser<Cam
             builder.messageConverter(referenceResolver.resolve(annotation.messageConverter(), CamelMessageConverter.class));
         }
 
+        builder.persistentConsumer(annotation.persistentConsumer());
+        builder.bufferSize(annotation.bufferSize());
+
         builder.timeout(annotation.timeout());
 
         if (StringUtils.hasText(annotation.actor())) {
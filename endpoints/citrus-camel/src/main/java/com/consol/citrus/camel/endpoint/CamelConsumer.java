@@ -16,30 +16,41 @@
 
 package com.consol.citrus.camel.endpoint;
 
+import java.util.function.Predicate;
+
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.Consumer;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import org.apache.camel.ConsumerTemplate;
+import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
 
 /**
+ * Consumer receives exchanges from a Camel endpoint. By default each receive operation uses the consumer template.
+ * With persistent consumer enabled the consumer creates a long-lived polling consumer for the endpoint and buffers
+ * received exchanges in a bounded exchange buffer so receivers are able to select exchanges with message selectors.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class CamelConsumer implements Consumer {
+public class CamelConsumer extends AbstractSelectiveMessageConsumer implements ShutdownPhase {
     /** Endpoint configuration */
     private final CamelEndpointConfiguration endpointConfiguration;
 
-    /** The consumer name */
-    private final String name;
-
     /** Cached consumer template - only created once for this consumer */
     private ConsumerTemplate consumerTemplate;
 
+    /** Long-lived polling consumer and its exchange buffer */
+    private CamelExchangeBuffer exchangeBuffer;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(CamelConsumer.class);
 
@@ -49,47 +60,120 @@ public class CamelConsumer implements Consumer {
      * @param endpointConfiguration
      */
     public CamelConsumer(String name, CamelEndpointConfiguration endpointConfiguration) {
-        this.name = name;
+        super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
     }
 
     @Override
-    public Message receive(TestContext context) {
-        return receive(context, endpointConfiguration.getTimeout());
+    public Message receive(String selector, TestContext context, long timeout) {
+        String endpointUri = getEndpointUri(context);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Receiving message from camel endpoint: '" + endpointUri + "'");
+        }
+
+        Exchange exchange = receiveExchange(selector, endpointUri, context, timeout);
+
+        log.info("Received message from camel endpoint: '" + endpointUri + "'");
+
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(exchange, endpointConfiguration, context);
+        context.onInboundMessage(message);
+
+        return message;
     }
 
-    @Override
-    public Message receive(TestContext context, long timeout) {
-        String endpointUri;
+    /**
+     * Resolves the endpoint uri to receive from.
+     * @param context
+     * @return
+     */
+    protected String getEndpointUri(TestContext context) {
         if (endpointConfiguration.getEndpointUri() != null) {
-            endpointUri = context.replaceDynamicContentInString(endpointConfiguration.getEndpointUri());
+            return context.replaceDynamicContentInString(endpointConfiguration.getEndpointUri());
         } else if (endpointConfiguration.getEndpoint() != null) {
-            endpointUri = endpointConfiguration.getEndpoint().getEndpointUri();
+            return endpointConfiguration.getEndpoint().getEndpointUri();
         } else {
             throw new CitrusRuntimeException("Missing endpoint or endpointUri on Camel consumer");
         }
+    }
 
-        if (log.isDebugEnabled()) {
-            log.debug("Receiving message from camel endpoint: '" + endpointUri + "'");
-        }
-
+    /**
+     * Receives next exchange from the endpoint. Uses the exchange buffer of the persistent consumer if enabled or
+     * the consumer template otherwise.
+     * @param selector
+     * @param endpointUri
+     * @param context
+     * @param timeout
+     * @return
+     */
+    protected Exchange receiveExchange(String selector, String endpointUri, TestContext context, long timeout) {
         Exchange exchange;
-        if (endpointConfiguration.getEndpoint() != null) {
-            exchange = getConsumerTemplate().receive(endpointConfiguration.getEndpoint(), timeout);
+        if (endpointConfiguration.isPersistentConsumer()) {
+            try {
+                exchange = getExchangeBuffer(endpointUri).take(getExchangeSelector(selector, context), timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for message on Camel endpoint", e);
+            }
         } else {
-            exchange = getConsumerTemplate().receive(endpointUri, timeout);
+            if (StringUtils.hasText(selector)) {
+                log.warn(String.format("Unable to receive selective on camel endpoint '%s' - " +
+                        "message selectors require persistent consumer", endpointUri));
+            }
+
+            if (endpointConfiguration.getEndpoint() != null) {
+                exchange = getConsumerTemplate().receive(endpointConfiguration.getEndpoint(), timeout);
+            } else {
+                exchange = getConsumerTemplate().receive(endpointUri, timeout);
+            }
         }
 
         if (exchange == null) {
             throw new MessageTimeoutException(timeout, endpointUri);
         }
 
-        log.info("Received message from camel endpoint: '" + endpointUri + "'");
+        return exchange;
+    }
 
-        Message message = endpointConfiguration.getMessageConverter().convertInbound(exchange, endpointConfiguration, context);
-        context.onInboundMessage(message);
+    /**
+     * Creates selector predicate for Camel exchanges. Exchanges are converted to the internal message representation
+     * so the selector is able to evaluate message headers.
+     * @param selector
+     * @param context
+     * @return
+     */
+    private Predicate<Exchange> getExchangeSelector(String selector, TestContext context) {
+        if (!StringUtils.hasText(selector)) {
+            return exchange -> true;
+        }
 
-        return message;
+        MessageSelector messageSelector = new DelegatingMessageSelector(selector, context);
+        return exchange -> messageSelector.accept(endpointConfiguration.getMessageConverter()
+                .convertInbound(exchange, endpointConfiguration, context));
+    }
+
+    /**
+     * Gets the exchange buffer of the persistent consumer. Creates and starts the polling consumer on first access.
+     * @param endpointUri
+     * @return
+     */
+    private synchronized CamelExchangeBuffer getExchangeBuffer(String endpointUri) {
+        if (exchangeBuffer == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Creating polling consumer for camel endpoint: '" + endpointUri + "'");
+            }
+
+            Endpoint endpoint = endpointConfiguration.getEndpoint() != null ? endpointConfiguration.getEndpoint() :
+                    endpointConfiguration.getCamelContext().getEndpoint(endpointUri);
+
+            try {
+                exchangeBuffer = new CamelExchangeBuffer(endpoint.createPollingConsumer(), endpointConfiguration.getBufferSize());
+            } catch (Exception e) {
+                throw new CitrusRuntimeException("Failed to create polling consumer for camel endpoint: '" + endpointUri + "'", e);
+            }
+        }
+
+        return exchangeBuffer;
     }
 
     /**
@@ -106,8 +190,14 @@ public class CamelConsumer implements Consumer {
     }
 
     @Override
-    public String getName() {
-        return name;
+    public synchronized void destroy() {
+        if (exchangeBuffer != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Stopping polling consumer for camel endpoint: '" + exchangeBuffer.getEndpointUri() + "'");
+            }
+
+            exchangeBuffer.close();
+            exchangeBuffer = null;
+        }
     }
-
 }
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.camel.endpoint;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.Producer;
@@ -24,7 +25,7 @@ import com.consol.citrus.messaging.Producer;
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class CamelEndpoint extends AbstractEndpoint {
+public class CamelEndpoint extends AbstractEndpoint implements ShutdownPhase {
 
     /** Cached producer or consumer */
     private CamelConsumer camelConsumer;
@@ -64,6 +65,13 @@ public class CamelEndpoint extends AbstractEndpoint {
         return camelConsumer;
     }
 
+    @Override
+    public void destroy() {
+        if (camelConsumer != null) {
+            camelConsumer.destroy();
+        }
+    }
+
     @Override
     public CamelEndpointConfiguration getEndpointConfiguration() {
         return (CamelEndpointConfiguration) super.getEndpointConfiguration();
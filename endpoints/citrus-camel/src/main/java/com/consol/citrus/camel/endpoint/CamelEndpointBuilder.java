@@ -97,4 +97,24 @@ public class CamelEndpointBuilder extends AbstractEndpointBuilder<CamelEndpoint>
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the persistentConsumer property.
+     * @param persistentConsumer
+     * @return
+     */
+    public CamelEndpointBuilder persistentConsumer(boolean persistentConsumer) {
+        endpoint.getEndpointConfiguration().setPersistentConsumer(persistentConsumer);
+        return this;
+    }
+
+    /**
+     * Sets the exchange buffer size.
+     * @param bufferSize
+     * @return
+     */
+    public CamelEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
 }
@@ -38,6 +38,12 @@ public class CamelEndpointConfiguration extends AbstractEndpointConfiguration {
     /** Camel endpoint as destination */
     private Endpoint endpoint;
 
+    /** Use long-lived polling consumer buffering received exchanges */
+    private boolean persistentConsumer = false;
+
+    /** Maximum number of buffered exchanges of the persistent consumer */
+    private int bufferSize = 1000;
+
     /**
      * Gets the Camel context.
      * @return
@@ -101,4 +107,36 @@ public class CamelEndpointConfiguration extends AbstractEndpointConfiguration {
     public void setMessageConverter(CamelMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the persistent consumer flag.
+     * @return
+     */
+    public boolean isPersistentConsumer() {
+        return persistentConsumer;
+    }
+
+    /**
+     * Enables long-lived polling consumer that buffers received exchanges.
+     * @param persistentConsumer
+     */
+    public void setPersistentConsumer(boolean persistentConsumer) {
+        this.persistentConsumer = persistentConsumer;
+    }
+
+    /**
+     * Gets the exchange buffer size.
+     * @return
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the exchange buffer size.
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
 }
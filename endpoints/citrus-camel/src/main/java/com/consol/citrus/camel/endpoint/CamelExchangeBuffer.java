@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.camel.endpoint;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.PollingConsumer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Long-lived Camel polling consumer with a bounded buffer of received exchanges. The polling consumer is started once
+ * and kept open for all receive operations on the endpoint. Exchanges that are not accepted by the selector of the
+ * receiver that has polled them stay in the buffer for other receivers. Only one receiver at a time polls the consumer,
+ * all other receivers are signalled as soon as a new exchange has been added to the buffer. When the buffer is full
+ * no more exchanges are polled so the Camel component keeps further exchanges until receivers catch up.
+ *
+ * @since 3.3
+ */
+public class CamelExchangeBuffer {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(CamelExchangeBuffer.class);
+
+    /** Polling consumer feeding this buffer */
+    private final PollingConsumer pollingConsumer;
+
+    /** Buffered exchanges in arrival order */
+    private final LinkedList<Exchange> exchanges = new LinkedList<>();
+
+    /** Guards buffer and signals new exchanges */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition exchangeArrived = lock.newCondition();
+
+    /** Maximum number of buffered exchanges */
+    private final int capacity;
+
+    /** Marks that a receiver is currently polling the consumer */
+    private boolean polling;
+
+    /**
+     * Constructor using polling consumer and buffer capacity. Starts the polling consumer.
+     * @param pollingConsumer
+     * @param capacity
+     */
+    public CamelExchangeBuffer(PollingConsumer pollingConsumer, int capacity) {
+        this.pollingConsumer = pollingConsumer;
+        this.capacity = Math.max(1, capacity);
+
+        ServiceHelper.startService(pollingConsumer);
+    }
+
+    /**
+     * Removes and returns the first exchange accepted by given selector. Polls new exchanges from the consumer
+     * until the timeout is reached.
+     * @param selector
+     * @param timeout
+     * @return the selected exchange or null when no matching exchange arrived in time.
+     * @throws InterruptedException
+     */
+    public Exchange take(Predicate<Exchange> selector, long timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                Exchange exchange = select(selector);
+                if (exchange != null) {
+                    return exchange;
+                }
+
+                long nanos = deadline - System.nanoTime();
+                if (nanos <= 0) {
+                    return null;
+                }
+
+                if (polling || exchanges.size() >= capacity) {
+                    exchangeArrived.awaitNanos(nanos);
+                    continue;
+                }
+
+                Exchange received = poll(nanos);
+                if (received != null && selector.test(received)) {
+                    return received;
+                } else if (received != null) {
+                    exchanges.add(received);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Polls next exchange from the consumer. Releases the lock while polling so other receivers are able
+     * to select buffered exchanges in the meantime. Must be called with lock held.
+     * @param nanos
+     * @return
+     */
+    private Exchange poll(long nanos) {
+        polling = true;
+        lock.unlock();
+        try {
+            return pollingConsumer.receive(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        } finally {
+            lock.lock();
+            polling = false;
+            exchangeArrived.signalAll();
+        }
+    }
+
+    /**
+     * Removes first buffered exchange accepted by given selector. Must be called with lock held.
+     * @param selector
+     * @return
+     */
+    private Exchange select(Predicate<Exchange> selector) {
+        for (Iterator<Exchange> iterator = exchanges.iterator(); iterator.hasNext();) {
+            Exchange exchange = iterator.next();
+            if (selector.test(exchange)) {
+                iterator.remove();
+                return exchange;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the number of buffered exchanges.
+     * @return
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return exchanges.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the polling consumer and discards all buffered exchanges.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            if (!exchanges.isEmpty()) {
+                LOG.warn(String.format("Camel consumer discarded %s buffered exchange(s) of endpoint '%s'",
+                        exchanges.size(), getEndpointUri()));
+                exchanges.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        ServiceHelper.stopAndShutdownService(pollingConsumer);
+    }
+
+    /**
+     * Gets the uri of the endpoint the polling consumer receives from.
+     * @return
+     */
+    public String getEndpointUri() {
+        return pollingConsumer.getEndpoint().getEndpointUri();
+    }
+}
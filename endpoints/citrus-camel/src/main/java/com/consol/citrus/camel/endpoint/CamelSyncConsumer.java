@@ -20,8 +20,6 @@ import java.util.Map;
 
 import com.consol.citrus.camel.message.CamelMessageHeaders;
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaders;
 import com.consol.citrus.message.correlation.CorrelationManager;
@@ -60,30 +58,14 @@ public class CamelSyncConsumer extends CamelConsumer implements ReplyProducer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
-        String endpointUri;
-        if (endpointConfiguration.getEndpointUri() != null) {
-            endpointUri = context.replaceDynamicContentInString(endpointConfiguration.getEndpointUri());
-        } else if (endpointConfiguration.getEndpoint() != null) {
-            endpointUri = endpointConfiguration.getEndpoint().getEndpointUri();
-        } else {
-            throw new CitrusRuntimeException("Missing endpoint or endpointUri on Camel consumer");
-        }
+    public Message receive(String selector, TestContext context, long timeout) {
+        String endpointUri = getEndpointUri(context);
 
         if (log.isDebugEnabled()) {
             log.debug("Receiving message from camel endpoint: '" + endpointUri + "'");
         }
 
-        Exchange exchange;
-        if (endpointConfiguration.getEndpoint() != null) {
-            exchange = getConsumerTemplate().receive(endpointConfiguration.getEndpoint(), timeout);
-        } else {
-            exchange = getConsumerTemplate().receive(endpointUri, timeout);
-        }
-
-        if (exchange == null) {
-            throw new MessageTimeoutException(timeout, endpointUri);
-        }
+        Exchange exchange = receiveExchange(selector, endpointUri, context, timeout);
 
         log.info("Received message from camel endpoint: '" + endpointUri + "'");
 
@@ -74,4 +74,11 @@ public class CamelSyncEndpoint extends CamelEndpoint {
 
         return camelSyncMessageProducer;
     }
+
+    @Override
+    public void destroy() {
+        if (camelSyncMessageConsumer != null) {
+            camelSyncMessageConsumer.destroy();
+        }
+    }
 }
@@ -108,4 +108,24 @@ public class CamelSyncEndpointBuilder extends AbstractEndpointBuilder<CamelSyncE
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the persistentConsumer property.
+     * @param persistentConsumer
+     * @return
+     */
+    public CamelSyncEndpointBuilder persistentConsumer(boolean persistentConsumer) {
+        endpoint.getEndpointConfiguration().setPersistentConsumer(persistentConsumer);
+        return this;
+    }
+
+    /**
+     * Sets the exchange buffer size.
+     * @param bufferSize
+     * @return
+     */
+    public CamelSyncEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
 }
@@ -41,12 +41,16 @@ public class CamelEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getCamelContext(), beanDefinitionContext.getBean("camelContext"));
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getEndpointUri(), "direct:news-feed1");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(camelEndpoint.getEndpointConfiguration().isPersistentConsumer());
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getBufferSize(), 1000);
 
         // 2nd message receiver
         camelEndpoint = endpoints.get("camelEndpoint2");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getCamelContext(), beanDefinitionContext.getBean("specialCamelContext"));
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getEndpointUri(), "direct:news-feed2");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertTrue(camelEndpoint.getEndpointConfiguration().isPersistentConsumer());
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getBufferSize(), 500);
 
         // 3rd message receiver
         camelEndpoint = endpoints.get("camelEndpoint3");
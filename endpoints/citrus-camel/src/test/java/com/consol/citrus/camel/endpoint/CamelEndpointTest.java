@@ -18,12 +18,15 @@ package com.consol.citrus.camel.endpoint;
 
 import com.consol.citrus.camel.message.CamelMessageHeaders;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.ConsumerTemplate;
+import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
+import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.impl.engine.AbstractCamelContext;
@@ -38,9 +41,11 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -132,6 +137,66 @@ public class CamelEndpointTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(receivedMessage.getHeader(CamelMessageHeaders.EXCHANGE_FAILED));
     }
 
+    @Test
+    public void testPersistentConsumerSelectiveReceive() throws Exception {
+        Endpoint endpoint = Mockito.mock(Endpoint.class);
+        PollingConsumer pollingConsumer = Mockito.mock(PollingConsumer.class);
+
+        CamelEndpointConfiguration endpointConfiguration = new CamelEndpointConfiguration();
+        endpointConfiguration.setCamelContext(camelContext);
+        endpointConfiguration.setEndpoint(endpoint);
+        endpointConfiguration.setPersistentConsumer(true);
+        endpointConfiguration.setTimeout(1000L);
+
+        CamelEndpoint camelEndpoint = new CamelEndpoint(endpointConfiguration);
+
+        reset(camelContext, consumerTemplate);
+
+        when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
+        when(camelContext.getUuidGenerator()).thenReturn(new SimpleUuidGenerator());
+        when(endpoint.getEndpointUri()).thenReturn("seda:news-feed");
+        when(endpoint.createPollingConsumer()).thenReturn(pollingConsumer);
+        when(pollingConsumer.getEndpoint()).thenReturn(endpoint);
+        Exchange first = createExchange("first");
+        Exchange second = createExchange("second");
+        Exchange third = createExchange("third");
+        when(pollingConsumer.receive(anyLong())).thenReturn(first, second, third, null);
+
+        CamelConsumer consumer = (CamelConsumer) camelEndpoint.createConsumer();
+
+        Message receivedMessage = consumer.receive("operation = 'second'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getHeader("operation"), "second");
+
+        receivedMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getHeader("operation"), "first");
+
+        receivedMessage = consumer.receive("operation = 'third'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getHeader("operation"), "third");
+
+        try {
+            consumer.receive(context, 100L);
+            Assert.fail("Missing timeout exception");
+        } catch (MessageTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("seda:news-feed"));
+        }
+
+        camelEndpoint.destroy();
+
+        verify(endpoint, times(1)).createPollingConsumer();
+        verify(pollingConsumer).start();
+        verify(pollingConsumer).stop();
+        verify(consumerTemplate, times(0)).receive(any(Endpoint.class), anyLong());
+    }
+
+    private Exchange createExchange(String operation) {
+        DefaultMessage message = new DefaultMessage(camelContext);
+        message.setBody("Hello from Camel!");
+        message.setHeader("operation", operation);
+        Exchange exchange = new DefaultExchange(camelContext);
+        exchange.setIn(message);
+        return exchange;
+    }
+
     @Test
     public void testCamelEndpointWithMessageListeners() {
         String endpointUri = "direct:news-feed";
@@ -20,12 +20,22 @@ import java.io.ByteArrayInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 import com.consol.citrus.common.InitializingPhase;
 import com.consol.citrus.common.ShutdownPhase;
@@ -34,10 +44,12 @@ import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.message.FtpMessageHeaders;
 import com.consol.citrus.ftp.model.CommandType;
 import com.consol.citrus.ftp.model.DeleteCommand;
 import com.consol.citrus.ftp.model.GetCommand;
 import com.consol.citrus.ftp.model.ListCommand;
+import com.consol.citrus.ftp.model.ListCommandResult;
 import com.consol.citrus.ftp.model.PutCommand;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
@@ -58,7 +70,10 @@ import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
 
 import static org.apache.commons.net.ftp.FTPReply.FILE_ACTION_OK;
@@ -78,6 +93,18 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Pool of additional connections used for parallel file transfers */
+    private FtpConnectionPool connectionPool;
+
+    /** Executor running parallel file transfers, created on first multi file transfer */
+    private ExecutorService transferExecutor;
+
+    /** Marks this client as connection owned by the pool of another client */
+    private boolean pooled;
+
+    /** Time of last activity on this connection */
+    private volatile long lastActivity;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -93,6 +120,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         super(endpointConfiguration);
 
         this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.connectionPool = new FtpConnectionPool(endpointConfiguration, this::createPooledConnection);
     }
 
     @Override
@@ -119,15 +147,23 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
 
         try {
-            connectAndLogin();
+            ensureConnected();
 
             CommandType ftpCommand = ftpMessage.getPayload(CommandType.class);
             FtpMessage response;
 
             if (ftpCommand instanceof GetCommand) {
-                response = retrieveFile((GetCommand) ftpCommand, context);
+                if (isMultiFilePath(((GetCommand) ftpCommand).getFile().getPath())) {
+                    response = retrieveFiles((GetCommand) ftpCommand, context);
+                } else {
+                    response = retrieveFile((GetCommand) ftpCommand, context);
+                }
             } else if (ftpCommand instanceof PutCommand) {
-                response = storeFile((PutCommand) ftpCommand, context);
+                if (isMultiFilePath(((PutCommand) ftpCommand).getFile().getPath())) {
+                    response = storeFiles((PutCommand) ftpCommand, context);
+                } else {
+                    response = storeFile((PutCommand) ftpCommand, context);
+                }
             } else if (ftpCommand instanceof ListCommand) {
                 response = listFiles((ListCommand) ftpCommand, context);
             } else if (ftpCommand instanceof DeleteCommand) {
@@ -283,24 +319,39 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             String remoteFilePath = addFileNameToTargetPath(localFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
+            TransferDigest transferDigest = createTransferDigest();
             try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
                 ftpClient.setFileType(getFileType(dataType));
 
-                if (!ftpClient.storeFile(remoteFilePath, localFileInputStream)) {
+                InputStream inputStream = transferDigest != null ? transferDigest.wrap(localFileInputStream) : localFileInputStream;
+                if (!ftpClient.storeFile(remoteFilePath, inputStream)) {
                     throw new IOException("Failed to put file to FTP server. Remote path: " + remoteFilePath
                             + ". Local file path: " + localFilePath + ". FTP reply: " + ftpClient.getReplyString());
                 }
             }
+
+            FtpMessage result = FtpMessage.putResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), isPositive(ftpClient.getReplyCode()));
+            return transferDigest != null ? transferDigest.applyTo(result) : result;
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
         }
+    }
+
+    /**
+     * Creates new transfer digest when streaming mode is enabled.
+     * @return the transfer digest or null when streaming mode is disabled.
+     */
+    protected TransferDigest createTransferDigest() {
+        if (getEndpointConfiguration().isStreamingMode()) {
+            return new TransferDigest(getEndpointConfiguration().getDigestAlgorithm());
+        }
 
-        return FtpMessage.putResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), isPositive(ftpClient.getReplyCode()));
+        return null;
     }
 
     /**
      * Constructs local file input stream. When using ASCII data type the test variable replacement is activated otherwise
-     * plain byte stream is used.
+     * plain byte stream is used. In streaming mode the file content is always streamed as is.
      *
      * @param path
      * @param dataType
@@ -309,7 +360,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected InputStream getLocalFileInputStream(String path, String dataType, TestContext context) throws IOException {
-        if (dataType.equals(DataType.ASCII.name())) {
+        if (dataType.equals(DataType.ASCII.name()) && !getEndpointConfiguration().isStreamingMode()) {
             String content = context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(path)));
             return new ByteArrayInputStream(content.getBytes(FileUtils.getDefaultCharset()));
         } else {
@@ -331,16 +382,20 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (FileOutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
+            TransferDigest transferDigest = createTransferDigest();
+            try (OutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
                 ftpClient.setFileType(getFileType(dataType));
 
-                if (!ftpClient.retrieveFile(remoteFilePath, localFileOutputStream)) {
+                OutputStream outputStream = transferDigest != null ? transferDigest.wrap(localFileOutputStream) : localFileOutputStream;
+                if (!ftpClient.retrieveFile(remoteFilePath, outputStream)) {
                     throw new CitrusRuntimeException("Failed to get file from FTP server. Remote path: " + remoteFilePath
                             + ". Local file path: " + localFilePath + ". FTP reply: " + ftpClient.getReplyString());
                 }
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (transferDigest != null) {
+                return transferDigest.applyTo(FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, null));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
@@ -357,6 +412,176 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Performs retrieve operation for all remote files matching the file name pattern. Files are transferred
+     * in parallel using pooled connections.
+     * @param command
+     * @param context
+     * @return
+     */
+    protected FtpMessage retrieveFiles(GetCommand command, TestContext context) {
+        String remoteFilePattern = context.replaceDynamicContentInString(command.getFile().getPath());
+        String remoteDirectory = remoteFilePattern.substring(0, remoteFilePattern.lastIndexOf('/') + 1);
+        String targetDirectory = getDirectoryPath(context.replaceDynamicContentInString(command.getTarget().getPath()));
+        DataType dataType = DataType.valueOf(context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name())));
+
+        PathMatcher fileNameMatcher = FileSystems.getDefault().getPathMatcher("glob:" + Paths.get(remoteFilePattern).getFileName());
+        List<GetCommand> commands = listFiles(FtpMessage.list(remoteFilePattern).getPayload(ListCommand.class), context)
+                .getPayload(ListCommandResult.class)
+                .getFiles()
+                .getFiles()
+                .stream()
+                .map(file -> Paths.get(file.getPath()).getFileName().toString())
+                .filter(fileName -> fileNameMatcher.matches(Paths.get(fileName)))
+                .map(fileName -> FtpMessage.get(remoteDirectory + fileName, targetDirectory + fileName, dataType).getPayload(GetCommand.class))
+                .collect(Collectors.toList());
+
+        if (commands.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Failed to get files from FTP server - no files matching '%s'", remoteFilePattern));
+        }
+
+        FtpMessage lastResult = transferFiles(commands, (connection, get) -> connection.retrieveFile(get, context));
+
+        FtpMessage result = FtpMessage.result(lastResult.getReplyCode(), lastResult.getReplyString(), targetDirectory, null);
+        result.setHeader(FtpMessageHeaders.FTP_FILE_COUNT, commands.size());
+        return result;
+    }
+
+    /**
+     * Performs store operation for all local files matching the file name pattern. Files are transferred
+     * in parallel using pooled connections.
+     * @param command
+     * @param context
+     * @return
+     */
+    protected FtpMessage storeFiles(PutCommand command, TestContext context) {
+        String localFilePattern = context.replaceDynamicContentInString(command.getFile().getPath());
+        String targetDirectory = getDirectoryPath(context.replaceDynamicContentInString(command.getTarget().getPath()));
+        DataType dataType = DataType.valueOf(context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name())));
+
+        List<PutCommand> commands = new ArrayList<>();
+        try {
+            String locationPattern = localFilePattern.contains(":") ? localFilePattern : ResourceUtils.FILE_URL_PREFIX + localFilePattern;
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(locationPattern)) {
+                commands.add(FtpMessage.put(resource.getFile().getAbsolutePath(), targetDirectory, dataType).getPayload(PutCommand.class));
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to resolve local files matching '%s'", localFilePattern), e);
+        }
+
+        if (commands.isEmpty()) {
+            throw new CitrusRuntimeException(String.format("Failed to put files to FTP server - no files matching '%s'", localFilePattern));
+        }
+
+        FtpMessage lastResult = transferFiles(commands, (connection, put) -> connection.storeFile(put, context));
+
+        FtpMessage result = FtpMessage.putResult(lastResult.getReplyCode(), lastResult.getReplyString(), isPositive(lastResult.getReplyCode()));
+        result.setHeader(FtpMessageHeaders.FTP_FILE_COUNT, commands.size());
+        return result;
+    }
+
+    /**
+     * Runs given transfer operation for each command in parallel. Each transfer borrows a connection from the
+     * connection pool so the number of concurrent transfers is limited by the max connections setting.
+     * @param commands
+     * @param transfer
+     * @param <T>
+     * @return result of the last transfer.
+     */
+    private <T> FtpMessage transferFiles(List<T> commands, BiFunction<FtpClient, T, FtpMessage> transfer) {
+        ExecutorService executor = getTransferExecutor();
+        List<Future<FtpMessage>> results = new ArrayList<>();
+        try {
+            for (T command : commands) {
+                results.add(executor.submit(() -> {
+                    FtpClient connection = connectionPool.borrow(getEndpointConfiguration().getTimeout());
+                    try {
+                        FtpMessage result = transfer.apply(connection, command);
+                        connectionPool.release(connection);
+                        return result;
+                    } catch (RuntimeException e) {
+                        connectionPool.invalidate(connection);
+                        throw e;
+                    }
+                }));
+            }
+
+            FtpMessage lastResult = null;
+            for (Future<FtpMessage> result : results) {
+                lastResult = result.get();
+                if (!isPositive(lastResult.getReplyCode())) {
+                    throw new CitrusRuntimeException(String.format("Failed to transfer file - reply is: %s:%s", lastResult.getReplyCode(), lastResult.getReplyString()));
+                }
+            }
+
+            return lastResult;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CitrusRuntimeException) {
+                throw (CitrusRuntimeException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException("Failed to transfer files", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while transferring files", e);
+        } finally {
+            results.stream()
+                    .filter(result -> !result.isDone())
+                    .forEach(result -> result.cancel(true));
+        }
+    }
+
+    /**
+     * Gets the executor running parallel file transfers. The executor is shared by all multi file transfers of this
+     * client and uses as many threads as the connection pool has connections.
+     * @return
+     */
+    private synchronized ExecutorService getTransferExecutor() {
+        if (transferExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            transferExecutor = Executors.newFixedThreadPool(connectionPool.getMaxConnections(), runnable -> {
+                Thread thread = new Thread(runnable, "citrus-ftp-" + getName() + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return transferExecutor;
+    }
+
+    /**
+     * Closes the connection pool and shuts down the executor of parallel file transfers. Pooled connections leave
+     * the pool of their owning client untouched.
+     */
+    protected void closeConnectionPool() {
+        if (pooled) {
+            return;
+        }
+
+        connectionPool.close();
+
+        synchronized (this) {
+            if (transferExecutor != null) {
+                transferExecutor.shutdownNow();
+                transferExecutor = null;
+            }
+        }
+    }
+
+    /**
+     * Checks if file name in given path is a pattern matching multiple files.
+     * @param filePath
+     * @return
+     */
+    protected static boolean isMultiFilePath(String filePath) {
+        String fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
+        return fileName.contains("*") || fileName.contains("?");
+    }
+
+    private static String getDirectoryPath(String path) {
+        return path.isEmpty() || path.endsWith("/") ? path : path + "/";
+    }
+
     /**
      * Get file type from info string.
      * @param typeInfo
@@ -397,6 +622,84 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         return targetPath;
     }
 
+    /**
+     * Makes sure this client is connected and logged in. Connections that have been idle for longer than the
+     * idle validation interval get validated first and are reopened when no longer usable.
+     * @throws IOException
+     */
+    protected void ensureConnected() throws IOException {
+        if (!connectionPool.validate(this)) {
+            LOG.warn("Idle connection to FTP server is no longer valid - reconnecting");
+            closeConnection();
+        }
+
+        connectAndLogin();
+        lastActivity = System.currentTimeMillis();
+    }
+
+    /**
+     * Checks if this connection has been idle for longer than the idle validation interval.
+     * @return
+     */
+    protected boolean isIdle() {
+        long interval = getEndpointConfiguration().getIdleValidationInterval();
+        return interval > 0 && lastActivity > 0 && System.currentTimeMillis() - lastActivity > interval;
+    }
+
+    /**
+     * Validates the connection with a NOOP command.
+     * @return
+     */
+    protected boolean validateConnection() {
+        try {
+            return ftpClient.isConnected() && ftpClient.sendNoOp();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes the connection without logout.
+     */
+    protected void closeConnection() {
+        try {
+            if (ftpClient.isConnected()) {
+                ftpClient.disconnect();
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to disconnect from FTP server", e);
+        }
+    }
+
+    /**
+     * Creates new client connection for the connection pool. The new client shares the endpoint configuration
+     * and the connection pool of this client.
+     * @return
+     */
+    protected FtpClient createPooledConnection() {
+        FtpClient connection = new FtpClient(getEndpointConfiguration());
+        connection.setPooledBy(this);
+        connection.initialize();
+        return connection;
+    }
+
+    /**
+     * Marks this client as connection of the pool of the given client.
+     * @param owner
+     */
+    void setPooledBy(FtpClient owner) {
+        this.pooled = true;
+        this.connectionPool = owner.connectionPool;
+    }
+
+    /**
+     * Checks if this client is a pooled connection.
+     * @return
+     */
+    protected boolean isPooled() {
+        return pooled;
+    }
+
     /**
      * Opens a new connection and performs login with user name and password if set.
      * @throws IOException
@@ -491,6 +794,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     @Override
     public void destroy() {
+        closeConnectionPool();
+
         try {
             if (ftpClient.isConnected()) {
                 ftpClient.logout();
@@ -544,6 +849,14 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         return ftpClient;
     }
 
+    /**
+     * Gets the connection pool used for parallel file transfers.
+     * @return
+     */
+    public FtpConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
     /**
      * Sets the correlation manager.
      * @param correlationManager
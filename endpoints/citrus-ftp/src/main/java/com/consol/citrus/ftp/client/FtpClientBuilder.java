@@ -54,6 +54,46 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         return this;
     }
 
+    /**
+     * Sets the streamingMode property.
+     * @param streamingMode
+     * @return
+     */
+    public FtpClientBuilder streamingMode(boolean streamingMode) {
+        endpoint.getEndpointConfiguration().setStreamingMode(streamingMode);
+        return this;
+    }
+
+    /**
+     * Sets the maxConnections property.
+     * @param maxConnections
+     * @return
+     */
+    public FtpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the idleValidationInterval property.
+     * @param idleValidationInterval
+     * @return
+     */
+    public FtpClientBuilder idleValidationInterval(long idleValidationInterval) {
+        endpoint.getEndpointConfiguration().setIdleValidationInterval(idleValidationInterval);
+        return this;
+    }
+
+    /**
+     * Sets the digestAlgorithm property.
+     * @param digestAlgorithm
+     * @return
+     */
+    public FtpClientBuilder digestAlgorithm(String digestAlgorithm) {
+        endpoint.getEndpointConfiguration().setDigestAlgorithm(digestAlgorithm);
+        return this;
+    }
+
     /**
      * Sets the auto read files property.
      * @param autoReadFiles
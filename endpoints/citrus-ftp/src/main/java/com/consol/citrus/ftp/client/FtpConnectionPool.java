@@ -0,0 +1,262 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of logged in client connections. Connections are kept open between test actions and get validated
+ * before reuse when they have been idle for longer than the configured idle validation interval. The number of
+ * connections is limited by the max connections setting of the endpoint configuration.
+ *
+ * @since 3.3
+ */
+public class FtpConnectionPool {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(FtpConnectionPool.class);
+
+    /** Endpoint configuration providing pool limits */
+    private final FtpEndpointConfiguration endpointConfiguration;
+
+    /** Creates new client connections */
+    private final Supplier<FtpClient> connectionFactory;
+
+    /** Idle connections ready for reuse */
+    private final Deque<FtpClient> idle = new ArrayDeque<>();
+
+    /** Guards pool state and signals released connections */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    /** Number of open connections including borrowed ones */
+    private int total;
+
+    /** Number of borrowed connections */
+    private int active;
+
+    /** Pool statistics */
+    private final AtomicLong createdConnections = new AtomicLong();
+    private final AtomicLong reusedConnections = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+
+    /**
+     * Constructor using endpoint configuration and connection factory.
+     * @param endpointConfiguration
+     * @param connectionFactory
+     */
+    public FtpConnectionPool(FtpEndpointConfiguration endpointConfiguration, Supplier<FtpClient> connectionFactory) {
+        this.endpointConfiguration = endpointConfiguration;
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Borrows a connection from the pool. Reuses idle connections or creates a new connection when the pool limit
+     * is not reached yet. Otherwise waits for a connection to be released until the timeout is reached.
+     * The connection is validated and logged in before it is returned.
+     * @param timeout
+     * @return
+     */
+    public FtpClient borrow(long timeout) {
+        FtpClient connection = null;
+        boolean create = false;
+
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        lock.lock();
+        try {
+            while (connection == null && !create) {
+                if (!idle.isEmpty()) {
+                    connection = idle.pollFirst();
+                    reusedConnections.incrementAndGet();
+                } else if (total < Math.max(1, endpointConfiguration.getMaxConnections())) {
+                    total++;
+                    create = true;
+                } else if (nanos <= 0) {
+                    throw new CitrusRuntimeException(String.format("Failed to get connection from pool within %s ms - " +
+                            "all %s connections in use", timeout, total));
+                } else {
+                    nanos = released.awaitNanos(nanos);
+                }
+            }
+
+            active++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for pooled connection", e);
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            if (create) {
+                connection = connectionFactory.get();
+                createdConnections.incrementAndGet();
+            }
+
+            connection.ensureConnected();
+            return connection;
+        } catch (Exception e) {
+            invalidate(connection);
+            throw e instanceof CitrusRuntimeException ? (CitrusRuntimeException) e :
+                    new CitrusRuntimeException("Failed to open pooled connection", e);
+        }
+    }
+
+    /**
+     * Returns borrowed connection to the pool.
+     * @param connection
+     */
+    public void release(FtpClient connection) {
+        lock.lock();
+        try {
+            active--;
+            idle.addFirst(connection);
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes borrowed connection and removes it from the pool. Used for connections in an unknown state.
+     * @param connection
+     */
+    public void invalidate(FtpClient connection) {
+        lock.lock();
+        try {
+            active--;
+            total--;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        if (connection != null) {
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Checks if given connection is still usable when it has been idle for a while. Records validation failures
+     * in the pool statistics.
+     * @param connection
+     * @return
+     */
+    boolean validate(FtpClient connection) {
+        if (connection.isIdle() && !connection.validateConnection()) {
+            validationFailures.incrementAndGet();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Closes all idle connections.
+     */
+    public void close() {
+        List<FtpClient> connections;
+        lock.lock();
+        try {
+            connections = new ArrayList<>(idle);
+            total -= idle.size();
+            idle.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        connections.forEach(this::closeQuietly);
+    }
+
+    private void closeQuietly(FtpClient connection) {
+        try {
+            connection.destroy();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to close pooled connection", e);
+        }
+    }
+
+    /**
+     * Gets the maximum number of connections.
+     * @return
+     */
+    public int getMaxConnections() {
+        return Math.max(1, endpointConfiguration.getMaxConnections());
+    }
+
+    /**
+     * Gets the number of borrowed connections.
+     * @return
+     */
+    public int getActiveConnections() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of idle connections.
+     * @return
+     */
+    public int getIdleConnections() {
+        lock.lock();
+        try {
+            return idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of connections created by this pool.
+     * @return
+     */
+    public long getCreatedConnections() {
+        return createdConnections.get();
+    }
+
+    /**
+     * Gets the number of times an idle connection has been reused.
+     * @return
+     */
+    public long getReusedConnections() {
+        return reusedConnections.get();
+    }
+
+    /**
+     * Gets the number of idle connections that failed validation and had to be reconnected.
+     * @return
+     */
+    public long getValidationFailures() {
+        return validationFailures.get();
+    }
+}
@@ -69,6 +69,18 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** File transfer passive mode */
     private boolean localPassiveMode = true;
 
+    /** Stream file transfers and provide file size and digest instead of file content */
+    private boolean streamingMode = false;
+
+    /** Digest algorithm used to compute file digest in streaming mode */
+    private String digestAlgorithm = "SHA-256";
+
+    /** Maximum number of pooled connections used for parallel file transfers */
+    private int maxConnections = 1;
+
+    /** Connections idle for longer than this interval in milliseconds get validated before reuse */
+    private long idleValidationInterval = 1000L * 30L;
+
     /**
      * Gets the ftp host.
      * @return
@@ -274,4 +286,76 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setLocalPassiveMode(boolean localPassiveMode) {
         this.localPassiveMode = localPassiveMode;
     }
+
+    /**
+     * Gets the streamingMode.
+     *
+     * @return
+     */
+    public boolean isStreamingMode() {
+        return streamingMode;
+    }
+
+    /**
+     * Sets the streamingMode.
+     *
+     * @param streamingMode
+     */
+    public void setStreamingMode(boolean streamingMode) {
+        this.streamingMode = streamingMode;
+    }
+
+    /**
+     * Gets the digestAlgorithm.
+     *
+     * @return
+     */
+    public String getDigestAlgorithm() {
+        return digestAlgorithm;
+    }
+
+    /**
+     * Sets the digestAlgorithm.
+     *
+     * @param digestAlgorithm
+     */
+    public void setDigestAlgorithm(String digestAlgorithm) {
+        this.digestAlgorithm = digestAlgorithm;
+    }
+
+    /**
+     * Gets the maxConnections.
+     *
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maxConnections.
+     *
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Gets the idleValidationInterval.
+     *
+     * @return
+     */
+    public long getIdleValidationInterval() {
+        return idleValidationInterval;
+    }
+
+    /**
+     * Sets the idleValidationInterval.
+     *
+     * @param idleValidationInterval
+     */
+    public void setIdleValidationInterval(long idleValidationInterval) {
+        this.idleValidationInterval = idleValidationInterval;
+    }
 }
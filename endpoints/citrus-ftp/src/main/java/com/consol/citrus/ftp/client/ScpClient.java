@@ -18,7 +18,14 @@ package com.consol.citrus.ftp.client;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -51,8 +58,16 @@ public class ScpClient extends SftpClient {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(ScpClient.class);
 
+    /** File permissions of uploaded files in streaming mode */
+    private static final Set<PosixFilePermission> DEFAULT_FILE_PERMISSIONS = EnumSet.of(PosixFilePermission.OWNER_READ,
+            PosixFilePermission.OWNER_WRITE, PosixFilePermission.GROUP_READ, PosixFilePermission.OTHERS_READ);
+
     private org.apache.sshd.scp.client.ScpClient scpClient;
 
+    /** SSH client and session reused by subsequent SCP operations */
+    private SshClient client;
+    private ClientSession session;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -91,7 +106,18 @@ public class ScpClient extends SftpClient {
     @Override
     protected FtpMessage storeFile(PutCommand command, TestContext context) {
         try {
-            scpClient.upload(FileUtils.getFileResource(command.getFile().getPath(), context).getFile().getAbsolutePath(), command.getTarget().getPath());
+            File localFile = FileUtils.getFileResource(command.getFile().getPath(), context).getFile();
+            TransferDigest transferDigest = createTransferDigest();
+            if (transferDigest != null) {
+                String remoteFilePath = addFileNameToTargetPath(localFile.getName(), command.getTarget().getPath());
+                try (InputStream inputStream = transferDigest.wrap(Files.newInputStream(localFile.toPath()))) {
+                    scpClient.upload(inputStream, remoteFilePath, localFile.length(), DEFAULT_FILE_PERMISSIONS, null);
+                }
+
+                return transferDigest.applyTo(FtpMessage.success());
+            }
+
+            scpClient.upload(localFile.getAbsolutePath(), command.getTarget().getPath());
         } catch (IOException e) {
             LOG.error("Failed to store file via SCP", e);
             return FtpMessage.error();
@@ -108,6 +134,17 @@ public class ScpClient extends SftpClient {
                 LOG.warn("Failed to create target directories in path: " + target.getFile().getAbsolutePath());
             }
 
+            TransferDigest transferDigest = createTransferDigest();
+            if (transferDigest != null) {
+                File localFile = target.getFile().isDirectory() ?
+                        new File(target.getFile(), Paths.get(command.getFile().getPath()).getFileName().toString()) : target.getFile();
+                try (OutputStream outputStream = transferDigest.wrap(Files.newOutputStream(localFile.toPath()))) {
+                    scpClient.download(command.getFile().getPath(), outputStream);
+                }
+
+                return transferDigest.applyTo(FtpMessage.success());
+            }
+
             scpClient.download(command.getFile().getPath(), target.getFile().getAbsolutePath());
         } catch (IOException e) {
             LOG.error("Failed to retrieve file via SCP", e);
@@ -119,8 +156,14 @@ public class ScpClient extends SftpClient {
 
     @Override
     protected void connectAndLogin() {
+        if (scpClient != null && session != null && session.isOpen()) {
+            return;
+        }
+
+        closeConnection();
+
         try {
-            SshClient client = SshClient.setUpDefaultClient();
+            client = SshClient.setUpDefaultClient();
             client.start();
 
             if (getEndpointConfiguration().isStrictHostChecking()) {
@@ -129,7 +172,7 @@ public class ScpClient extends SftpClient {
                 client.setServerKeyVerifier(AcceptAllServerKeyVerifier.INSTANCE);
             }
 
-            ClientSession session = client.connect(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort()).verify(getEndpointConfiguration().getTimeout()).getSession();
+            session = client.connect(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort()).verify(getEndpointConfiguration().getTimeout()).getSession();
             session.addPasswordIdentity(getEndpointConfiguration().getPassword());
 
             if (getPrivateKeyPath() != null) {
@@ -151,11 +194,46 @@ public class ScpClient extends SftpClient {
         }
     }
 
+    @Override
+    protected boolean validateConnection() {
+        return session != null && session.isOpen();
+    }
+
+    @Override
+    protected void closeConnection() {
+        try {
+            if (session != null) {
+                session.close();
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to close SCP session", e);
+        } finally {
+            session = null;
+            scpClient = null;
+        }
+
+        if (client != null) {
+            client.stop();
+            client = null;
+        }
+    }
+
+    @Override
+    protected FtpClient createPooledConnection() {
+        ScpClient connection = new ScpClient(getEndpointConfiguration());
+        connection.setPooledBy(this);
+        connection.initialize();
+        return connection;
+    }
+
     @Override
     public void initialize() {
     }
 
     @Override
     public void destroy() {
+        closeConnectionPool();
+
+        closeConnection();
     }
 }
@@ -64,6 +64,46 @@ public class ScpClientBuilder extends AbstractEndpointBuilder<ScpClient> {
         return this;
     }
 
+    /**
+     * Sets the streamingMode property.
+     * @param streamingMode
+     * @return
+     */
+    public ScpClientBuilder streamingMode(boolean streamingMode) {
+        endpoint.getEndpointConfiguration().setStreamingMode(streamingMode);
+        return this;
+    }
+
+    /**
+     * Sets the maxConnections property.
+     * @param maxConnections
+     * @return
+     */
+    public ScpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the idleValidationInterval property.
+     * @param idleValidationInterval
+     * @return
+     */
+    public ScpClientBuilder idleValidationInterval(long idleValidationInterval) {
+        endpoint.getEndpointConfiguration().setIdleValidationInterval(idleValidationInterval);
+        return this;
+    }
+
+    /**
+     * Sets the digestAlgorithm property.
+     * @param digestAlgorithm
+     * @return
+     */
+    public ScpClientBuilder digestAlgorithm(String digestAlgorithm) {
+        endpoint.getEndpointConfiguration().setDigestAlgorithm(digestAlgorithm);
+        return this;
+    }
+
     /**
      * Sets the auto read files property.
      *
@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -203,14 +204,16 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = addFileNameToTargetPath(localFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
+            TransferDigest transferDigest = createTransferDigest();
             try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
-                sftp.put(localFileInputStream, remoteFilePath);
+                sftp.put(transferDigest != null ? transferDigest.wrap(localFileInputStream) : localFileInputStream, remoteFilePath);
             }
+
+            FtpMessage result = FtpMessage.putResult(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", true);
+            return transferDigest != null ? transferDigest.applyTo(result) : result;
         } catch (IOException | SftpException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
         }
-
-        return FtpMessage.putResult(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", true);
     }
 
     @Override
@@ -219,19 +222,20 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
+            TransferDigest transferDigest = createTransferDigest();
             try (InputStream inputStream = sftp.get(remoteFilePath)) {
-                byte[] bytes = FileCopyUtils.copyToByteArray(inputStream);
-
                 // create intermediate directories if necessary
                 Path localFilePathObj = Paths.get(localFilePath);
                 Files.createDirectories(localFilePathObj.getParent());
-                Files.write(localFilePathObj, bytes);
+                Files.copy(transferDigest != null ? transferDigest.wrap(inputStream) : inputStream, localFilePathObj, StandardCopyOption.REPLACE_EXISTING);
             } catch (SftpException e) {
                 throw new CitrusRuntimeException(String.format("Failed to get file from FTP server. Remote path: %s. Local file path: %s. Error: %s",
                         remoteFilePath, localFilePath, e.getMessage()));
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (transferDigest != null) {
+                return transferDigest.applyTo(FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, null));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
@@ -281,6 +285,10 @@ public class SftpClient extends FtpClient {
                         .peek(entry -> log.info(String.format("Setting session configuration: %s='%s'", entry.getKey(), entry.getValue())))
                         .forEach(entry -> session.setConfig(entry.getKey(), entry.getValue()));
 
+                if (getEndpointConfiguration().getIdleValidationInterval() > 0) {
+                    session.setServerAliveInterval((int) getEndpointConfiguration().getIdleValidationInterval());
+                }
+
                 session.connect((int) getEndpointConfiguration().getTimeout());
 
                 Channel channel = session.openChannel("sftp");
@@ -355,6 +363,35 @@ public class SftpClient extends FtpClient {
         }
     }
 
+    @Override
+    protected boolean validateConnection() {
+        if (session == null || !session.isConnected() || sftp == null || !sftp.isConnected()) {
+            return false;
+        }
+
+        try {
+            session.sendKeepAliveMsg();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void closeConnection() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    @Override
+    protected FtpClient createPooledConnection() {
+        SftpClient connection = new SftpClient(getEndpointConfiguration());
+        connection.setPooledBy(this);
+        connection.initialize();
+        return connection;
+    }
+
     @Override
     public void initialize() {
         if (ssh == null) {
@@ -364,12 +401,16 @@ public class SftpClient extends FtpClient {
 
     @Override
     public void destroy() {
+        closeConnectionPool();
+
         if (session != null && session.isConnected()) {
             session.disconnect();
             log.info("Closed connection to FTP server");
         }
 
-        sftp.disconnect();
+        if (sftp != null) {
+            sftp.disconnect();
+        }
     }
 
     /**
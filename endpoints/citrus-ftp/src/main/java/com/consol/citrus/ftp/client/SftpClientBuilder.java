@@ -56,6 +56,46 @@ public class SftpClientBuilder extends AbstractEndpointBuilder<SftpClient> {
         return this;
     }
 
+    /**
+     * Sets the streamingMode property.
+     * @param streamingMode
+     * @return
+     */
+    public SftpClientBuilder streamingMode(boolean streamingMode) {
+        endpoint.getEndpointConfiguration().setStreamingMode(streamingMode);
+        return this;
+    }
+
+    /**
+     * Sets the maxConnections property.
+     * @param maxConnections
+     * @return
+     */
+    public SftpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the idleValidationInterval property.
+     * @param idleValidationInterval
+     * @return
+     */
+    public SftpClientBuilder idleValidationInterval(long idleValidationInterval) {
+        endpoint.getEndpointConfiguration().setIdleValidationInterval(idleValidationInterval);
+        return this;
+    }
+
+    /**
+     * Sets the digestAlgorithm property.
+     * @param digestAlgorithm
+     * @return
+     */
+    public SftpClientBuilder digestAlgorithm(String digestAlgorithm) {
+        endpoint.getEndpointConfiguration().setDigestAlgorithm(digestAlgorithm);
+        return this;
+    }
+
     /**
      * Sets the auto read files property.
      * @param autoReadFiles
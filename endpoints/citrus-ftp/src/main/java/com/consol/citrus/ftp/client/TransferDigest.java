@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.message.FtpMessageHeaders;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Computes size and message digest of a file while it is transferred. Streams get wrapped so the digest is updated
+ * with each chunk of data passing through. This way file content does not need to be loaded into memory in order to
+ * verify the transferred content.
+ *
+ * @since 3.3
+ */
+public class TransferDigest {
+
+    /** Digest algorithm name */
+    private final String algorithm;
+
+    /** Message digest updated with transferred bytes */
+    private final MessageDigest digest;
+
+    /** Number of transferred bytes */
+    private long size;
+
+    /** Hex encoded digest once computation has completed */
+    private String result;
+
+    /**
+     * Constructor using digest algorithm.
+     * @param algorithm
+     */
+    public TransferDigest(String algorithm) {
+        this.algorithm = algorithm;
+
+        try {
+            this.digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException(String.format("Unsupported file transfer digest algorithm '%s'", algorithm), e);
+        }
+    }
+
+    /**
+     * Wraps given input stream so all bytes read are added to the digest.
+     * @param inputStream
+     * @return
+     */
+    public InputStream wrap(InputStream inputStream) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b != -1) {
+                    update(b);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                    update(b, off, read);
+                }
+                return read;
+            }
+
+            @Override
+            public long skip(long n) {
+                return 0L;
+            }
+
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Wraps given output stream so all bytes written are added to the digest.
+     * @param outputStream
+     * @return
+     */
+    public OutputStream wrap(OutputStream outputStream) {
+        return new FilterOutputStream(outputStream) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                update(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                update(b, off, len);
+            }
+        };
+    }
+
+    private void update(int b) {
+        digest.update((byte) b);
+        size++;
+    }
+
+    private void update(byte[] b, int off, int len) {
+        digest.update(b, off, len);
+        size += len;
+    }
+
+    /**
+     * Adds file size and digest headers to given message.
+     * @param message
+     * @return
+     */
+    public FtpMessage applyTo(FtpMessage message) {
+        message.setHeader(FtpMessageHeaders.FTP_FILE_SIZE, size);
+        message.setHeader(FtpMessageHeaders.FTP_FILE_DIGEST, getDigest());
+        message.setHeader(FtpMessageHeaders.FTP_FILE_DIGEST_ALGORITHM, algorithm);
+        return message;
+    }
+
+    /**
+     * Gets the hex encoded digest. Completes the digest computation, so call this once the transfer has finished.
+     * @return
+     */
+    public String getDigest() {
+        if (result == null) {
+            result = Hex.encodeHexString(digest.digest());
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the number of transferred bytes.
+     * @return
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the digest algorithm.
+     * @return
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+}
@@ -69,6 +69,30 @@ public @interface FtpClientConfig {
      */
     String password() default "";
 
+    /**
+     * Streaming mode.
+     * @return
+     */
+    boolean streamingMode() default false;
+
+    /**
+     * Digest algorithm used in streaming mode.
+     * @return
+     */
+    String digestAlgorithm() default "SHA-256";
+
+    /**
+     * Maximum number of pooled connections.
+     * @return
+     */
+    int maxConnections() default 1;
+
+    /**
+     * Idle validation interval.
+     * @return
+     */
+    long idleValidationInterval() default 30000L;
+
     /**
      * Message correlator.
      * @return
@@ -54,6 +54,15 @@ public class FtpClientConfigParser implements AnnotationConfigParser<FtpClientCo
             builder.correlator(referenceResolver.resolve(annotation.correlator(), MessageCorrelator.class));
         }
 
+        builder.streamingMode(annotation.streamingMode());
+
+        if (StringUtils.hasText(annotation.digestAlgorithm())) {
+            builder.digestAlgorithm(annotation.digestAlgorithm());
+        }
+
+        builder.maxConnections(annotation.maxConnections());
+        builder.idleValidationInterval(annotation.idleValidationInterval());
+
         builder.errorHandlingStrategy(annotation.errorStrategy());
 
         builder.pollingInterval(annotation.pollingInterval());
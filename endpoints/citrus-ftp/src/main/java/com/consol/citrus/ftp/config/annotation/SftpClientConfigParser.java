@@ -78,6 +78,15 @@ public class SftpClientConfigParser implements AnnotationConfigParser<SftpClient
             builder.correlator(referenceResolver.resolve(annotation.correlator(), MessageCorrelator.class));
         }
 
+        builder.streamingMode(annotation.streamingMode());
+
+        if (StringUtils.hasText(annotation.digestAlgorithm())) {
+            builder.digestAlgorithm(annotation.digestAlgorithm());
+        }
+
+        builder.maxConnections(annotation.maxConnections());
+        builder.idleValidationInterval(annotation.idleValidationInterval());
+
         builder.errorHandlingStrategy(annotation.errorStrategy());
 
         builder.pollingInterval(annotation.pollingInterval());
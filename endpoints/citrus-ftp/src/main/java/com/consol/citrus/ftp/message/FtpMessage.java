@@ -16,9 +16,11 @@
 
 package com.consol.citrus.ftp.message;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.model.Command;
 import com.consol.citrus.ftp.model.CommandResult;
 import com.consol.citrus.ftp.model.CommandResultType;
@@ -40,6 +42,8 @@ import com.consol.citrus.xml.StringSource;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -147,6 +151,23 @@ public class FtpMessage extends DefaultMessage {
         return new FtpMessage(cmd);
     }
 
+    /**
+     * Creates new put command message storing the content of given resource. The client streams the resource content
+     * to the server, e.g. the temporary archive file of a streaming zip message payload.
+     * @param content
+     * @param remotePath
+     * @param type
+     * @return
+     */
+    public static FtpMessage put(Resource content, String remotePath, DataType type) {
+        try {
+            String localPath = content.isFile() ? ResourceUtils.FILE_URL_PREFIX + content.getFile().getAbsolutePath() : content.getURL().toString();
+            return put(localPath, remotePath, type);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Unable to put resource content that is neither a file nor an URL: " + content, e);
+        }
+    }
+
     /**
      * Creates new get command message.
      * @param remotePath
@@ -41,4 +41,10 @@ public final class FtpMessageHeaders {
     public static final String FTP_REPLY_CODE = FTP_PREFIX + "reply_code";
     public static final String FTP_REPLY_STRING = FTP_PREFIX + "reply_string";
 
+    /** File transfer headers */
+    public static final String FTP_FILE_SIZE = FTP_PREFIX + "file_size";
+    public static final String FTP_FILE_DIGEST = FTP_PREFIX + "file_digest";
+    public static final String FTP_FILE_DIGEST_ALGORITHM = FTP_PREFIX + "file_digest_algorithm";
+    public static final String FTP_FILE_COUNT = FTP_PREFIX + "file_count";
+
 }
@@ -23,9 +23,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.util.*;
 
 import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.message.FtpMessageHeaders;
 import com.consol.citrus.ftp.model.DeleteCommand;
 import com.consol.citrus.ftp.model.DeleteCommandResult;
 import com.consol.citrus.ftp.model.GetCommandResult;
@@ -33,6 +35,7 @@ import com.consol.citrus.ftp.model.ListCommandResult;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.testng.TestNGUtils;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.sshd.common.keyprovider.ClassLoadableResourceKeyPairProvider;
 import org.apache.sshd.server.SshServer;
 import org.apache.sshd.server.subsystem.SubsystemFactory;
@@ -110,6 +113,62 @@ public class SftpClientTest extends AbstractFtpClientTest {
         Assert.assertEquals(response.getPayload(GetCommandResult.class).getFile().getData(), inputFileAsString);
     }
 
+    @Test
+    public void testStreamingMode() throws Exception {
+        Path localDownloadFilePath = Paths.get(targetPath, "streaming_download.xml");
+        String expectedDigest = Hex.encodeHexString(MessageDigest.getInstance("SHA-256")
+                .digest(inputFileAsString.getBytes(StandardCharsets.UTF_8)));
+
+        sftpClient.getEndpointConfiguration().setStreamingMode(true);
+        try {
+            FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, remoteFilePath), context);
+            verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_DIGEST), expectedDigest);
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_SIZE), Files.size(Paths.get(remoteFilePath)));
+
+            ftpMessage = sftpClient.retrieveFile(getCommand(remoteFilePath, localDownloadFilePath.toString()), context);
+            verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+            Assert.assertNull(ftpMessage.getPayload(GetCommandResult.class).getFile().getData());
+            Assert.assertEquals(ftpMessage.getPayload(GetCommandResult.class).getFile().getPath(), localDownloadFilePath.toString());
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_DIGEST), expectedDigest);
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_DIGEST_ALGORITHM), "SHA-256");
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_SIZE), Files.size(localDownloadFilePath));
+        } finally {
+            sftpClient.getEndpointConfiguration().setStreamingMode(false);
+        }
+    }
+
+    @Test
+    public void testMultiFileTransfer() throws Exception {
+        Path localDir = Files.createDirectories(Paths.get(targetPath, "multi", "local"));
+        Path remoteDir = Files.createDirectories(Paths.get(targetPath, "multi", "remote"));
+        Path downloadDir = Paths.get(targetPath, "multi", "download");
+        for (String fileName : Arrays.asList("multi1.xml", "multi2.xml", "multi3.xml")) {
+            writeToFile(inputFileAsString, localDir.resolve(fileName));
+        }
+
+        sftpClient.getEndpointConfiguration().setMaxConnections(2);
+        try {
+            FtpMessage ftpMessage = sftpClient.storeFiles(putCommand(localDir + "/multi*.xml", remoteDir.toString()), context);
+            verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_COUNT), 3);
+            assertTrue(remoteDir.resolve("multi3.xml").toFile().exists());
+
+            ftpMessage = sftpClient.retrieveFiles(getCommand(remoteDir + "/multi?.xml", downloadDir.toString()), context);
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_COUNT), 3);
+            Assert.assertEquals(ftpMessage.getPayload(GetCommandResult.class).getFile().getPath(), downloadDir + "/");
+            Assert.assertEquals(new String(Files.readAllBytes(downloadDir.resolve("multi2.xml")), StandardCharsets.UTF_8), inputFileAsString);
+
+            FtpConnectionPool connectionPool = sftpClient.getConnectionPool();
+            assertTrue(connectionPool.getCreatedConnections() <= 2);
+            assertTrue(connectionPool.getReusedConnections() > 0);
+            Assert.assertEquals(connectionPool.getActiveConnections(), 0);
+            Assert.assertEquals(connectionPool.getIdleConnections(), connectionPool.getCreatedConnections());
+        } finally {
+            sftpClient.getEndpointConfiguration().setMaxConnections(1);
+        }
+    }
+
     @Test
     public void testRetrieveFileToLocalPath() throws Exception {
         Path localDownloadFilePath = Paths.get(targetPath, "local_download.xml");
@@ -22,6 +22,8 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageConverter;
 import com.consol.citrus.message.MessageHeaderUtils;
 import com.consol.citrus.message.MessageHeaders;
+import com.consol.citrus.message.ZipMessage;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -30,6 +32,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 
 import javax.servlet.http.Cookie;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -62,7 +65,12 @@ public class HttpMessageConverter implements MessageConverter<HttpEntity<?>, Htt
 
         HttpHeaders httpHeaders = createHttpHeaders(httpMessage, endpointConfiguration);
 
-        Object payload = httpMessage.getPayload();
+        Object payload = message instanceof ZipMessage ? ZipMessage.getStreamingPayload(message, context) : httpMessage.getPayload();
+        if (payload instanceof InputStream) {
+            // resource payloads are streamed to the request body instead of being copied into memory
+            payload = new InputStreamResource((InputStream) payload);
+        }
+
         if (httpMessage.getStatusCode() != null) {
             return new ResponseEntity<>(payload, httpHeaders, httpMessage.getStatusCode());
         } else {
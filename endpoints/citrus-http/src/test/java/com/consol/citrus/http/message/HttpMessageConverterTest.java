@@ -20,6 +20,10 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.http.client.HttpEndpointConfiguration;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.ZipMessage;
+import com.consol.citrus.util.FileUtils;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -32,6 +36,9 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import javax.servlet.http.Cookie;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -44,6 +51,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertNull;
 import static org.testng.AssertJUnit.assertTrue;
 
@@ -81,6 +89,39 @@ public class HttpMessageConverterTest {
         assertEquals(payload, httpEntity.getBody());
     }
 
+    @Test
+    public void testInputStreamPayloadIsStreamedOnOutbound() throws IOException {
+
+        //GIVEN
+        Message message = new DefaultMessage(new ByteArrayInputStream(payload.getBytes()));
+
+        //WHEN
+        final HttpEntity<?> httpEntity = messageConverter.convertOutbound(message, endpointConfiguration, testContext);
+
+        //THEN
+        assertTrue(httpEntity.getBody() instanceof InputStreamResource);
+        assertEquals(payload, FileUtils.readToString((Resource) httpEntity.getBody()));
+    }
+
+    @Test
+    public void testStreamingZipMessageIsStreamedOnOutbound() throws IOException {
+
+        //GIVEN
+        ZipMessage message = new ZipMessage().streaming(true);
+        message.addEntry("foo.txt", payload.getBytes());
+
+        //WHEN
+        final HttpEntity<?> httpEntity = messageConverter.convertOutbound(message, endpointConfiguration, testContext);
+
+        //THEN
+        assertTrue(httpEntity.getBody() instanceof Resource);
+        final File archiveFile = ((Resource) httpEntity.getBody()).getFile();
+        assertTrue(archiveFile.exists());
+
+        testContext.closeResources();
+        assertFalse(archiveFile.exists());
+    }
+
     @Test
     public void testHttpMessageCookiesArePreservedOnOutbound(){
 
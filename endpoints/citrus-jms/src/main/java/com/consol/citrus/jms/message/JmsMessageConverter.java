@@ -17,7 +17,9 @@
 package com.consol.citrus.jms.message;
 
 import com.consol.citrus.context.TestContext;
+import org.springframework.core.io.Resource;
 import org.springframework.jms.support.JmsUtils;
+import org.springframework.util.StreamUtils;
 import org.springframework.messaging.MessageHeaders;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.jms.endpoint.JmsEndpointConfiguration;
@@ -25,6 +27,8 @@ import com.consol.citrus.message.*;
 import com.consol.citrus.message.Message;
 
 import javax.jms.*;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.*;
 
@@ -129,7 +133,7 @@ public class JmsMessageConverter implements MessageConverter<javax.jms.Message,
      */
     public javax.jms.Message createJmsMessage(Message message, Session session, JmsEndpointConfiguration endpointConfiguration, TestContext context) {
         try {
-            Object payload = message.getPayload();
+            Object payload = ZipMessage.getStreamingPayload(message, context);
 
             javax.jms.Message jmsMessage;
             if (endpointConfiguration.isUseObjectMessages()) {
@@ -141,6 +145,9 @@ public class JmsMessageConverter implements MessageConverter<javax.jms.Message,
             } else if (payload instanceof byte[]) {
                 jmsMessage = session.createBytesMessage();
                 ((BytesMessage)jmsMessage).writeBytes((byte[]) payload);
+            } else if (payload instanceof InputStream || payload instanceof Resource) {
+                jmsMessage = session.createBytesMessage();
+                writeBytes((BytesMessage) jmsMessage, payload);
             } else if (payload instanceof Map) {
                 jmsMessage = session.createMapMessage();
                 Map<?, ?> map = ((Map) payload);
@@ -154,7 +161,7 @@ public class JmsMessageConverter implements MessageConverter<javax.jms.Message,
                 jmsMessage = session.createObjectMessage((Serializable) payload);
             } else {
                 throw new CitrusRuntimeException("Cannot convert object of type [" + payload + "] to JMS message. Supported message " +
-                        "payloads are: String, byte array, Map<String,?>, Serializable object.");
+                        "payloads are: String, byte array, InputStream, Resource, Map<String,?>, Serializable object.");
             }
             convertOutbound(jmsMessage, message, endpointConfiguration, context);
 
@@ -164,4 +171,22 @@ public class JmsMessageConverter implements MessageConverter<javax.jms.Message,
         }
     }
 
+    /**
+     * Copies input stream or resource payload to given bytes message in chunks without reading the whole
+     * payload into memory first.
+     * @param bytesMessage
+     * @param payload
+     * @throws JMSException
+     */
+    private void writeBytes(BytesMessage bytesMessage, Object payload) throws JMSException {
+        try (InputStream in = payload instanceof Resource ? ((Resource) payload).getInputStream() : (InputStream) payload) {
+            byte[] buffer = new byte[StreamUtils.BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                bytesMessage.writeBytes(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read jms message payload", e);
+        }
+    }
 }
@@ -19,6 +19,7 @@ package com.consol.citrus.jmx.client;
 import javax.management.Attribute;
 import javax.management.InstanceNotFoundException;
 import javax.management.JMException;
+import javax.management.ListenerNotFoundException;
 import javax.management.MBeanServerConnection;
 import javax.management.MalformedObjectNameException;
 import javax.management.Notification;
@@ -32,16 +33,26 @@ import javax.management.remote.JMXServiceURL;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.jmx.endpoint.JmxEndpointConfiguration;
 import com.consol.citrus.jmx.message.JmxMessage;
+import com.consol.citrus.jmx.message.JmxMessageHeaders;
 import com.consol.citrus.jmx.model.ManagedBeanInvocation;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
@@ -58,7 +69,7 @@ import org.springframework.util.StringUtils;
  * @author Christoph Deppisch
  * @since 2.5
  */
-public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsumer, NotificationListener {
+public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsumer, NotificationListener, ShutdownPhase {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JmxClient.class);
@@ -75,6 +86,19 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Optional notification listener */
     private NotificationListener notificationListener;
 
+    /** Server connection and MBean the notification listener has been added to */
+    private MBeanServerConnection notificationConnection;
+    private ObjectName notificationObjectName;
+
+    /** Correlation key of notifications received by the current notification listener */
+    private volatile String notificationCorrelationKey;
+
+    /** Received notifications by correlation key, removed once the listener is gone and all notifications are consumed */
+    private final Map<String, BlockingQueue<Message>> notificationBuffers = new ConcurrentHashMap<>();
+
+    /** Network connector kept open between invocations */
+    private JMXConnector networkConnector;
+
     /** Scheduler */
     private ScheduledExecutorService scheduledExecutor = new ScheduledThreadPoolExecutor(1);
 
@@ -140,25 +164,15 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
                 } else {
                     correlationManager.store(correlationKey, JmxMessage.result());
                 }
+            } else if (invocation.getAttributes() != null) {
+                correlationManager.store(correlationKey, getAttributes(objectName, invocation.getAttributes(), serverConnection));
             } else if (invocation.getAttribute() != null) {
                 ManagedBeanInvocation.Attribute attribute = invocation.getAttribute();
 
                 if (StringUtils.hasText(attribute.getValue())) {
                     serverConnection.setAttribute(objectName, new Attribute(attribute.getName(), invocation.getAttributeValue(context.getReferenceResolver())));
                 } else {
-                    Object attributeValue = serverConnection.getAttribute(objectName, attribute.getName());
-
-                    if (StringUtils.hasText(attribute.getInnerPath())) {
-                        if (attributeValue instanceof CompositeData) {
-                            if (!((CompositeData) attributeValue).containsKey(attribute.getInnerPath())) {
-                                throw new CitrusRuntimeException("Failed to find inner path attribute value: " + attribute.getInnerPath());
-                            }
-
-                            attributeValue = ((CompositeData) attributeValue).get(attribute.getInnerPath());
-                        } else {
-                            throw new CitrusRuntimeException("Failed to get inner path on attribute value: " + attributeValue);
-                        }
-                    }
+                    Object attributeValue = getInnerPathValue(serverConnection.getAttribute(objectName, attribute.getName()), attribute);
 
                     if (attributeValue != null) {
                         correlationManager.store(correlationKey, JmxMessage.result(attributeValue));
@@ -172,19 +186,100 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         } catch (JMException e) {
             throw new CitrusRuntimeException("Failed to execute MBean operation", e);
         } catch (IOException e) {
+            dropNetworkConnection(serverConnection);
             throw new CitrusRuntimeException("Failed to execute MBean operation", e);
         }
     }
 
     /**
-     * Establish network connection to remote mBean server.
+     * Reads several attributes in a single batch from the MBean. In case object name is a pattern all matching MBeans
+     * are queried and the result holds the attribute values of each MBean.
+     * @param objectName
+     * @param attributes
+     * @param serverConnection
+     * @return
+     * @throws JMException
+     * @throws IOException
+     */
+    private Message getAttributes(ObjectName objectName, ManagedBeanInvocation.Attributes attributes, MBeanServerConnection serverConnection) throws JMException, IOException {
+        String[] attributeNames = attributes.getAttributes()
+                .stream()
+                .map(ManagedBeanInvocation.Attribute::getName)
+                .distinct()
+                .toArray(String[]::new);
+
+        Set<ObjectName> objectNames;
+        if (objectName.isPattern()) {
+            objectNames = new TreeSet<>(serverConnection.queryNames(objectName, null));
+        } else {
+            objectNames = Collections.singleton(objectName);
+        }
+
+        JmxMessage result = JmxMessage.result();
+        for (ObjectName name : objectNames) {
+            Map<String, Object> values = new HashMap<>();
+            for (Attribute value : serverConnection.getAttributes(name, attributeNames).asList()) {
+                values.put(value.getName(), value.getValue());
+            }
+
+            Map<String, Object> attributeValues = new LinkedHashMap<>();
+            for (ManagedBeanInvocation.Attribute attribute : attributes.getAttributes()) {
+                if (!values.containsKey(attribute.getName())) {
+                    throw new CitrusRuntimeException(String.format("Failed to read attribute '%s' of MBean '%s'", attribute.getName(), name));
+                }
+
+                String attributeName = StringUtils.hasText(attribute.getInnerPath()) ? attribute.getName() + "." + attribute.getInnerPath() : attribute.getName();
+                attributeValues.put(attributeName, getInnerPathValue(values.get(attribute.getName()), attribute));
+            }
+
+            result.mbean(name.toString(), attributeValues);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets inner path value of composite data attribute value if inner path is set on attribute.
+     * @param attributeValue
+     * @param attribute
      * @return
      */
-    private MBeanServerConnection getNetworkConnection() {
+    private Object getInnerPathValue(Object attributeValue, ManagedBeanInvocation.Attribute attribute) {
+        if (!StringUtils.hasText(attribute.getInnerPath())) {
+            return attributeValue;
+        }
+
+        if (attributeValue instanceof CompositeData) {
+            if (!((CompositeData) attributeValue).containsKey(attribute.getInnerPath())) {
+                throw new CitrusRuntimeException("Failed to find inner path attribute value: " + attribute.getInnerPath());
+            }
+
+            return ((CompositeData) attributeValue).get(attribute.getInnerPath());
+        } else {
+            throw new CitrusRuntimeException("Failed to get inner path on attribute value: " + attributeValue);
+        }
+    }
+
+    /**
+     * Establish network connection to remote mBean server. The connection is kept open and reused by
+     * subsequent invocations. Lost connections are dropped by the connection notification listener or on
+     * I/O errors so the next invocation connects again.
+     * @return
+     */
+    private synchronized MBeanServerConnection getNetworkConnection() {
+        if (networkConnector != null) {
+            try {
+                return networkConnector.getMBeanServerConnection();
+            } catch (IOException e) {
+                log.debug("JMX connection to '" + getEndpointConfiguration().getServerUrl() + "' is closed - reconnecting");
+                closeNetworkConnection();
+            }
+        }
+
         try {
             JMXServiceURL url = new JMXServiceURL(getEndpointConfiguration().getServerUrl());
             String[] creds = {getEndpointConfiguration().getUsername(), getEndpointConfiguration().getPassword()};
-            JMXConnector networkConnector = JMXConnectorFactory.connect(url, Collections.singletonMap(JMXConnector.CREDENTIALS, creds));
+            networkConnector = JMXConnectorFactory.connect(url, Collections.singletonMap(JMXConnector.CREDENTIALS, creds));
             connectionId = networkConnector.getConnectionId();
 
             networkConnector.addConnectionNotificationListener(this, null, null);
@@ -194,6 +289,43 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Drops the network connection after an I/O error so the next invocation reconnects. Connections to the
+     * platform MBean server are kept.
+     * @param serverConnection
+     */
+    private synchronized void dropNetworkConnection(MBeanServerConnection serverConnection) {
+        if (networkConnector == null || serverConnection == ManagementFactory.getPlatformMBeanServer()) {
+            return;
+        }
+
+        log.debug("JMX connection to '" + getEndpointConfiguration().getServerUrl() + "' failed - reconnecting on next invocation");
+        closeNetworkConnection();
+    }
+
+    /**
+     * Closes the network connection if any.
+     */
+    private synchronized void closeNetworkConnection() {
+        if (networkConnector == null) {
+            return;
+        }
+
+        try {
+            networkConnector.removeConnectionNotificationListener(this);
+        } catch (ListenerNotFoundException e) {
+            log.debug("Connection notification listener already removed");
+        }
+
+        try {
+            networkConnector.close();
+        } catch (IOException e) {
+            log.warn("Failed to close JMX connection", e);
+        } finally {
+            networkConnector = null;
+        }
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -213,7 +345,22 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        Message message = correlationManager.find(selector, timeout);
+        Message message;
+        BlockingQueue<Message> notifications = notificationBuffers.get(selector);
+        if (notifications != null) {
+            try {
+                message = notifications.poll(timeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for JMX notification", e);
+            }
+
+            if (notifications.isEmpty() && !selector.equals(notificationCorrelationKey)) {
+                notificationBuffers.remove(selector, notifications);
+            }
+        } else {
+            message = correlationManager.find(selector, timeout);
+        }
 
         if (message == null) {
             throw new MessageTimeoutException(timeout, getEndpointConfiguration().getServerUrl());
@@ -227,6 +374,7 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         JMXConnectionNotification connectionNotification = (JMXConnectionNotification) notification;
         if (connectionNotification.getConnectionId().equals(getConnectionId()) && connectionLost(connectionNotification)) {
             log.warn("JmxClient lost JMX connection for : {}", getEndpointConfiguration().getServerUrl());
+            closeNetworkConnection();
             if (getEndpointConfiguration().isAutoReconnect()) {
                 scheduleReconnect();
             }
@@ -252,9 +400,11 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
             @Override
             public void run() {
                 try {
+                    closeNetworkConnection();
                     MBeanServerConnection serverConnection = getNetworkConnection();
                     if (notificationListener != null) {
-                        serverConnection.addNotificationListener(objectName, notificationListener, getEndpointConfiguration().getNotificationFilter(), getEndpointConfiguration().getNotificationHandback());
+                        serverConnection.addNotificationListener(notificationObjectName, notificationListener, getEndpointConfiguration().getNotificationFilter(), getEndpointConfiguration().getNotificationHandback());
+                        notificationConnection = serverConnection;
                     }
                 } catch (Exception e) {
                     log.warn("Failed to reconnect to JMX MBean server. {}", e.getMessage());
@@ -267,28 +417,68 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
     }
 
     /**
-     * Add notification listener for response messages.
+     * Add notification listener for response messages. Notifications are buffered in order of arrival so
+     * subsequent receive operations consume one notification after the other.
      * @param objectName
      * @param correlationKey
      * @param serverConnection
      */
     private void addNotificationListener(ObjectName objectName, final String correlationKey, MBeanServerConnection serverConnection) {
         try {
-            notificationListener = new NotificationListener() {
-                @Override
-                public void handleNotification(Notification notification, Object handback) {
-                    correlationManager.store(correlationKey, new DefaultMessage(notification.getMessage()));
-                }
-            };
+            removeNotificationListener();
+
+            final BlockingQueue<Message> notifications = notificationBuffers.computeIfAbsent(correlationKey, key -> new LinkedBlockingQueue<>());
+            notificationListener = (notification, handback) -> notifications.add(new DefaultMessage(notification.getMessage())
+                    .setHeader(JmxMessageHeaders.JMX_NOTIFICATION_TYPE, notification.getType())
+                    .setHeader(JmxMessageHeaders.JMX_NOTIFICATION_SEQUENCE, notification.getSequenceNumber())
+                    .setHeader(JmxMessageHeaders.JMX_NOTIFICATION_TIMESTAMP, notification.getTimeStamp()));
 
             serverConnection.addNotificationListener(objectName, notificationListener, getEndpointConfiguration().getNotificationFilter(), getEndpointConfiguration().getNotificationHandback());
+            notificationConnection = serverConnection;
+            notificationObjectName = objectName;
+            notificationCorrelationKey = correlationKey;
         } catch (InstanceNotFoundException e) {
             throw new CitrusRuntimeException("Failed to find object name instance", e);
         } catch (IOException e) {
+            dropNetworkConnection(serverConnection);
             throw new CitrusRuntimeException("Failed to add notification listener", e);
         }
     }
 
+    /**
+     * Removes current notification listener from the MBean server if any. The notification buffer of the listener is
+     * removed as well unless it still holds notifications that have not been received yet.
+     */
+    private void removeNotificationListener() {
+        if (notificationListener == null || notificationConnection == null) {
+            return;
+        }
+
+        try {
+            notificationConnection.removeNotificationListener(notificationObjectName, notificationListener);
+        } catch (JMException | IOException e) {
+            log.debug("Failed to remove JMX notification listener", e);
+        } finally {
+            String correlationKey = notificationCorrelationKey;
+            notificationListener = null;
+            notificationConnection = null;
+            notificationObjectName = null;
+            notificationCorrelationKey = null;
+
+            if (correlationKey != null) {
+                notificationBuffers.computeIfPresent(correlationKey, (key, notifications) -> notifications.isEmpty() ? null : notifications);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        removeNotificationListener();
+        notificationBuffers.clear();
+        closeNetworkConnection();
+        scheduledExecutor.shutdownNow();
+    }
+
     /**
      * Creates a message producer for this endpoint for sending messages
      * to this endpoint.
@@ -16,6 +16,8 @@
 
 package com.consol.citrus.jmx.message;
 
+import java.util.Map;
+
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.jmx.model.JmxMarshaller;
 import com.consol.citrus.jmx.model.ManagedBeanInvocation;
@@ -130,6 +132,22 @@ public class JmxMessage extends DefaultMessage {
      * @param name
      * @return
      */
+    public JmxMessage attributes(String ... names) {
+        if (mbeanInvocation == null) {
+            throw new CitrusRuntimeException("Invalid access to attributes for JMX message");
+        }
+
+        ManagedBeanInvocation.Attributes attributes = new ManagedBeanInvocation.Attributes();
+        for (String name : names) {
+            ManagedBeanInvocation.Attribute attribute = new ManagedBeanInvocation.Attribute();
+            attribute.setName(name);
+            attributes.getAttributes().add(attribute);
+        }
+
+        mbeanInvocation.setAttributes(attributes);
+        return this;
+    }
+
     public JmxMessage operation(String name) {
         if (mbeanInvocation == null) {
             throw new CitrusRuntimeException("Invalid access to operation for JMX message");
@@ -189,10 +207,34 @@ public class JmxMessage extends DefaultMessage {
         return new JmxMessage(new ManagedBeanResult());
     }
 
+    public JmxMessage mbean(String name, Map<String, Object> attributeValues) {
+        if (mbeanResult == null) {
+            throw new CitrusRuntimeException("Invalid access to mbean result for JMX message");
+        }
+
+        ManagedBeanResult.MBean mbean = new ManagedBeanResult.MBean();
+        mbean.setName(name);
+        for (Map.Entry<String, Object> attributeValue : attributeValues.entrySet()) {
+            ManagedBeanResult.Attribute attribute = new ManagedBeanResult.Attribute();
+            attribute.setName(attributeValue.getKey());
+            if (attributeValue.getValue() != null) {
+                attribute.setValueObject(attributeValue.getValue());
+            }
+            mbean.getAttributes().add(attribute);
+        }
+
+        mbeanResult.getMbeans().add(mbean);
+        return this;
+    }
+
     @Override
     public <T> T getPayload(Class<T> type) {
         if (String.class.equals(type)) {
             return (T) getPayload();
+        } else if (ManagedBeanInvocation.class.equals(type) && mbeanInvocation != null) {
+            return (T) mbeanInvocation;
+        } else if (ManagedBeanResult.class.equals(type) && mbeanResult != null) {
+            return (T) mbeanResult;
         } else {
             return super.getPayload(type);
         }
@@ -42,4 +42,8 @@ public abstract class JmxMessageHeaders {
     public static final String JMX_ATTRIBUTE_VALUE = JMX_PREFIX + "attribute_value";
     public static final String JMX_OPERATION = JMX_PREFIX + "operation";
     public static final String JMX_OPERATION_PARAMS = JMX_PREFIX + "operation_params";
+
+    public static final String JMX_NOTIFICATION_TYPE = JMX_PREFIX + "notification_type";
+    public static final String JMX_NOTIFICATION_SEQUENCE = JMX_PREFIX + "notification_sequence";
+    public static final String JMX_NOTIFICATION_TIMESTAMP = JMX_PREFIX + "notification_timestamp";
 }
@@ -49,6 +49,7 @@ import org.springframework.util.StringUtils;
         "objectKey",
         "objectValue",
         "attribute",
+        "attributes",
         "operation"
 })
 @XmlRootElement(name = "mbean-invocation")
@@ -68,6 +69,9 @@ public class ManagedBeanInvocation {
     @XmlElement
     protected ManagedBeanInvocation.Attribute attribute;
 
+    @XmlElement
+    protected ManagedBeanInvocation.Attributes attributes;
+
     @XmlElement
     protected ManagedBeanInvocation.Operation operation;
 
@@ -255,6 +259,24 @@ public class ManagedBeanInvocation {
         this.attribute = attribute;
     }
 
+    /**
+     * Gets the value of the attributes property. Attributes are read from the MBean in a single batch.
+     *
+     * @return the attributes
+     */
+    public ManagedBeanInvocation.Attributes getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Sets the attributes property.
+     *
+     * @param attributes
+     */
+    public void setAttributes(ManagedBeanInvocation.Attributes attributes) {
+        this.attributes = attributes;
+    }
+
     @XmlAccessorType(XmlAccessType.FIELD)
     @XmlType(name = "")
     public static class Attribute {
@@ -559,6 +581,24 @@ public class ManagedBeanInvocation {
         }
     }
 
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @XmlType(name = "", propOrder = {
+            "attributes"
+    })
+    public static class Attributes {
+
+        @XmlElement(name = "attribute", required = true)
+        protected List<ManagedBeanInvocation.Attribute> attributes;
+
+        public List<ManagedBeanInvocation.Attribute> getAttributes() {
+            if (attributes == null) {
+                attributes = new ArrayList<>();
+            }
+            return this.attributes;
+        }
+
+    }
+
     @XmlAccessorType(XmlAccessType.FIELD)
     @XmlType(name = "", propOrder = {
             "parameter"
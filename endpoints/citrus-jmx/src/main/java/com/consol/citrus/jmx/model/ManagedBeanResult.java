@@ -25,7 +25,9 @@ import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -41,7 +43,8 @@ import org.springframework.util.StringUtils;
  */
 @XmlAccessorType(XmlAccessType.FIELD)
 @XmlType(name = "", propOrder = {
-        "object"
+        "object",
+        "mbeans"
 })
 @XmlRootElement(name = "mbean-result")
 public class ManagedBeanResult {
@@ -49,6 +52,9 @@ public class ManagedBeanResult {
     @XmlElement
     protected ManagedBeanResult.Object object;
 
+    @XmlElement(name = "mbean")
+    protected List<ManagedBeanResult.MBean> mbeans;
+
     /**
      * Gets the value of the object property.
      *
@@ -73,6 +79,18 @@ public class ManagedBeanResult {
         this.object = value;
     }
 
+    /**
+     * Gets the MBean attribute results of a batched attribute invocation.
+     *
+     * @return
+     */
+    public List<ManagedBeanResult.MBean> getMbeans() {
+        if (mbeans == null) {
+            mbeans = new ArrayList<>();
+        }
+        return mbeans;
+    }
+
     /**
      * Gets this service result as object casted to target type if necessary.
      * @return
@@ -227,4 +245,73 @@ public class ManagedBeanResult {
             this.valueObject = valueObject;
         }
     }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @XmlType(name = "", propOrder = {
+            "attributes"
+    })
+    public static class MBean {
+
+        @XmlAttribute(name = "name")
+        protected String name;
+
+        @XmlElement(name = "attribute")
+        protected List<ManagedBeanResult.Attribute> attributes;
+
+        /**
+         * Gets the value of the name property.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Sets the name property.
+         *
+         * @param name
+         */
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Gets the attribute values of this MBean.
+         *
+         * @return
+         */
+        public List<ManagedBeanResult.Attribute> getAttributes() {
+            if (attributes == null) {
+                attributes = new ArrayList<>();
+            }
+            return attributes;
+        }
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @XmlType(name = "")
+    public static class Attribute extends ManagedBeanResult.Object {
+
+        @XmlAttribute(name = "name")
+        protected String name;
+
+        /**
+         * Gets the value of the name property.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Sets the name property.
+         *
+         * @param name
+         */
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jmx.client;
+
+import javax.management.MBeanServer;
+import javax.management.Notification;
+import javax.management.NotificationBroadcasterSupport;
+import javax.management.ObjectName;
+import javax.management.StandardEmitterMBean;
+import javax.management.remote.JMXConnectionNotification;
+import javax.management.remote.JMXConnectorServer;
+import javax.management.remote.JMXConnectorServerFactory;
+import javax.management.remote.JMXServiceURL;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
+import java.rmi.server.UnicastRemoteObject;
+import java.util.Map;
+import java.util.Queue;
+
+import com.consol.citrus.jmx.endpoint.JmxEndpointConfiguration;
+import com.consol.citrus.jmx.mbean.HelloBean;
+import com.consol.citrus.jmx.mbean.HelloBeanImpl;
+import com.consol.citrus.jmx.message.JmxMessage;
+import com.consol.citrus.jmx.message.JmxMessageHeaders;
+import com.consol.citrus.jmx.model.ManagedBeanResult;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class JmxClientTest extends AbstractTestNGUnitTest {
+
+    private final MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    private final NotificationBroadcasterSupport emitter = new NotificationBroadcasterSupport();
+
+    private ObjectName hello1;
+    private ObjectName hello2;
+
+    private JmxClient jmxClient;
+
+    @BeforeClass
+    public void setupMBeans() throws Exception {
+        hello1 = new ObjectName("com.consol.citrus.jmx.client:type=HelloBean,name=hello1");
+        hello2 = new ObjectName("com.consol.citrus.jmx.client:type=HelloBean,name=hello2");
+
+        HelloBeanImpl helloBean1 = new HelloBeanImpl();
+        helloBean1.setHelloMessage("Hello %s!");
+        mbeanServer.registerMBean(new StandardEmitterMBean(helloBean1, HelloBean.class, emitter), hello1);
+
+        HelloBeanImpl helloBean2 = new HelloBeanImpl();
+        helloBean2.setHelloMessage("Hi %s!");
+        mbeanServer.registerMBean(new StandardEmitterMBean(helloBean2, HelloBean.class, new NotificationBroadcasterSupport()), hello2);
+
+        JmxEndpointConfiguration endpointConfiguration = new JmxEndpointConfiguration();
+        endpointConfiguration.setServerUrl("platform");
+        jmxClient = new JmxClient(endpointConfiguration);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void unregisterMBeans() throws Exception {
+        jmxClient.destroy();
+        mbeanServer.unregisterMBean(hello1);
+        mbeanServer.unregisterMBean(hello2);
+    }
+
+    @Test
+    public void testGetAttributesWithPattern() {
+        jmxClient.send(JmxMessage.invocation("com.consol.citrus.jmx.client:type=HelloBean,*")
+                .attributes("HelloMessage"), context);
+
+        Message response = jmxClient.receive(context);
+        ManagedBeanResult result = response.getPayload(ManagedBeanResult.class);
+        Assert.assertEquals(result.getMbeans().size(), 2);
+        Assert.assertEquals(result.getMbeans().get(0).getName(), hello1.toString());
+        Assert.assertEquals(result.getMbeans().get(0).getAttributes().get(0).getName(), "HelloMessage");
+        Assert.assertEquals(result.getMbeans().get(0).getAttributes().get(0).getValue(), "Hello %s!");
+        Assert.assertEquals(result.getMbeans().get(1).getAttributes().get(0).getValue(), "Hi %s!");
+
+        String payload = response.getPayload(String.class);
+        Assert.assertTrue(payload.contains("name=\"HelloMessage\""));
+        Assert.assertTrue(payload.contains("value=\"Hi %s!\""));
+    }
+
+    @Test
+    public void testBufferedNotifications() {
+        jmxClient.send(JmxMessage.invocation(hello1.toString()), context);
+
+        emitter.sendNotification(new Notification("hello.changed", hello1, 1L, "First"));
+        emitter.sendNotification(new Notification("hello.changed", hello1, 2L, "Second"));
+
+        Message first = jmxClient.receive(context, 5000L);
+        Assert.assertEquals(first.getPayload(String.class), "First");
+        Assert.assertEquals(first.getHeader(JmxMessageHeaders.JMX_NOTIFICATION_TYPE), "hello.changed");
+        Assert.assertEquals(first.getHeader(JmxMessageHeaders.JMX_NOTIFICATION_SEQUENCE), 1L);
+
+        Message second = jmxClient.receive(context, 5000L);
+        Assert.assertEquals(second.getPayload(String.class), "Second");
+    }
+
+    @Test
+    public void testNotificationBufferCleanup() {
+        JmxEndpointConfiguration endpointConfiguration = new JmxEndpointConfiguration();
+        endpointConfiguration.setServerUrl("platform");
+        JmxClient client = new JmxClient(endpointConfiguration);
+
+        try {
+            Map<?, ?> notificationBuffers = (Map<?, ?>) ReflectionTestUtils.getField(client, "notificationBuffers");
+
+            client.send(JmxMessage.invocation(hello1.toString()), context);
+            emitter.sendNotification(new Notification("hello.changed", hello1, 3L, "Third"));
+            Assert.assertEquals(notificationBuffers.size(), 1);
+
+            client.send(JmxMessage.invocation(hello1.toString()), context);
+            Assert.assertEquals(notificationBuffers.size(), 2);
+
+            String consumedKey = notificationBuffers.keySet().stream()
+                    .map(Object::toString)
+                    .filter(key -> !((Queue<?>) notificationBuffers.get(key)).isEmpty())
+                    .findFirst()
+                    .orElseThrow(AssertionError::new);
+            Assert.assertEquals(client.receive(consumedKey, context, 5000L).getPayload(String.class), "Third");
+            Assert.assertEquals(notificationBuffers.size(), 1);
+
+            client.send(JmxMessage.invocation(hello1.toString()), context);
+            Assert.assertEquals(notificationBuffers.size(), 1);
+        } finally {
+            client.destroy();
+        }
+
+        Assert.assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(client, "notificationBuffers")).isEmpty());
+    }
+
+    @Test
+    public void testReconnectAfterConnectionLost() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        Registry registry = LocateRegistry.createRegistry(port);
+        JMXServiceURL url = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://localhost:" + port + "/jmxrmi");
+        JMXConnectorServer connectorServer = JMXConnectorServerFactory.newJMXConnectorServer(url, null, mbeanServer);
+        connectorServer.start();
+
+        JmxEndpointConfiguration endpointConfiguration = new JmxEndpointConfiguration();
+        endpointConfiguration.setServerUrl(url.toString());
+        endpointConfiguration.setAutoReconnect(false);
+        JmxClient client = new JmxClient(endpointConfiguration);
+
+        try {
+            client.send(JmxMessage.invocation(hello1.toString()).attribute("HelloMessage"), context);
+            Assert.assertEquals(client.receive(context).getPayload(String.class), JmxMessage.result("Hello %s!").getPayload(String.class));
+            String connectionId = client.getConnectionId();
+
+            client.handleNotification(new JMXConnectionNotification(JMXConnectionNotification.FAILED, this, connectionId, 1L, "Connection lost", null), null);
+            Assert.assertNull(ReflectionTestUtils.getField(client, "networkConnector"));
+
+            client.send(JmxMessage.invocation(hello1.toString()).attribute("HelloMessage"), context);
+            Assert.assertEquals(client.receive(context).getPayload(String.class), JmxMessage.result("Hello %s!").getPayload(String.class));
+            Assert.assertNotEquals(client.getConnectionId(), connectionId);
+        } finally {
+            client.destroy();
+            connectorServer.stop();
+            UnicastRemoteObject.unexportObject(registry, true);
+        }
+    }
+}
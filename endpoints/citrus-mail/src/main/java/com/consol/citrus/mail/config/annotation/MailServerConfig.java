@@ -50,6 +50,12 @@ public @interface MailServerConfig {
      */
     boolean splitMultipart() default false;
 
+    /**
+     * Pass through mode.
+     * @return
+     */
+    boolean passThrough() default false;
+
     /**
      * Mail marshaller.
      * @return
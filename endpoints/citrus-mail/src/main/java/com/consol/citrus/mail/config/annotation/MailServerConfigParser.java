@@ -54,6 +54,7 @@ public class MailServerConfigParser implements AnnotationConfigParser<MailServer
 
         builder.autoAccept(annotation.autoAccept());
         builder.splitMultipart(annotation.splitMultipart());
+        builder.passThrough(annotation.passThrough());
 
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(referenceResolver.resolve(annotation.messageConverter(), MailMessageConverter.class));
@@ -16,7 +16,9 @@
 
 package com.consol.citrus.mail.message;
 
+import javax.mail.internet.MimeMessage;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.mail.model.AcceptRequest;
@@ -27,6 +29,7 @@ import com.consol.citrus.mail.model.MailRequest;
 import com.consol.citrus.mail.model.MailResponse;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.xml.StringResult;
+import org.springframework.mail.javamail.MimeMailMessage;
 
 /**
  * @author Christoph Deppisch
@@ -42,6 +45,12 @@ public class MailMessage extends DefaultMessage {
     private AcceptRequest acceptRequest;
     private AcceptResponse acceptResponse;
 
+    /** Parsed mime message in pass through mode */
+    private MimeMailMessage mimeMessage;
+
+    /** Reads mail body from mime message on first access */
+    private Supplier<BodyPart> bodyResolver;
+
     /**
      * Prevent traditional instantiation.
      */
@@ -240,6 +249,7 @@ public class MailMessage extends DefaultMessage {
     public MailMessage body(BodyPart bodyPart) {
         if (mailRequest != null) {
             mailRequest.setBody(bodyPart);
+            bodyResolver = null;
         } else {
             throw new CitrusRuntimeException("Invalid access to method 'subject' for mail message");
         }
@@ -254,6 +264,7 @@ public class MailMessage extends DefaultMessage {
     public MailMessage body(String body, String contentType) {
         if (mailRequest != null) {
             mailRequest.setBody(new BodyPart(body, contentType));
+            bodyResolver = null;
         } else {
             throw new CitrusRuntimeException("Invalid access to method 'subject' for mail message");
         }
@@ -261,6 +272,37 @@ public class MailMessage extends DefaultMessage {
         return this;
     }
 
+    /**
+     * Sets the parsed mime message this mail request has been created from. The mail body is not part of the mail request
+     * model until it is accessed for the first time. Then the body gets resolved with the given body resolver.
+     * @param mimeMessage
+     * @param bodyResolver
+     * @return
+     */
+    public MailMessage mimeMessage(MimeMailMessage mimeMessage, Supplier<BodyPart> bodyResolver) {
+        if (mailRequest != null) {
+            this.mimeMessage = mimeMessage;
+            this.bodyResolver = bodyResolver;
+        } else {
+            throw new CitrusRuntimeException("Invalid access to method 'mimeMessage' for mail message");
+        }
+
+        return this;
+    }
+
+    /**
+     * Gets the mail request model resolving the mail body from the mime message if not done yet.
+     * @return
+     */
+    private synchronized MailRequest resolveMailRequest() {
+        if (bodyResolver != null) {
+            mailRequest.setBody(bodyResolver.get());
+            bodyResolver = null;
+        }
+
+        return mailRequest;
+    }
+
     public MailMessage marshaller(MailMarshaller mailMarshaller) {
         this.marshaller = mailMarshaller;
         return this;
@@ -271,7 +313,11 @@ public class MailMessage extends DefaultMessage {
         if (String.class.equals(type)) {
             return (T) getPayload();
         } else if (MailRequest.class.equals(type) && mailRequest != null) {
-            return (T) mailRequest;
+            return (T) resolveMailRequest();
+        } else if (MimeMailMessage.class.equals(type) && mimeMessage != null) {
+            return (T) mimeMessage;
+        } else if (MimeMessage.class.equals(type) && mimeMessage != null) {
+            return (T) mimeMessage.getMimeMessage();
         } else if (MailResponse.class.equals(type) && mailResponse != null) {
             return (T) mailResponse;
         } else if (AcceptRequest.class.equals(type) && acceptRequest != null) {
@@ -287,7 +333,7 @@ public class MailMessage extends DefaultMessage {
     public Object getPayload() {
         StringResult payloadResult = new StringResult();
         if (mailRequest != null) {
-            marshaller.marshal(mailRequest, payloadResult);
+            marshaller.marshal(resolveMailRequest(), payloadResult);
             return payloadResult.toString();
         } else if (mailResponse != null) {
             marshaller.marshal(mailResponse, payloadResult);
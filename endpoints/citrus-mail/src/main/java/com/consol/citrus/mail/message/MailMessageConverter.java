@@ -126,6 +126,31 @@ public class MailMessageConverter implements MessageConverter<MimeMailMessage, M
         }
     }
 
+    /**
+     * Converts mime message to mail message in pass through mode. The mail message keeps the parsed mime message as payload
+     * and only reads basic message information such as sender, recipients and subject. Body parts and attachments are
+     * converted to the mail request model lazily as soon as the model or its XML/JSON representation is accessed,
+     * e.g. by a text message validator.
+     * @param message
+     * @param endpointConfiguration
+     * @return
+     */
+    public MailMessage convertInboundPassThrough(MimeMailMessage message, MailEndpointConfiguration endpointConfiguration) {
+        try {
+            Map<String, Object> messageHeaders = createMessageHeaders(message);
+            return createMailRequest(messageHeaders, null, endpointConfiguration)
+                    .mimeMessage(message, () -> {
+                        try {
+                            return handlePart(message.getMimeMessage());
+                        } catch (MessagingException | IOException e) {
+                            throw new CitrusRuntimeException("Failed to convert mail mime message body", e);
+                        }
+                    });
+        } catch (MessagingException | IOException e) {
+            throw new CitrusRuntimeException("Failed to convert mail mime message", e);
+        }
+    }
+
     /**
      * Creates a new mail message model object from message headers.
      * @param messageHeaders
@@ -19,8 +19,13 @@ package com.consol.citrus.mail.server;
 import javax.mail.MessagingException;
 import javax.mail.Session;
 import javax.mail.internet.MimeMessage;
+import javax.mail.util.SharedFileInputStream;
 import javax.xml.transform.Source;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Stack;
@@ -38,6 +43,8 @@ import com.consol.citrus.mail.model.MailRequest;
 import com.consol.citrus.mail.model.MailResponse;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.server.AbstractServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.mail.javamail.MimeMailMessage;
 import org.subethamail.smtp.RejectException;
 import org.subethamail.smtp.helper.SimpleMessageListener;
@@ -55,11 +62,18 @@ import org.subethamail.smtp.server.SMTPServer;
  * In case of incoming multipart mail messages the server is able to split the body parts into separate XML messages
  * handled by the endpoint adapter.
  *
+ * In pass through mode incoming messages are spooled to disk and forwarded as parsed mime message. Mail content is converted
+ * to the mail model only when the message payload is accessed, e.g. by a text message validator. The spool file is deleted
+ * once the endpoint adapter has handled the message, so mail content must be accessed while the message is handled.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
 public class MailServer extends AbstractServer implements SimpleMessageListener {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(MailServer.class);
+
     /** Server port */
     private int port = 25;
 
@@ -81,6 +95,9 @@ public class MailServer extends AbstractServer implements SimpleMessageListener
     /** Should split multipart messages for each mime part */
     private boolean splitMultipart = false;
 
+    /** Should forward parsed mime messages without converting mail content to the mail model */
+    private boolean passThrough = false;
+
     /** Smtp server instance */
     private SMTPServer smtpServer;
 
@@ -128,9 +145,16 @@ public class MailServer extends AbstractServer implements SimpleMessageListener
     @Override
     public void deliver(String from, String recipient, InputStream data) {
         try {
-            MimeMailMessage mimeMailMessage = new MimeMailMessage(new MimeMessage(getSession(), data));
-            MailMessage request = messageConverter.convertInbound(mimeMailMessage, getEndpointConfiguration(), null);
-            Message response = invokeEndpointAdapter(request);
+            Message response;
+            if (passThrough) {
+                try (SpoolFile spoolFile = spool(data)) {
+                    MimeMailMessage mimeMailMessage = new MimeMailMessage(new MimeMessage(getSession(), spoolFile.inputStream));
+                    response = invokeEndpointAdapter(messageConverter.convertInboundPassThrough(mimeMailMessage, getEndpointConfiguration()));
+                }
+            } else {
+                MimeMailMessage mimeMailMessage = new MimeMailMessage(new MimeMessage(getSession(), data));
+                response = invokeEndpointAdapter(messageConverter.convertInbound(mimeMailMessage, getEndpointConfiguration(), null));
+            }
 
             if (response != null && response.getPayload() != null) {
                 MailResponse mailResponse = null;
@@ -146,6 +170,27 @@ public class MailServer extends AbstractServer implements SimpleMessageListener
             }
         } catch (MessagingException e) {
             throw new CitrusRuntimeException(e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to spool mail message content", e);
+        }
+    }
+
+    /**
+     * Writes raw mime content to a temporary spool file. Mime messages parsed from the shared file input stream
+     * keep body parts and attachments on disk and read them only on access. The spool file is closed and deleted
+     * as soon as the endpoint adapter has handled the message.
+     * @param data
+     * @return
+     * @throws IOException
+     */
+    private SpoolFile spool(InputStream data) throws IOException {
+        Path spoolFile = Files.createTempFile("citrus-mail-", ".eml");
+        try {
+            Files.copy(data, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+            return new SpoolFile(spoolFile, new SharedFileInputStream(spoolFile.toFile()));
+        } catch (IOException e) {
+            Files.deleteIfExists(spoolFile);
+            throw e;
         }
     }
 
@@ -332,6 +377,22 @@ public class MailServer extends AbstractServer implements SimpleMessageListener
         this.splitMultipart = splitMultipart;
     }
 
+    /**
+     * Gets the pass through mode.
+     * @return
+     */
+    public boolean isPassThrough() {
+        return passThrough;
+    }
+
+    /**
+     * Sets the pass through mode.
+     * @param passThrough
+     */
+    public void setPassThrough(boolean passThrough) {
+        this.passThrough = passThrough;
+    }
+
     /**
      * Gets the message converter.
      * @return
@@ -347,4 +408,28 @@ public class MailServer extends AbstractServer implements SimpleMessageListener
     public void setMessageConverter(MailMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Spool file with the shared input stream reading its content. Closing the spool file closes the stream
+     * and deletes the file.
+     */
+    private static final class SpoolFile implements AutoCloseable {
+        private final Path path;
+        private final SharedFileInputStream inputStream;
+
+        SpoolFile(Path path, SharedFileInputStream inputStream) {
+            this.path = path;
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        public void close() {
+            try {
+                inputStream.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete mail spool file: " + path, e);
+            }
+        }
+    }
 }
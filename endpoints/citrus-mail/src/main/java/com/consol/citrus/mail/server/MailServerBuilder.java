@@ -87,6 +87,16 @@ public class MailServerBuilder extends AbstractServerBuilder<MailServer, MailSer
         return this;
     }
 
+    /**
+     * Enables/disables pass through mode.
+     * @param passThrough
+     * @return
+     */
+    public MailServerBuilder passThrough(boolean passThrough) {
+        endpoint.setPassThrough(passThrough);
+        return this;
+    }
+
     /**
      * Sets the smtpServer property.
      * @param smtpServer
@@ -56,6 +56,7 @@ public class MailServerConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @MailServerConfig(autoStart=false,
             splitMultipart=true,
+            passThrough=true,
             messageConverter="messageConverter",
             marshaller="marshaller",
             javaMailProperties="javaMailProperties",
@@ -100,6 +101,7 @@ public class MailServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(mailServer1.getPort(), 25);
         Assert.assertFalse(mailServer1.isAutoStart());
         Assert.assertFalse(mailServer1.isSplitMultipart());
+        Assert.assertFalse(mailServer1.isPassThrough());
         Assert.assertTrue(mailServer1.isAutoAccept());
         Assert.assertEquals(mailServer1.getEndpointAdapter().getClass(), DirectEndpointAdapter.class);
         Assert.assertTrue(mailServer1.getJavaMailProperties().isEmpty());
@@ -117,6 +119,7 @@ public class MailServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(mailServer3.getPort(), 25);
         Assert.assertFalse(mailServer3.isAutoStart());
         Assert.assertTrue(mailServer3.isSplitMultipart());
+        Assert.assertTrue(mailServer3.isPassThrough());
         Assert.assertTrue(mailServer3.isAutoAccept());
         Assert.assertEquals(mailServer3.getEndpointAdapter(), endpointAdapter);
         Assert.assertEquals(mailServer3.getJavaMailProperties(), mailProperties);
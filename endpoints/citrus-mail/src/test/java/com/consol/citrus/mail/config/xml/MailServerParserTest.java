@@ -44,6 +44,7 @@ public class MailServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getPort(), 25);
         Assert.assertFalse(server.isAutoStart());
         Assert.assertFalse(server.isSplitMultipart());
+        Assert.assertFalse(server.isPassThrough());
         Assert.assertTrue(server.isAutoAccept());
         Assert.assertEquals(server.getEndpointAdapter().getClass(), DirectEndpointAdapter.class);
         Assert.assertTrue(server.getJavaMailProperties().isEmpty());
@@ -63,6 +64,7 @@ public class MailServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getPort(), 25);
         Assert.assertFalse(server.isAutoStart());
         Assert.assertTrue(server.isSplitMultipart());
+        Assert.assertTrue(server.isPassThrough());
         Assert.assertTrue(server.isAutoAccept());
         Assert.assertEquals(server.getEndpointAdapter(), beanDefinitionContext.getBean("endpointAdapter"));
         Assert.assertEquals(server.getJavaMailProperties(), beanDefinitionContext.getBean("mailProperties"));
@@ -19,6 +19,10 @@ package com.consol.citrus.mail.server;
 import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.mail.message.CitrusMailMessageHeaders;
+import com.consol.citrus.mail.message.MailMessageConverter;
+import com.consol.citrus.mail.model.AttachmentPart;
+import com.consol.citrus.mail.model.BodyPart;
+import com.consol.citrus.mail.model.MailRequest;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.util.TestUtils;
@@ -32,10 +36,19 @@ import org.subethamail.smtp.RejectException;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import javax.mail.internet.MimePart;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -88,6 +101,115 @@ public class MailServerTest {
 
     }
 
+    @Test
+    public void testPassThroughMessage() throws IOException {
+        MailServer mailServer = new MailServer();
+        mailServer.setEndpointAdapter(endpointAdapterMock);
+        mailServer.setPassThrough(true);
+
+        reset(endpointAdapterMock);
+
+        doAnswer(invocation -> {
+            Message message = (Message) invocation.getArguments()[0];
+
+            Assert.assertEquals(message.getHeader(CitrusMailMessageHeaders.MAIL_FROM), "foo@mail.com");
+            Assert.assertEquals(message.getHeader(CitrusMailMessageHeaders.MAIL_SUBJECT), "Multipart Testmail");
+            Assert.assertEquals(message.getHeader(CitrusMailMessageHeaders.MAIL_CONTENT_TYPE), "multipart/mixed");
+
+            MimeMessage mimeMessage = message.getPayload(MimeMessage.class);
+            Assert.assertNotNull(mimeMessage);
+            Assert.assertEquals(mimeMessage.getSubject(), "Multipart Testmail");
+
+            Assert.assertEquals(TestUtils.normalizeLineEndings(message.getPayload(String.class)),
+                    TestUtils.normalizeLineEndings(FileCopyUtils.copyToString(new InputStreamReader(new ClassPathResource("multipart_mail.xml",
+                            MailServer.class).getInputStream()))));
+            Assert.assertEquals(message.getPayload(MailRequest.class).getBody().getAttachments().getAttachments().size(), 1);
+
+            return null;
+        }).when(endpointAdapterMock).handleMessage(any(Message.class));
+
+        mailServer.deliver("foo@mail.com", "bar@mail.com",
+                new ClassPathResource("multipart_mail.txt", MailServer.class).getInputStream());
+
+        verify(endpointAdapterMock).handleMessage(any(Message.class));
+    }
+
+    @Test
+    public void testPassThroughAttachmentMessage() throws IOException {
+        AtomicInteger convertedParts = new AtomicInteger();
+        MailServer mailServer = new MailServer();
+        mailServer.setEndpointAdapter(endpointAdapterMock);
+        mailServer.setPassThrough(true);
+        mailServer.setMessageConverter(new MailMessageConverter() {
+            @Override
+            protected BodyPart handlePart(MimePart part) throws IOException, MessagingException {
+                convertedParts.incrementAndGet();
+                return super.handlePart(part);
+            }
+        });
+
+        reset(endpointAdapterMock);
+
+        List<File> spoolFiles = new ArrayList<>();
+        doAnswer(invocation -> {
+            Message message = (Message) invocation.getArguments()[0];
+            spoolFiles.addAll(findSpoolFiles());
+
+            Assert.assertEquals(message.getHeader(CitrusMailMessageHeaders.MAIL_SUBJECT), "This is brand_logo.png");
+            Assert.assertEquals(message.getPayload(MimeMessage.class).getSubject(), "This is brand_logo.png");
+            Assert.assertEquals(convertedParts.get(), 0);
+
+            MailRequest request = message.getPayload(MailRequest.class);
+            Assert.assertTrue(convertedParts.get() > 0);
+            Assert.assertEquals(request.getBody().getAttachments().getAttachments().size(), 1);
+
+            AttachmentPart attachment = request.getBody().getAttachments().getAttachments().get(0);
+            Assert.assertEquals(attachment.getFileName(), "brand_logo.png");
+            Assert.assertTrue(attachment.getContentType().startsWith("image/png"));
+            Assert.assertTrue(StringUtils.hasText(attachment.getContent()));
+
+            return null;
+        }).when(endpointAdapterMock).handleMessage(any(Message.class));
+
+        mailServer.deliver("foo@mail.com", "bar@mail.com",
+                new ClassPathResource("binary_mail.txt", MailServer.class).getInputStream());
+
+        verify(endpointAdapterMock).handleMessage(any(Message.class));
+        Assert.assertFalse(spoolFiles.isEmpty());
+        for (File spoolFile : spoolFiles) {
+            Assert.assertFalse(spoolFile.exists(), "Spool file has not been deleted: " + spoolFile);
+        }
+    }
+
+    @Test
+    public void testPassThroughSpoolCleanupOnError() throws IOException {
+        MailServer mailServer = new MailServer();
+        mailServer.setEndpointAdapter(endpointAdapterMock);
+        mailServer.setPassThrough(true);
+
+        reset(endpointAdapterMock);
+
+        List<File> spoolFiles = new ArrayList<>();
+        doAnswer(invocation -> {
+            spoolFiles.addAll(findSpoolFiles());
+            throw new CitrusRuntimeException("Failed to handle mail");
+        }).when(endpointAdapterMock).handleMessage(any(Message.class));
+
+        Assert.assertThrows(CitrusRuntimeException.class, () -> mailServer.deliver("foo@mail.com", "bar@mail.com",
+                new ClassPathResource("binary_mail.txt", MailServer.class).getInputStream()));
+
+        Assert.assertFalse(spoolFiles.isEmpty());
+        for (File spoolFile : spoolFiles) {
+            Assert.assertFalse(spoolFile.exists(), "Spool file has not been deleted: " + spoolFile);
+        }
+    }
+
+    private static List<File> findSpoolFiles() {
+        File[] files = new File(System.getProperty("java.io.tmpdir"))
+                .listFiles((dir, name) -> name.startsWith("citrus-mail-") && name.endsWith(".eml"));
+        return files != null ? Arrays.asList(files) : Collections.emptyList();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testMultipartMessage() throws IOException {
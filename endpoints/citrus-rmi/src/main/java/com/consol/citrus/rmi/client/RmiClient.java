@@ -16,13 +16,21 @@
 
 package com.consol.citrus.rmi.client;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.rmi.ConnectException;
+import java.rmi.ConnectIOException;
+import java.rmi.NoSuchObjectException;
 import java.rmi.NotBoundException;
 import java.rmi.Remote;
 import java.rmi.RemoteException;
-import java.rmi.registry.Registry;
+import java.rmi.UnknownHostException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
@@ -58,6 +66,12 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Remote stubs by binding name */
+    private final Map<String, Remote> stubs = new ConcurrentHashMap<>();
+
+    /** Resolved remote methods by target type, method name and argument types */
+    private final Map<MethodKey, MethodHandle> methodHandles = new ConcurrentHashMap<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -89,24 +103,9 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
         context.setVariable(MessageHeaders.MESSAGE_REPLY_TO + "_" + correlationKeyName, binding);
         try {
             RmiServiceInvocation invocation = getEndpointConfiguration().getMessageConverter().convertOutbound(message, getEndpointConfiguration(), context);
-            Registry registry = getEndpointConfiguration().getRegistry();
-            final Remote remoteTarget = registry.lookup(binding);
-
-            final Method[] method = new Method[1];
-            if (StringUtils.hasText(invocation.getMethod())) {
-                method[0] = ReflectionUtils.findMethod(remoteTarget.getClass(), invocation.getMethod(), invocation.getArgTypes());
-            } else {
-                ReflectionUtils.doWithMethods(remoteTarget.getClass(), declaredMethod -> {
-                    if (method[0] == null) {
-                        method[0] = declaredMethod;
-                    }
-                }, declaredMethod -> Arrays.asList(declaredMethod.getExceptionTypes()).contains(RemoteException.class) &&
-                        declaredMethod.getDeclaringClass().equals(remoteTarget.getClass()));
-            }
-
-            if (method[0] == null) {
-                throw new CitrusRuntimeException("Unable to find proper method declaration on remote target object");
-            }
+            boolean cachedStub = stubs.containsKey(binding);
+            Remote remoteTarget = lookup(binding);
+            MethodHandle method = getMethodHandle(remoteTarget, invocation);
 
             if (log.isDebugEnabled()) {
                 log.debug("Sending message to RMI server: '" + binding + "'");
@@ -114,7 +113,23 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
             context.onOutboundMessage(message);
 
-            Object result = method[0].invoke(remoteTarget, invocation.getArgValues(context.getReferenceResolver()));
+            Object[] args = invocation.getArgValues(context.getReferenceResolver());
+            Object result;
+            try {
+                result = invoke(method, remoteTarget, args);
+            } catch (NoSuchObjectException | ConnectException e) {
+                if (!cachedStub) {
+                    throw e;
+                }
+
+                // cached stub is stale because remote object has been unexported or server has been restarted,
+                // invocation did not reach the remote object so it is safe to retry with a new stub
+                log.debug("Cached RMI stub for binding '" + binding + "' is stale - looking up new stub");
+                invalidateStub(binding);
+                remoteTarget = lookup(binding);
+                result = invoke(getMethodHandle(remoteTarget, invocation), remoteTarget, args);
+            }
+
             RmiServiceResult serviceResult = new RmiServiceResult();
 
             if (result != null) {
@@ -134,18 +149,120 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
                 context.onInboundMessage(response);
             }
         } catch (RemoteException e) {
+            invalidateStub(binding);
             throw new CitrusRuntimeException("Failed to connect to RMI server", e);
         } catch (NotBoundException e) {
             throw new CitrusRuntimeException("Failed to find service binding on RMI server", e);
-        } catch (InvocationTargetException e) {
-            throw new CitrusRuntimeException("Failed to invoke method on remote target", e);
-        } catch (IllegalAccessException e) {
-            throw new CitrusRuntimeException("Failed to invoke method on remote target, because remote method not accessible", e);
         }
 
         log.info("Message was sent to RMI server: '" + binding + "'");
     }
 
+    /**
+     * Gets remote stub for given binding. Stubs are looked up in the registry once and get cached
+     * until an invocation on the stub fails with a remote exception.
+     * @param binding
+     * @return
+     * @throws RemoteException
+     * @throws NotBoundException
+     */
+    private Remote lookup(String binding) throws RemoteException, NotBoundException {
+        Remote stub = stubs.get(binding);
+        if (stub == null) {
+            stub = getEndpointConfiguration().getRegistry().lookup(binding);
+            stubs.put(binding, stub);
+        }
+
+        return stub;
+    }
+
+    /**
+     * Removes cached remote stub for given binding.
+     * @param binding
+     */
+    public void invalidateStub(String binding) {
+        stubs.remove(binding);
+    }
+
+    /**
+     * Gets method handle for the method to invoke on remote target. Method handles are cached by remote target type,
+     * method name and argument types.
+     * @param remoteTarget
+     * @param invocation
+     * @return
+     */
+    private MethodHandle getMethodHandle(Remote remoteTarget, RmiServiceInvocation invocation) {
+        MethodKey key = new MethodKey(remoteTarget.getClass(), invocation.getMethod(), invocation.getArgTypes());
+        return methodHandles.computeIfAbsent(key, k -> toMethodHandle(findMethod(k)));
+    }
+
+    /**
+     * Finds method on remote target type. When no method name is given uses first method declared on
+     * remote target type that throws remote exception.
+     * @param key
+     * @return
+     */
+    private static Method findMethod(MethodKey key) {
+        final Method[] method = new Method[1];
+        if (StringUtils.hasText(key.name)) {
+            method[0] = ReflectionUtils.findMethod(key.type, key.name, key.argTypes);
+        } else {
+            ReflectionUtils.doWithMethods(key.type, declaredMethod -> {
+                if (method[0] == null) {
+                    method[0] = declaredMethod;
+                }
+            }, declaredMethod -> Arrays.asList(declaredMethod.getExceptionTypes()).contains(RemoteException.class) &&
+                    declaredMethod.getDeclaringClass().equals(key.type));
+        }
+
+        if (method[0] == null) {
+            throw new CitrusRuntimeException("Unable to find proper method declaration on remote target object");
+        }
+
+        return method[0];
+    }
+
+    /**
+     * Converts method to method handle taking the target object and an argument array.
+     * @param method
+     * @return
+     */
+    private static MethodHandle toMethodHandle(Method method) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                ReflectionUtils.makeAccessible(method);
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                throw new CitrusRuntimeException("Failed to invoke method on remote target, because remote method not accessible", ex);
+            }
+        }
+
+        return handle.asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+
+    /**
+     * Invokes method handle on remote target. Only errors telling that the invocation did not reach the remote object
+     * are raised as remote exception, all other errors of the remote method are reported as invocation failure.
+     * @param method
+     * @param remoteTarget
+     * @param args
+     * @return
+     * @throws RemoteException when the remote object is not reachable.
+     */
+    private static Object invoke(MethodHandle method, Remote remoteTarget, Object[] args) throws RemoteException {
+        try {
+            return (Object) method.invokeExact((Object) remoteTarget, args);
+        } catch (ConnectException | ConnectIOException | UnknownHostException | NoSuchObjectException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new CitrusRuntimeException("Failed to invoke method on remote target", e);
+        }
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -201,6 +318,42 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
         return this;
     }
 
+    /**
+     * Cache key of remote method.
+     */
+    private static final class MethodKey {
+        private final Class<?> type;
+        private final String name;
+        private final Class<?>[] argTypes;
+
+        MethodKey(Class<?> type, String name, Class<?>[] argTypes) {
+            this.type = type;
+            this.name = name;
+            this.argTypes = argTypes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof MethodKey)) {
+                return false;
+            }
+
+            MethodKey methodKey = (MethodKey) o;
+            return type.equals(methodKey.type) &&
+                    Objects.equals(name, methodKey.name) &&
+                    Arrays.equals(argTypes, methodKey.argTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(type, name) + Arrays.hashCode(argTypes);
+        }
+    }
+
     /**
      * Sets the correlation manager.
      * @param correlationManager
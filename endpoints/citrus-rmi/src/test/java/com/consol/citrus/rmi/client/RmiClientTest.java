@@ -16,6 +16,7 @@
 
 package com.consol.citrus.rmi.client;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageCorrelator;
 import com.consol.citrus.rmi.endpoint.RmiEndpointConfiguration;
@@ -30,6 +31,8 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.InputStreamReader;
+import java.rmi.NoSuchObjectException;
+import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 
 import static org.mockito.Mockito.*;
@@ -98,6 +101,59 @@ public class RmiClientTest extends AbstractTestNGUnitTest {
         verify(remoteInterface).sayHello(eq("Christoph"));
     }
 
+    @Test
+    public void testCachedStub() throws Exception {
+        RmiEndpointConfiguration endpointConfiguration = new RmiEndpointConfiguration();
+        RmiClient rmiClient = new RmiClient(endpointConfiguration);
+        String binding = "helloService";
+
+        endpointConfiguration.setBinding(binding);
+        endpointConfiguration.setRegistry(registry);
+
+        HelloService newRemoteInterface = Mockito.mock(HelloService.class);
+
+        reset(registry, remoteInterface);
+
+        when(registry.lookup(binding)).thenReturn(remoteInterface, newRemoteInterface);
+        when(remoteInterface.getHelloCount()).thenReturn(100).thenThrow(new NoSuchObjectException("Unexported"));
+        when(newRemoteInterface.getHelloCount()).thenReturn(200);
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+        Assert.assertTrue(rmiClient.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class).contains("100"));
+        verify(registry, times(1)).lookup(binding);
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+        Assert.assertTrue(rmiClient.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class).contains("200"));
+        verify(registry, times(2)).lookup(binding);
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+        verify(registry, times(2)).lookup(binding);
+        verify(newRemoteInterface, times(2)).getHelloCount();
+    }
+
+    @Test
+    public void testRemoteMethodError() throws Exception {
+        RmiEndpointConfiguration endpointConfiguration = new RmiEndpointConfiguration();
+        RmiClient rmiClient = new RmiClient(endpointConfiguration);
+        String binding = "helloService";
+
+        endpointConfiguration.setBinding(binding);
+        endpointConfiguration.setRegistry(registry);
+
+        reset(registry, remoteInterface);
+
+        when(registry.lookup(binding)).thenReturn(remoteInterface);
+        when(remoteInterface.getHelloCount()).thenThrow(new RemoteException("Application failure"));
+
+        CitrusRuntimeException error = Assert.expectThrows(CitrusRuntimeException.class,
+                () -> rmiClient.send(RmiMessage.invocation("getHelloCount"), context));
+        Assert.assertEquals(error.getMessage(), "Failed to invoke method on remote target");
+        Assert.assertTrue(error.getCause() instanceof RemoteException);
+
+        Assert.expectThrows(CitrusRuntimeException.class, () -> rmiClient.send(RmiMessage.invocation("getHelloCount"), context));
+        verify(registry, times(1)).lookup(binding);
+    }
+
     @Test
     public void testReplyMessageCorrelator() throws Exception {
         RmiEndpointConfiguration endpointConfiguration = new RmiEndpointConfiguration();
@@ -22,11 +22,21 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
+import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
@@ -42,6 +52,8 @@ import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
 import com.jcraft.jsch.UserInfo;
 import org.apache.sshd.client.keyverifier.KnownHostsServerKeyVerifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
@@ -52,13 +64,25 @@ import org.springframework.util.StringUtils;
  * @author Roland Huss, Christoph Deppisch
  * @since 1.4
  */
-public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer, ShutdownPhase {
 
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
-    // Session for the SSH communication
-    private Session session;
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(SshClient.class);
+
+    // Pooled sessions for the SSH communication
+    private final SshSessionPool sessionPool = new SshSessionPool();
+
+    // Executor running pipelined commands
+    private ExecutorService executor;
+
+    // Maximum number of concurrently running pipelined commands, matches the default channel limit per session of OpenSSH
+    private static final int MAX_PIPELINED_COMMANDS = 10;
+
+    // Errors of pipelined commands by correlation key, reported to the matching receive operation
+    private final Map<String, RuntimeException> pipelineErrors = new ConcurrentHashMap<>();
 
     // SSH implementation
     private JSch jsch = new JSch();
@@ -99,18 +123,39 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
 
         SshRequest request = (SshRequest) getEndpointConfiguration().getMessageConverter().convertOutbound(message, getEndpointConfiguration(), context);
 
-        if (getEndpointConfiguration().isStrictHostChecking()) {
-            setKnownHosts();
+        String rUser = getRemoteUser(message);
+
+        if (getEndpointConfiguration().isPipelined()) {
+            getExecutor().execute(() -> {
+                try {
+                    execute(request, rUser, correlationKey, context);
+                } catch (RuntimeException e) {
+                    LOG.error(String.format("Failed to execute SSH command '%s'", request.getCommand()), e);
+                    pipelineErrors.put(correlationKey, e);
+                    correlationManager.store(correlationKey, new DefaultMessage(e.getMessage()));
+                }
+            });
+        } else {
+            execute(request, rUser, correlationKey, context);
         }
+    }
 
-        String rUser = getRemoteUser(message);
-        connect(rUser);
+    /**
+     * Executes the command on an exec channel and stores the response with given correlation key.
+     * @param request
+     * @param rUser
+     * @param correlationKey
+     * @param context
+     */
+    private void execute(SshRequest request, String rUser, String correlationKey, TestContext context) {
+        Session session = getSession(rUser);
         ChannelExec channelExec = null;
-        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-        ByteArrayOutputStream errStream = new ByteArrayOutputStream();
+        CountDownLatch completed = new CountDownLatch(2);
+        ByteArrayOutputStream outStream = new CompletionOutputStream(completed);
+        ByteArrayOutputStream errStream = new CompletionOutputStream(completed);
         int rc;
         try {
-            channelExec = openChannelExec();
+            channelExec = openChannelExec(session);
             channelExec.setErrStream(errStream);
             channelExec.setOutputStream(outStream);
             channelExec.setCommand(request.getCommand());
@@ -118,13 +163,18 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
             if (request.getStdin() != null) {
                 sendStandardInput(channelExec, request.getStdin());
             }
-            waitCommandToFinish(channelExec);
+            waitCommandToFinish(channelExec, completed);
             rc = channelExec.getExitStatus();
+        } catch (CitrusRuntimeException e) {
+            if (e.getCause() instanceof JSchException || e.getCause() instanceof IOException) {
+                invalidateSession(rUser);
+            }
+            throw e;
         } finally {
             if (channelExec != null && channelExec.isConnected()) {
                 channelExec.disconnect();
             }
-            disconnect();
+            releaseSession(session);
         }
         SshResponse sshResp = new SshResponse(outStream.toString(),errStream.toString(),rc);
         Message response = getEndpointConfiguration().getMessageConverter().convertInbound(sshResp, getEndpointConfiguration(), context)
@@ -154,6 +204,11 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
     public Message receive(String selector, TestContext context, long timeout) {
         Message message = correlationManager.find(selector, timeout);
 
+        RuntimeException error = pipelineErrors.remove(selector);
+        if (error != null) {
+            throw error;
+        }
+
         if (message == null) {
             throw new MessageTimeoutException(timeout, "SSH server out stream");
         }
@@ -171,39 +226,78 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return this;
     }
 
-    private void connect(String rUser) {
-        if (session == null || !session.isConnected()) {
-            try {
-                if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
-                    jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
-                }
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            }
+    /**
+     * Gets session for given remote user. When session pooling is enabled the session is shared with other
+     * commands for the same user, otherwise a new session is connected.
+     * @param rUser
+     * @return
+     */
+    private Session getSession(String rUser) {
+        if (getEndpointConfiguration().isSessionPooling()) {
+            return sessionPool.acquire(SshSessionPool.getSessionKey(getEndpointConfiguration().getHost(),
+                    getEndpointConfiguration().getPort(), rUser), key -> connect(rUser));
+        }
 
-            try {
-                session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
-                if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
-                    session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
-                    session.setPassword(getEndpointConfiguration().getPassword());
-                }
-                session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
-                session.connect();
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
-            }
+        return connect(rUser);
+    }
+
+    /**
+     * Removes the pooled session of given remote user after a session or channel error, so the next command connects
+     * a new session.
+     * @param rUser
+     */
+    private void invalidateSession(String rUser) {
+        if (getEndpointConfiguration().isSessionPooling()) {
+            sessionPool.invalidate(SshSessionPool.getSessionKey(getEndpointConfiguration().getHost(),
+                    getEndpointConfiguration().getPort(), rUser));
         }
     }
 
-    private void disconnect() {
-        if (session.isConnected()) {
+    /**
+     * Releases session after command has been executed. Pooled sessions stay connected.
+     * @param session
+     */
+    private void releaseSession(Session session) {
+        if (!getEndpointConfiguration().isSessionPooling() && session.isConnected()) {
             session.disconnect();
         }
     }
 
-    private ChannelExec openChannelExec() throws CitrusRuntimeException {
+    private synchronized Session connect(String rUser) {
+        if (getEndpointConfiguration().isStrictHostChecking()) {
+            setKnownHosts();
+        }
+
+        try {
+            if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
+                jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
+            }
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        }
+
+        try {
+            Session session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+            if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
+                session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
+                session.setPassword(getEndpointConfiguration().getPassword());
+            }
+            session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
+
+            if (getEndpointConfiguration().isSessionPooling() && getEndpointConfiguration().getKeepAliveInterval() > 0) {
+                session.setServerAliveInterval(getEndpointConfiguration().getKeepAliveInterval());
+            }
+
+            session.connect();
+            return session;
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
+        }
+    }
+
+    private ChannelExec openChannelExec(Session session) throws CitrusRuntimeException {
         ChannelExec channelExec;
         try {
             channelExec = (ChannelExec) session.openChannel("exec");
@@ -213,15 +307,20 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return channelExec;
     }
 
-    private void waitCommandToFinish(ChannelExec pCh) {
-        final long until = System.currentTimeMillis() + getEndpointConfiguration().getCommandTimeout();
-
+    /**
+     * Waits for the channel to finish. JSch closes the output stream on remote EOF and the error stream
+     * when the channel is closed so completion is signalled without polling the channel state.
+     * @param pCh
+     * @param completed
+     */
+    private void waitCommandToFinish(ChannelExec pCh, CountDownLatch completed) {
         try {
-            while (!pCh.isClosed() && System.currentTimeMillis() < until) {
-                Thread.sleep(250);
+            if (!pCh.isClosed()) {
+                completed.await(getEndpointConfiguration().getCommandTimeout(), TimeUnit.MILLISECONDS);
             }
         } catch (InterruptedException e) {
-            throw new RuntimeException("Interrupted", e);
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for SSH command to finish", e);
         }
 
         if (!pCh.isClosed()) {
@@ -305,6 +404,54 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Gets the executor running pipelined commands. The number of threads is bounded, further commands wait in the
+     * executor queue.
+     * @return
+     */
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(MAX_PIPELINED_COMMANDS, runnable -> {
+                Thread thread = new Thread(runnable, "citrus-ssh-" + getName() + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+
+        sessionPool.close();
+    }
+
+    // Output stream counting down the completion latch when closed by the channel
+    private static class CompletionOutputStream extends ByteArrayOutputStream {
+        private final CountDownLatch completed;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        CompletionOutputStream(CountDownLatch completed) {
+            this.completed = completed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            if (closed.compareAndSet(false, true)) {
+                completed.countDown();
+            }
+        }
+    }
+
     // UserInfo which simply returns a plain password
     private static class UserInfoWithPlainPassword implements UserInfo {
         private String password;
@@ -353,6 +500,14 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         this.jsch = jsch;
     }
 
+    /**
+     * Gets the session pool.
+     * @return
+     */
+    public SshSessionPool getSessionPool() {
+        return sessionPool;
+    }
+
     /**
      * Sets the correlation manager.
      * @param correlationManager
@@ -134,6 +134,36 @@ public class SshClientBuilder extends AbstractEndpointBuilder<SshClient> {
         return this;
     }
 
+    /**
+     * Sets the sessionPooling property.
+     * @param sessionPooling
+     * @return
+     */
+    public SshClientBuilder sessionPooling(boolean sessionPooling) {
+        endpoint.getEndpointConfiguration().setSessionPooling(sessionPooling);
+        return this;
+    }
+
+    /**
+     * Sets the keepAliveInterval property.
+     * @param keepAliveInterval
+     * @return
+     */
+    public SshClientBuilder keepAliveInterval(int keepAliveInterval) {
+        endpoint.getEndpointConfiguration().setKeepAliveInterval(keepAliveInterval);
+        return this;
+    }
+
+    /**
+     * Sets the pipelined property.
+     * @param pipelined
+     * @return
+     */
+    public SshClientBuilder pipelined(boolean pipelined) {
+        endpoint.getEndpointConfiguration().setPipelined(pipelined);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
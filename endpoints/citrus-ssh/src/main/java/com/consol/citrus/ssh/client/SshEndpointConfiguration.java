@@ -57,6 +57,15 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
      /** Timeout how long to wait for a connection to connect */
     private int connectionTimeout = 1000 * 60 * 1; // 1 minute
 
+     /** Whether to share connected sessions between commands */
+    private boolean sessionPooling = false;
+
+     /** Keep alive interval in milliseconds for pooled sessions */
+    private int keepAliveInterval = 1000 * 30; // 30 seconds
+
+     /** Whether commands are executed asynchronously on concurrent exec channels */
+    private boolean pipelined = false;
+
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
@@ -226,6 +235,54 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.connectionTimeout = connectionTimeout;
     }
 
+    /**
+     * Is session pooling enabled.
+     * @return
+     */
+    public boolean isSessionPooling() {
+        return sessionPooling;
+    }
+
+    /**
+     * Enables/disables session pooling.
+     * @param sessionPooling
+     */
+    public void setSessionPooling(boolean sessionPooling) {
+        this.sessionPooling = sessionPooling;
+    }
+
+    /**
+     * Gets the keep alive interval.
+     * @return
+     */
+    public int getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    /**
+     * Sets the keep alive interval.
+     * @param keepAliveInterval
+     */
+    public void setKeepAliveInterval(int keepAliveInterval) {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
+    /**
+     * Is pipelined command execution enabled.
+     * @return
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Enables/disables pipelined command execution.
+     * @param pipelined
+     */
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
     /**
      * Gets the message correlator.
      * @return
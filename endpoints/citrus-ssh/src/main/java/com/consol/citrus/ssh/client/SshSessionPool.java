@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ssh.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.jcraft.jsch.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of connected SSH sessions keyed by host, port and user. A session is shared by all commands that
+ * go to the same remote user so the SSH handshake is done only once. Disconnected sessions are replaced with
+ * a new session on next access.
+ *
+ * @since 3.3
+ */
+public class SshSessionPool {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(SshSessionPool.class);
+
+    /** Connected sessions by session key */
+    private final Map<String, Session> sessions = new HashMap<>();
+
+    /**
+     * Gets connected session for given key. Creates and connects a new session with given factory
+     * when no session is present or the pooled session has been disconnected in the meantime.
+     * @param key
+     * @param sessionFactory
+     * @return
+     */
+    public synchronized Session acquire(String key, Function<String, Session> sessionFactory) {
+        Session session = sessions.get(key);
+        if (session != null && session.isConnected()) {
+            return session;
+        }
+
+        if (session != null) {
+            LOG.debug(String.format("Replacing disconnected SSH session '%s'", key));
+        }
+
+        session = sessionFactory.apply(key);
+        sessions.put(key, session);
+        return session;
+    }
+
+    /**
+     * Removes and disconnects the session with given key. Used to discard sessions in an invalid state.
+     * @param key
+     */
+    public synchronized void invalidate(String key) {
+        Session session = sessions.remove(key);
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    /**
+     * Disconnects all pooled sessions.
+     */
+    public void close() {
+        List<Session> pooled;
+        synchronized (this) {
+            pooled = new ArrayList<>(sessions.values());
+            sessions.clear();
+        }
+
+        for (Session session : pooled) {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of pooled sessions.
+     * @return
+     */
+    public synchronized int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Builds the session key for given host, port and user.
+     * @param host
+     * @param port
+     * @param user
+     * @return
+     */
+    public static String getSessionKey(String host, int port, String user) {
+        return user + "@" + host + ":" + port;
+    }
+}
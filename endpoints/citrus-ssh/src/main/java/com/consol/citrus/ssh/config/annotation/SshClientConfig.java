@@ -92,6 +92,24 @@ public @interface SshClientConfig {
      */
     int connectionTimeout() default 1000 * 60 * 1;
 
+    /**
+     * SessionPooling.
+     * @return
+     */
+    boolean sessionPooling() default false;
+
+    /**
+     * KeepAliveInterval.
+     * @return
+     */
+    int keepAliveInterval() default 1000 * 30;
+
+    /**
+     * Pipelined.
+     * @return
+     */
+    boolean pipelined() default false;
+
     /**
      * Message converter.
      * @return
@@ -57,6 +57,9 @@ public class SshClientConfigParser implements AnnotationConfigParser<SshClientCo
 
         builder.commandTimeout(annotation.commandTimeout());
         builder.connectionTimeout(annotation.connectionTimeout());
+        builder.sessionPooling(annotation.sessionPooling());
+        builder.keepAliveInterval(annotation.keepAliveInterval());
+        builder.pipelined(annotation.pipelined());
 
         if (StringUtils.hasText(annotation.user())) {
             builder.user(annotation.user());
@@ -20,6 +20,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
@@ -42,12 +45,19 @@ import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.isA;
 import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 /**
  * @author Roland Huss
@@ -169,6 +179,92 @@ public class SshClientTest extends AbstractTestNGUnitTest {
         standardChannelPrepAndSend();
     }
 
+    @Test
+    public void pooledSession() throws JSchException, IOException {
+        client.getEndpointConfiguration().setSessionPooling(true);
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        disconnect();
+        Mockito.clearInvocations(session);
+
+        send();
+        send();
+
+        verify(jsch, times(1)).getSession("roland", "planck", 1968);
+        verify(session).setServerAliveInterval(1000 * 30);
+        verify(session, times(2)).openChannel("exec");
+        verify(session, never()).disconnect();
+        assertEquals(client.getSessionPool().size(), 1);
+
+        client.destroy();
+        verify(session).disconnect();
+        assertEquals(client.getSessionPool().size(), 0);
+    }
+
+    @Test
+    public void completionOnStreamClose() throws JSchException, IOException {
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        disconnect();
+
+        AtomicBoolean closed = new AtomicBoolean();
+        List<OutputStream> streams = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> streams.add(invocation.getArgument(0))).when(channel).setOutputStream(any(OutputStream.class));
+        doAnswer(invocation -> streams.add(invocation.getArgument(0))).when(channel).setErrStream(any(OutputStream.class));
+        when(channel.isClosed()).thenAnswer(invocation -> closed.get());
+        doAnswer(invocation -> {
+            new Thread(() -> {
+                try {
+                    Thread.sleep(100L);
+                    streams.get(0).write("Hello".getBytes());
+                    closed.set(true);
+                    for (OutputStream stream : streams) {
+                        stream.close();
+                    }
+                } catch (InterruptedException | IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).start();
+            return null;
+        }).when(channel).connect(CONNECTTION_TIMEOUT);
+
+        send();
+
+        Message response = client.receive(context, 1000L);
+        assertTrue(response.getPayload(String.class).contains("Hello"));
+    }
+
+    @Test
+    public void pipelined() throws JSchException, IOException {
+        client.getEndpointConfiguration().setPipelined(true);
+        client.getEndpointConfiguration().setSessionPooling(true);
+        strictHostChecking(false, null);
+        standardChannelPrepAndSend();
+
+        Message response = client.receive(context, 5000L);
+        assertTrue(response.getPayload(String.class).contains("<exit>0</exit>"));
+        client.destroy();
+    }
+
+    @Test
+    public void pipelinedError() throws JSchException, IOException {
+        client.getEndpointConfiguration().setPipelined(true);
+        client.getEndpointConfiguration().setSessionPooling(true);
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        disconnect();
+        Mockito.clearInvocations(session);
+        doThrow(new JSchException("Connection reset")).when(channel).connect(CONNECTTION_TIMEOUT);
+
+        send();
+
+        CitrusRuntimeException error = expectThrows(CitrusRuntimeException.class, () -> client.receive(context, 5000L));
+        assertTrue(error.getMessage().contains("Connection reset"));
+        verify(session).disconnect();
+        assertEquals(client.getSessionPool().size(), 0);
+        client.destroy();
+    }
+
     private void send() {
         client.send(createMessage(COMMAND, STDIN), context);
     }
@@ -74,6 +74,18 @@ public @interface VertxEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Persistent event bus subscription.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Message buffer size.
+     * @return
+     */
+    int bufferSize() default 1000;
+
     /**
      * Timeout.
      * @return
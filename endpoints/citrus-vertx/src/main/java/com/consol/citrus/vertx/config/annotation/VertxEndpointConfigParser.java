@@ -55,6 +55,9 @@ public class VertxEndpointConfigParser implements AnnotationConfigParser<VertxEn
 
         builder.pollingInterval(annotation.pollingInterval());
 
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.bufferSize(annotation.bufferSize());
+
         builder.timeout(annotation.timeout());
 
         if (StringUtils.hasText(annotation.actor())) {
@@ -80,6 +80,18 @@ public @interface VertxSyncEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Persistent event bus subscription.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Message buffer size.
+     * @return
+     */
+    int bufferSize() default 1000;
+
     /**
      * Timeout.
      * @return
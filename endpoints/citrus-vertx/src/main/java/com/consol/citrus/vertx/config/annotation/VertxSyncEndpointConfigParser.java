@@ -60,6 +60,9 @@ public class VertxSyncEndpointConfigParser implements AnnotationConfigParser<Ver
 
         builder.pollingInterval(annotation.pollingInterval());
 
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.bufferSize(annotation.bufferSize());
+
         builder.timeout(annotation.timeout());
 
         if (StringUtils.hasText(annotation.actor())) {
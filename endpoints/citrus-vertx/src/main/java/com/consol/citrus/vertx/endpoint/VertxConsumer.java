@@ -16,21 +16,32 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import java.util.function.Predicate;
+
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
-import io.vertx.core.Handler;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
 
 /**
+ * Consumer receives messages from Vert.x event bus address. By default the consumer subscribes to the address for the
+ * time of a single receive operation. With persistent subscription enabled the consumer subscribes once and buffers
+ * all messages arriving in between receive operations in a bounded message buffer. When the buffer is full the
+ * subscription is paused and Vert.x holds up to buffer size additional messages, further messages are dropped.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxConsumer extends AbstractMessageConsumer {
+public class VertxConsumer extends AbstractSelectiveMessageConsumer implements ShutdownPhase {
 
     /** Vert.x instance */
     private final Vertx vertx;
@@ -38,12 +49,13 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Endpoint configuration */
     private final VertxEndpointConfiguration endpointConfiguration;
 
+    /** Persistent event bus subscription and its message buffer */
+    private MessageConsumer<Object> subscription;
+    private VertxMessageBuffer subscriptionBuffer;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
-    /** Retry logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
-
     /**
      * Default constructor using endpoint.
      * @param name
@@ -57,74 +69,107 @@ public class VertxConsumer extends AbstractMessageConsumer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public Message receive(String selector, TestContext context, long timeout) {
         if (log.isDebugEnabled()) {
             log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
         }
 
-        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler();
-        MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
+        Predicate<io.vertx.core.eventbus.Message<Object>> messageSelector = getMessageSelector(selector, context);
 
+        io.vertx.core.eventbus.Message<Object> vertxMessage;
         try {
-            long timeLeft = timeout;
-            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-
-            while (message == null && timeLeft > 0) {
-                timeLeft -= endpointConfiguration.getPollingInterval();
-
-                if (RETRY_LOG.isDebugEnabled()) {
-                    RETRY_LOG.debug(String.format("Waiting for message on Vert.x event bus address '%s' - retrying in %s ms",
-                            endpointConfiguration.getAddress(),
-                            (timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft)));
-                }
+            if (endpointConfiguration.isPersistentSubscription()) {
+                vertxMessage = getSubscriptionBuffer().take(messageSelector, timeout);
+            } else {
+                VertxMessageBuffer messageBuffer = new VertxMessageBuffer(endpointConfiguration.getBufferSize());
+                MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), messageBuffer);
 
                 try {
-                    Thread.sleep(timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft);
-                } catch (InterruptedException e) {
-                    RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
+                    vertxMessage = messageBuffer.take(messageSelector, timeout);
+                } finally {
+                    vertxConsumer.unregister();
                 }
 
-                message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
+                if (messageBuffer.size() > 0) {
+                    log.warn(String.format("Vert.x consumer ignored %s message(s) on event bus address '%s'",
+                            messageBuffer.size(), endpointConfiguration.getAddress()));
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for message on Vert.x event bus", e);
+        }
 
-            if (message == null) {
-                throw new MessageTimeoutException(timeout, endpointConfiguration.getAddress());
-            }
+        if (vertxMessage == null) {
+            throw new MessageTimeoutException(timeout, endpointConfiguration.getAddress());
+        }
 
-            log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessage, endpointConfiguration, context);
 
-            context.onInboundMessage(message);
+        log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+
+        context.onInboundMessage(message);
+
+        return message;
+    }
 
-            return message;
-        } finally {
-            vertxConsumer.unregister();
+    /**
+     * Creates selector predicate for Vert.x messages. Messages are converted to the internal message representation
+     * so the selector is able to evaluate message headers.
+     * @param selector
+     * @param context
+     * @return
+     */
+    private Predicate<io.vertx.core.eventbus.Message<Object>> getMessageSelector(String selector, TestContext context) {
+        if (!StringUtils.hasText(selector)) {
+            return vertxMessage -> true;
         }
+
+        MessageSelector messageSelector = new DelegatingMessageSelector(selector, context);
+        return vertxMessage -> messageSelector.accept(endpointConfiguration.getMessageConverter()
+                .convertInbound(vertxMessage, endpointConfiguration, context));
     }
 
     /**
-     * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
-     * until subscription is unregistered automatically.
+     * Subscribes to the event bus address with a persistent subscription. Messages arriving from now on are buffered
+     * until a receive operation consumes them. Does nothing when the subscription is already active.
      */
-    private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
+    public void subscribe() {
+        getSubscriptionBuffer();
+    }
 
-        @Override
-        public void handle(io.vertx.core.eventbus.Message event) {
-            if (message == null) {
-                this.message = event;
-            } else {
-                log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
-                log.debug("Vert.x message ignored is " + event);
+    /**
+     * Gets the message buffer of the persistent subscription. Subscribes to the event bus address on first access.
+     * While the buffer is full the subscription is paused and Vert.x keeps at most buffer size further messages in its
+     * own consumer buffer, messages beyond that limit are discarded by Vert.x.
+     * @return
+     */
+    private synchronized VertxMessageBuffer getSubscriptionBuffer() {
+        if (subscriptionBuffer == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Subscribing to Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
             }
-        }
 
-        /**
-         * Gets the vert.x message received on event bus.
-         * @return
-         */
-        public io.vertx.core.eventbus.Message getMessage() {
-            return message;
+            VertxMessageBuffer messageBuffer = new VertxMessageBuffer(endpointConfiguration.getBufferSize());
+            subscription = vertx.eventBus().consumer(endpointConfiguration.getAddress(), messageBuffer);
+            subscription.setMaxBufferedMessages(endpointConfiguration.getBufferSize());
+            messageBuffer.setConsumer(subscription);
+            subscriptionBuffer = messageBuffer;
         }
+
+        return subscriptionBuffer;
     }
 
+    @Override
+    public synchronized void destroy() {
+        if (subscription != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unsubscribing from Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+            }
+
+            subscription.unregister();
+            subscription = null;
+            subscriptionBuffer = null;
+        }
+    }
 }
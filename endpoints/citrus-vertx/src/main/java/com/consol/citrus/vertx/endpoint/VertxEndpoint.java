@@ -16,6 +16,8 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.common.InitializingPhase;
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.Producer;
@@ -25,11 +27,14 @@ import com.consol.citrus.vertx.factory.VertxInstanceFactory;
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxEndpoint extends AbstractEndpoint {
+public class VertxEndpoint extends AbstractEndpoint implements InitializingPhase, ShutdownPhase {
 
     /** Vert.x instance */
     private VertxInstanceFactory vertxInstanceFactory;
 
+    /** Cached consumer holding the persistent subscription */
+    private VertxConsumer persistentConsumer;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -54,8 +59,39 @@ public class VertxEndpoint extends AbstractEndpoint {
 
     @Override
     public Consumer createConsumer() {
-        return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
-                getEndpointConfiguration());
+        if (!getEndpointConfiguration().isPersistentSubscription()) {
+            return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                    getEndpointConfiguration());
+        }
+
+        return getPersistentConsumer();
+    }
+
+    /**
+     * Gets the consumer holding the persistent subscription. Creates the consumer on first access.
+     * @return
+     */
+    private synchronized VertxConsumer getPersistentConsumer() {
+        if (persistentConsumer == null) {
+            persistentConsumer = new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                    getEndpointConfiguration());
+        }
+
+        return persistentConsumer;
+    }
+
+    @Override
+    public void initialize() {
+        if (getEndpointConfiguration().isPersistentSubscription()) {
+            getPersistentConsumer().subscribe();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (persistentConsumer != null) {
+            persistentConsumer.destroy();
+        }
     }
 
     @Override
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.vertx.endpoint;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+
+/**
+ * Vert.x message handler buffers messages received on the event bus in a bounded in memory queue. Receivers are
+ * signalled as soon as a message arrives and may select messages out of order. When the buffer is full the event
+ * bus consumer is paused so Vert.x keeps further messages in its own consumer buffer until receivers catch up.
+ *
+ * @since 3.3
+ */
+public class VertxMessageBuffer implements Handler<Message<Object>> {
+
+    /** Buffered messages in arrival order */
+    private final LinkedList<Message<Object>> messages = new LinkedList<>();
+
+    /** Guards buffer and signals new messages */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageArrived = lock.newCondition();
+
+    /** Maximum number of buffered messages before the consumer is paused */
+    private final int capacity;
+
+    /** Event bus consumer feeding this buffer */
+    private MessageConsumer<Object> consumer;
+
+    /** Marks that the consumer has been paused because of a full buffer */
+    private boolean paused;
+
+    /**
+     * Constructor using buffer capacity.
+     * @param capacity
+     */
+    public VertxMessageBuffer(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @Override
+    public void handle(Message<Object> message) {
+        lock.lock();
+        try {
+            messages.add(message);
+
+            if (consumer != null && !paused && messages.size() >= capacity) {
+                consumer.pause();
+                paused = true;
+            }
+
+            messageArrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first buffered message accepted by given selector. Waits for new messages to arrive
+     * until the timeout is reached.
+     * @param selector
+     * @param timeout
+     * @return the selected message or null when no matching message arrived in time.
+     * @throws InterruptedException
+     */
+    public Message<Object> take(Predicate<Message<Object>> selector, long timeout) throws InterruptedException {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lock();
+        try {
+            while (true) {
+                for (Iterator<Message<Object>> iterator = messages.iterator(); iterator.hasNext();) {
+                    Message<Object> message = iterator.next();
+                    if (selector.test(message)) {
+                        iterator.remove();
+                        resumeIfNecessary();
+                        return message;
+                    }
+                }
+
+                if (nanos <= 0) {
+                    return null;
+                }
+
+                nanos = messageArrived.awaitNanos(nanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Resumes the paused event bus consumer once the buffer has space left.
+     */
+    private void resumeIfNecessary() {
+        if (paused && messages.size() < capacity) {
+            paused = false;
+            consumer.resume();
+        }
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return messages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the event bus consumer feeding this buffer. Used to pause and resume message delivery.
+     * @param consumer
+     */
+    public void setConsumer(MessageConsumer<Object> consumer) {
+        lock.lock();
+        try {
+            this.consumer = consumer;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
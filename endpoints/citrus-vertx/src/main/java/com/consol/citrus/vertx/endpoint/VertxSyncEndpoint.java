@@ -50,7 +50,7 @@ public class VertxSyncEndpoint extends VertxEndpoint {
     }
 
     @Override
-    public Consumer createConsumer() {
+    public synchronized Consumer createConsumer() {
         if (vertxSyncMessageProducer != null) {
             return vertxSyncMessageProducer;
         }
@@ -65,7 +65,7 @@ public class VertxSyncEndpoint extends VertxEndpoint {
     }
 
     @Override
-    public Producer createProducer() {
+    public synchronized Producer createProducer() {
         if (vertxSyncMessageConsumer != null) {
             return vertxSyncMessageConsumer;
         }
@@ -78,4 +78,21 @@ public class VertxSyncEndpoint extends VertxEndpoint {
 
         return vertxSyncMessageProducer;
     }
+
+    @Override
+    public void initialize() {
+        if (getEndpointConfiguration().isPersistentSubscription()) {
+            Consumer consumer = createConsumer();
+            if (consumer instanceof VertxSyncConsumer) {
+                ((VertxSyncConsumer) consumer).subscribe();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (vertxSyncMessageConsumer != null) {
+            vertxSyncMessageConsumer.destroy();
+        }
+    }
 }
@@ -29,6 +29,7 @@ import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.endpoint.VertxEndpoint;
 import com.consol.citrus.vertx.factory.VertxInstanceFactory;
 import com.consol.citrus.vertx.message.VertxMessageConverter;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testng.Assert;
@@ -58,7 +59,9 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
 
     @CitrusEndpoint
     @VertxEndpointConfig(address="news-feed3",
-            pubSubDomain=true)
+            pubSubDomain=true,
+            persistentSubscription=true,
+            bufferSize=100)
     private VertxEndpoint vertxEndpoint3;
 
     @CitrusEndpoint
@@ -68,7 +71,7 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
 
     @Mock
     private ReferenceResolver referenceResolver;
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private VertxInstanceFactory vertxInstanceFactory;
     @Mock
     private VertxInstanceFactory specialVertxInstanceFactory;
@@ -101,6 +104,8 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(vertxEndpoint1.getVertxInstanceFactory(), vertxInstanceFactory);
         Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getAddress(), "news-feed1");
         Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(vertxEndpoint1.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getBufferSize(), 1000);
 
         // 2nd message receiver
         Assert.assertNotNull(vertxEndpoint2.getVertxInstanceFactory());
@@ -114,6 +119,8 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         // 3rd message receiver
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertTrue(vertxEndpoint3.getEndpointConfiguration().isPubSubDomain());
+        Assert.assertTrue(vertxEndpoint3.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getBufferSize(), 100);
 
         // 4th message receiver
         Assert.assertNotNull(vertxEndpoint4.getActor());
@@ -41,6 +41,8 @@ public class VertxEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(vertxEndpoint.getVertxInstanceFactory(), beanDefinitionContext.getBean("vertxInstanceFactory"));
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getAddress(), "news-feed1");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(vertxEndpoint.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getBufferSize(), 1000);
 
         // 2nd message receiver
         vertxEndpoint = endpoints.get("vertxEndpoint2");
@@ -56,6 +58,8 @@ public class VertxEndpointParserTest extends AbstractBeanDefinitionParserTest {
         vertxEndpoint = endpoints.get("vertxEndpoint3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertTrue(vertxEndpoint.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getBufferSize(), 100);
 
         // 4th message receiver
         vertxEndpoint = endpoints.get("vertxEndpoint4");
@@ -16,8 +16,13 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.SelectiveConsumer;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.factory.SingleVertxInstanceFactory;
@@ -129,6 +134,131 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointConsumerPersistentSubscription() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+        endpointConfiguration.setBufferSize(2);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        AtomicReference<Handler> handler = new AtomicReference<>();
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            handler.set((Handler) invocation.getArguments()[1]);
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        Assert.assertSame(vertxEndpoint.createConsumer(), vertxEndpoint.createConsumer());
+
+        SelectiveConsumer consumer = (SelectiveConsumer) vertxEndpoint.createConsumer();
+        Assert.expectThrows(MessageTimeoutException.class, () -> consumer.receive(context, 10L));
+        Assert.assertNotNull(handler.get());
+
+        handler.get().handle(vertxMessage("Hello from Vertx!", eventBusAddress, "replyAddress1"));
+        handler.get().handle(vertxMessage("Hello again from Vertx!", eventBusAddress, "replyAddress2"));
+        verify(messageConsumer).pause();
+
+        Message receivedMessage = consumer.receive(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS + " = 'replyAddress2'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello again from Vertx!");
+        verify(messageConsumer).resume();
+
+        receivedMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        Assert.assertEquals(receivedMessage.getHeader(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS), "replyAddress1");
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+        verify(messageConsumer, never()).unregister();
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointSubscribesOnInitialize() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+        endpointConfiguration.setBufferSize(5);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        AtomicReference<Handler> handler = new AtomicReference<>();
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            handler.set((Handler) invocation.getArguments()[1]);
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        vertxEndpoint.initialize();
+        Assert.assertNotNull(handler.get());
+        verify(messageConsumer).setMaxBufferedMessages(5);
+
+        handler.get().handle(vertxMessage("Hello from Vertx!", eventBusAddress, "replyAddress"));
+
+        Message receivedMessage = vertxEndpoint.createConsumer().receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointConsumerSignalsWaitingReceiver() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        CountDownLatch subscribed = new CountDownLatch(1);
+        AtomicReference<Handler> handler = new AtomicReference<>();
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            handler.set((Handler) invocation.getArguments()[1]);
+            subscribed.countDown();
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        Thread sender = new Thread(() -> {
+            try {
+                subscribed.await();
+                handler.get().handle(vertxMessage("Hello from Vertx!", eventBusAddress, "replyAddress"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        sender.start();
+
+        Message receivedMessage = vertxEndpoint.createConsumer().receive(context, 5000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        sender.join();
+
+        vertxEndpoint.destroy();
+    }
+
+    private io.vertx.core.eventbus.Message vertxMessage(String body, String address, String replyAddress) {
+        io.vertx.core.eventbus.Message message = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        when(message.body()).thenReturn(body);
+        when(message.address()).thenReturn(address);
+        when(message.replyAddress()).thenReturn(replyAddress);
+        return message;
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
@@ -18,6 +18,7 @@ package com.consol.citrus.websocket.client;
 
 import com.consol.citrus.endpoint.AbstractEndpointBuilder;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
+import com.consol.citrus.websocket.handler.WebSocketMessageBuffer;
 import com.consol.citrus.websocket.message.WebSocketMessageConverter;
 
 /**
@@ -68,7 +69,9 @@ public class WebSocketClientBuilder extends AbstractEndpointBuilder<WebSocketCli
      * Sets the polling interval.
      * @param pollingInterval
      * @return
+     * @deprecated receive operations are signalled by the inbound message buffer, the polling interval is ignored.
      */
+    @Deprecated
     public WebSocketClientBuilder pollingInterval(int pollingInterval) {
         endpoint.getEndpointConfiguration().setPollingInterval(pollingInterval);
         return this;
@@ -84,4 +87,24 @@ public class WebSocketClientBuilder extends AbstractEndpointBuilder<WebSocketCli
         return this;
     }
 
+    /**
+     * Sets the inbound message buffer size.
+     * @param bufferSize
+     * @return
+     */
+    public WebSocketClientBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
+    /**
+     * Sets the inbound message buffer overflow policy.
+     * @param overflowPolicy
+     * @return
+     */
+    public WebSocketClientBuilder overflowPolicy(WebSocketMessageBuffer.OverflowPolicy overflowPolicy) {
+        endpoint.getEndpointConfiguration().setOverflowPolicy(overflowPolicy);
+        return this;
+    }
+
 }
@@ -22,6 +22,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import com.consol.citrus.annotations.CitrusEndpointConfig;
+import com.consol.citrus.websocket.handler.WebSocketMessageBuffer;
 
 /**
  * @author Christoph Deppisch
@@ -53,9 +54,23 @@ public @interface WebSocketClientConfig {
     /**
      * Polling interval.
      * @return
+     * @deprecated receive operations are signalled by the inbound message buffer, the polling interval is ignored.
      */
+    @Deprecated
     int pollingInterval() default 500;
 
+    /**
+     * Inbound message buffer size.
+     * @return
+     */
+    int bufferSize() default 10000;
+
+    /**
+     * Inbound message buffer overflow policy.
+     * @return
+     */
+    WebSocketMessageBuffer.OverflowPolicy overflowPolicy() default WebSocketMessageBuffer.OverflowPolicy.DROP_OLDEST;
+
     /**
      * Timeout.
      * @return
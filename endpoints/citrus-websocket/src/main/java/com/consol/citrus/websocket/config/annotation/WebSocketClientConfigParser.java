@@ -47,6 +47,9 @@ public class WebSocketClientConfigParser implements AnnotationConfigParser<WebSo
 
         builder.pollingInterval(annotation.pollingInterval());
 
+        builder.bufferSize(annotation.bufferSize());
+        builder.overflowPolicy(annotation.overflowPolicy());
+
         builder.timeout(annotation.timeout());
 
         if (StringUtils.hasText(annotation.actor())) {
@@ -16,6 +16,8 @@
 
 package com.consol.citrus.websocket.config.annotation;
 
+import com.consol.citrus.websocket.handler.WebSocketMessageBuffer;
+
 /**
  * @author Christoph Deppisch
  * @since 2.5
@@ -45,4 +47,16 @@ public @interface WebSocketConfig {
      * @return
      */
     long timeout() default 5000L;
+
+    /**
+     * Inbound message buffer size.
+     * @return
+     */
+    int bufferSize() default 10000;
+
+    /**
+     * Inbound message buffer overflow policy.
+     * @return
+     */
+    WebSocketMessageBuffer.OverflowPolicy overflowPolicy() default WebSocketMessageBuffer.OverflowPolicy.DROP_OLDEST;
 }
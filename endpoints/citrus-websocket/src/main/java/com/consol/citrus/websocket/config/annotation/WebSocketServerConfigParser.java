@@ -56,6 +56,8 @@ public class WebSocketServerConfigParser implements AnnotationConfigParser<WebSo
             }
 
             webSocketConfiguration.setTimeout(webSocketConfig.timeout());
+            webSocketConfiguration.setBufferSize(webSocketConfig.bufferSize());
+            webSocketConfiguration.setOverflowPolicy(webSocketConfig.overflowPolicy());
 
             WebSocketEndpoint webSocket = new WebSocketEndpoint(webSocketConfiguration);
             webSocket.setName(webSocketConfig.id());
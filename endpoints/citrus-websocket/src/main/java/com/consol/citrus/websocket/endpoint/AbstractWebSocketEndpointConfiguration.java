@@ -19,6 +19,8 @@ package com.consol.citrus.websocket.endpoint;
 import com.consol.citrus.endpoint.AbstractPollableEndpointConfiguration;
 import com.consol.citrus.endpoint.resolver.DynamicEndpointUriResolver;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
+import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
+import com.consol.citrus.websocket.handler.WebSocketMessageBuffer;
 import com.consol.citrus.websocket.message.WebSocketMessageConverter;
 
 /**
@@ -36,6 +38,10 @@ public abstract class AbstractWebSocketEndpointConfiguration extends AbstractPol
     /** The message converter */
     private WebSocketMessageConverter messageConverter = new WebSocketMessageConverter();
 
+    /** Inbound message buffer settings */
+    private int bufferSize = CitrusWebSocketHandler.DEFAULT_BUFFER_SIZE;
+    private WebSocketMessageBuffer.OverflowPolicy overflowPolicy = CitrusWebSocketHandler.DEFAULT_OVERFLOW_POLICY;
+
     @Override
     public WebSocketMessageConverter getMessageConverter() {
         return messageConverter;
@@ -65,4 +71,24 @@ public abstract class AbstractWebSocketEndpointConfiguration extends AbstractPol
     public void setEndpointUriResolver(EndpointUriResolver endpointUriResolver) {
         this.endpointUriResolver = endpointUriResolver;
     }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public WebSocketMessageBuffer.OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @Override
+    public void setOverflowPolicy(WebSocketMessageBuffer.OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
 }
@@ -16,16 +16,24 @@
 
 package com.consol.citrus.websocket.endpoint;
 
+import java.util.function.Predicate;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.handler.WebSocketMessageBuffer;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.util.StringUtils;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer waits for incoming messages on web socket handler. Received messages carry the id of the web socket session
+ * as message header so message selectors are able to receive messages session by session.
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,8 +62,8 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        WebSocketMessageBuffer.InboundMessage message = receive(getMessageSelector(selector, context), timeout);
+        Message receivedMessage = convertInbound(message, context);
 
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
@@ -64,31 +72,23 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
+     * Receive web socket message from web socket handler. Waits for incoming message until timeout is reached.
+     * @param selector
      * @param timeout
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
+    private WebSocketMessageBuffer.InboundMessage receive(Predicate<WebSocketMessageBuffer.InboundMessage> selector, long timeout) {
         String endpointUri = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, endpointUri, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", endpointUri), e);
-            }
-
-            message = config.getHandler().getMessage();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Waiting for message on '%s'", endpointUri));
+        }
+
+        WebSocketMessageBuffer.InboundMessage message;
+        try {
+            message = endpointConfiguration.getHandler().getInboundMessages().take(selector, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Thread interrupted while waiting for message on '%s'", endpointUri), e);
         }
 
         if (message == null) {
@@ -96,4 +96,32 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
         }
         return message;
     }
+
+    /**
+     * Creates selector predicate for buffered messages. Messages are converted to the internal message representation
+     * so the selector is able to evaluate message headers such as the session id.
+     * @param selector
+     * @param context
+     * @return
+     */
+    private Predicate<WebSocketMessageBuffer.InboundMessage> getMessageSelector(String selector, TestContext context) {
+        if (!StringUtils.hasText(selector)) {
+            return message -> true;
+        }
+
+        MessageSelector messageSelector = new DelegatingMessageSelector(selector, context);
+        return message -> messageSelector.accept(convertInbound(message, context));
+    }
+
+    /**
+     * Converts buffered message to internal message representation and adds the session id header.
+     * @param message
+     * @param context
+     * @return
+     */
+    private Message convertInbound(WebSocketMessageBuffer.InboundMessage message, TestContext context) {
+        return endpointConfiguration.getMessageConverter()
+                .convertInbound(message.getMessage(), endpointConfiguration, context)
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_ID, message.getSessionId());
+    }
 }
@@ -19,6 +19,7 @@ package com.consol.citrus.websocket.endpoint;
 import com.consol.citrus.endpoint.PollableEndpointConfiguration;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
+import com.consol.citrus.websocket.handler.WebSocketMessageBuffer;
 import com.consol.citrus.websocket.message.WebSocketMessageConverter;
 
 /**
@@ -76,4 +77,28 @@ public interface WebSocketEndpointConfiguration extends PollableEndpointConfigur
      * @param endpointUriResolver the endpointUriResolver to set
      */
     void setEndpointUriResolver(EndpointUriResolver endpointUriResolver);
+
+    /**
+     * Gets the maximum number of buffered inbound messages.
+     * @return
+     */
+    int getBufferSize();
+
+    /**
+     * Sets the maximum number of buffered inbound messages.
+     * @param bufferSize
+     */
+    void setBufferSize(int bufferSize);
+
+    /**
+     * Gets the behavior when inbound message buffer is full.
+     * @return
+     */
+    WebSocketMessageBuffer.OverflowPolicy getOverflowPolicy();
+
+    /**
+     * Sets the behavior when inbound message buffer is full.
+     * @param overflowPolicy
+     */
+    void setOverflowPolicy(WebSocketMessageBuffer.OverflowPolicy overflowPolicy);
 }
@@ -22,13 +22,12 @@ import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
+ * Web Socket Handler for handling incoming and sending outgoing Web Socket messages. Incoming messages are stored
+ * in a bounded message buffer together with their session id.
  *
  * @author Martin Maher
  * @since 2.3
@@ -37,11 +36,31 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Default inbound message buffer settings */
+    public static final int DEFAULT_BUFFER_SIZE = 10000;
+    public static final WebSocketMessageBuffer.OverflowPolicy DEFAULT_OVERFLOW_POLICY = WebSocketMessageBuffer.OverflowPolicy.DROP_OLDEST;
+
+    /** Inbound message buffer */
+    private final WebSocketMessageBuffer inboundMessages;
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor using default inbound buffer settings.
+     */
+    public CitrusWebSocketHandler() {
+        this(DEFAULT_BUFFER_SIZE, DEFAULT_OVERFLOW_POLICY);
+    }
+
+    /**
+     * Constructor using inbound buffer size and overflow policy.
+     * @param bufferSize
+     * @param overflowPolicy
+     */
+    public CitrusWebSocketHandler(int bufferSize, WebSocketMessageBuffer.OverflowPolicy overflowPolicy) {
+        this.inboundMessages = new WebSocketMessageBuffer(bufferSize, overflowPolicy);
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -52,19 +71,19 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        inboundMessages.add(session.getId(), message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        inboundMessages.add(session.getId(), message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        inboundMessages.add(session.getId(), message);
     }
 
     @Override
@@ -83,7 +102,16 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        WebSocketMessageBuffer.InboundMessage message = inboundMessages.poll(inbound -> true);
+        return message != null ? message.getMessage() : null;
+    }
+
+    /**
+     * Gets the inbound message buffer.
+     * @return
+     */
+    public WebSocketMessageBuffer getInboundMessages() {
+        return inboundMessages;
     }
 
     /**
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.websocket.handler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * Bounded buffer for inbound Web Socket messages. Messages are stored together with the id of the session they were
+ * received on, so receivers are able to select messages per session. Receivers are signalled as soon as a new message
+ * arrives. When the buffer is full the overflow policy decides whether the oldest message is dropped, the new message
+ * is rejected or the I/O thread blocks. Rejected messages never raise errors on the I/O thread, instead the next
+ * receive operation on the buffer fails.
+ *
+ * @since 3.3
+ */
+public class WebSocketMessageBuffer {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(WebSocketMessageBuffer.class);
+
+    /** Buffered messages in arrival order */
+    private final Deque<InboundMessage> messages = new ArrayDeque<>();
+
+    /** Guards buffer and signals receivers and blocked I/O threads */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /** Maximum number of buffered messages */
+    private final int capacity;
+
+    /** Behavior when buffer is full */
+    private final OverflowPolicy overflowPolicy;
+
+    /** Number of messages received per session */
+    private final Map<String, AtomicLong> receivedCount = new ConcurrentHashMap<>();
+
+    /** Number of messages dropped or rejected because of a full buffer */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /** Error of a rejected message reported to the next receiver */
+    private CitrusRuntimeException overflowError;
+
+    /**
+     * Constructor using capacity and overflow policy.
+     * @param capacity
+     * @param overflowPolicy
+     */
+    public WebSocketMessageBuffer(int capacity, OverflowPolicy overflowPolicy) {
+        this.capacity = Math.max(1, capacity);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Adds message received on given session.
+     * @param sessionId
+     * @param message
+     * @throws InterruptedException when thread is interrupted while waiting for free buffer space with blocking policy.
+     */
+    public void add(String sessionId, WebSocketMessage<?> message) throws InterruptedException {
+        receivedCount.computeIfAbsent(sessionId, id -> new AtomicLong()).incrementAndGet();
+
+        lock.lockInterruptibly();
+        try {
+            while (messages.size() >= capacity) {
+                switch (overflowPolicy) {
+                    case DROP_OLDEST:
+                        InboundMessage dropped = messages.removeFirst();
+                        droppedCount.incrementAndGet();
+                        LOG.warn(String.format("WebSocket inbound buffer full - dropped oldest message of session (%s)", dropped.getSessionId()));
+                        break;
+                    case FAIL:
+                        droppedCount.incrementAndGet();
+                        overflowError = new CitrusRuntimeException(String.format("WebSocket inbound buffer full - " +
+                                "rejected message of session (%s)", sessionId));
+                        LOG.error(overflowError.getMessage());
+                        notEmpty.signalAll();
+                        return;
+                    default:
+                        notFull.await();
+                }
+            }
+
+            messages.addLast(new InboundMessage(sessionId, message));
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first message accepted by given selector. Does not wait for new messages.
+     * @param selector
+     * @return the selected message or null when no buffered message matches.
+     * @throws CitrusRuntimeException when a message has been rejected because of a full buffer since the last receive.
+     */
+    public InboundMessage poll(Predicate<InboundMessage> selector) {
+        lock.lock();
+        try {
+            raiseOverflowError();
+            return select(selector);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first message accepted by given selector. Waits for new messages to arrive
+     * until the timeout is reached.
+     * @param selector
+     * @param timeout
+     * @return the selected message or null when no matching message arrived in time.
+     * @throws InterruptedException
+     * @throws CitrusRuntimeException when a message has been rejected because of a full buffer since the last receive.
+     */
+    public InboundMessage take(Predicate<InboundMessage> selector, long timeout) throws InterruptedException {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            raiseOverflowError();
+            InboundMessage message = select(selector);
+            while (message == null && nanos > 0) {
+                nanos = notEmpty.awaitNanos(nanos);
+                raiseOverflowError();
+                message = select(selector);
+            }
+
+            return message;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Throws and clears the error of a rejected message. Must be called with lock held.
+     */
+    private void raiseOverflowError() {
+        if (overflowError != null) {
+            CitrusRuntimeException error = overflowError;
+            overflowError = null;
+            throw error;
+        }
+    }
+
+    /**
+     * Removes first buffered message accepted by given selector. Must be called with lock held.
+     * @param selector
+     * @return
+     */
+    private InboundMessage select(Predicate<InboundMessage> selector) {
+        for (Iterator<InboundMessage> iterator = messages.iterator(); iterator.hasNext();) {
+            InboundMessage message = iterator.next();
+            if (selector.test(message)) {
+                iterator.remove();
+                notFull.signalAll();
+                return message;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return messages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages received on given session.
+     * @param sessionId
+     * @return
+     */
+    public long getReceivedCount(String sessionId) {
+        AtomicLong count = receivedCount.get(sessionId);
+        return count != null ? count.get() : 0L;
+    }
+
+    /**
+     * Gets the number of messages dropped or rejected because of a full buffer.
+     * @return
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Behavior of the buffer when a message arrives and the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Block the receiving I/O thread until there is free buffer space, stalls all other messages of the connection */
+        BLOCK,
+        /** Drop the oldest buffered message */
+        DROP_OLDEST,
+        /** Reject the new message and fail the next receive operation */
+        FAIL
+    }
+
+    /**
+     * Buffered message with the id of the session it was received on.
+     */
+    public static final class InboundMessage {
+        private final String sessionId;
+        private final WebSocketMessage<?> message;
+
+        InboundMessage(String sessionId, WebSocketMessage<?> message) {
+            this.sessionId = sessionId;
+            this.message = message;
+        }
+
+        /**
+         * Gets the session id.
+         * @return
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the message.
+         * @return
+         */
+        public WebSocketMessage<?> getMessage() {
+            return message;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -143,6 +144,36 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testWebSocketEndpointSelectSession() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+        handler.handleMessage(session, new TextMessage("Hello from session 1"));
+        handler.handleMessage(session2, new TextMessage("Hello from session 2"));
+
+        Assert.assertEquals(handler.getInboundMessages().getReceivedCount("test-socket-1"), 1L);
+        Assert.assertEquals(handler.getInboundMessages().getReceivedCount("test-socket-2"), 1L);
+
+        Message requestMessage = webSocketEndpoint.createConsumer().receive(WebSocketMessageHeaders.WEB_SOCKET_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from session 2");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_ID), "test-socket-2");
+
+        requestMessage = webSocketEndpoint.createConsumer().receive(context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from session 1");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_ID), "test-socket-1");
+    }
+
     @Test
     public void testWebSocketEndpointTimeout() throws Exception {
         WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.websocket.handler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.springframework.web.socket.TextMessage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class WebSocketMessageBufferTest {
+
+    @Test
+    public void shouldSelectMessagesPerSession() throws InterruptedException {
+        WebSocketMessageBuffer buffer = new WebSocketMessageBuffer(10, WebSocketMessageBuffer.OverflowPolicy.BLOCK);
+        buffer.add("session-1", new TextMessage("foo"));
+        buffer.add("session-2", new TextMessage("bar"));
+        buffer.add("session-1", new TextMessage("baz"));
+
+        Assert.assertEquals(buffer.getReceivedCount("session-1"), 2L);
+        Assert.assertEquals(buffer.getReceivedCount("session-2"), 1L);
+        Assert.assertEquals(buffer.getReceivedCount("unknown"), 0L);
+
+        WebSocketMessageBuffer.InboundMessage message = buffer.take(inbound -> inbound.getSessionId().equals("session-2"), 100L);
+        Assert.assertEquals(message.getMessage().getPayload(), "bar");
+
+        Assert.assertEquals(buffer.take(inbound -> true, 100L).getMessage().getPayload(), "foo");
+        Assert.assertEquals(buffer.take(inbound -> true, 100L).getMessage().getPayload(), "baz");
+        Assert.assertNull(buffer.take(inbound -> true, 10L));
+        Assert.assertEquals(buffer.size(), 0);
+    }
+
+    @Test
+    public void shouldDropOldestMessage() throws InterruptedException {
+        WebSocketMessageBuffer buffer = new WebSocketMessageBuffer(2, WebSocketMessageBuffer.OverflowPolicy.DROP_OLDEST);
+        buffer.add("session-1", new TextMessage("foo"));
+        buffer.add("session-1", new TextMessage("bar"));
+        buffer.add("session-1", new TextMessage("baz"));
+
+        Assert.assertEquals(buffer.size(), 2);
+        Assert.assertEquals(buffer.getDroppedCount(), 1L);
+        Assert.assertEquals(buffer.poll(inbound -> true).getMessage().getPayload(), "bar");
+    }
+
+    @Test
+    public void shouldFailOnFullBuffer() throws InterruptedException {
+        WebSocketMessageBuffer buffer = new WebSocketMessageBuffer(1, WebSocketMessageBuffer.OverflowPolicy.FAIL);
+        buffer.add("session-1", new TextMessage("foo"));
+
+        buffer.add("session-1", new TextMessage("bar"));
+        Assert.assertEquals(buffer.size(), 1);
+        Assert.assertEquals(buffer.getDroppedCount(), 1L);
+
+        Assert.assertThrows(CitrusRuntimeException.class, () -> buffer.take(inbound -> true, 100L));
+        Assert.assertEquals(buffer.take(inbound -> true, 100L).getMessage().getPayload(), "foo");
+    }
+
+    @Test
+    public void shouldBlockOnFullBuffer() throws InterruptedException {
+        WebSocketMessageBuffer buffer = new WebSocketMessageBuffer(1, WebSocketMessageBuffer.OverflowPolicy.BLOCK);
+        buffer.add("session-1", new TextMessage("foo"));
+
+        CountDownLatch added = new CountDownLatch(1);
+        Thread ioThread = new Thread(() -> {
+            try {
+                buffer.add("session-1", new TextMessage("bar"));
+                added.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ioThread.start();
+
+        Assert.assertFalse(added.await(100L, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(buffer.take(inbound -> true, 100L).getMessage().getPayload(), "foo");
+        Assert.assertTrue(added.await(5000L, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(buffer.take(inbound -> true, 100L).getMessage().getPayload(), "bar");
+        ioThread.join();
+    }
+}
@@ -46,6 +46,7 @@ import com.consol.citrus.zookeeper.command.GetChildren;
 import com.consol.citrus.zookeeper.command.GetData;
 import com.consol.citrus.zookeeper.command.Info;
 import com.consol.citrus.zookeeper.command.SetData;
+import com.consol.citrus.zookeeper.command.Watch;
 import com.consol.citrus.zookeeper.command.ZooCommand;
 import com.consol.citrus.zookeeper.command.ZooResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -418,6 +419,60 @@ public class ZooExecuteAction extends AbstractTestAction {
             return command(command);
         }
 
+        /**
+         * Adds a watch command waiting for changes on given paths.
+         */
+        public Builder watch(String... paths) {
+            Watch command = new Watch();
+            command.path(paths);
+            return command(command);
+        }
+
+        /**
+         * Sets the watch timeout parameter.
+         * @param timeout
+         * @return
+         */
+        public Builder timeout(long timeout) {
+            watchCommand("timeout").timeout(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the expected watch event types.
+         * @param eventTypes
+         * @return
+         */
+        public Builder event(String... eventTypes) {
+            watchCommand("event").event(eventTypes);
+            return this;
+        }
+
+        /**
+         * Sets the watch condition parameter.
+         * @param condition
+         * @return
+         */
+        public Builder condition(String condition) {
+            watchCommand("condition").condition(condition);
+            return this;
+        }
+
+        /**
+         * Gets the current command as watch command. Fails with a clear error when the watch parameter is set on
+         * another command type.
+         * @param parameter
+         * @return
+         */
+        private Watch watchCommand(String parameter) {
+            if (!(command instanceof Watch)) {
+                throw new CitrusRuntimeException(String.format("Unable to set watch parameter '%s' on zookeeper command %s - please use watch() command first",
+                        parameter, command != null ? command.getClass().getSimpleName() : "null"));
+            }
+
+            return (Watch) command;
+        }
+
         /**
          * Adds command result callback.
          * @param callback
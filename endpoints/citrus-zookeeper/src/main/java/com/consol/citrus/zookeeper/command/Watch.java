@@ -0,0 +1,310 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.zookeeper.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.zookeeper.client.ZooClient;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.OpResult;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.ZooKeeper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * Waits for changes on one or more znodes. Registers watches on all given paths and blocks until the
+ * ZooKeeper server notifies a node or children change instead of polling the node state. After the watch has fired
+ * the current state of all watched nodes is read with a single multi read request. Received watch events and node
+ * states are stored in the command result for validation.
+ *
+ * @since 3.3
+ */
+public class Watch extends AbstractZooCommand<ZooResponse> {
+
+    public static final String TIMEOUT = "timeout";
+    public static final String EVENT = "event";
+    public static final String CONDITION = "condition";
+
+    public static final String EVENTS = "events";
+    public static final String NODES = "nodes";
+
+    public static final String CONDITION_ALL = "all";
+    public static final String CONDITION_ANY = "any";
+
+    /** Default time to wait for watch events */
+    public static final long DEFAULT_TIMEOUT = 5000L;
+
+    /**
+     * Logger
+     */
+    private static Logger log = LoggerFactory.getLogger(Watch.class);
+
+    /**
+     * Default constructor initializing the command name.
+     */
+    public Watch() {
+        super("zookeeper:watch");
+    }
+
+    @Override
+    public void execute(ZooClient zookeeperClient, TestContext context) {
+        ZooResponse commandResult = new ZooResponse();
+        setCommandResult(commandResult);
+
+        List<String> paths = Arrays.stream(StringUtils.commaDelimitedListToStringArray(getParameter(PATH, context)))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .distinct()
+                .collect(Collectors.toList());
+        long timeout = hasParameter(TIMEOUT) ? Long.parseLong(getParameter(TIMEOUT, context)) : DEFAULT_TIMEOUT;
+        boolean matchAll = !hasParameter(CONDITION) || !CONDITION_ANY.equalsIgnoreCase(getParameter(CONDITION, context));
+
+        ZooKeeper zookeeper = zookeeperClient.getZooKeeperClient();
+        PathWatcher watcher = new PathWatcher(zookeeper, getEventTypes(context), matchAll ? paths.size() : 1);
+
+        try {
+            for (String path : paths) {
+                watcher.register(path);
+            }
+
+            if (!watcher.await(timeout)) {
+                throw new CitrusRuntimeException(String.format("Timed out after %s ms waiting for zookeeper watch events on path(s) %s",
+                        timeout, paths));
+            }
+
+            commandResult.setResponseParam(EVENTS, watcher.getEvents());
+            commandResult.setResponseParam(NODES, readNodes(zookeeper, paths));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(e);
+        } catch (KeeperException e) {
+            throw new CitrusRuntimeException(e);
+        } finally {
+            watcher.close(paths);
+        }
+
+        log.debug(getCommandResult().toString());
+    }
+
+    /**
+     * Reads data and stat of all given nodes in one multi read request. Nodes that do not exist
+     * (e.g. because they have been deleted) are not part of the result.
+     * @param zookeeper
+     * @param paths
+     * @return
+     */
+    private Map<String, Object> readNodes(ZooKeeper zookeeper, List<String> paths) throws InterruptedException {
+        List<OpResult> results;
+        try {
+            results = zookeeper.multi(paths.stream().map(Op::getData).collect(Collectors.toList()));
+        } catch (KeeperException e) {
+            results = e.getResults();
+        }
+
+        Map<String, Object> nodes = new LinkedHashMap<>();
+        if (results == null) {
+            return nodes;
+        }
+
+        for (int i = 0; i < results.size() && i < paths.size(); i++) {
+            if (results.get(i) instanceof OpResult.GetDataResult) {
+                OpResult.GetDataResult result = (OpResult.GetDataResult) results.get(i);
+                ZooResponse node = new ZooResponse();
+                node.setResponseParam(DATA, result.getData() != null ? new String(result.getData()) : null);
+                CommandHelper.parseStatResponse(node, result.getStat());
+                nodes.put(paths.get(i), node.getResponseData());
+            }
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Gets the watch event types this command is waiting for. Defaults to all node and children change events.
+     * @param context
+     * @return
+     */
+    private Set<Watcher.Event.EventType> getEventTypes(TestContext context) {
+        if (!hasParameter(EVENT)) {
+            return EnumSet.of(Watcher.Event.EventType.NodeCreated, Watcher.Event.EventType.NodeDeleted,
+                    Watcher.Event.EventType.NodeDataChanged, Watcher.Event.EventType.NodeChildrenChanged);
+        }
+
+        Set<Watcher.Event.EventType> eventTypes = EnumSet.noneOf(Watcher.Event.EventType.class);
+        for (String eventType : StringUtils.commaDelimitedListToStringArray(getParameter(EVENT, context))) {
+            try {
+                eventTypes.add(Watcher.Event.EventType.valueOf(eventType.trim()));
+            } catch (IllegalArgumentException e) {
+                throw new CitrusRuntimeException(String.format("Unsupported zookeeper watch event type '%s'", eventType), e);
+            }
+        }
+
+        return eventTypes;
+    }
+
+    /**
+     * Sets the path parameter. Multiple paths are combined to a batch wait.
+     * @param paths
+     * @return
+     */
+    public Watch path(String... paths) {
+        getParameters().put(PATH, String.join(",", paths));
+        return this;
+    }
+
+    /**
+     * Sets the timeout parameter.
+     * @param timeout
+     * @return
+     */
+    public Watch timeout(long timeout) {
+        getParameters().put(TIMEOUT, String.valueOf(timeout));
+        return this;
+    }
+
+    /**
+     * Sets the expected watch event types.
+     * @param eventTypes
+     * @return
+     */
+    public Watch event(String... eventTypes) {
+        getParameters().put(EVENT, String.join(",", eventTypes));
+        return this;
+    }
+
+    /**
+     * Sets the condition parameter. Either all or any of the watched paths must change.
+     * @param condition
+     * @return
+     */
+    public Watch condition(String condition) {
+        getParameters().put(CONDITION, condition);
+        return this;
+    }
+
+    /**
+     * Watcher registered on all watched paths. Records expected events and signals the waiting command. Watches
+     * are one-shot so the watcher gets registered again on paths that received an event that is not expected.
+     */
+    private static class PathWatcher implements Watcher {
+        private final ZooKeeper zookeeper;
+        private final Set<Event.EventType> eventTypes;
+        private final CountDownLatch latch;
+
+        private final Map<String, Boolean> changed = new ConcurrentHashMap<>();
+        private final List<Map<String, Object>> events = Collections.synchronizedList(new ArrayList<>());
+
+        PathWatcher(ZooKeeper zookeeper, Set<Event.EventType> eventTypes, int count) {
+            this.zookeeper = zookeeper;
+            this.eventTypes = eventTypes;
+            this.latch = new CountDownLatch(count);
+        }
+
+        /**
+         * Registers data watch on given path and children watch if the node exists.
+         * @param path
+         */
+        void register(String path) throws KeeperException, InterruptedException {
+            if (zookeeper.exists(path, this) != null && eventTypes.contains(Event.EventType.NodeChildrenChanged)) {
+                try {
+                    zookeeper.getChildren(path, this);
+                } catch (KeeperException.NoNodeException e) {
+                    log.debug(String.format("Node '%s' deleted while registering watch", path));
+                }
+            }
+        }
+
+        @Override
+        public void process(WatchedEvent event) {
+            if (event.getType() == Event.EventType.None || event.getPath() == null) {
+                return;
+            }
+
+            if (eventTypes.contains(event.getType())) {
+                Map<String, Object> watchEvent = new LinkedHashMap<>();
+                watchEvent.put(PATH, event.getPath());
+                watchEvent.put("type", event.getType().name());
+                watchEvent.put("state", event.getState().name());
+                events.add(watchEvent);
+
+                if (changed.putIfAbsent(event.getPath(), Boolean.TRUE) == null) {
+                    latch.countDown();
+                }
+            } else if (latch.getCount() > 0 && !changed.containsKey(event.getPath())) {
+                reregister(event.getPath());
+            }
+        }
+
+        /**
+         * Registers watches again using asynchronous calls in order not to block the event thread.
+         * @param path
+         */
+        private void reregister(String path) {
+            zookeeper.exists(path, this, (rc, p, ctx, stat) -> {
+                if (stat != null && eventTypes.contains(Event.EventType.NodeChildrenChanged)) {
+                    zookeeper.getChildren(p, this, (childRc, childPath, childCtx, children) -> {}, null);
+                }
+            }, null);
+        }
+
+        boolean await(long timeout) throws InterruptedException {
+            return latch.await(timeout, TimeUnit.MILLISECONDS);
+        }
+
+        List<Map<String, Object>> getEvents() {
+            synchronized (events) {
+                return new ArrayList<>(events);
+            }
+        }
+
+        /**
+         * Removes remaining watches on given paths.
+         * @param paths
+         */
+        void close(List<String> paths) {
+            for (String path : paths) {
+                try {
+                    zookeeper.removeWatches(path, this, WatcherType.Any, true);
+                } catch (KeeperException.NoWatcherException e) {
+                    log.trace(String.format("No remaining watch on path '%s'", path));
+                } catch (KeeperException e) {
+                    log.debug(String.format("Failed to remove watch on path '%s'", path), e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
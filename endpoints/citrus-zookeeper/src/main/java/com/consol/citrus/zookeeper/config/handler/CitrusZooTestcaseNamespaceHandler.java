@@ -34,5 +34,6 @@ public class CitrusZooTestcaseNamespaceHandler extends NamespaceHandlerSupport {
         registerBeanDefinitionParser("get", new ZooExecuteActionParser(GetData.class));
         registerBeanDefinitionParser("set", new ZooExecuteActionParser(SetData.class));
         registerBeanDefinitionParser("children", new ZooExecuteActionParser(GetChildren.class));
+        registerBeanDefinitionParser("watch", new ZooExecuteActionParser(Watch.class));
     }
 }
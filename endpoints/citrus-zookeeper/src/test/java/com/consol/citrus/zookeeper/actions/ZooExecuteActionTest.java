@@ -16,14 +16,31 @@
 
 package com.consol.citrus.zookeeper.actions;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.zookeeper.client.ZooClient;
 import com.consol.citrus.zookeeper.command.Info;
+import com.consol.citrus.zookeeper.command.Watch;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.OpResult;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.ZooKeeper;
+import org.apache.zookeeper.data.Stat;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ZooExecuteActionTest extends AbstractTestNGUnitTest {
@@ -44,4 +61,64 @@ public class ZooExecuteActionTest extends AbstractTestNGUnitTest {
 
         //Assert.assertEquals(action.getCommand().getCommandResult(), null);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWatch() throws Exception {
+        reset(zookeeper);
+
+        when(zookeeper.getState()).thenReturn(ZooKeeper.States.CONNECTED);
+        doAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            Watcher watcher = invocation.getArgument(1);
+            new Thread(() -> watcher.process(new WatchedEvent(Watcher.Event.EventType.NodeDataChanged,
+                    Watcher.Event.KeeperState.SyncConnected, path))).start();
+            return new Stat();
+        }).when(zookeeper).exists(any(String.class), any(Watcher.class));
+        when(zookeeper.multi(anyList())).thenReturn(Arrays.asList(
+                new OpResult.GetDataResult("foo".getBytes(), new Stat()),
+                new OpResult.ErrorResult(KeeperException.Code.NONODE.intValue())));
+
+        ZooExecuteAction action = new ZooExecuteAction.Builder()
+                .client(new ZooClient(zookeeper))
+                .watch("/foo", "/bar")
+                .event("NodeDataChanged")
+                .timeout(1000L)
+                .build();
+        action.execute(context);
+
+        Map<String, Object> result = ((Watch) action.getCommand()).getCommandResult().getResponseData();
+        List<Map<String, Object>> events = (List<Map<String, Object>>) result.get(Watch.EVENTS);
+        Assert.assertEquals(events.size(), 2L);
+        Assert.assertEquals(events.get(0).get("type"), "NodeDataChanged");
+
+        Map<String, Map<String, Object>> nodes = (Map<String, Map<String, Object>>) result.get(Watch.NODES);
+        Assert.assertEquals(nodes.size(), 1L);
+        Assert.assertEquals(nodes.get("/foo").get("data"), "foo");
+
+        verify(zookeeper).removeWatches(eq("/foo"), any(Watcher.class), eq(Watcher.WatcherType.Any), eq(true));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Timed out .*")
+    public void testWatchTimeout() throws Exception {
+        reset(zookeeper);
+
+        when(zookeeper.getState()).thenReturn(ZooKeeper.States.CONNECTED);
+        when(zookeeper.exists(any(String.class), any(Watcher.class))).thenReturn(null);
+
+        ZooExecuteAction action = new ZooExecuteAction.Builder()
+                .client(new ZooClient(zookeeper))
+                .watch("/foo")
+                .timeout(100L)
+                .build();
+        action.execute(context);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Unable to set watch parameter 'timeout' on zookeeper command Info.*")
+    public void testWatchParameterOnOtherCommand() {
+        new ZooExecuteAction.Builder()
+                .client(new ZooClient(zookeeper))
+                .info()
+                .timeout(100L);
+    }
 }
@@ -23,15 +23,26 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.main.AbstractTestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.main.scan.ClassPathTestScanner;
 import com.consol.citrus.main.scan.JarFileTestScanner;
 import org.junit.Test;
+import org.junit.runner.Computer;
 import org.junit.runner.JUnitCore;
+import org.junit.runner.Runner;
 import org.junit.runner.notification.RunListener;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.RunnerScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -98,7 +109,10 @@ public class JUnit4TestEngine extends AbstractTestEngine {
             junit.addListener(listener);
         }
 
-        junit.run(classesToRun
+        Computer computer = getConfiguration().getThreadCount() > 1 ?
+                new ParallelClassesComputer(getConfiguration().getThreadCount()) : Computer.serial();
+
+        junit.run(computer, classesToRun
                 .stream()
                 .peek(testClass -> LOG.info(String.format("Running test %s",
                         Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method)
@@ -123,6 +137,58 @@ public class JUnit4TestEngine extends AbstractTestEngine {
                 .toArray(Class[]::new));
     }
 
+    /**
+     * Computer runs test classes of the suite in parallel on a fixed number of threads.
+     */
+    private static class ParallelClassesComputer extends Computer {
+        private final int threadCount;
+
+        ParallelClassesComputer(int threadCount) {
+            this.threadCount = threadCount;
+        }
+
+        @Override
+        public Runner getSuite(RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+            Runner suite = super.getSuite(builder, classes);
+            if (suite instanceof ParentRunner) {
+                ((ParentRunner<?>) suite).setScheduler(new FixedThreadPoolScheduler(threadCount));
+            }
+            return suite;
+        }
+    }
+
+    /**
+     * Scheduler runs child runners on a fixed thread pool and waits for all of them on finish.
+     */
+    private static class FixedThreadPoolScheduler implements RunnerScheduler {
+        private final ExecutorService workers;
+
+        FixedThreadPoolScheduler(int threadCount) {
+            AtomicInteger count = new AtomicInteger();
+            this.workers = Executors.newFixedThreadPool(threadCount, runnable -> {
+                Thread thread = new Thread(runnable, "citrus-junit-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        @Override
+        public void schedule(Runnable childStatement) {
+            workers.execute(childStatement);
+        }
+
+        @Override
+        public void finished() {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for parallel test execution", e);
+            }
+        }
+    }
+
     /**
      * Adds run listener in fluent API.
      * @param listener
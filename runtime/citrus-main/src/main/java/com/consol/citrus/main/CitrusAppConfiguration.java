@@ -44,6 +44,18 @@ public class CitrusAppConfiguration extends TestRunConfiguration {
     /** Force system exit when application is finished using {@code System.exit()} */
     private boolean systemExit = false;
 
+    /** Number of worker threads used by the parallel test engine */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /** Name of the test engine the parallel test engine delegates test class execution to */
+    private String parallelEngine = "junit4";
+
+    /** Number of JVM processes the parallel test engine shards the tests across */
+    private int forks = 1;
+
+    /** File holding test durations of previous runs used to schedule long running tests first */
+    private String historyFile = "citrus-test-history.properties";
+
     /**
      * Gets the timeToLive.
      *
@@ -116,6 +128,78 @@ public class CitrusAppConfiguration extends TestRunConfiguration {
         this.systemExit = systemExit;
     }
 
+    /**
+     * Gets the threads.
+     *
+     * @return
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the threads.
+     *
+     * @param threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the parallelEngine.
+     *
+     * @return
+     */
+    public String getParallelEngine() {
+        return parallelEngine;
+    }
+
+    /**
+     * Sets the parallelEngine.
+     *
+     * @param parallelEngine
+     */
+    public void setParallelEngine(String parallelEngine) {
+        this.parallelEngine = parallelEngine;
+    }
+
+    /**
+     * Gets the forks.
+     *
+     * @return
+     */
+    public int getForks() {
+        return forks;
+    }
+
+    /**
+     * Sets the forks.
+     *
+     * @param forks
+     */
+    public void setForks(int forks) {
+        this.forks = forks;
+    }
+
+    /**
+     * Gets the historyFile.
+     *
+     * @return
+     */
+    public String getHistoryFile() {
+        return historyFile;
+    }
+
+    /**
+     * Sets the historyFile.
+     *
+     * @param historyFile
+     */
+    public void setHistoryFile(String historyFile) {
+        this.historyFile = historyFile;
+    }
+
     /**
      * Reads default properties in configuration and sets them as system properties.
      */
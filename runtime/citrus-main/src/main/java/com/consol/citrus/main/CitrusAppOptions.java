@@ -142,6 +142,50 @@ public class CitrusAppOptions<T extends CitrusAppConfiguration> {
             }
         });
 
+        options.add(new CliOption<>("", "threads", "Number of worker threads used by the parallel test engine") {
+            @Override
+            protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setThreads(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for --threads option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("", "parallel-engine", "Set test engine name the parallel test engine uses to run the test classes") {
+            @Override
+            protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setParallelEngine(value);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for --parallel-engine option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("", "forks", "Number of JVM processes the parallel test engine shards the tests across") {
+            @Override
+            protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setForks(Integer.parseInt(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for --forks option");
+                }
+            }
+        });
+
+        options.add(new CliOption<>("", "history-file", "File holding test durations used by the parallel test engine for scheduling") {
+            @Override
+            protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setHistoryFile(value);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for --history-file option");
+                }
+            }
+        });
+
         options.add(new CliOption<>("t", "test", "Test class/method to execute") {
             @Override
             protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.CitrusInstanceManager;
+import com.consol.citrus.CitrusInstanceProcessor;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.main.scan.ClassPathTestScanner;
+import com.consol.citrus.main.scan.JarFileTestScanner;
+import com.consol.citrus.report.AbstractTestListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Test engine runs test classes in parallel on a pool of worker threads. All test classes are handed to the
+ * configured parallel engine (e.g. junit4, testng) as a single test suite with the number of worker threads, so
+ * before and after suite actions run once and each test gets its own test context from the test context factory. Tests are scheduled longest first based on durations of previous runs stored in the
+ * history file. Optionally the tests are sharded across several forked JVM processes on the same machine.
+ *
+ * @since 3.3
+ */
+public class ParallelTestEngine extends AbstractTestEngine {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelTestEngine.class);
+
+    /** Test annotations of engines that support scanning for test classes */
+    private static final Map<String, String> TEST_ANNOTATIONS = Map.of(
+            "junit4", "org.junit.Test",
+            "testng", "org.testng.annotations.Test");
+
+    private final CitrusAppConfiguration configuration;
+
+    /**
+     * Default constructor using run configuration.
+     * @param configuration
+     */
+    public ParallelTestEngine(CitrusAppConfiguration configuration) {
+        super(configuration);
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void run() {
+        Optional<Class<? extends Annotation>> testAnnotation = getTestAnnotation();
+        if (CollectionUtils.isEmpty(configuration.getTestClasses()) && testAnnotation.isEmpty()) {
+            LOG.warn(String.format("Test engine '%s' does not support test scanning for parallel execution - " +
+                    "running tests in sequence", configuration.getParallelEngine()));
+            TestEngine.lookup(createRunConfiguration(configuration.getTestClasses())).run();
+            return;
+        }
+
+        List<TestClass> classesToRun;
+        if (!CollectionUtils.isEmpty(configuration.getTestClasses())) {
+            classesToRun = configuration.getTestClasses();
+        } else {
+            classesToRun = findTests(testAnnotation.get());
+        }
+
+        TestDurationHistory history = new TestDurationHistory(new File(configuration.getHistoryFile()));
+        if (configuration.getForks() > 1) {
+            runForked(history.partition(classesToRun, configuration.getForks()));
+        } else {
+            runParallel(history.schedule(classesToRun), history);
+            history.save();
+        }
+    }
+
+    /**
+     * Runs tests as a single test suite with the parallel engine, so before and after suite actions run exactly once
+     * around the pool of worker threads. Tests are handed to the engine in given order. Test durations are recorded per
+     * test class or test method with a test listener on the Citrus instance. The listener is removed after the run.
+     * @param classesToRun
+     * @param history
+     */
+    private void runParallel(List<TestClass> classesToRun, TestDurationHistory history) {
+        int threads = Math.max(1, configuration.getThreads());
+        LOG.info(String.format("Running %s test classes with %s worker threads", classesToRun.size(), threads));
+
+        TestDurationListener durations = new TestDurationListener(classesToRun);
+        CitrusInstanceProcessor processor = citrus -> citrus.getCitrusContext().getTestListeners().addTestListener(durations);
+        CitrusInstanceManager.addInstanceProcessor(processor);
+        CitrusInstanceManager.get().ifPresent(processor::process);
+
+        try {
+            TestRunConfiguration runConfiguration = createRunConfiguration(classesToRun);
+            runConfiguration.setThreadCount(threads);
+            TestEngine.lookup(runConfiguration).run();
+        } finally {
+            CitrusInstanceManager.removeInstanceProcessor(processor);
+            CitrusInstanceManager.get().ifPresent(citrus -> citrus.getCitrusContext().getTestListeners().removeTestListener(durations));
+        }
+
+        for (TestClass testClass : classesToRun) {
+            Long duration = durations.getDuration(testClass);
+            if (duration != null) {
+                history.record(testClass, duration);
+            }
+        }
+    }
+
+    /**
+     * Runs each partition of tests in a separate JVM process and waits for all processes to finish.
+     * @param partitions
+     */
+    private void runForked(List<List<TestClass>> partitions) {
+        List<Process> processes = new ArrayList<>();
+        List<File> argumentFiles = new ArrayList<>();
+
+        try {
+            for (List<TestClass> partition : partitions) {
+                if (partition.isEmpty()) {
+                    continue;
+                }
+
+                File argumentFile = File.createTempFile("citrus-fork-", ".args");
+                argumentFiles.add(argumentFile);
+                Files.write(argumentFile.toPath(), getForkArguments(partition), StandardCharsets.UTF_8);
+
+                LOG.info(String.format("Forking JVM process to run %s test classes", partition.size()));
+                processes.add(new ProcessBuilder(getJavaExecutable(), "@" + argumentFile.getAbsolutePath())
+                        .inheritIO()
+                        .start());
+            }
+
+            List<Integer> failures = new ArrayList<>();
+            for (Process process : processes) {
+                int exitCode = process.waitFor();
+                if (exitCode != 0) {
+                    LOG.warn(String.format("Forked JVM process finished with exit code %s", exitCode));
+                    failures.add(exitCode);
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                throw new CitrusRuntimeException(String.format("%s of %s forked JVM processes failed with exit codes %s",
+                        failures.size(), processes.size(), failures));
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to fork JVM process for parallel test execution", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for forked test execution", e);
+        } finally {
+            processes.forEach(Process::destroy);
+            argumentFiles.forEach(File::delete);
+        }
+    }
+
+    /**
+     * Constructs arguments of a forked process running the given tests. Arguments are written to an argument file
+     * so the command line length does not depend on the number of tests.
+     * @param partition
+     * @return
+     */
+    private List<String> getForkArguments(List<TestClass> partition) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-cp");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add(CitrusApp.class.getName());
+
+        arguments.add("--engine");
+        arguments.add("parallel");
+        arguments.add("--parallel-engine");
+        arguments.add(configuration.getParallelEngine());
+        arguments.add("--threads");
+        arguments.add(String.valueOf(configuration.getThreads()));
+        arguments.add("--history-file");
+        arguments.add(new File(configuration.getHistoryFile()).getAbsolutePath());
+        arguments.add("--exit");
+        arguments.add("true");
+
+        if (configuration.getConfigClass() != null) {
+            arguments.add("--config");
+            arguments.add(configuration.getConfigClass());
+        }
+
+        if (configuration.getTestJar() != null) {
+            arguments.add("--jar");
+            arguments.add(configuration.getTestJar().getAbsolutePath());
+        }
+
+        if (!configuration.getDefaultProperties().isEmpty()) {
+            arguments.add("--properties");
+            arguments.add(configuration.getDefaultProperties().entrySet()
+                    .stream()
+                    .map(entry -> entry.getKey() + "=" + Optional.ofNullable(entry.getValue()).orElse(""))
+                    .collect(Collectors.joining(",")));
+        }
+
+        for (TestClass testClass : partition) {
+            arguments.add("--test");
+            arguments.add(Optional.ofNullable(testClass.getMethod())
+                    .map(method -> testClass.getName() + "#" + method)
+                    .orElse(testClass.getName()));
+        }
+
+        return arguments.stream()
+                .map(argument -> "\"" + argument.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Scans packages for test classes.
+     * @param testAnnotation
+     * @return
+     */
+    private List<TestClass> findTests(Class<? extends Annotation> testAnnotation) {
+        List<String> packagesToRun = configuration.getPackages();
+        if (CollectionUtils.isEmpty(packagesToRun)) {
+            packagesToRun = Collections.singletonList("");
+            LOG.info("Running all tests in project");
+        }
+
+        List<TestClass> classesToRun = new ArrayList<>();
+        for (String packageName : packagesToRun) {
+            if (StringUtils.hasText(packageName)) {
+                LOG.info(String.format("Running tests in package %s", packageName));
+            }
+
+            if (configuration.getTestJar() != null) {
+                classesToRun.addAll(new JarFileTestScanner(configuration.getTestJar(),
+                        configuration.getIncludes()).findTestsInPackage(packageName));
+            } else {
+                classesToRun.addAll(new ClassPathTestScanner(testAnnotation,
+                        configuration.getIncludes()).findTestsInPackage(packageName));
+            }
+        }
+
+        LOG.info(String.format("Found %s test classes to execute", classesToRun.size()));
+        return classesToRun;
+    }
+
+    /**
+     * Creates run configuration for the parallel engine with given tests.
+     * @param testClasses
+     * @return
+     */
+    private TestRunConfiguration createRunConfiguration(List<TestClass> testClasses) {
+        TestRunConfiguration runConfiguration = new TestRunConfiguration();
+        runConfiguration.setEngine(configuration.getParallelEngine());
+        runConfiguration.setTestClasses(new ArrayList<>(testClasses));
+        runConfiguration.setPackages(configuration.getPackages());
+        runConfiguration.setIncludes(configuration.getIncludes());
+        runConfiguration.setTestJar(configuration.getTestJar());
+        runConfiguration.addDefaultProperties(configuration.getDefaultProperties());
+        return runConfiguration;
+    }
+
+    /**
+     * Gets the test annotation of the parallel engine if the engine supports test scanning.
+     * @return
+     */
+    private Optional<Class<? extends Annotation>> getTestAnnotation() {
+        String annotationType = TEST_ANNOTATIONS.get(configuration.getParallelEngine());
+        if (annotationType == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Class.forName(annotationType).asSubclass(Annotation.class));
+        } catch (ClassNotFoundException e) {
+            LOG.warn(String.format("Unable to access test annotation type '%s'", annotationType));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Test listener sums up the test durations per test class or test method using the same keys as the test duration
+     * history. Tests of a class that is part of the run with several test methods are assigned to the method matching
+     * the test name. Tests of different classes finish concurrently on the worker threads of the parallel engine.
+     */
+    private static class TestDurationListener extends AbstractTestListener {
+        private final Map<String, List<TestClass>> testClasses;
+        private final Map<TestCase, Long> started = new ConcurrentHashMap<>();
+        private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+        TestDurationListener(List<TestClass> testClasses) {
+            this.testClasses = testClasses.stream().collect(Collectors.groupingBy(TestClass::getName));
+        }
+
+        @Override
+        public void onTestStart(TestCase test) {
+            started.put(test, System.currentTimeMillis());
+        }
+
+        @Override
+        public void onTestFinish(TestCase test) {
+            Long start = started.remove(test);
+            if (start != null && test.getTestClass() != null) {
+                getHistoryName(test).ifPresent(name -> durations.merge(name, System.currentTimeMillis() - start, Long::sum));
+            }
+        }
+
+        /**
+         * Gets the history key of the test class entry the given test belongs to.
+         * @param test
+         * @return
+         */
+        private Optional<String> getHistoryName(TestCase test) {
+            List<TestClass> candidates = testClasses.getOrDefault(test.getTestClass().getName(), Collections.emptyList());
+            if (candidates.size() == 1) {
+                return Optional.of(TestDurationHistory.getName(candidates.get(0)));
+            }
+
+            return candidates.stream()
+                    .filter(testClass -> testClass.getMethod() != null)
+                    .filter(testClass -> test.getName() != null && (test.getName().equals(testClass.getMethod())
+                            || test.getName().endsWith("." + testClass.getMethod())))
+                    .findFirst()
+                    .or(() -> candidates.stream().filter(testClass -> testClass.getMethod() == null).findFirst())
+                    .map(TestDurationHistory::getName);
+        }
+
+        /**
+         * Gets the summed up duration of all tests of the given test class entry or null when no such test has finished.
+         * @param testClass
+         * @return
+         */
+        Long getDuration(TestClass testClass) {
+            return durations.get(TestDurationHistory.getName(testClass));
+        }
+    }
+
+    /**
+     * Gets the Java executable of the current JVM.
+     * @return
+     */
+    private static String getJavaExecutable() {
+        return System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    }
+}
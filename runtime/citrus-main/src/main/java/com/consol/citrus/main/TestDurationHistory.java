@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.consol.citrus.TestClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Durations of previous test runs stored as properties file. Used to schedule long running tests first and to
+ * balance tests across worker threads and forked JVM processes. Several processes may save to the same file,
+ * the file is locked while saving and new durations are merged with the existing content.
+ */
+public class TestDurationHistory {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(TestDurationHistory.class);
+
+    /** History file */
+    private final File file;
+
+    /** Durations in milliseconds from previous test runs */
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    /** Durations in milliseconds recorded in this test run */
+    private final Map<String, Long> recorded = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor loads durations from given history file if present.
+     * @param file
+     */
+    public TestDurationHistory(File file) {
+        this.file = file;
+
+        if (file.isFile()) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                read(channel).forEach((name, duration) -> durations.put(name.toString(), Long.parseLong(duration.toString())));
+            } catch (IOException | NumberFormatException e) {
+                LOG.warn(String.format("Failed to read test history file '%s'", file), e);
+            }
+        }
+    }
+
+    /**
+     * Gets the duration of given test from previous runs. Tests without history get the average
+     * duration of all known tests.
+     * @param testClass
+     * @return
+     */
+    public long getDuration(TestClass testClass) {
+        Long duration = durations.get(getName(testClass));
+        if (duration != null) {
+            return duration;
+        }
+
+        return (long) durations.values().stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    /**
+     * Records duration of given test in this test run.
+     * @param testClass
+     * @param duration
+     */
+    public void record(TestClass testClass, long duration) {
+        recorded.put(getName(testClass), duration);
+    }
+
+    /**
+     * Sorts given tests by duration with longest running tests first.
+     * @param testClasses
+     * @return
+     */
+    public List<TestClass> schedule(List<TestClass> testClasses) {
+        List<TestClass> scheduled = new ArrayList<>(testClasses);
+        scheduled.sort(Comparator.comparingLong(this::getDuration).reversed()
+                .thenComparing(TestDurationHistory::getName));
+        return scheduled;
+    }
+
+    /**
+     * Splits tests into given number of shards with balanced total duration. Tests are assigned longest first
+     * to the shard with the least total duration so far.
+     * @param testClasses
+     * @param shards
+     * @return
+     */
+    public List<List<TestClass>> partition(List<TestClass> testClasses, int shards) {
+        List<List<TestClass>> partitions = new ArrayList<>();
+        long[] load = new long[shards];
+        for (int i = 0; i < shards; i++) {
+            partitions.add(new ArrayList<>());
+        }
+
+        for (TestClass testClass : schedule(testClasses)) {
+            int shard = 0;
+            for (int i = 1; i < shards; i++) {
+                if (load[i] < load[shard]) {
+                    shard = i;
+                }
+            }
+
+            partitions.get(shard).add(testClass);
+            load[shard] += Math.max(getDuration(testClass), 1);
+        }
+
+        return partitions;
+    }
+
+    /**
+     * Saves durations recorded in this test run to the history file. Merges with durations saved
+     * by other processes in the meantime.
+     */
+    public synchronized void save() {
+        if (recorded.isEmpty()) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            Properties history = read(channel);
+            recorded.forEach((name, duration) -> history.setProperty(name, String.valueOf(duration)));
+
+            channel.truncate(0);
+            channel.position(0);
+            OutputStream out = Channels.newOutputStream(channel);
+            history.store(out, "Citrus test durations in milliseconds");
+            out.flush();
+        } catch (IOException e) {
+            LOG.warn(String.format("Failed to write test history file '%s'", file), e);
+        }
+    }
+
+    /**
+     * Reads properties from given channel without closing the channel.
+     * @param channel
+     * @return
+     * @throws IOException
+     */
+    private static Properties read(FileChannel channel) throws IOException {
+        Properties properties = new Properties();
+        InputStream in = Channels.newInputStream(channel);
+        properties.load(in);
+        return properties;
+    }
+
+    /**
+     * Gets the history key for given test.
+     * @param testClass
+     * @return
+     */
+    static String getName(TestClass testClass) {
+        return Optional.ofNullable(testClass.getMethod())
+                .map(method -> testClass.getName() + "#" + method)
+                .orElse(testClass.getName());
+    }
+}
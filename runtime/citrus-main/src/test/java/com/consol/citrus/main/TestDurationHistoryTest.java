@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.TestClass;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestDurationHistoryTest {
+
+    @Test
+    public void shouldScheduleLongestTestsFirst() throws IOException {
+        TestDurationHistory history = createHistory();
+
+        List<TestClass> scheduled = history.schedule(Arrays.asList(new TestClass("FastIT"), new TestClass("NewIT"), new TestClass("SlowIT")));
+        Assert.assertEquals(scheduled.stream().map(TestClass::getName).collect(Collectors.toList()), Arrays.asList("SlowIT", "NewIT", "FastIT"));
+        Assert.assertEquals(history.getDuration(new TestClass("NewIT")), 500L);
+    }
+
+    @Test
+    public void shouldPartitionBalanced() throws IOException {
+        TestDurationHistory history = createHistory();
+
+        List<List<TestClass>> partitions = history.partition(Arrays.asList(new TestClass("FastIT"), new TestClass("NewIT"), new TestClass("SlowIT")), 2);
+        Assert.assertEquals(partitions.size(), 2);
+        Assert.assertEquals(partitions.get(0).stream().map(TestClass::getName).collect(Collectors.toList()), Arrays.asList("SlowIT"));
+        Assert.assertEquals(partitions.get(1).stream().map(TestClass::getName).collect(Collectors.toList()), Arrays.asList("NewIT", "FastIT"));
+    }
+
+    @Test
+    public void shouldMergeRecordedDurations() throws IOException {
+        File file = File.createTempFile("citrus-test-history", ".properties");
+        file.deleteOnExit();
+
+        TestDurationHistory history = new TestDurationHistory(file);
+        history.record(new TestClass("SlowIT"), 900L);
+        history.save();
+
+        TestDurationHistory other = new TestDurationHistory(file);
+        other.record(new TestClass("FooIT", "testFoo"), 100L);
+        other.save();
+
+        TestDurationHistory reloaded = new TestDurationHistory(file);
+        Assert.assertEquals(reloaded.getDuration(new TestClass("SlowIT")), 900L);
+        Assert.assertEquals(reloaded.getDuration(new TestClass("FooIT", "testFoo")), 100L);
+    }
+
+    private TestDurationHistory createHistory() throws IOException {
+        File file = File.createTempFile("citrus-test-history", ".properties");
+        file.deleteOnExit();
+
+        TestDurationHistory history = new TestDurationHistory(file);
+        history.record(new TestClass("SlowIT"), 900L);
+        history.record(new TestClass("FastIT"), 100L);
+        history.save();
+
+        return new TestDurationHistory(file);
+    }
+}
@@ -52,6 +52,13 @@ public class TestEngineLookupTest {
         Assert.assertEquals(TestEngine.lookup(configuration).getClass(), CucumberTestEngine.class);
     }
 
+    @Test
+    public void shouldResolveParallelEngine() {
+        CitrusAppConfiguration configuration = new CitrusAppConfiguration();
+        configuration.setEngine("parallel");
+        Assert.assertEquals(TestEngine.lookup(configuration).getClass(), ParallelTestEngine.class);
+    }
+
     @Test(expectedExceptions = CitrusRuntimeException.class,
             expectedExceptionsMessageRegExp = "Failed to resolve Citrus engine from resource.*")
     public void shouldHandleUnknownEngine() {
@@ -148,6 +148,12 @@ public class TestNGEngine extends AbstractTestEngine {
             }
         }
 
+        if (getConfiguration().getThreadCount() > 1) {
+            suite.setParallel(CollectionUtils.isEmpty(getConfiguration().getTestClasses()) ?
+                    XmlSuite.ParallelMode.CLASSES : XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(getConfiguration().getThreadCount());
+        }
+
         testng.run();
     }
 
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.mvn.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.consol.citrus.TestClass;
+import com.consol.citrus.main.scan.ClassPathTestScanner;
+import com.consol.citrus.main.scan.JarFileTestScanner;
+import com.consol.citrus.main.scan.TestScanIndex;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+/**
+ * Writes the persistent test scan index at build time so the Citrus main runtime does not need to scan the
+ * test classes on startup. The index is written next to the test output directory or next to the given test jar.
+ *
+ * @since 3.3
+ */
+@Mojo(name = "index-tests", defaultPhase = LifecyclePhase.PROCESS_TEST_CLASSES, requiresDependencyResolution = ResolutionScope.TEST)
+public class IndexTestsMojo extends AbstractCitrusMojo {
+
+    @Parameter(property = "citrus.skip.index.tests", defaultValue = "false")
+    protected boolean skipIndexTests;
+
+    /**
+     * Test class path used to load test classes when scanning the test output directory.
+     */
+    @Parameter(defaultValue = "${project.testClasspathElements}", readonly = true)
+    private List<String> testClasspathElements;
+
+    /**
+     * Optional test jar to index instead of the test output directory.
+     */
+    @Parameter(property = "citrus.test.jar")
+    private File testJar;
+
+    /**
+     * Packages to scan for tests. Defaults to all packages.
+     */
+    @Parameter
+    private List<String> packages;
+
+    /**
+     * Test class name patterns to include. Must match the includes used at runtime.
+     */
+    @Parameter
+    private List<String> includes;
+
+    /**
+     * Test annotation marking test classes and methods. Defaults to the test annotation of the unit test framework.
+     */
+    @Parameter(property = "citrus.test.annotation")
+    private String testAnnotation;
+
+    @Override
+    public void doExecute() throws MojoExecutionException {
+        if (skipIndexTests) {
+            return;
+        }
+
+        String[] includePatterns = getIncludes().toArray(new String[0]);
+        List<TestClass> tests = new ArrayList<>();
+
+        if (testJar != null) {
+            JarFileTestScanner scanner = new JarFileTestScanner(testJar, includePatterns);
+            for (String packageName : getPackages()) {
+                tests.addAll(scanner.findTestsInPackage(packageName));
+            }
+
+            getLog().info(String.format("Successfully created test scan index: indexFile='%s', tests=%s",
+                    TestScanIndex.getIndexFile(testJar), tests.size()));
+            return;
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(getTestClasspathUrls(), getClass().getClassLoader())) {
+            Class<? extends Annotation> annotationType = Class.forName(getTestAnnotation(), false, classLoader)
+                    .asSubclass(Annotation.class);
+
+            ClassPathTestScanner scanner = new ClassPathTestScanner(annotationType, classLoader, includePatterns);
+            for (String packageName : getPackages()) {
+                tests.addAll(scanner.findTestsInPackage(packageName));
+            }
+        } catch (ClassNotFoundException e) {
+            throw new MojoExecutionException(String.format("Unable to load test annotation '%s'", getTestAnnotation()), e);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to close test class loader", e);
+        }
+
+        getLog().info(String.format("Successfully created test scan index: tests=%s", tests.size()));
+    }
+
+    /**
+     * Gets the test class path as URLs.
+     * @return
+     * @throws MojoExecutionException
+     */
+    private URL[] getTestClasspathUrls() throws MojoExecutionException {
+        List<URL> urls = new ArrayList<>();
+        if (testClasspathElements != null) {
+            for (String element : testClasspathElements) {
+                try {
+                    urls.add(new File(element).toURI().toURL());
+                } catch (MalformedURLException e) {
+                    throw new MojoExecutionException(String.format("Invalid test class path element '%s'", element), e);
+                }
+            }
+        }
+
+        return urls.toArray(new URL[0]);
+    }
+
+    /**
+     * Gets the test annotation type name.
+     * @return
+     */
+    public String getTestAnnotation() {
+        if (testAnnotation != null) {
+            return testAnnotation;
+        }
+
+        switch (getFramework()) {
+            case JUNIT4:
+                return "org.junit.Test";
+            case JUNIT5:
+                return "org.junit.jupiter.api.Test";
+            default:
+                return "org.testng.annotations.Test";
+        }
+    }
+
+    /**
+     * Sets the testAnnotation.
+     *
+     * @param testAnnotation
+     */
+    public void setTestAnnotation(String testAnnotation) {
+        this.testAnnotation = testAnnotation;
+    }
+
+    /**
+     * Gets the packages.
+     *
+     * @return
+     */
+    public List<String> getPackages() {
+        if (packages == null || packages.isEmpty()) {
+            return Collections.singletonList("");
+        }
+
+        return packages;
+    }
+
+    /**
+     * Sets the packages.
+     *
+     * @param packages
+     */
+    public void setPackages(List<String> packages) {
+        this.packages = packages;
+    }
+
+    /**
+     * Gets the includes.
+     *
+     * @return
+     */
+    public List<String> getIncludes() {
+        if (includes == null) {
+            return Collections.emptyList();
+        }
+
+        return includes;
+    }
+
+    /**
+     * Sets the includes.
+     *
+     * @param includes
+     */
+    public void setIncludes(List<String> includes) {
+        this.includes = includes;
+    }
+
+    /**
+     * Sets the testJar.
+     *
+     * @param testJar
+     */
+    public void setTestJar(File testJar) {
+        this.testJar = testJar;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.mvn.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import com.consol.citrus.main.scan.TestScanIndex;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IndexTestsMojoTest {
+
+    @Test
+    public void testIndexTestJar() throws IOException, MojoExecutionException, MojoFailureException {
+        File testJar = Files.createTempFile("tests", ".jar").toFile();
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(testJar.toPath()))) {
+            for (String entry : Arrays.asList("com/consol/citrus/FooIT.class", "com/consol/citrus/BarTest.class")) {
+                jar.putNextEntry(new JarEntry(entry));
+                jar.write(new byte[] { 0 });
+                jar.closeEntry();
+            }
+        }
+
+        IndexTestsMojo mojo = new IndexTestsMojo();
+        mojo.setTestJar(testJar);
+        mojo.setPackages(Collections.singletonList("com.consol.citrus"));
+        mojo.execute();
+
+        Assert.assertTrue(TestScanIndex.getIndexFile(testJar).isFile());
+        Assert.assertEquals(new TestScanIndex(testJar).get("com.consol.citrus|^.*IT$,^.*ITCase$,^IT.*$"),
+                Optional.of(Collections.singletonList("com.consol.citrus.FooIT")));
+    }
+}
@@ -18,63 +18,83 @@ package com.consol.citrus.validation.binary;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.util.BinaryStreamUtils;
 import com.consol.citrus.validation.DefaultMessageValidator;
 import com.consol.citrus.validation.context.ValidationContext;
 
 /**
  * Message validator compares binary streams. Assumes control
  * message payload is convertable to an input stream so we can compare the stream data with buffer read.
+ * Control payload may also be a resource or file on disk or a digest expression such as {@code {SHA-256}<hex digest>}.
+ * Streams are compared chunk by chunk so validation needs constant memory regardless of the payload size.
  *
  * @author Christoph Deppisch
  */
 public class BinaryMessageValidator extends DefaultMessageValidator {
 
-    private static final int BUFFER_SIZE = 1024;
+    /** Number of bytes compared at once */
+    private int chunkSize = BinaryStreamUtils.DEFAULT_CHUNK_SIZE;
 
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, ValidationContext validationContext) throws ValidationException {
-        try (InputStream receivedInput = receivedMessage.getPayload(InputStream.class);
-             InputStream controlInput = controlMessage.getPayload(InputStream.class)) {
-
-            ReadableByteChannel receivedBytes = Channels.newChannel(receivedInput);
-            ReadableByteChannel controlBytes = Channels.newChannel(controlInput);
-
-            ByteBuffer receivedBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
-            ByteBuffer controlBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
-
-            while (true) {
-                int n1 = receivedBytes.read(receivedBuffer);
-                int n2 = controlBytes.read(controlBuffer);
-
-                if (n1 == -1 || n2 == -1) return;
-
-                receivedBuffer.flip();
-                controlBuffer.flip();
-
-                for (int i = 0; i < Math.min(n1, n2); i++) {
-                    if (receivedBuffer.get() != controlBuffer.get()) {
-                        throw new ValidationException("Received input stream is not equal to given control");
-                    }
-                }
-
-                receivedBuffer.compact();
-                receivedBuffer.compact();
+        Object controlPayload = controlMessage.getPayload();
+        if (controlPayload instanceof String) {
+            String control = context.replaceDynamicContentInString((String) controlPayload).trim();
+            if (BinaryStreamUtils.isDigestExpression(control)) {
+                validateDigest(receivedMessage, control);
+                return;
             }
+        }
 
+        try (InputStream receivedInput = BinaryStreamUtils.getInputStream(receivedMessage.getPayload());
+             InputStream controlInput = BinaryStreamUtils.getInputStream(controlPayload)) {
+            long offset = BinaryStreamUtils.mismatch(receivedInput, controlInput, chunkSize);
+            if (offset >= 0) {
+                throw new ValidationException(String.format("Received input stream is not equal to given control - " +
+                        "first mismatch at byte offset %s", offset));
+            }
         } catch (IOException e) {
             throw new ValidationException("Failed to compare binary input streams", e);
         }
     }
 
+    /**
+     * Validates received payload against digest expression.
+     * @param receivedMessage
+     * @param digestExpression
+     */
+    private void validateDigest(Message receivedMessage, String digestExpression) {
+        try (InputStream receivedInput = BinaryStreamUtils.getInputStream(receivedMessage.getPayload())) {
+            if (!BinaryStreamUtils.matchesDigest(receivedInput, digestExpression)) {
+                throw new ValidationException(String.format("Received input stream does not match control digest '%s'", digestExpression));
+            }
+        } catch (IOException e) {
+            throw new ValidationException("Failed to compute digest of binary input stream", e);
+        }
+    }
+
+    /**
+     * Sets the number of bytes compared at once.
+     * @param chunkSize
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Gets the number of bytes compared at once.
+     * @return
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return messageType.equalsIgnoreCase(MessageType.BINARY.toString());
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.validation.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.util.BinaryStreamUtils;
+import com.consol.citrus.validation.context.DefaultValidationContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class BinaryMessageValidatorTest {
+
+    private final BinaryMessageValidator validator = new BinaryMessageValidator();
+    private final TestContext context = TestContextFactory.newInstance().getObject();
+
+    private final byte[] content = createContent(100000);
+
+    @Test
+    public void shouldValidateEqualStreams() {
+        validator.validateMessage(new DefaultMessage(content), new DefaultMessage(new ByteArrayInputStream(content.clone())),
+                context, new DefaultValidationContext());
+    }
+
+    @Test
+    public void shouldReportFirstMismatchingOffset() {
+        byte[] control = content.clone();
+        control[50000]++;
+
+        try {
+            validator.validateMessage(new DefaultMessage(content), new DefaultMessage(control), context, new DefaultValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().endsWith("first mismatch at byte offset 50000"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldFailOnDifferentLength() {
+        byte[] control = Arrays.copyOf(content, content.length - 1);
+
+        try {
+            validator.validateMessage(new DefaultMessage(content), new DefaultMessage(control), context, new DefaultValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().endsWith("first mismatch at byte offset " + control.length), e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldValidateControlFile() throws IOException {
+        Path controlFile = Files.createTempFile("binary-control", ".bin");
+        try {
+            Files.write(controlFile, content);
+            validator.validateMessage(new DefaultMessage(content), new DefaultMessage(controlFile), context, new DefaultValidationContext());
+            validator.validateMessage(new DefaultMessage(content), new DefaultMessage(controlFile.toFile()), context, new DefaultValidationContext());
+        } finally {
+            Files.delete(controlFile);
+        }
+    }
+
+    @Test
+    public void shouldValidateDigest() throws IOException {
+        String digest = BinaryStreamUtils.digest(new ByteArrayInputStream(content), "SHA-256");
+        validator.validateMessage(new DefaultMessage(content), new DefaultMessage("{SHA-256}" + digest), context, new DefaultValidationContext());
+
+        context.setVariable("digest", digest.toUpperCase());
+        validator.validateMessage(new DefaultMessage(content), new DefaultMessage("{SHA-256}${digest}"), context, new DefaultValidationContext());
+
+        try {
+            validator.validateMessage(new DefaultMessage(Arrays.copyOf(content, 10)), new DefaultMessage("{SHA-256}" + digest),
+                    context, new DefaultValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("does not match control digest"));
+        }
+    }
+
+    private static byte[] createContent(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i % 251);
+        }
+        return bytes;
+    }
+}
@@ -16,31 +16,124 @@
 
 package com.consol.citrus.validation.text;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.util.BinaryStreamUtils;
 import com.consol.citrus.validation.context.ValidationContext;
 import org.apache.commons.codec.binary.Base64;
+import org.springframework.util.StreamUtils;
 
 /**
  * Message validator automatically converts received binary data message payload to base64 String. Assumes control
  * message payload is also base64 encoded String so we can compare the text data with normal plain text validation.
- * 
+ *
+ * When the control payload is a plain base64 String (no validation matchers), a resource on disk or a digest expression
+ * such as {@code {SHA-256}<hex digest>} the received binary data is compared as stream with the decoded control data.
+ * This way large binary payloads do not need to be converted to base64 Strings. Only small payloads that do not match
+ * are converted and validated as text in order to report the mismatching content.
+ *
  * @author Christoph Deppisch
  */
 public class BinaryBase64MessageValidator extends PlainTextMessageValidator {
 
+    /** Received payloads up to this size are validated as text on mismatch in order to report the difference */
+    private static final int DETAILED_REPORT_LIMIT = 64 * 1024;
+
+    /** Plain base64 content without any validation expressions */
+    private static final Pattern BASE64_CONTENT = Pattern.compile("[A-Za-z0-9+/=\\s]+");
+
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, ValidationContext validationContext) throws ValidationException {
         if (receivedMessage.getPayload() instanceof byte[]) {
-            receivedMessage.setPayload(Base64.encodeBase64String(receivedMessage.getPayload(byte[].class)));
+            byte[] received = receivedMessage.getPayload(byte[].class);
+            try {
+                if (validateStream(received, controlMessage.getPayload(), context)) {
+                    return;
+                }
+
+                try (InputStream content = decode(new ByteArrayInputStream(received))) {
+                    receivedMessage.setPayload(Base64.encodeBase64String(StreamUtils.copyToByteArray(content)));
+                }
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to validate binary message content", e);
+            }
         }
 
         super.validateMessage(receivedMessage, controlMessage, context, validationContext);
     }
-    
+
+    /**
+     * Compares received binary data as stream with decoded control data. Returns false when the control payload is not
+     * suitable for stream comparison or when small payloads do not match, so text validation reports the mismatch.
+     * @param received
+     * @param controlPayload
+     * @param context
+     * @return true when received content has been validated successfully.
+     * @throws IOException
+     */
+    private boolean validateStream(byte[] received, Object controlPayload, TestContext context) throws IOException {
+        InputStream control;
+        if (controlPayload instanceof String) {
+            String controlValue = context.replaceDynamicContentInString((String) controlPayload).trim();
+            if (BinaryStreamUtils.isDigestExpression(controlValue)) {
+                try (InputStream content = decode(new ByteArrayInputStream(received))) {
+                    if (!BinaryStreamUtils.matchesDigest(content, controlValue)) {
+                        throw new ValidationException(String.format("Received binary content does not match control digest '%s'", controlValue));
+                    }
+                }
+                return true;
+            }
+
+            if (!BASE64_CONTENT.matcher(controlValue).matches()) {
+                return false;
+            }
+
+            control = new ByteArrayInputStream(controlValue.getBytes(StandardCharsets.US_ASCII));
+        } else if (BinaryStreamUtils.isStreamSource(controlPayload)) {
+            control = BinaryStreamUtils.getInputStream(controlPayload);
+        } else {
+            return false;
+        }
+
+        long offset;
+        try (InputStream content = decode(new ByteArrayInputStream(received));
+             InputStream decodedControl = java.util.Base64.getMimeDecoder().wrap(control)) {
+            offset = BinaryStreamUtils.mismatch(content, decodedControl);
+        } catch (IOException e) {
+            // content can not be decoded as stream - let text validation report the problem
+            return false;
+        }
+
+        if (offset < 0) {
+            return true;
+        } else if (received.length <= DETAILED_REPORT_LIMIT) {
+            return false;
+        }
+
+        throw new ValidationException(String.format("Received binary content is not equal to base64 decoded control - " +
+                "first mismatch at byte offset %s", offset));
+    }
+
+    /**
+     * Decodes received binary data before comparison. Subclasses may add further decoding such as decompression.
+     * @param received
+     * @return
+     * @throws IOException
+     */
+    protected InputStream decode(InputStream received) throws IOException {
+        return received;
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return messageType.equalsIgnoreCase(MessageType.BINARY_BASE64.toString());
@@ -16,41 +16,25 @@
 
 package com.consol.citrus.validation.text;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.GZIPInputStream;
 
-import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
-import com.consol.citrus.validation.context.ValidationContext;
-import org.springframework.util.StreamUtils;
 
 /**
  * Message validator automatically converts received binary data message payload to base64 String. Assumes control
  * message payload is also base64 encoded String so we can compare the text data with normal plain text validation.
+ * Received binary data is gzip decompressed as stream before comparison.
  *
  * @author Christoph Deppisch
  */
 public class GzipBinaryBase64MessageValidator extends BinaryBase64MessageValidator {
 
     @Override
-    public void validateMessage(Message receivedMessage, Message controlMessage,
-                                TestContext context, ValidationContext validationContext) throws ValidationException {
-        if (receivedMessage.getPayload() instanceof byte[]) {
-            try (GZIPInputStream gzipInputStream = new GZIPInputStream(receivedMessage.getPayload(InputStream.class));
-                 ByteArrayOutputStream unzipped = new ByteArrayOutputStream()) {
-                StreamUtils.copy(gzipInputStream, unzipped);
-                receivedMessage.setPayload(unzipped.toByteArray());
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Failed to validate gzipped message", e);
-            }
-        }
-
-        super.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    protected InputStream decode(InputStream received) throws IOException {
+        return new GZIPInputStream(received);
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.validation.text;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -27,6 +28,7 @@ import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.util.BinaryStreamUtils;
 import com.consol.citrus.validation.context.DefaultValidationContext;
 import com.consol.citrus.validation.context.ValidationContext;
 import com.consol.citrus.validation.script.ScriptValidationContext;
@@ -76,6 +78,34 @@ public class GzipBinaryBase64MessageValidatorTest extends AbstractTestNGUnitTest
         Assert.fail("Missing validation exception due to wrong number of JSON entries");
     }
 
+    @Test
+    public void testGzipBinaryBase64StreamValidation() throws IOException {
+        byte[] content = new byte[500000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 13);
+        }
+
+        Message receivedMessage = new DefaultMessage(getZippedContent(content));
+        validator.validateMessage(receivedMessage, new DefaultMessage(Base64.encodeBase64String(content)), context, validationContext);
+        validator.validateMessage(receivedMessage, new DefaultMessage("{MD5}" +
+                BinaryStreamUtils.digest(new ByteArrayInputStream(content), "MD5")), context, validationContext);
+
+        try {
+            validator.validateMessage(new DefaultMessage(getZippedContent(createRandomContent(100000))),
+                    new DefaultMessage(Base64.encodeBase64String(content)), context, validationContext);
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("first mismatch at byte offset 0"), e.getMessage());
+        }
+    }
+
+    private byte[] createRandomContent(int size) {
+        byte[] content = new byte[size];
+        new java.util.Random(42L).nextBytes(content);
+        content[0] = 1;
+        return content;
+    }
+
     /**
      * Provide zipped content as byte array.
      * @param payload
@@ -83,9 +113,13 @@ public class GzipBinaryBase64MessageValidatorTest extends AbstractTestNGUnitTest
      * @throws IOException
      */
     private byte[] getZippedContent(String payload) throws IOException {
+        return getZippedContent(payload.getBytes());
+    }
+
+    private byte[] getZippedContent(byte[] payload) throws IOException {
         try (ByteArrayOutputStream zipped = new ByteArrayOutputStream();
              GZIPOutputStream gzipOutputStream = new GZIPOutputStream(zipped)) {
-            StreamUtils.copy(payload.getBytes(), gzipOutputStream);
+            StreamUtils.copy(payload, gzipOutputStream);
 
             gzipOutputStream.close();
             return zipped.toByteArray();